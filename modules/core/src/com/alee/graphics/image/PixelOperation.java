@@ -0,0 +1,48 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.image;
+
+import com.alee.api.annotations.NotNull;
+
+/**
+ * Single operation applied to each separate pixel by {@link PixelPipeline}.
+ * Operations are applied to non-premultiplied ARGB pixel values and should not depend on pixel location.
+ * Pixels are provided in blocks small enough to stay in CPU cache while all operations of {@link PixelPipeline} are applied.
+ *
+ * @author Mikle Garin
+ * @see PixelPipeline
+ */
+public interface PixelOperation
+{
+    /**
+     * Modifies block of non-premultiplied ARGB pixels.
+     *
+     * @param pixels non-premultiplied ARGB pixels
+     * @param length amount of pixels to modify, starting from the first one
+     */
+    public void apply ( @NotNull int[] pixels, int length );
+
+    /**
+     * Returns key describing this operation and its settings.
+     * It is used to cache results of {@link PixelPipeline}, so operations with the same key must produce the same result.
+     *
+     * @return key describing this operation and its settings
+     */
+    @NotNull
+    public String getKey ();
+}
@@ -0,0 +1,546 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.image;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.managers.task.TaskGroup;
+import com.alee.utils.UtilityException;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Chain of {@link PixelOperation}s applied to image pixels in a single pass.
+ * Pixels are read and written in blocks of rows through image rasters as non-premultiplied ARGB values,
+ * all operations are applied to each block while it is in CPU cache and large images are split into row bands processed in parallel.
+ *
+ * Usage example:
+ * {@code BufferedImage result = new PixelPipeline ().grayscale ().opacity ( 0.7f ).apply ( image );}
+ *
+ * This class also provides static methods for reading and writing pixel blocks and processing rows in parallel
+ * that can be used for other per-pixel image transformations.
+ *
+ * @author Mikle Garin
+ * @see PixelOperation
+ */
+public class PixelPipeline
+{
+    /**
+     * Minimum amount of image pixels required to process image in parallel.
+     */
+    protected static final int PARALLEL_THRESHOLD = 256 * 256;
+
+    /**
+     * Minimum amount of rows processed by a single parallel band.
+     */
+    protected static final int MINIMUM_BAND_ROWS = 16;
+
+    /**
+     * Maximum amount of pixels read and written at once.
+     */
+    protected static final int BLOCK_PIXELS = 64 * 1024;
+
+    /**
+     * {@link TaskGroup} for processing row bands in parallel.
+     * It is only created when first large image is processed.
+     */
+    protected static TaskGroup taskGroup;
+
+    /**
+     * {@link PixelOperation}s in order of their application.
+     */
+    @NotNull
+    protected final List<PixelOperation> operations;
+
+    /**
+     * Constructs new empty {@link PixelPipeline}.
+     */
+    public PixelPipeline ()
+    {
+        this.operations = new ArrayList<PixelOperation> ( 3 );
+    }
+
+    /**
+     * Adds {@link PixelOperation} at the end of this pipeline.
+     *
+     * @param operation {@link PixelOperation} to add
+     * @return this {@link PixelPipeline}
+     */
+    @NotNull
+    public PixelPipeline add ( @NotNull final PixelOperation operation )
+    {
+        operations.add ( operation );
+        return this;
+    }
+
+    /**
+     * Adds grayscale operation at the end of this pipeline.
+     *
+     * @return this {@link PixelPipeline}
+     */
+    @NotNull
+    public PixelPipeline grayscale ()
+    {
+        return add ( new Grayscale () );
+    }
+
+    /**
+     * Adds opacity operation at the end of this pipeline.
+     *
+     * @param opacity opacity value, must be between 0 and 1
+     * @return this {@link PixelPipeline}
+     */
+    @NotNull
+    public PixelPipeline opacity ( final float opacity )
+    {
+        return add ( new Opacity ( opacity ) );
+    }
+
+    /**
+     * Adds tint operation at the end of this pipeline.
+     *
+     * @param color  tint {@link Color}
+     * @param amount tint amount, must be between 0 and 1
+     * @return this {@link PixelPipeline}
+     */
+    @NotNull
+    public PixelPipeline tint ( @NotNull final Color color, final float amount )
+    {
+        return add ( new Tint ( color, amount ) );
+    }
+
+    /**
+     * Returns key describing all operations of this pipeline.
+     * It can be used to cache results of this pipeline.
+     *
+     * @return key describing all operations of this pipeline
+     */
+    @NotNull
+    public String getKey ()
+    {
+        final StringBuilder key = new StringBuilder ();
+        for ( final PixelOperation operation : operations )
+        {
+            if ( key.length () > 0 )
+            {
+                key.append ( ">" );
+            }
+            key.append ( operation.getKey () );
+        }
+        return key.toString ();
+    }
+
+    /**
+     * Returns new {@link BufferedImage} of {@link BufferedImage#TYPE_INT_ARGB} type with all operations applied to specified image.
+     *
+     * @param image {@link BufferedImage} to process
+     * @return new {@link BufferedImage} of {@link BufferedImage#TYPE_INT_ARGB} type with all operations applied to specified image
+     */
+    @NotNull
+    public BufferedImage apply ( @NotNull final BufferedImage image )
+    {
+        final int width = image.getWidth ();
+        final int height = image.getHeight ();
+        final BufferedImage result = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB );
+        final PixelOperation[] chain = operations.toArray ( new PixelOperation[ operations.size () ] );
+        processRows ( width, height, new RowsTask ()
+        {
+            @Override
+            public void process ( final int fromRow, final int toRow )
+            {
+                final int blockRows = getBlockRows ( width, toRow - fromRow );
+                final int[] pixels = new int[ width * blockRows ];
+                for ( int y = fromRow; y < toRow; y += blockRows )
+                {
+                    final int rows = Math.min ( blockRows, toRow - y );
+                    readPixels ( image, 0, y, width, rows, pixels );
+                    apply ( chain, pixels, width * rows );
+                    writePixels ( result, 0, y, width, rows, pixels );
+                }
+            }
+        } );
+        return result;
+    }
+
+    /**
+     * Applies {@link PixelOperation}s to the specified pixels.
+     *
+     * @param chain  {@link PixelOperation}s to apply
+     * @param pixels non-premultiplied ARGB pixels
+     * @param length amount of pixels to process
+     */
+    protected void apply ( @NotNull final PixelOperation[] chain, @NotNull final int[] pixels, final int length )
+    {
+        for ( final PixelOperation operation : chain )
+        {
+            operation.apply ( pixels, length );
+        }
+    }
+
+    /**
+     * Reads block of non-premultiplied ARGB pixels from the specified image.
+     * Images of {@link BufferedImage#TYPE_INT_ARGB} type are read directly from their rasters without any conversions.
+     *
+     * @param image  {@link BufferedImage} to read pixels from
+     * @param x      block X coordinate
+     * @param y      block Y coordinate
+     * @param width  block width
+     * @param height block height
+     * @param pixels array to read pixels into, row by row, must fit at least {@code width * height} pixels
+     */
+    public static void readPixels ( @NotNull final BufferedImage image, final int x, final int y, final int width, final int height,
+                                    @NotNull final int[] pixels )
+    {
+        if ( image.getType () == BufferedImage.TYPE_INT_ARGB )
+        {
+            image.getRaster ().getDataElements ( x, y, width, height, pixels );
+        }
+        else
+        {
+            image.getRGB ( x, y, width, height, pixels, 0, width );
+        }
+    }
+
+    /**
+     * Writes block of non-premultiplied ARGB pixels into the specified image.
+     * Images of {@link BufferedImage#TYPE_INT_ARGB} type are written directly into their rasters without any conversions.
+     *
+     * @param image  {@link BufferedImage} to write pixels into
+     * @param x      block X coordinate
+     * @param y      block Y coordinate
+     * @param width  block width
+     * @param height block height
+     * @param pixels pixels to write, row by row
+     */
+    public static void writePixels ( @NotNull final BufferedImage image, final int x, final int y, final int width, final int height,
+                                     @NotNull final int[] pixels )
+    {
+        if ( image.getType () == BufferedImage.TYPE_INT_ARGB )
+        {
+            image.getRaster ().setDataElements ( x, y, width, height, pixels );
+        }
+        else
+        {
+            image.setRGB ( x, y, width, height, pixels, 0, width );
+        }
+    }
+
+    /**
+     * Returns amount of rows that should be read and written at once.
+     *
+     * @param width image width
+     * @param rows  total amount of rows to process
+     * @return amount of rows that should be read and written at once
+     */
+    public static int getBlockRows ( final int width, final int rows )
+    {
+        return Math.max ( 1, Math.min ( rows, BLOCK_PIXELS / Math.max ( 1, width ) ) );
+    }
+
+    /**
+     * Processes rows of the image with the specified size.
+     * Rows of large images are split into bands which are processed in parallel, the last band is processed on the calling thread.
+     * This method returns or throws exception only after all bands have finished processing.
+     *
+     * @param width  image width
+     * @param height image height
+     * @param task   {@link RowsTask} processing rows
+     */
+    public static void processRows ( final int width, final int height, @NotNull final RowsTask task )
+    {
+        final int bands = getBandsCount ( width, height );
+        if ( bands > 1 )
+        {
+            final TaskGroup group = getTaskGroup ();
+            final List<Future<?>> futures = new ArrayList<Future<?>> ( bands - 1 );
+            for ( int band = 0; band < bands - 1; band++ )
+            {
+                final int fromRow = height * band / bands;
+                final int toRow = height * ( band + 1 ) / bands;
+                futures.add ( group.execute ( new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        task.process ( fromRow, toRow );
+                    }
+                } ) );
+            }
+            boolean processed = false;
+            try
+            {
+                task.process ( height * ( bands - 1 ) / bands, height );
+                processed = true;
+            }
+            finally
+            {
+                if ( !processed )
+                {
+                    // Bands are awaited even if calling thread band has failed
+                    // This way no band can still be processing the image once this method exits
+                    awaitBands ( futures, true );
+                }
+            }
+            awaitBands ( futures, false );
+        }
+        else if ( height > 0 )
+        {
+            task.process ( 0, height );
+        }
+    }
+
+    /**
+     * Waits for all specified bands to finish processing.
+     * Exception thrown by the first failed band is rethrown unless {@code quietly} is {@code true}.
+     *
+     * @param futures {@link Future}s of bands to wait for
+     * @param quietly whether or not bands failures should be ignored
+     */
+    protected static void awaitBands ( @NotNull final List<Future<?>> futures, final boolean quietly )
+    {
+        boolean interrupted = false;
+        RuntimeException failure = null;
+        for ( final Future<?> future : futures )
+        {
+            boolean done = false;
+            while ( !done )
+            {
+                try
+                {
+                    future.get ();
+                    done = true;
+                }
+                catch ( final InterruptedException e )
+                {
+                    // Bands are still awaited to avoid leaving them running in background
+                    interrupted = true;
+                }
+                catch ( final ExecutionException e )
+                {
+                    if ( failure == null )
+                    {
+                        failure = e.getCause () instanceof RuntimeException ?
+                                ( RuntimeException ) e.getCause () :
+                                new UtilityException ( "Unable to process image", e.getCause () );
+                    }
+                    done = true;
+                }
+            }
+        }
+        if ( interrupted )
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        if ( failure != null && !quietly )
+        {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns amount of bands image with the specified size should be split into for parallel processing.
+     *
+     * @param width  image width
+     * @param height image height
+     * @return amount of bands image with the specified size should be split into for parallel processing
+     */
+    protected static int getBandsCount ( final int width, final int height )
+    {
+        final int bands;
+        if ( ( long ) width * height >= PARALLEL_THRESHOLD )
+        {
+            bands = Math.max ( 1, Math.min ( Runtime.getRuntime ().availableProcessors (), height / MINIMUM_BAND_ROWS ) );
+        }
+        else
+        {
+            bands = 1;
+        }
+        return bands;
+    }
+
+    /**
+     * Returns {@link TaskGroup} for processing row bands in parallel.
+     *
+     * @return {@link TaskGroup} for processing row bands in parallel
+     */
+    @NotNull
+    protected static synchronized TaskGroup getTaskGroup ()
+    {
+        if ( taskGroup == null )
+        {
+            taskGroup = new TaskGroup ( "PixelPipeline", Runtime.getRuntime ().availableProcessors () );
+        }
+        return taskGroup;
+    }
+
+    /**
+     * Task processing a band of image rows.
+     */
+    public static interface RowsTask
+    {
+        /**
+         * Processes specified rows.
+         *
+         * @param fromRow first row to process, inclusive
+         * @param toRow   last row to process, exclusive
+         */
+        public void process ( int fromRow, int toRow );
+    }
+
+    /**
+     * {@link PixelOperation} converting pixels to grayscale using NTSC luma weights.
+     */
+    protected static class Grayscale implements PixelOperation
+    {
+        @Override
+        public void apply ( @NotNull final int[] pixels, final int length )
+        {
+            for ( int i = 0; i < length; i++ )
+            {
+                final int argb = pixels[ i ];
+                final int luma = ( ( argb >> 16 & 0xff ) * 77 + ( argb >> 8 & 0xff ) * 151 + ( argb & 0xff ) * 28 ) >> 8;
+                pixels[ i ] = argb & 0xff000000 | luma << 16 | luma << 8 | luma;
+            }
+        }
+
+        @NotNull
+        @Override
+        public String getKey ()
+        {
+            return "grayscale";
+        }
+    }
+
+    /**
+     * {@link PixelOperation} multiplying pixels alpha by the specified opacity.
+     */
+    protected static class Opacity implements PixelOperation
+    {
+        /**
+         * Opacity value, must be between 0 and 1.
+         */
+        protected final float opacity;
+
+        /**
+         * Opacity multiplier in 0-256 range.
+         */
+        protected final int multiplier;
+
+        /**
+         * Constructs new {@link Opacity}.
+         *
+         * @param opacity opacity value, must be between 0 and 1
+         */
+        public Opacity ( final float opacity )
+        {
+            this.opacity = Math.max ( 0f, Math.min ( 1f, opacity ) );
+            this.multiplier = Math.round ( this.opacity * 256 );
+        }
+
+        @Override
+        public void apply ( @NotNull final int[] pixels, final int length )
+        {
+            for ( int i = 0; i < length; i++ )
+            {
+                final int argb = pixels[ i ];
+                final int alpha = ( ( argb >>> 24 ) * multiplier + 128 ) >> 8;
+                pixels[ i ] = Math.min ( 255, alpha ) << 24 | argb & 0xffffff;
+            }
+        }
+
+        @NotNull
+        @Override
+        public String getKey ()
+        {
+            return "opacity(" + opacity + ")";
+        }
+    }
+
+    /**
+     * {@link PixelOperation} blending pixels colors with the specified tint {@link Color}.
+     */
+    protected static class Tint implements PixelOperation
+    {
+        /**
+         * Tint {@link Color} RGB value.
+         */
+        protected final int rgb;
+
+        /**
+         * Tint amount, must be between 0 and 1.
+         */
+        protected final float amount;
+
+        /**
+         * Tint amount in 0-256 range.
+         */
+        protected final int multiplier;
+
+        /**
+         * Constructs new {@link Tint}.
+         *
+         * @param color  tint {@link Color}
+         * @param amount tint amount, must be between 0 and 1
+         */
+        public Tint ( @NotNull final Color color, final float amount )
+        {
+            this.rgb = color.getRGB () & 0xffffff;
+            this.amount = Math.max ( 0f, Math.min ( 1f, amount ) );
+            this.multiplier = Math.round ( this.amount * 256 );
+        }
+
+        @Override
+        public void apply ( @NotNull final int[] pixels, final int length )
+        {
+            final int tr = rgb >> 16 & 0xff;
+            final int tg = rgb >> 8 & 0xff;
+            final int tb = rgb & 0xff;
+            for ( int i = 0; i < length; i++ )
+            {
+                final int argb = pixels[ i ];
+                final int r = blend ( argb >> 16 & 0xff, tr );
+                final int g = blend ( argb >> 8 & 0xff, tg );
+                final int b = blend ( argb & 0xff, tb );
+                pixels[ i ] = argb & 0xff000000 | r << 16 | g << 8 | b;
+            }
+        }
+
+        /**
+         * Returns color component blended with tint component.
+         *
+         * @param component color component
+         * @param tint      tint component
+         * @return color component blended with tint component
+         */
+        protected int blend ( final int component, final int tint )
+        {
+            return component + ( ( tint - component ) * multiplier >> 8 );
+        }
+
+        @NotNull
+        @Override
+        public String getKey ()
+        {
+            return "tint(" + Integer.toHexString ( rgb ) + "," + amount + ")";
+        }
+    }
+}
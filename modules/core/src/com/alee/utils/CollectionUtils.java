@@ -1030,6 +1030,43 @@ public final class CollectionUtils
         return list;
     }
 
+    /**
+     * Returns new {@link ArrayList} with elements of two sorted {@link List}s merged according to the specified {@link Comparator}.
+     * Both {@link List}s must be sorted using the same {@link Comparator}, elements of the first {@link List} go first on equality.
+     *
+     * @param list1      first sorted {@link List}
+     * @param list2      second sorted {@link List}
+     * @param comparator {@link Comparator} both {@link List}s are sorted with
+     * @param <T>        elements type
+     * @return new {@link ArrayList} with elements of two sorted {@link List}s merged according to the specified {@link Comparator}
+     */
+    @NotNull
+    public static <T> ArrayList<T> mergeSorted ( @NotNull final List<T> list1, @NotNull final List<T> list2,
+                                                 @NotNull final Comparator<? super T> comparator )
+    {
+        final ArrayList<T> merged = new ArrayList<T> ( list1.size () + list2.size () );
+        int i1 = 0;
+        int i2 = 0;
+        while ( i1 < list1.size () && i2 < list2.size () )
+        {
+            final T element1 = list1.get ( i1 );
+            final T element2 = list2.get ( i2 );
+            if ( comparator.compare ( element1, element2 ) <= 0 )
+            {
+                merged.add ( element1 );
+                i1++;
+            }
+            else
+            {
+                merged.add ( element2 );
+                i2++;
+            }
+        }
+        merged.addAll ( list1.subList ( i1, list1.size () ) );
+        merged.addAll ( list2.subList ( i2, list2.size () ) );
+        return merged;
+    }
+
     /**
      * Returns map keys list.
      *
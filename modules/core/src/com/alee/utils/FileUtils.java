@@ -22,9 +22,12 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.resource.Resource;
 import com.alee.managers.language.LM;
 import com.alee.managers.proxy.ProxyManager;
+import com.alee.managers.task.TaskGroup;
 import com.alee.utils.compare.Filter;
 import com.alee.utils.file.FileComparator;
+import com.alee.utils.file.FileCopyListener;
 import com.alee.utils.file.FileDescription;
+import com.alee.utils.file.FileDownload;
 import com.alee.utils.file.FileDownloadListener;
 import com.alee.utils.file.SystemFileListener;
 import com.alee.utils.filefilter.AbstractFileFilter;
@@ -45,13 +48,20 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.security.CodeSource;
 import java.security.MessageDigest;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class provides a set of utilities to work with files, file names and their extensions.
@@ -118,6 +128,42 @@ public final class FileUtils
      */
     private static final int MD5_BUFFER_LENGTH = 102400;
 
+    /**
+     * Size of pooled direct buffers used for digest calculations.
+     */
+    private static final int DIGEST_BUFFER_SIZE = 65536;
+
+    /**
+     * Maximum amount of pooled direct buffers used for digest calculations.
+     */
+    private static final int DIGEST_BUFFER_POOL_SIZE = 8;
+
+    /**
+     * Files larger than this size are memory-mapped for digest calculations.
+     */
+    private static final long DIGEST_MAPPING_THRESHOLD = 16 * 1024 * 1024;
+
+    /**
+     * Maximum size of a single memory-mapped file region used for digest calculations.
+     */
+    private static final long DIGEST_MAPPING_SIZE = 256 * 1024 * 1024;
+
+    /**
+     * Pooled direct buffers used for digest calculations.
+     */
+    private static final Queue<ByteBuffer> digestBuffers = new ConcurrentLinkedQueue<ByteBuffer> ();
+
+    /**
+     * Maximum amount of bytes transferred at once while copying files.
+     * It limits how long stop requests and progress updates can be delayed by a single large file.
+     */
+    private static final long COPY_TRANSFER_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Minimum delay between {@link FileCopyListener#partCopied(long, long, long)} events in milliseconds.
+     */
+    private static final long COPY_PROGRESS_DELAY = 100;
+
     /**
      * Buffer size for text reader.
      */
@@ -608,7 +654,21 @@ public final class FileUtils
     @NotNull
     public static String computeMD5 ( @NotNull final InputStream inputStream )
     {
-        return computeMD5 ( inputStream, MD5_BUFFER_LENGTH );
+        try
+        {
+            return new BigInteger ( 1, digest ( inputStream, "MD5" ) ).toString ( 16 );
+        }
+        finally
+        {
+            try
+            {
+                inputStream.close ();
+            }
+            catch ( final Exception ignored )
+            {
+                //
+            }
+        }
     }
 
     /**
@@ -652,6 +712,157 @@ public final class FileUtils
         }
     }
 
+    /**
+     * Returns hexadecimal digest for the specified {@link File} content computed with the specified {@link MessageDigest} algorithm.
+     *
+     * @param file      {@link File} to process
+     * @param algorithm {@link MessageDigest} algorithm, for example "MD5" or "SHA-256"
+     * @return hexadecimal digest for the specified {@link File} content
+     */
+    @NotNull
+    public static String computeDigest ( @NotNull final File file, @NotNull final String algorithm )
+    {
+        return toHex ( digest ( file, algorithm ) );
+    }
+
+    /**
+     * Returns hexadecimal digest for the data provided by {@link InputStream} computed with the specified {@link MessageDigest} algorithm.
+     * Note that this method does not close the {@link InputStream}.
+     *
+     * @param inputStream data stream to process
+     * @param algorithm   {@link MessageDigest} algorithm, for example "MD5" or "SHA-256"
+     * @return hexadecimal digest for the data provided by {@link InputStream}
+     */
+    @NotNull
+    public static String computeDigest ( @NotNull final InputStream inputStream, @NotNull final String algorithm )
+    {
+        return toHex ( digest ( inputStream, algorithm ) );
+    }
+
+    /**
+     * Returns digest for the specified {@link File} content computed with the specified {@link MessageDigest} algorithm.
+     * Large files are memory-mapped, smaller ones are read through pooled direct buffers.
+     *
+     * @param file      {@link File} to process
+     * @param algorithm {@link MessageDigest} algorithm, for example "MD5" or "SHA-256"
+     * @return digest for the specified {@link File} content
+     */
+    @NotNull
+    public static byte[] digest ( @NotNull final File file, @NotNull final String algorithm )
+    {
+        try
+        {
+            final MessageDigest digest = MessageDigest.getInstance ( algorithm );
+            final FileInputStream inputStream = new FileInputStream ( file );
+            try
+            {
+                final FileChannel channel = inputStream.getChannel ();
+                final long size = channel.size ();
+                if ( size >= DIGEST_MAPPING_THRESHOLD )
+                {
+                    // Hashing large files through memory-mapped regions to avoid copying data into buffers
+                    long position = 0;
+                    while ( position < size )
+                    {
+                        final long length = Math.min ( DIGEST_MAPPING_SIZE, size - position );
+                        digest.update ( channel.map ( FileChannel.MapMode.READ_ONLY, position, length ) );
+                        position += length;
+                    }
+                }
+                else
+                {
+                    digest ( channel, digest );
+                }
+            }
+            finally
+            {
+                inputStream.close ();
+            }
+            return digest.digest ();
+        }
+        catch ( final Exception e )
+        {
+            throw new UtilityException ( "Unable to compute " + algorithm + " digest for file: " + file, e );
+        }
+    }
+
+    /**
+     * Returns digest for the data provided by {@link InputStream} computed with the specified {@link MessageDigest} algorithm.
+     * Note that this method does not close the {@link InputStream}.
+     *
+     * @param inputStream data stream to process
+     * @param algorithm   {@link MessageDigest} algorithm, for example "MD5" or "SHA-256"
+     * @return digest for the data provided by {@link InputStream}
+     */
+    @NotNull
+    public static byte[] digest ( @NotNull final InputStream inputStream, @NotNull final String algorithm )
+    {
+        try
+        {
+            final MessageDigest digest = MessageDigest.getInstance ( algorithm );
+            digest ( inputStream instanceof FileInputStream ? ( ( FileInputStream ) inputStream ).getChannel () :
+                    Channels.newChannel ( inputStream ), digest );
+            return digest.digest ();
+        }
+        catch ( final Exception e )
+        {
+            throw new UtilityException ( "Unable to compute " + algorithm + " digest for InputStream: " + inputStream, e );
+        }
+    }
+
+    /**
+     * Returns lowercase hexadecimal representation of the specified bytes.
+     *
+     * @param bytes bytes to convert
+     * @return lowercase hexadecimal representation of the specified bytes
+     */
+    @NotNull
+    private static String toHex ( @NotNull final byte[] bytes )
+    {
+        final char[] digits = "0123456789abcdef".toCharArray ();
+        final char[] hex = new char[ bytes.length * 2 ];
+        for ( int i = 0; i < bytes.length; i++ )
+        {
+            hex[ i * 2 ] = digits[ ( bytes[ i ] >> 4 ) & 0xF ];
+            hex[ i * 2 + 1 ] = digits[ bytes[ i ] & 0xF ];
+        }
+        return new String ( hex );
+    }
+
+    /**
+     * Updates {@link MessageDigest} with all data provided by {@link ReadableByteChannel}.
+     * Data is read through pooled direct buffer.
+     *
+     * @param channel {@link ReadableByteChannel} to process
+     * @param digest  {@link MessageDigest} to update
+     * @throws IOException if data cannot be read
+     */
+    private static void digest ( @NotNull final ReadableByteChannel channel, @NotNull final MessageDigest digest ) throws IOException
+    {
+        ByteBuffer buffer = digestBuffers.poll ();
+        if ( buffer == null )
+        {
+            buffer = ByteBuffer.allocateDirect ( DIGEST_BUFFER_SIZE );
+        }
+        try
+        {
+            buffer.clear ();
+            while ( channel.read ( buffer ) != -1 )
+            {
+                buffer.flip ();
+                digest.update ( buffer );
+                buffer.clear ();
+            }
+        }
+        finally
+        {
+            if ( digestBuffers.size () < DIGEST_BUFFER_POOL_SIZE )
+            {
+                digestBuffers.offer ( buffer );
+            }
+        }
+    }
+
     /**
      * Returns application working directory.
      *
@@ -1606,43 +1817,100 @@ public final class FileUtils
      */
     public static boolean copyDirectory ( @NotNull final File srcDir, @NotNull final File dstDir, final boolean stopOnFail )
     {
-        // todo Actually ignore exceptions as well if stopOnFail = false
+        return copyDirectory ( srcDir, dstDir, stopOnFail, 1, null );
+    }
+
+    /**
+     * Copies src directory content into dst directory using the specified amount of threads and returns whether operation succeed or not.
+     * Directory structure is created first, then files are copied through {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}
+     * by at most the specified amount of threads at once.
+     * Copy process can be observed and stopped through the specified {@link FileCopyListener}.
+     * Whether to stop copy operation if any exception occurs or not is set by stopOnFail argument.
+     *
+     * @param srcDir     source directory
+     * @param dstDir     destination directory
+     * @param stopOnFail whether to stop copy operation if any exception occurs or not
+     * @param threads    maximum amount of files copied at once
+     * @param listener   {@link FileCopyListener} for copy process
+     * @return true if copy operation succeed, false if it has failed or was stopped
+     */
+    public static boolean copyDirectory ( @NotNull final File srcDir, @NotNull final File dstDir, final boolean stopOnFail,
+                                          final int threads, @Nullable final FileCopyListener listener )
+    {
         boolean success;
         if ( srcDir.exists () && srcDir.isDirectory () )
         {
-            // Ensure destination directory exists and perform copy
-            if ( ensureDirectoryExists ( dstDir ) )
+            // Creating directory structure and collecting files to copy
+            final List<File> sources = new ArrayList<File> ();
+            final List<File> targets = new ArrayList<File> ();
+            success = collectCopiedFiles ( srcDir, dstDir, sources, targets, stopOnFail );
+            if ( success || !stopOnFail )
             {
-                // Copying all subdirectories and sub-files
-                success = true;
-                final File[] files = srcDir.listFiles ();
-                if ( files != null )
+                long totalSize = 0;
+                for ( final File source : sources )
                 {
-                    for ( final File file : files )
+                    totalSize += source.length ();
+                }
+                if ( listener != null )
+                {
+                    listener.sizeDetermined ( sources.size (), totalSize );
+                }
+
+                // Copying files
+                final CopyProgress progress = new CopyProgress ( listener, totalSize, stopOnFail );
+                final int workers = Math.min ( threads, sources.size () );
+                if ( workers > 1 )
+                {
+                    final AtomicInteger next = new AtomicInteger ( 0 );
+                    final TaskGroup group = new TaskGroup ( "FileUtils.copyDirectory", workers );
+                    try
                     {
-                        final String copied = dstDir.getAbsolutePath () + File.separator + file.getName ();
-                        if ( file.isDirectory () )
+                        final List<Future<?>> futures = new ArrayList<Future<?>> ( workers );
+                        for ( int i = 0; i < workers; i++ )
                         {
-                            success = copyDirectory ( file.getAbsolutePath (), copied ) && success;
-                            if ( !success && stopOnFail )
+                            futures.add ( group.execute ( new Runnable ()
                             {
-                                break;
-                            }
+                                @Override
+                                public void run ()
+                                {
+                                    int index;
+                                    while ( !progress.isStopped () && ( index = next.getAndIncrement () ) < sources.size () )
+                                    {
+                                        copyFile ( sources.get ( index ), targets.get ( index ), progress );
+                                    }
+                                }
+                            } ) );
                         }
-                        else
+                        for ( final Future<?> future : futures )
                         {
-                            success = copyFile ( file.getAbsolutePath (), copied ) && success;
-                            if ( !success && stopOnFail )
+                            try
+                            {
+                                future.get ();
+                            }
+                            catch ( final InterruptedException e )
                             {
-                                break;
+                                Thread.currentThread ().interrupt ();
+                                progress.stop ();
+                            }
+                            catch ( final ExecutionException e )
+                            {
+                                progress.stop ();
                             }
                         }
                     }
+                    finally
+                    {
+                        group.shutdown ();
+                    }
                 }
-            }
-            else
-            {
-                success = false;
+                else
+                {
+                    for ( int i = 0; i < sources.size () && !progress.isStopped (); i++ )
+                    {
+                        copyFile ( sources.get ( i ), targets.get ( i ), progress );
+                    }
+                }
+                success = success && progress.isSuccessful ();
             }
         }
         else
@@ -1652,6 +1920,106 @@ public final class FileUtils
         return success;
     }
 
+    /**
+     * Creates destination directory structure and collects source and destination files.
+     *
+     * @param srcDir     source directory
+     * @param dstDir     destination directory
+     * @param sources    source files
+     * @param targets    destination files
+     * @param stopOnFail whether to stop if any directory cannot be created or not
+     * @return true if all directories were created, false otherwise
+     */
+    private static boolean collectCopiedFiles ( @NotNull final File srcDir, @NotNull final File dstDir, @NotNull final List<File> sources,
+                                                @NotNull final List<File> targets, final boolean stopOnFail )
+    {
+        boolean success = ensureDirectoryExists ( dstDir );
+        if ( success )
+        {
+            final File[] files = srcDir.listFiles ();
+            if ( files != null )
+            {
+                for ( final File file : files )
+                {
+                    final File copied = new File ( dstDir, file.getName () );
+                    if ( file.isDirectory () )
+                    {
+                        success = collectCopiedFiles ( file, copied, sources, targets, stopOnFail ) && success;
+                        if ( !success && stopOnFail )
+                        {
+                            break;
+                        }
+                    }
+                    else
+                    {
+                        sources.add ( file );
+                        targets.add ( copied );
+                    }
+                }
+            }
+        }
+        return success;
+    }
+
+    /**
+     * Copies source file content into destination file reporting progress into {@link CopyProgress}.
+     * Partially copied destination file is removed if copy is stopped or fails.
+     *
+     * @param src      source file
+     * @param dst      destination file
+     * @param progress {@link CopyProgress}
+     */
+    private static void copyFile ( @NotNull final File src, @NotNull final File dst, @NotNull final CopyProgress progress )
+    {
+        boolean completed = false;
+        try
+        {
+            final FileInputStream inputStream = new FileInputStream ( src );
+            try
+            {
+                final FileOutputStream outputStream = new FileOutputStream ( dst );
+                try
+                {
+                    final FileChannel srcFC = inputStream.getChannel ();
+                    final FileChannel dstFC = outputStream.getChannel ();
+                    final long size = srcFC.size ();
+                    long position = 0;
+                    while ( position < size && !progress.isStopped () )
+                    {
+                        final long transferred = srcFC.transferTo ( position, Math.min ( COPY_TRANSFER_SIZE, size - position ), dstFC );
+                        if ( transferred <= 0 )
+                        {
+                            throw new EOFException ( "Unexpected end of file: " + src );
+                        }
+                        position += transferred;
+                        progress.partCopied ( transferred );
+                    }
+                    completed = position == size;
+                }
+                finally
+                {
+                    outputStream.close ();
+                }
+            }
+            finally
+            {
+                inputStream.close ();
+            }
+            if ( completed )
+            {
+                progress.fileCopied ( src, dst );
+            }
+        }
+        catch ( final Exception e )
+        {
+            progress.fileCopyFailed ( src, dst, e );
+        }
+        if ( !completed )
+        {
+            deleteFile ( dst );
+        }
+    }
+
     /**
      * Copies source file content into destination file.
      * If destination directory doesn't exist it will be created in the process.
@@ -2044,7 +2412,7 @@ public final class FileUtils
     /**
      * Downloads file from the specified url to destination file and returns it if download succeed.
      * You can observe and manipulate the download process by providing a file download listener.
-     * todo Instead of multiple methods create DownloadParameters class that would contain all of the settings
+     * Use {@link FileDownload} directly for resumable, segmented, speed-limited or verified downloads.
      *
      * @param url         file source url
      * @param dstFile     destination file
@@ -2058,115 +2426,12 @@ public final class FileUtils
     public static File downloadFile ( @NotNull final String url, @NotNull final File dstFile, final boolean encodeUrl,
                                       @Nullable final String contentType, final int timeout, @Nullable final FileDownloadListener listener )
     {
-        try
-        {
-            // Creating connection
-            final URL encodedUrl = new URL ( encodeUrl ? WebUtils.encodeUrl ( url ) : url );
-            final URLConnection uc = ProxyManager.getURLConnection ( encodedUrl );
-
-            // Configuring timeouts
-            if ( timeout != 0 )
-            {
-                uc.setConnectTimeout ( timeout );
-                uc.setReadTimeout ( timeout );
-            }
-
-            // Checking stop flag
-            if ( listener != null && listener.shouldStopDownload () )
-            {
-                deleteFile ( dstFile );
-                listener.fileDownloadAborted ();
-                throw new UtilityException ( "File download was aborted" );
-            }
-
-            // Content type limitation
-            if ( contentType != null )
-            {
-                final String ct = uc.getContentType ();
-                if ( !ct.contains ( contentType ) )
-                {
-                    deleteFile ( dstFile );
-                    if ( listener != null )
-                    {
-                        listener.fileDownloadAborted ();
-                    }
-                    throw new UtilityException ( "File download was aborted due to content type not matching requested content type" );
-                }
-            }
-
-            // Notifying about file size
-            if ( listener != null )
-            {
-                listener.sizeDetermined ( uc.getContentLength () );
-
-                // Checking stop flag
-                if ( listener.shouldStopDownload () )
-                {
-                    deleteFile ( dstFile );
-                    listener.fileDownloadAborted ();
-                    throw new UtilityException ( "File download was aborted" );
-                }
-            }
-
-            // Opening file stream
-            final InputStream in = uc.getInputStream ();
-            final FileOutputStream out = new FileOutputStream ( dstFile );
-
-            // Checking stop flag
-            if ( listener != null && listener.shouldStopDownload () )
-            {
-                out.flush ();
-                out.close ();
-                in.close ();
-                deleteFile ( dstFile );
-                listener.fileDownloadAborted ();
-                throw new UtilityException ( "File download was aborted" );
-            }
-
-            // Downloading content part by part
-            final byte[] buf = new byte[ 50 * 1024 ];
-            int totalBytesRead = 0;
-            int bytesRead;
-            while ( ( bytesRead = in.read ( buf ) ) != -1 )
-            {
-                if ( listener != null )
-                {
-                    totalBytesRead += bytesRead;
-                    listener.partDownloaded ( totalBytesRead );
-
-                    // Checking stop flag
-                    if ( listener.shouldStopDownload () )
-                    {
-                        out.flush ();
-                        out.close ();
-                        in.close ();
-                        deleteFile ( dstFile );
-                        listener.fileDownloadAborted ();
-                        throw new UtilityException ( "File download was aborted" );
-                    }
-                }
-                out.write ( buf, 0, bytesRead );
-            }
-            out.flush ();
-            out.close ();
-            in.close ();
-
-            // Informing about completed download
-            if ( listener != null )
-            {
-                listener.fileDownloaded ( dstFile );
-            }
-            return dstFile;
-        }
-        catch ( final Exception e )
-        {
-            // Informing about failed download
-            if ( listener != null )
-            {
-                listener.fileDownloadFailed ( e );
-            }
-            throw new UtilityException ( "Unable to download file from URL: " + url, e );
-        }
+        return new FileDownload ( url, dstFile )
+                .setEncodeUrl ( encodeUrl )
+                .setContentType ( contentType )
+                .setTimeout ( timeout )
+                .setListener ( listener )
+                .download ();
     }
 
     /**
@@ -3271,4 +3536,156 @@ public final class FileUtils
         tracker.setUseDaemonThread ( true );
         return tracker;
     }
-}
\ No newline at end of file
+
+    /**
+     * Directory copy progress shared between copying threads.
+     */
+    private static final class CopyProgress
+    {
+        /**
+         * {@link FileCopyListener} for copy process.
+         */
+        @Nullable
+        private final FileCopyListener listener;
+
+        /**
+         * Total size of copied files in bytes.
+         */
+        private final long totalSize;
+
+        /**
+         * Whether to stop copy operation if any exception occurs or not.
+         */
+        private final boolean stopOnFail;
+
+        /**
+         * Copy start time.
+         */
+        private final long startTime;
+
+        /**
+         * Last {@link FileCopyListener#partCopied(long, long, long)} event time.
+         */
+        private long lastProgressTime;
+
+        /**
+         * Total bytes copied so far.
+         */
+        private long copied;
+
+        /**
+         * Whether all files were copied successfully or not.
+         */
+        private boolean successful;
+
+        /**
+         * Whether copy operation was stopped or not.
+         */
+        private volatile boolean stopped;
+
+        /**
+         * Constructs new {@link CopyProgress}.
+         *
+         * @param listener   {@link FileCopyListener} for copy process
+         * @param totalSize  total size of copied files in bytes
+         * @param stopOnFail whether to stop copy operation if any exception occurs or not
+         */
+        public CopyProgress ( @Nullable final FileCopyListener listener, final long totalSize, final boolean stopOnFail )
+        {
+            this.listener = listener;
+            this.totalSize = totalSize;
+            this.stopOnFail = stopOnFail;
+            this.startTime = System.currentTimeMillis ();
+            this.lastProgressTime = startTime;
+            this.copied = 0;
+            this.successful = true;
+            this.stopped = false;
+        }
+
+        /**
+         * Returns whether copy operation was stopped or not.
+         *
+         * @return true if copy operation was stopped, false otherwise
+         */
+        public synchronized boolean isStopped ()
+        {
+            if ( !stopped && listener != null && listener.shouldStopCopy () )
+            {
+                stop ();
+            }
+            return stopped;
+        }
+
+        /**
+         * Stops copy operation.
+         */
+        public synchronized void stop ()
+        {
+            stopped = true;
+            successful = false;
+        }
+
+        /**
+         * Returns whether all files were copied successfully or not.
+         *
+         * @return true if all files were copied successfully, false otherwise
+         */
+        public synchronized boolean isSuccessful ()
+        {
+            return successful;
+        }
+
+        /**
+         * Informs about copied part of data.
+         *
+         * @param bytes amount of copied bytes
+         */
+        public synchronized void partCopied ( final long bytes )
+        {
+            copied += bytes;
+            if ( listener != null )
+            {
+                final long time = System.currentTimeMillis ();
+                if ( time - lastProgressTime >= COPY_PROGRESS_DELAY || copied >= totalSize )
+                {
+                    lastProgressTime = time;
+                    listener.partCopied ( copied, totalSize, copied * 1000 / Math.max ( 1, time - startTime ) );
+                }
+            }
+        }
+
+        /**
+         * Informs about copied file.
+         *
+         * @param src source file
+         * @param dst destination file
+         */
+        public synchronized void fileCopied ( @NotNull final File src, @NotNull final File dst )
+        {
+            if ( listener != null )
+            {
+                listener.fileCopied ( src, dst );
+            }
+        }
+
+        /**
+         * Informs about failed file copy.
+         *
+         * @param src source file
+         * @param dst destination file
+         * @param e   exception that caused copy to fail
+         */
+        public synchronized void fileCopyFailed ( @NotNull final File src, @NotNull final File dst, @NotNull final Throwable e )
+        {
+            successful = false;
+            if ( stopOnFail )
+            {
+                stopped = true;
+            }
+            if ( listener != null )
+            {
+                listener.fileCopyFailed ( src, dst, e );
+            }
+        }
+    }
+}
@@ -19,24 +19,30 @@ package com.alee.utils;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.api.resource.FileResource;
 import com.alee.api.resource.Resource;
 import com.alee.api.ui.DisabledCopySupplier;
 import com.alee.api.ui.TransparentCopySupplier;
 import com.alee.graphics.filters.ShadowFilter;
+import com.alee.graphics.image.PixelPipeline;
 import com.alee.utils.collection.ImmutableList;
 import com.mortennobel.imagescaling.ResampleOp;
 import org.slf4j.LoggerFactory;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import javax.swing.*;
 import java.awt.*;
-import java.awt.color.ColorSpace;
 import java.awt.geom.Area;
 import java.awt.image.*;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.*;
 
@@ -53,19 +59,27 @@ public final class ImageUtils
     );
 
     /**
-     * Grayscale image filter.
+     * {@link PixelPipeline} used to create disabled image copies.
      */
-    private static final ColorConvertOp GRAYSCALE_FILTER = new ColorConvertOp ( ColorSpace.getInstance ( ColorSpace.CS_GRAY ), null );
+    private static final PixelPipeline DISABLED_PIPELINE = new PixelPipeline ().grayscale ().opacity ( 0.7f );
 
     /**
-     * Disabled icons cache.
+     * Maximum amount of cached {@link Icon} copies.
      */
-    protected static final Map<Icon, Icon> DISABLED_ICONS_CACHE = new WeakHashMap<Icon, Icon> ( 50 );
+    protected static final int ICON_COPIES_CACHE_SIZE = 512;
 
     /**
-     * Transparent icons cache.
+     * Cached {@link Icon} copies in access order.
+     * Copies are keyed by source {@link Icon} identity and applied operations.
      */
-    protected static final Map<Icon, Map<Float, Icon>> TRANSPARENT_ICONS_CACHE = new WeakHashMap<Icon, Map<Float, Icon>> ( 10 );
+    protected static final Map<IconCopyKey, Icon> ICON_COPIES_CACHE = new LinkedHashMap<IconCopyKey, Icon> ( 64, 0.75f, true )
+    {
+        @Override
+        protected boolean removeEldestEntry ( final Map.Entry<IconCopyKey, Icon> eldest )
+        {
+            return size () > ICON_COPIES_CACHE_SIZE;
+        }
+    };
 
     /**
      * Private constructor to avoid instantiation.
@@ -227,6 +241,138 @@ public final class ImageUtils
         }
     }
 
+    /**
+     * Returns size of the image stored in the specified {@link File}.
+     * Only image header is read, so this is considerably faster than loading the whole image.
+     *
+     * @param file {@link File} to read image size from
+     * @return size of the image stored in the specified {@link File}
+     */
+    @NotNull
+    public static Dimension getImageSize ( @NotNull final File file )
+    {
+        Dimension size = null;
+        ImageInputStream stream = null;
+        try
+        {
+            stream = ImageIO.createImageInputStream ( file );
+            if ( stream != null )
+            {
+                final Iterator<ImageReader> readers = ImageIO.getImageReaders ( stream );
+                if ( readers.hasNext () )
+                {
+                    final ImageReader reader = readers.next ();
+                    try
+                    {
+                        reader.setInput ( stream, true, true );
+                        size = new Dimension ( reader.getWidth ( 0 ), reader.getHeight ( 0 ) );
+                    }
+                    finally
+                    {
+                        reader.dispose ();
+                    }
+                }
+            }
+        }
+        catch ( final Exception e )
+        {
+            throw new UtilityException ( "Unable to read image size: " + file, e );
+        }
+        finally
+        {
+            if ( stream != null )
+            {
+                try
+                {
+                    stream.close ();
+                }
+                catch ( final IOException ignored )
+                {
+                    /**
+                     * Ignoring stream closing exceptions.
+                     */
+                }
+            }
+        }
+        if ( size == null )
+        {
+            throw new UtilityException ( "Unsupported image file: " + file );
+        }
+        return size;
+    }
+
+    /**
+     * Returns {@link BufferedImage} loaded from the specified {@link File} using source subsampling.
+     * Only every n-th pixel of each n-th row is decoded, where n is the largest factor that still keeps decoded image
+     * at least twice as large as the specified maximum size, so that it can be properly scaled down afterwards.
+     * This avoids decoding and storing full-size raster when only a small preview of a large image is needed.
+     * Falls back to full {@link #loadBufferedImage(Resource)} when no {@link ImageReader} is available for the {@link File}.
+     *
+     * @param file      {@link File} to load {@link BufferedImage} from
+     * @param maxWidth  maximum width image is going to be displayed with
+     * @param maxHeight maximum height image is going to be displayed with
+     * @return {@link BufferedImage} loaded from the specified {@link File} using source subsampling
+     */
+    @NotNull
+    public static BufferedImage loadSubsampledImage ( @NotNull final File file, final int maxWidth, final int maxHeight )
+    {
+        BufferedImage image = null;
+        ImageInputStream stream = null;
+        try
+        {
+            stream = ImageIO.createImageInputStream ( file );
+            if ( stream != null )
+            {
+                final Iterator<ImageReader> readers = ImageIO.getImageReaders ( stream );
+                if ( readers.hasNext () )
+                {
+                    final ImageReader reader = readers.next ();
+                    try
+                    {
+                        reader.setInput ( stream, true, true );
+                        final int width = reader.getWidth ( 0 );
+                        final int height = reader.getHeight ( 0 );
+                        final int factor = Math.max ( 1, Math.min (
+                                width / Math.max ( 1, maxWidth * 2 ),
+                                height / Math.max ( 1, maxHeight * 2 )
+                        ) );
+                        final ImageReadParam param = reader.getDefaultReadParam ();
+                        if ( factor > 1 )
+                        {
+                            param.setSourceSubsampling ( factor, factor, 0, 0 );
+                        }
+                        image = reader.read ( 0, param );
+                    }
+                    finally
+                    {
+                        reader.dispose ();
+                    }
+                }
+            }
+        }
+        catch ( final Exception e )
+        {
+            throw new UtilityException ( "Unable to load subsampled BufferedImage: " + file, e );
+        }
+        finally
+        {
+            if ( stream != null )
+            {
+                try
+                {
+                    stream.close ();
+                }
+                catch ( final IOException ignored )
+                {
+                    /**
+                     * Ignoring stream closing exceptions.
+                     */
+                }
+            }
+        }
+        return image != null ? image : loadBufferedImage ( new FileResource ( file ) );
+    }
+
     /**
      * Returns {@link BufferedImage} converted from the specified {@link Image}.
      *
@@ -517,25 +663,12 @@ public final class ImageUtils
     @NotNull
     public static Icon getDisabledCopy ( @NotNull final Icon icon )
     {
-        final Icon disabledIcon;
-        if ( DISABLED_ICONS_CACHE.containsKey ( icon ) )
+        final String operations = DISABLED_PIPELINE.getKey ();
+        Icon disabledIcon = getCachedCopy ( icon, operations );
+        if ( disabledIcon == null )
         {
-            disabledIcon = DISABLED_ICONS_CACHE.get ( icon );
-        }
-        else
-        {
-            synchronized ( DISABLED_ICONS_CACHE )
-            {
-                if ( DISABLED_ICONS_CACHE.containsKey ( icon ) )
-                {
-                    disabledIcon = DISABLED_ICONS_CACHE.get ( icon );
-                }
-                else
-                {
-                    disabledIcon = createDisabledCopy ( icon );
-                    DISABLED_ICONS_CACHE.put ( icon, disabledIcon );
-                }
-            }
+            disabledIcon = createDisabledCopy ( icon );
+            cacheCopy ( icon, operations, disabledIcon );
         }
         return disabledIcon;
     }
@@ -582,19 +715,7 @@ public final class ImageUtils
     @NotNull
     public static BufferedImage createDisabledCopy ( @NotNull final BufferedImage bufferedImage )
     {
-        // Creating image copy
-        final BufferedImage disabledCopy = createCompatibleImage ( bufferedImage );
-
-        // Painting original image as semi-transparent
-        final Graphics2D g2d = disabledCopy.createGraphics ();
-        GraphicsUtils.setupAlphaComposite ( g2d, 0.7f );
-        g2d.drawImage ( bufferedImage, 0, 0, null );
-        g2d.dispose ();
-
-        // Applying grayscale filter
-        GRAYSCALE_FILTER.filter ( disabledCopy, disabledCopy );
-
-        return disabledCopy;
+        return DISABLED_PIPELINE.apply ( bufferedImage );
     }
 
     /**
@@ -607,45 +728,12 @@ public final class ImageUtils
     @NotNull
     public static Icon getTransparentCopy ( @NotNull final Icon icon, final float opacity )
     {
-        final Map<Float, Icon> transparentCopies;
-        if ( TRANSPARENT_ICONS_CACHE.containsKey ( icon ) )
-        {
-            transparentCopies = TRANSPARENT_ICONS_CACHE.get ( icon );
-        }
-        else
-        {
-            synchronized ( TRANSPARENT_ICONS_CACHE )
-            {
-                if ( TRANSPARENT_ICONS_CACHE.containsKey ( icon ) )
-                {
-                    transparentCopies = TRANSPARENT_ICONS_CACHE.get ( icon );
-                }
-                else
-                {
-                    transparentCopies = new HashMap<Float, Icon> ( 1 );
-                    TRANSPARENT_ICONS_CACHE.put ( icon, transparentCopies );
-                }
-            }
-        }
-        final Icon transparentIcon;
-        if ( transparentCopies.containsKey ( opacity ) )
-        {
-            transparentIcon = transparentCopies.get ( opacity );
-        }
-        else
+        final String operations = new PixelPipeline ().opacity ( opacity ).getKey ();
+        Icon transparentIcon = getCachedCopy ( icon, operations );
+        if ( transparentIcon == null )
         {
-            synchronized ( TRANSPARENT_ICONS_CACHE )
-            {
-                if ( transparentCopies.containsKey ( opacity ) )
-                {
-                    transparentIcon = transparentCopies.get ( opacity );
-                }
-                else
-                {
-                    transparentIcon = createTransparentCopy ( icon, opacity );
-                    transparentCopies.put ( opacity, transparentIcon );
-                }
-            }
+            transparentIcon = createTransparentCopy ( icon, opacity );
+            cacheCopy ( icon, operations, transparentIcon );
         }
         return transparentIcon;
     }
@@ -695,18 +783,59 @@ public final class ImageUtils
     @NotNull
     public static BufferedImage createTransparentCopy ( @NotNull final BufferedImage bufferedImage, final float opacity )
     {
-        final BufferedImage transparentCopy = createCompatibleImage (
-                bufferedImage.getWidth (),
-                bufferedImage.getHeight (),
-                Transparency.TRANSLUCENT
-        );
-
-        final Graphics2D g2d = transparentCopy.createGraphics ();
-        GraphicsUtils.setupAlphaComposite ( g2d, opacity );
-        g2d.drawImage ( bufferedImage, 0, 0, null );
-        g2d.dispose ();
+        return new PixelPipeline ().opacity ( opacity ).apply ( bufferedImage );
+    }
 
-        return transparentCopy;
+    /**
+     * Returns new or cached copy of specified {@link Icon} processed by the specified {@link PixelPipeline}.
+     * Copies are cached by {@link Icon} identity and {@link PixelPipeline#getKey()}.
+     *
+     * @param icon     {@link Icon} to retrieve processed copy for
+     * @param pipeline {@link PixelPipeline} to process {@link Icon} with
+     * @return new or cached copy of specified {@link Icon} processed by the specified {@link PixelPipeline}
+     */
+    @NotNull
+    public static Icon getProcessedCopy ( @NotNull final Icon icon, @NotNull final PixelPipeline pipeline )
+    {
+        final String operations = pipeline.getKey ();
+        Icon processedIcon = getCachedCopy ( icon, operations );
+        if ( processedIcon == null )
+        {
+            processedIcon = new ImageIcon ( pipeline.apply ( toNonNullBufferedImage ( icon ) ) );
+            cacheCopy ( icon, operations, processedIcon );
+        }
+        return processedIcon;
+    }
+
+    /**
+     * Returns cached copy of the specified {@link Icon} or {@code null} if it is not cached.
+     *
+     * @param icon       source {@link Icon}
+     * @param operations key of operations applied to the copy
+     * @return cached copy of the specified {@link Icon} or {@code null} if it is not cached
+     */
+    @Nullable
+    private static Icon getCachedCopy ( @NotNull final Icon icon, @NotNull final String operations )
+    {
+        synchronized ( ICON_COPIES_CACHE )
+        {
+            return ICON_COPIES_CACHE.get ( new IconCopyKey ( icon, operations ) );
+        }
+    }
+
+    /**
+     * Caches copy of the specified {@link Icon}.
+     *
+     * @param icon       source {@link Icon}
+     * @param operations key of operations applied to the copy
+     * @param copy       {@link Icon} copy
+     */
+    private static void cacheCopy ( @NotNull final Icon icon, @NotNull final String operations, @NotNull final Icon copy )
+    {
+        synchronized ( ICON_COPIES_CACHE )
+        {
+            ICON_COPIES_CACHE.put ( new IconCopyKey ( icon, operations ), copy );
+        }
     }
 
     /**
@@ -742,14 +871,41 @@ public final class ImageUtils
      */
     public static BufferedImage cutImage ( @NotNull final BufferedImage bufferedImage, @NotNull final Shape shape )
     {
-        final BufferedImage cutImage = createCompatibleImage ( bufferedImage );
-        final Graphics2D g2d = cutImage.createGraphics ();
+        final int width = bufferedImage.getWidth ();
+        final int height = bufferedImage.getHeight ();
+
+        // Painting antialiased shape mask
+        final BufferedImage mask = new BufferedImage ( width, height, BufferedImage.TYPE_BYTE_GRAY );
+        final Graphics2D g2d = mask.createGraphics ();
         GraphicsUtils.setupAntialias ( g2d );
         g2d.setPaint ( Color.WHITE );
         g2d.fill ( shape );
-        g2d.setComposite ( AlphaComposite.getInstance ( AlphaComposite.SRC_IN ) );
-        g2d.drawImage ( bufferedImage, 0, 0, null );
         g2d.dispose ();
+
+        // Multiplying image alpha by mask
+        final BufferedImage cutImage = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB );
+        PixelPipeline.processRows ( width, height, new PixelPipeline.RowsTask ()
+        {
+            @Override
+            public void process ( final int fromRow, final int toRow )
+            {
+                final int blockRows = PixelPipeline.getBlockRows ( width, toRow - fromRow );
+                final int[] pixels = new int[ width * blockRows ];
+                final byte[] coverage = new byte[ width * blockRows ];
+                for ( int y = fromRow; y < toRow; y += blockRows )
+                {
+                    final int rows = Math.min ( blockRows, toRow - y );
+                    PixelPipeline.readPixels ( bufferedImage, 0, y, width, rows, pixels );
+                    mask.getRaster ().getDataElements ( 0, y, width, rows, coverage );
+                    for ( int i = 0; i < width * rows; i++ )
+                    {
+                        final int alpha = ( pixels[ i ] >>> 24 ) * ( coverage[ i ] & 0xff ) / 255;
+                        pixels[ i ] = alpha << 24 | pixels[ i ] & 0xffffff;
+                    }
+                    PixelPipeline.writePixels ( cutImage, 0, y, width, rows, pixels );
+                }
+            }
+        } );
         return cutImage;
     }
 
@@ -869,21 +1025,41 @@ public final class ImageUtils
     @NotNull
     public static Color getDominantColor ( @NotNull final BufferedImage image )
     {
-        int red = 0;
-        int green = 0;
-        int blue = 0;
-        for ( int i = 0; i < image.getWidth (); i++ )
+        final int width = image.getWidth ();
+        final int height = image.getHeight ();
+        final long[] sums = new long[ 3 ];
+        PixelPipeline.processRows ( width, height, new PixelPipeline.RowsTask ()
         {
-            for ( int j = 0; j < image.getHeight (); j++ )
+            @Override
+            public void process ( final int fromRow, final int toRow )
             {
-                final int rgb = image.getRGB ( i, j );
-                red += rgb >> 16 & 0xFF;
-                green += rgb >> 8 & 0xFF;
-                blue += rgb & 0xFF;
+                long red = 0;
+                long green = 0;
+                long blue = 0;
+                final int blockRows = PixelPipeline.getBlockRows ( width, toRow - fromRow );
+                final int[] pixels = new int[ width * blockRows ];
+                for ( int y = fromRow; y < toRow; y += blockRows )
+                {
+                    final int rows = Math.min ( blockRows, toRow - y );
+                    PixelPipeline.readPixels ( image, 0, y, width, rows, pixels );
+                    for ( int i = 0; i < width * rows; i++ )
+                    {
+                        final int rgb = pixels[ i ];
+                        red += rgb >> 16 & 0xFF;
+                        green += rgb >> 8 & 0xFF;
+                        blue += rgb & 0xFF;
+                    }
+                }
+                synchronized ( sums )
+                {
+                    sums[ 0 ] += red;
+                    sums[ 1 ] += green;
+                    sums[ 2 ] += blue;
+                }
             }
-        }
-        final int count = image.getWidth () * image.getHeight ();
-        return new Color ( red / count, green / count, blue / count );
+        } );
+        final long count = ( long ) width * height;
+        return new Color ( ( int ) ( sums[ 0 ] / count ), ( int ) ( sums[ 1 ] / count ), ( int ) ( sums[ 2 ] / count ) );
     }
 
     /**
@@ -919,13 +1095,7 @@ public final class ImageUtils
     @NotNull
     public static BufferedImage rotateImage90CW ( @NotNull final BufferedImage bufferedImage )
     {
-        final BufferedImage rotatedImage = createCompatibleImage ( bufferedImage );
-        final Graphics2D g2d = rotatedImage.createGraphics ();
-        g2d.translate ( bufferedImage.getHeight (), 0 );
-        g2d.rotate ( Math.PI / 2 );
-        g2d.drawImage ( bufferedImage, 0, 0, null );
-        g2d.dispose ();
-        return rotatedImage;
+        return rotateImage ( bufferedImage, 90 );
     }
 
     /**
@@ -961,13 +1131,7 @@ public final class ImageUtils
     @NotNull
     public static BufferedImage rotateImage90CCW ( @NotNull final BufferedImage bufferedImage )
     {
-        final BufferedImage rotatedImage = createCompatibleImage ( bufferedImage );
-        final Graphics2D g2d = rotatedImage.createGraphics ();
-        g2d.translate ( 0, bufferedImage.getWidth () );
-        g2d.rotate ( -Math.PI / 2 );
-        g2d.drawImage ( bufferedImage, 0, 0, null );
-        g2d.dispose ();
-        return rotatedImage;
+        return rotateImage ( bufferedImage, 270 );
     }
 
     /**
@@ -1003,12 +1167,80 @@ public final class ImageUtils
     @NotNull
     public static BufferedImage rotateImage180 ( @NotNull final BufferedImage bufferedImage )
     {
-        final BufferedImage rotatedImage = createCompatibleImage ( bufferedImage );
-        final Graphics2D g2d = rotatedImage.createGraphics ();
-        g2d.translate ( bufferedImage.getWidth (), bufferedImage.getHeight () );
-        g2d.rotate ( Math.PI );
-        g2d.drawImage ( bufferedImage, 0, 0, null );
-        g2d.dispose ();
+        return rotateImage ( bufferedImage, 180 );
+    }
+
+    /**
+     * Returns new {@link BufferedImage} with pixels of specified {@link BufferedImage} rotated clockwise by the specified angle.
+     * Each block of resulting rows is filled from a single rectangular block of source pixels.
+     *
+     * @param bufferedImage {@link BufferedImage} to rotate
+     * @param angle         clockwise rotation angle, either 90, 180 or 270 degrees
+     * @return new {@link BufferedImage} with pixels of specified {@link BufferedImage} rotated clockwise by the specified angle
+     */
+    @NotNull
+    private static BufferedImage rotateImage ( @NotNull final BufferedImage bufferedImage, final int angle )
+    {
+        final int width = bufferedImage.getWidth ();
+        final int height = bufferedImage.getHeight ();
+        final int rotatedWidth = angle == 180 ? width : height;
+        final int rotatedHeight = angle == 180 ? height : width;
+        final BufferedImage rotatedImage = new BufferedImage ( rotatedWidth, rotatedHeight, BufferedImage.TYPE_INT_ARGB );
+        PixelPipeline.processRows ( rotatedWidth, rotatedHeight, new PixelPipeline.RowsTask ()
+        {
+            @Override
+            public void process ( final int fromRow, final int toRow )
+            {
+                final int blockRows = PixelPipeline.getBlockRows ( rotatedWidth, toRow - fromRow );
+                final int[] source = new int[ rotatedWidth * blockRows ];
+                final int[] rotated = new int[ rotatedWidth * blockRows ];
+                for ( int y = fromRow; y < toRow; y += blockRows )
+                {
+                    final int rows = Math.min ( blockRows, toRow - y );
+                    if ( angle == 90 )
+                    {
+                        // Rotated rows are source columns, bottom to top
+                        PixelPipeline.readPixels ( bufferedImage, y, 0, rows, height, source );
+                        for ( int row = 0; row < rows; row++ )
+                        {
+                            for ( int x = 0; x < rotatedWidth; x++ )
+                            {
+                                rotated[ row * rotatedWidth + x ] = source[ ( height - 1 - x ) * rows + row ];
+                            }
+                        }
+                    }
+                    else if ( angle == 270 )
+                    {
+                        // Rotated rows are source columns from right to left, top to bottom
+                        final int fromColumn = width - y - rows;
+                        PixelPipeline.readPixels ( bufferedImage, fromColumn, 0, rows, height, source );
+                        for ( int row = 0; row < rows; row++ )
+                        {
+                            final int column = width - 1 - ( y + row ) - fromColumn;
+                            for ( int x = 0; x < rotatedWidth; x++ )
+                            {
+                                rotated[ row * rotatedWidth + x ] = source[ x * rows + column ];
+                            }
+                        }
+                    }
+                    else
+                    {
+                        // Rotated rows are source rows in reverse order, right to left
+                        final int fromSourceRow = height - y - rows;
+                        PixelPipeline.readPixels ( bufferedImage, 0, fromSourceRow, width, rows, source );
+                        for ( int row = 0; row < rows; row++ )
+                        {
+                            final int sourceRow = height - 1 - ( y + row ) - fromSourceRow;
+                            for ( int x = 0; x < rotatedWidth; x++ )
+                            {
+                                rotated[ row * rotatedWidth + x ] = source[ sourceRow * width + width - 1 - x ];
+                            }
+                        }
+                    }
+                    PixelPipeline.writePixels ( rotatedImage, 0, y, rotatedWidth, rows, rotated );
+                }
+            }
+        } );
         return rotatedImage;
     }
 
@@ -1166,4 +1398,68 @@ public final class ImageUtils
         }
         return imageString;
     }
-}
\ No newline at end of file
+
+    /**
+     * Key of cached {@link Icon} copy.
+     * It references source {@link Icon} weakly and compares it by identity.
+     */
+    protected static final class IconCopyKey
+    {
+        /**
+         * Weak reference to source {@link Icon}.
+         */
+        @NotNull
+        private final WeakReference<Icon> icon;
+
+        /**
+         * Key of operations applied to the copy.
+         */
+        @NotNull
+        private final String operations;
+
+        /**
+         * Cached hash code.
+         */
+        private final int hashCode;
+
+        /**
+         * Constructs new {@link IconCopyKey}.
+         *
+         * @param icon       source {@link Icon}
+         * @param operations key of operations applied to the copy
+         */
+        public IconCopyKey ( @NotNull final Icon icon, @NotNull final String operations )
+        {
+            this.icon = new WeakReference<Icon> ( icon );
+            this.operations = operations;
+            this.hashCode = 31 * System.identityHashCode ( icon ) + operations.hashCode ();
+        }
+
+        @Override
+        public boolean equals ( @Nullable final Object other )
+        {
+            final boolean equals;
+            if ( other == this )
+            {
+                equals = true;
+            }
+            else if ( other instanceof IconCopyKey )
+            {
+                final IconCopyKey key = ( IconCopyKey ) other;
+                final Icon icon = this.icon.get ();
+                equals = icon != null && icon == key.icon.get () && operations.equals ( key.operations );
+            }
+            else
+            {
+                equals = false;
+            }
+            return equals;
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return hashCode;
+        }
+    }
+}
@@ -20,12 +20,10 @@ package com.alee.utils;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.utils.zip.UnzipListener;
+import com.alee.utils.zip.UnzipOperation;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.util.Enumeration;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 
 /**
  * This class provides a set of utilities to work with ZIP files.
@@ -89,61 +87,27 @@ public final class ZipUtils
      */
     public static void unzip ( @NotNull final File archive, @NotNull final File dst, @Nullable final UnzipListener listener )
     {
-        try
-        {
-            final ZipFile zipFile = new ZipFile ( archive );
-
-            // Informing listener about zip entries amount
-            if ( listener != null )
-            {
-                listener.sizeDetermined ( zipFile.size () );
-            }
-
-            // Starting zip extraction
-            final Enumeration entries = zipFile.entries ();
-            int index = 0;
-            while ( entries.hasMoreElements () )
-            {
-                // Single zip entry
-                final ZipEntry entry = ( ZipEntry ) entries.nextElement ();
-                final File extractToFile;
-                if ( entry.isDirectory () )
-                {
-                    // Creating directories path
-                    extractToFile = new File ( dst, entry.getName () );
-                    extractToFile.mkdirs ();
-                }
-                else
-                {
-                    // Ensures that destination file and its folders exist
-                    extractToFile = new File ( dst, entry.getName () );
-                    final File parent = FileUtils.getParent ( extractToFile );
-                    if ( parent != null && parent.mkdirs () )
-                    {
-                        // Creating destination file
-                        extractToFile.createNewFile ();
-
-                        // Copying file content
-                        IOUtils.copy (
-                                zipFile.getInputStream ( entry ),
-                                new FileOutputStream ( extractToFile )
-                        );
-                    }
-                }
+        new UnzipOperation ( archive, dst, listener ).run ();
+    }
 
-                // Informing listener about single unzipped file
-                if ( listener != null )
-                {
-                    listener.fileUnzipped ( entry, extractToFile, index );
-                    index++;
-                }
-            }
-            zipFile.close ();
-        }
-        catch ( final Exception e )
-        {
-            throw new UtilityException ( "Unable to unzip ZIP archive: " + archive, e );
-        }
+    /**
+     * Extracts ZIP archive contents into destination directory using the specified amount of threads.
+     * Any folder required for extraction are created in the process.
+     * Use {@link UnzipOperation} directly if extraction needs to be cancellable.
+     *
+     * @param archive      ZIP file
+     * @param dst          destination directory
+     * @param listener     extraction process listener, can be {@link com.alee.utils.zip.UnzipProgressListener}
+     * @param threads      amount of threads used for extraction
+     * @param skipExisting whether or not entries which target file already exists with the same size and CRC should be skipped
+     */
+    public static void unzip ( @NotNull final File archive, @NotNull final File dst, @Nullable final UnzipListener listener,
+                               final int threads, final boolean skipExisting )
+    {
+        final UnzipOperation operation = new UnzipOperation ( archive, dst, listener );
+        operation.setThreads ( threads );
+        operation.setSkipExisting ( skipExisting );
+        operation.run ();
     }
 
     /**
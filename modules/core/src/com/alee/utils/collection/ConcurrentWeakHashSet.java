@@ -0,0 +1,255 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.utils.collection;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Custom thread-safe {@link java.util.Set} implementation that keeps only {@link WeakReference}s to all of its objects.
+ * {@link ConcurrentWeakHashSet} is backed by {@link ConcurrentHashMap} with weak keys, so none of its operations block readers.
+ * Iterators are weakly consistent just like {@link ConcurrentHashMap} ones - they never throw
+ * {@link java.util.ConcurrentModificationException} and do not require any snapshot of the set to be made.
+ * Objects that were garbage collected are skipped by iterators and are removed from the set upon next modification.
+ * Unlike {@link WeakHashSet} this implementation uses identity comparison for its objects.
+ *
+ * @param <E> elements type
+ * @author Mikle Garin
+ */
+public class ConcurrentWeakHashSet<E> extends AbstractSet<E>
+{
+    /**
+     * {@link ConcurrentHashMap} that backs this {@link ConcurrentWeakHashSet}.
+     */
+    @NotNull
+    protected final ConcurrentHashMap<WeakKey<E>, Boolean> map;
+
+    /**
+     * {@link ReferenceQueue} for garbage collected objects.
+     */
+    @NotNull
+    protected final ReferenceQueue<E> queue;
+
+    /**
+     * Constructs new {@link ConcurrentWeakHashSet} with default initial capacity.
+     */
+    public ConcurrentWeakHashSet ()
+    {
+        this ( 10 );
+    }
+
+    /**
+     * Constructs new {@link ConcurrentWeakHashSet} with specified initial capacity.
+     *
+     * @param initialCapacity initial capacity
+     */
+    public ConcurrentWeakHashSet ( final int initialCapacity )
+    {
+        map = new ConcurrentHashMap<WeakKey<E>, Boolean> ( initialCapacity );
+        queue = new ReferenceQueue<E> ();
+    }
+
+    @Override
+    public void clear ()
+    {
+        map.clear ();
+        expunge ();
+    }
+
+    @Override
+    public int size ()
+    {
+        expunge ();
+        return map.size ();
+    }
+
+    @Override
+    public boolean isEmpty ()
+    {
+        return !iterator ().hasNext ();
+    }
+
+    @Override
+    public boolean contains ( @Nullable final Object o )
+    {
+        return o != null && map.containsKey ( new WeakKey<Object> ( o, null ) );
+    }
+
+    @Override
+    public boolean remove ( @Nullable final Object o )
+    {
+        expunge ();
+        return o != null && map.remove ( new WeakKey<Object> ( o, null ) ) != null;
+    }
+
+    @Override
+    public boolean add ( @Nullable final E e )
+    {
+        if ( e == null )
+        {
+            throw new NullPointerException ( "ConcurrentWeakHashSet does not support null elements" );
+        }
+        expunge ();
+        return map.putIfAbsent ( new WeakKey<E> ( e, queue ), Boolean.TRUE ) == null;
+    }
+
+    @NotNull
+    @Override
+    public Iterator<E> iterator ()
+    {
+        return new WeakIterator ( map.keySet ().iterator () );
+    }
+
+    /**
+     * Removes all garbage collected objects from this {@link ConcurrentWeakHashSet}.
+     */
+    protected void expunge ()
+    {
+        Object reference;
+        while ( ( reference = queue.poll () ) != null )
+        {
+            map.remove ( reference );
+        }
+    }
+
+    /**
+     * {@link WeakReference} used as a key in {@link #map}.
+     * It retains identity hash code of the referenced object to be found even after that object is garbage collected.
+     *
+     * @param <E> referenced object type
+     */
+    protected static final class WeakKey<E> extends WeakReference<E>
+    {
+        /**
+         * Identity hash code of the referenced object.
+         */
+        private final int hash;
+
+        /**
+         * Constructs new {@link WeakKey}.
+         *
+         * @param referent referenced object
+         * @param queue    {@link ReferenceQueue} to register reference with, {@code null} for lookup keys
+         */
+        public WeakKey ( @NotNull final E referent, @Nullable final ReferenceQueue<? super E> queue )
+        {
+            super ( referent, queue );
+            this.hash = System.identityHashCode ( referent );
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals ( @Nullable final Object object )
+        {
+            final boolean equals;
+            if ( object == this )
+            {
+                equals = true;
+            }
+            else if ( object instanceof WeakKey )
+            {
+                final Object referent = get ();
+                equals = referent != null && referent == ( ( WeakKey ) object ).get ();
+            }
+            else
+            {
+                equals = false;
+            }
+            return equals;
+        }
+    }
+
+    /**
+     * Weakly consistent {@link Iterator} that skips garbage collected objects.
+     * It holds a strong reference to the next object to ensure it is not collected between {@link #hasNext()} and {@link #next()} calls.
+     */
+    protected class WeakIterator implements Iterator<E>
+    {
+        /**
+         * {@link Iterator} over {@link #map} keys.
+         */
+        @NotNull
+        private final Iterator<WeakKey<E>> keys;
+
+        /**
+         * Next object, {@code null} if it is not yet found.
+         */
+        @Nullable
+        private E next;
+
+        /**
+         * Last returned object, {@code null} if there is none or it was already removed.
+         */
+        @Nullable
+        private E last;
+
+        /**
+         * Constructs new {@link WeakIterator}.
+         *
+         * @param keys {@link Iterator} over {@link #map} keys
+         */
+        public WeakIterator ( @NotNull final Iterator<WeakKey<E>> keys )
+        {
+            this.keys = keys;
+        }
+
+        @Override
+        public boolean hasNext ()
+        {
+            while ( next == null && keys.hasNext () )
+            {
+                next = keys.next ().get ();
+            }
+            return next != null;
+        }
+
+        @Override
+        public E next ()
+        {
+            if ( !hasNext () )
+            {
+                throw new NoSuchElementException ();
+            }
+            last = next;
+            next = null;
+            return last;
+        }
+
+        @Override
+        public void remove ()
+        {
+            if ( last == null )
+            {
+                throw new IllegalStateException ();
+            }
+            ConcurrentWeakHashSet.this.remove ( last );
+            last = null;
+        }
+    }
+}
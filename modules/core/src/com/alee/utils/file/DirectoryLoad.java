@@ -0,0 +1,499 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.managers.task.TaskGroup;
+import com.alee.managers.task.TaskManager;
+import com.alee.utils.CollectionUtils;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.FileUtils;
+
+import javax.swing.event.EventListenerList;
+import java.io.File;
+import java.io.FileFilter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * Asynchronous directory content load.
+ * Directory content is listed, filtered and sorted on {@link TaskGroup} thread and provided in growing batches on EDT.
+ * Every provided batch is sorted with {@link #getComparator()}, so listeners can merge batches incrementally into sorted views.
+ * Single {@link DirectoryLoad} can be shared between multiple views displaying the same directory content.
+ * Views sharing it should detach with {@link #release(DirectoryLoadListener)}, which only cancels the load once its last listener leaves.
+ * {@link DirectoryLoad} that is no longer needed should be cancelled, listeners will not be informed about anything afterwards.
+ *
+ * @author Mikle Garin
+ * @see DirectoryLoadListener
+ * @see DirectoryLoadAdapter
+ */
+public class DirectoryLoad
+{
+    /**
+     * Size of the first provided batch.
+     * It is small to display first directory elements as soon as possible.
+     */
+    public static final int INITIAL_BATCH_SIZE = 256;
+
+    /**
+     * Maximum size of provided batches.
+     * Batches are growing twice each time until they reach this size to keep the amount of view updates low.
+     */
+    public static final int MAXIMUM_BATCH_SIZE = 8192;
+
+    /**
+     * Loaded directory, {@code null} to load system disk roots.
+     */
+    @Nullable
+    protected final File directory;
+
+    /**
+     * {@link FileFilter} for directory content.
+     */
+    @Nullable
+    protected final FileFilter fileFilter;
+
+    /**
+     * {@link Comparator} for directory content.
+     */
+    @Nullable
+    protected final Comparator<File> comparator;
+
+    /**
+     * Whether or not {@link FileUtils} caches should be cleared for loaded {@link File}s before filtering them.
+     */
+    protected final boolean clearCaches;
+
+    /**
+     * Identifier of {@link TaskGroup} to load directory content on.
+     */
+    @NotNull
+    protected final String groupId;
+
+    /**
+     * {@link DirectoryLoadListener}s.
+     */
+    @NotNull
+    protected final EventListenerList listeners;
+
+    /**
+     * All {@link File}s loaded so far.
+     * It is only modified and accessed on EDT.
+     */
+    @NotNull
+    protected List<File> files;
+
+    /**
+     * Whether or not this load is completed.
+     */
+    protected boolean completed;
+
+    /**
+     * {@link Throwable} this load has failed with.
+     */
+    @Nullable
+    protected Throwable failure;
+
+    /**
+     * Whether or not this load was cancelled.
+     */
+    protected volatile boolean cancelled;
+
+    /**
+     * {@link Future} of the load task.
+     */
+    @Nullable
+    protected Future<?> future;
+
+    /**
+     * Constructs new {@link DirectoryLoad}.
+     *
+     * @param directory  directory to load, {@code null} to load system disk roots
+     * @param fileFilter {@link FileFilter} for directory content
+     */
+    public DirectoryLoad ( @Nullable final File directory, @Nullable final FileFilter fileFilter )
+    {
+        this ( directory, fileFilter, FileUtils.FILE_COMPARATOR, false );
+    }
+
+    /**
+     * Constructs new {@link DirectoryLoad}.
+     *
+     * @param directory   directory to load, {@code null} to load system disk roots
+     * @param fileFilter  {@link FileFilter} for directory content
+     * @param comparator  {@link Comparator} for directory content
+     * @param clearCaches whether or not {@link FileUtils} caches should be cleared for loaded {@link File}s
+     */
+    public DirectoryLoad ( @Nullable final File directory, @Nullable final FileFilter fileFilter,
+                           @Nullable final Comparator<File> comparator, final boolean clearCaches )
+    {
+        this ( directory, fileFilter, comparator, clearCaches, TaskManager.FILE_SYSTEM );
+    }
+
+    /**
+     * Constructs new {@link DirectoryLoad}.
+     *
+     * @param directory   directory to load, {@code null} to load system disk roots
+     * @param fileFilter  {@link FileFilter} for directory content
+     * @param comparator  {@link Comparator} for directory content
+     * @param clearCaches whether or not {@link FileUtils} caches should be cleared for loaded {@link File}s
+     * @param groupId     identifier of {@link TaskGroup} to load directory content on
+     */
+    public DirectoryLoad ( @Nullable final File directory, @Nullable final FileFilter fileFilter,
+                           @Nullable final Comparator<File> comparator, final boolean clearCaches, @NotNull final String groupId )
+    {
+        this.directory = directory;
+        this.fileFilter = fileFilter;
+        this.comparator = comparator;
+        this.clearCaches = clearCaches;
+        this.groupId = groupId;
+        this.listeners = new EventListenerList ();
+        this.files = new ArrayList<File> ( 0 );
+        this.completed = false;
+        this.failure = null;
+        this.cancelled = false;
+    }
+
+    /**
+     * Returns loaded directory, {@code null} if system disk roots are loaded.
+     *
+     * @return loaded directory, {@code null} if system disk roots are loaded
+     */
+    @Nullable
+    public File getDirectory ()
+    {
+        return directory;
+    }
+
+    /**
+     * Returns {@link FileFilter} for directory content.
+     *
+     * @return {@link FileFilter} for directory content
+     */
+    @Nullable
+    public FileFilter getFileFilter ()
+    {
+        return fileFilter;
+    }
+
+    /**
+     * Returns {@link Comparator} for directory content.
+     *
+     * @return {@link Comparator} for directory content
+     */
+    @Nullable
+    public Comparator<File> getComparator ()
+    {
+        return comparator;
+    }
+
+    /**
+     * Returns all {@link File}s loaded so far.
+     * This method should only be called on EDT.
+     *
+     * @return all {@link File}s loaded so far
+     */
+    @NotNull
+    public List<File> getFiles ()
+    {
+        return Collections.unmodifiableList ( files );
+    }
+
+    /**
+     * Returns whether or not this load is completed.
+     * This method should only be called on EDT.
+     *
+     * @return {@code true} if this load is completed, {@code false} otherwise
+     */
+    public boolean isCompleted ()
+    {
+        return completed;
+    }
+
+    /**
+     * Returns {@link Throwable} this load has failed with, {@code null} if it didn't fail.
+     * This method should only be called on EDT.
+     *
+     * @return {@link Throwable} this load has failed with, {@code null} if it didn't fail
+     */
+    @Nullable
+    public Throwable getFailure ()
+    {
+        return failure;
+    }
+
+    /**
+     * Returns whether or not this load was cancelled.
+     *
+     * @return {@code true} if this load was cancelled, {@code false} otherwise
+     */
+    public boolean isCancelled ()
+    {
+        return cancelled;
+    }
+
+    /**
+     * Starts loading directory content.
+     * This method should only be called on EDT.
+     */
+    public void start ()
+    {
+        if ( future == null && !cancelled )
+        {
+            future = TaskManager.execute ( groupId, new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    load ();
+                }
+            } );
+        }
+    }
+
+    /**
+     * Cancels this load.
+     * No events will be fired by this load after cancellation.
+     * This method should only be called on EDT.
+     */
+    public void cancel ()
+    {
+        if ( !cancelled )
+        {
+            cancelled = true;
+            if ( future != null )
+            {
+                future.cancel ( false );
+            }
+        }
+    }
+
+    /**
+     * Loads directory content.
+     * This method is executed on {@link TaskGroup} thread.
+     */
+    protected void load ()
+    {
+        try
+        {
+            if ( directory != null )
+            {
+                final String[] names = directory.list ();
+                if ( names != null )
+                {
+                    int batchSize = INITIAL_BATCH_SIZE;
+                    int index = 0;
+                    while ( index < names.length && !cancelled )
+                    {
+                        final int end = Math.min ( index + batchSize, names.length );
+                        final List<File> batch = new ArrayList<File> ( end - index );
+                        for ( ; index < end; index++ )
+                        {
+                            final File file = new File ( directory, names[ index ] );
+                            if ( clearCaches )
+                            {
+                                FileUtils.clearFileCaches ( file );
+                            }
+                            if ( fileFilter == null || fileFilter.accept ( file ) )
+                            {
+                                batch.add ( file );
+                            }
+                        }
+                        publish ( batch );
+                        batchSize = Math.min ( batchSize * 2, MAXIMUM_BATCH_SIZE );
+                    }
+                }
+            }
+            else
+            {
+                publish ( CollectionUtils.asList ( FileUtils.getDiskRoots () ) );
+            }
+            complete ( null );
+        }
+        catch ( final Throwable e )
+        {
+            complete ( e );
+        }
+    }
+
+    /**
+     * Sorts and provides next {@link File}s batch on EDT.
+     * This method is executed on {@link TaskGroup} thread.
+     *
+     * @param batch {@link File}s batch
+     */
+    protected void publish ( @NotNull final List<File> batch )
+    {
+        if ( !cancelled && !batch.isEmpty () )
+        {
+            // Sorting outside of EDT also warms up FileUtils caches used by default comparator
+            CollectionUtils.sort ( batch, comparator );
+            CoreSwingUtils.invokeLater ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    if ( !cancelled )
+                    {
+                        if ( comparator != null )
+                        {
+                            files = CollectionUtils.mergeSorted ( files, batch, comparator );
+                        }
+                        else
+                        {
+                            final List<File> joined = new ArrayList<File> ( files.size () + batch.size () );
+                            joined.addAll ( files );
+                            joined.addAll ( batch );
+                            files = joined;
+                        }
+                        fireFilesLoaded ( batch );
+                    }
+                }
+            } );
+        }
+    }
+
+    /**
+     * Completes this load on EDT.
+     * This method is executed on {@link TaskGroup} thread.
+     *
+     * @param throwable {@link Throwable} this load has failed with, {@code null} if it was successful
+     */
+    protected void complete ( @Nullable final Throwable throwable )
+    {
+        CoreSwingUtils.invokeLater ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                if ( !cancelled )
+                {
+                    completed = true;
+                    failure = throwable;
+                    if ( throwable == null )
+                    {
+                        fireLoadCompleted ();
+                    }
+                    else
+                    {
+                        fireLoadFailed ( throwable );
+                    }
+                }
+            }
+        } );
+    }
+
+    /**
+     * Adds {@link DirectoryLoadListener}.
+     * If some {@link File}s are already loaded they are provided to the listener right away in a single batch.
+     * If this load is already finished listener is also informed about that right away.
+     * This method should only be called on EDT.
+     *
+     * @param listener {@link DirectoryLoadListener} to add
+     */
+    public void addDirectoryLoadListener ( @NotNull final DirectoryLoadListener listener )
+    {
+        listeners.add ( DirectoryLoadListener.class, listener );
+        if ( !cancelled )
+        {
+            if ( !files.isEmpty () )
+            {
+                listener.filesLoaded ( this, getFiles () );
+            }
+            if ( completed )
+            {
+                if ( failure == null )
+                {
+                    listener.loadCompleted ( this );
+                }
+                else
+                {
+                    listener.loadFailed ( this, failure );
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes {@link DirectoryLoadListener}.
+     *
+     * @param listener {@link DirectoryLoadListener} to remove
+     */
+    public void removeDirectoryLoadListener ( @NotNull final DirectoryLoadListener listener )
+    {
+        listeners.remove ( DirectoryLoadListener.class, listener );
+    }
+
+    /**
+     * Removes {@link DirectoryLoadListener} and cancels this load if it was the last remaining listener.
+     * Views sharing this load should use this method instead of {@link #cancel()} so that other views still receive their events.
+     * This method should only be called on EDT.
+     *
+     * @param listener {@link DirectoryLoadListener} to remove
+     */
+    public void release ( @NotNull final DirectoryLoadListener listener )
+    {
+        removeDirectoryLoadListener ( listener );
+        if ( listeners.getListenerCount ( DirectoryLoadListener.class ) == 0 )
+        {
+            cancel ();
+        }
+    }
+
+    /**
+     * Informs listeners about another batch of {@link File}s being loaded.
+     *
+     * @param batch loaded {@link File}s batch
+     */
+    protected void fireFilesLoaded ( @NotNull final List<File> batch )
+    {
+        final List<File> unmodifiable = Collections.unmodifiableList ( batch );
+        for ( final DirectoryLoadListener listener : listeners.getListeners ( DirectoryLoadListener.class ) )
+        {
+            listener.filesLoaded ( this, unmodifiable );
+        }
+    }
+
+    /**
+     * Informs listeners about successful load completion.
+     */
+    protected void fireLoadCompleted ()
+    {
+        for ( final DirectoryLoadListener listener : listeners.getListeners ( DirectoryLoadListener.class ) )
+        {
+            listener.loadCompleted ( this );
+        }
+    }
+
+    /**
+     * Informs listeners about load failure.
+     *
+     * @param cause {@link Throwable} that caused the failure
+     */
+    protected void fireLoadFailed ( @NotNull final Throwable cause )
+    {
+        for ( final DirectoryLoadListener listener : listeners.getListeners ( DirectoryLoadListener.class ) )
+        {
+            listener.loadFailed ( this, cause );
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Adapter for {@link DirectoryLoadListener}.
+ *
+ * @author Mikle Garin
+ */
+public abstract class DirectoryLoadAdapter implements DirectoryLoadListener
+{
+    @Override
+    public void filesLoaded ( @NotNull final DirectoryLoad load, @NotNull final List<File> files )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+
+    @Override
+    public void loadCompleted ( @NotNull final DirectoryLoad load )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+
+    @Override
+    public void loadFailed ( @NotNull final DirectoryLoad load, @NotNull final Throwable cause )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+}
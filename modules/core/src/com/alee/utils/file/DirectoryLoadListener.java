@@ -0,0 +1,60 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+
+import java.io.File;
+import java.util.EventListener;
+import java.util.List;
+
+/**
+ * Listener for {@link DirectoryLoad} progress events.
+ * All methods of this listener are always called on Event Dispatch Thread.
+ *
+ * @author Mikle Garin
+ * @see DirectoryLoad
+ * @see DirectoryLoadAdapter
+ */
+public interface DirectoryLoadListener extends EventListener
+{
+    /**
+     * Informs about another batch of {@link File}s being loaded.
+     * Provided {@link File}s are filtered and sorted with {@link DirectoryLoad#getComparator()} if it is specified.
+     * Listener added after some {@link File}s were already loaded will receive all of them in a single batch.
+     *
+     * @param load  {@link DirectoryLoad}
+     * @param files loaded {@link File}s batch
+     */
+    public void filesLoaded ( @NotNull DirectoryLoad load, @NotNull List<File> files );
+
+    /**
+     * Informs about successful {@link DirectoryLoad} completion.
+     *
+     * @param load {@link DirectoryLoad}
+     */
+    public void loadCompleted ( @NotNull DirectoryLoad load );
+
+    /**
+     * Informs about {@link DirectoryLoad} failure.
+     *
+     * @param load  {@link DirectoryLoad}
+     * @param cause {@link Throwable} that caused the failure
+     */
+    public void loadFailed ( @NotNull DirectoryLoad load, @NotNull Throwable cause );
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+
+import java.io.File;
+
+/**
+ * Adapter for {@link FileCopyListener}.
+ *
+ * @author Mikle Garin
+ */
+public abstract class FileCopyAdapter implements FileCopyListener
+{
+    @Override
+    public void sizeDetermined ( final int files, final long totalSize )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+
+    @Override
+    public void partCopied ( final long totalBytesCopied, final long totalSize, final long throughput )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+
+    @Override
+    public void fileCopied ( @NotNull final File src, @NotNull final File dst )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+
+    @Override
+    public void fileCopyFailed ( @NotNull final File src, @NotNull final File dst, @NotNull final Throwable e )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+
+    @Override
+    public boolean shouldStopCopy ()
+    {
+        return false;
+    }
+}
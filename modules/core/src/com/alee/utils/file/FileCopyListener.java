@@ -0,0 +1,76 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+
+import java.io.File;
+import java.util.EventListener;
+
+/**
+ * This listener interface provides all required methods to observe and stop the directory copy process.
+ * Check out copyDirectory methods from FileUtils to see how this listener can be used.
+ * Methods might be called from different threads when parallel copy is used, but they are never called concurrently.
+ *
+ * @author Mikle Garin
+ * @see FileCopyAdapter
+ */
+public interface FileCopyListener extends EventListener
+{
+    /**
+     * Called when total size of copied files is determined.
+     *
+     * @param files     amount of copied files
+     * @param totalSize total size of copied files in bytes
+     */
+    public void sizeDetermined ( int files, long totalSize );
+
+    /**
+     * Called when another part of data have been copied.
+     *
+     * @param totalBytesCopied total bytes copied so far
+     * @param totalSize        total size of copied files in bytes
+     * @param throughput       average copy speed in bytes per second
+     */
+    public void partCopied ( long totalBytesCopied, long totalSize, long throughput );
+
+    /**
+     * Called when single file is copied.
+     *
+     * @param src source file
+     * @param dst destination file
+     */
+    public void fileCopied ( @NotNull File src, @NotNull File dst );
+
+    /**
+     * Called when single file copy has failed.
+     *
+     * @param src source file
+     * @param dst destination file
+     * @param e   exception that caused copy to fail
+     */
+    public void fileCopyFailed ( @NotNull File src, @NotNull File dst, @NotNull Throwable e );
+
+    /**
+     * Returns whether copy operation should stop or not.
+     * This method is getting called before each file and between copied parts of large files.
+     *
+     * @return true if you want to stop copy, false otherwise
+     */
+    public boolean shouldStopCopy ();
+}
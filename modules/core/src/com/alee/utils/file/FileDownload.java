@@ -0,0 +1,1079 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.resource.FileResource;
+import com.alee.managers.proxy.ProxyManager;
+import com.alee.managers.task.TaskGroup;
+import com.alee.managers.task.TaskManager;
+import com.alee.utils.FileUtils;
+import com.alee.utils.TextUtils;
+import com.alee.utils.UtilityException;
+import com.alee.utils.WebUtils;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Remote file download.
+ * It supports resuming previously interrupted downloads through HTTP range requests, parallel segmented downloads,
+ * download speed limitation and verification of downloaded file against expected digest.
+ *
+ * Download progress is stored in a separate state file next to the downloaded file while download is in progress,
+ * so it can be resumed later even if it was split into multiple segments.
+ * Resuming also works for partially downloaded files without state, in that case only missing file end is requested.
+ *
+ * @author Mikle Garin
+ * @see FileDownloadListener
+ * @see FileUtils#downloadFile(String, File, boolean, String, int, FileDownloadListener)
+ */
+public class FileDownload
+{
+    /**
+     * Download state file extension.
+     */
+    public static final String STATE_EXTENSION = ".download";
+
+    /**
+     * Minimum segment size in bytes.
+     * Smaller downloads are never split into segments.
+     */
+    protected static final long MINIMUM_SEGMENT_SIZE = 256 * 1024;
+
+    /**
+     * Minimum delay between download state saves in milliseconds.
+     */
+    protected static final long STATE_SAVE_DELAY = 1000;
+
+    /**
+     * Source url.
+     */
+    @NotNull
+    protected final String url;
+
+    /**
+     * Destination file.
+     */
+    @NotNull
+    protected final File file;
+
+    /**
+     * Whether source url should be encoded or not.
+     */
+    protected boolean encodeUrl;
+
+    /**
+     * Content type limitation, {@code null} if any content type is allowed.
+     */
+    @Nullable
+    protected String contentType;
+
+    /**
+     * Connection and read timeout in milliseconds, {@code 0} to use default timeouts.
+     */
+    protected int timeout;
+
+    /**
+     * Size of the buffer used to read downloaded data in bytes.
+     */
+    protected int bufferSize;
+
+    /**
+     * Maximum download speed in bytes per second, {@code 0} if download speed is not limited.
+     */
+    protected long maximumSpeed;
+
+    /**
+     * Maximum amount of segments downloaded in parallel.
+     */
+    protected int segments;
+
+    /**
+     * Whether previously interrupted download should be resumed or not.
+     */
+    protected boolean resume;
+
+    /**
+     * {@link java.security.MessageDigest} algorithm used to verify downloaded file, {@code null} if file should not be verified.
+     */
+    @Nullable
+    protected String digestAlgorithm;
+
+    /**
+     * Expected hexadecimal digest of downloaded file, {@code null} if file should not be verified.
+     */
+    @Nullable
+    protected String expectedDigest;
+
+    /**
+     * Identifier of {@link TaskGroup} to run download on when it is started asynchronously.
+     */
+    @NotNull
+    protected String groupId;
+
+    /**
+     * {@link FileDownloadListener} for download process.
+     */
+    @Nullable
+    protected FileDownloadListener listener;
+
+    /**
+     * Events and progress lock.
+     */
+    @NotNull
+    protected final Object lock;
+
+    /**
+     * Download state file lock.
+     * It is separate from {@link #lock} so that state file writes never block progress updates of other segments.
+     */
+    @NotNull
+    protected final Object stateLock;
+
+    /**
+     * Total file size, {@code -1} if it is unknown.
+     */
+    protected long total;
+
+    /**
+     * Total bytes downloaded so far, including previously downloaded ones.
+     */
+    protected long downloaded;
+
+    /**
+     * Bytes downloaded during this session, used for speed limitation.
+     */
+    protected long sessionBytes;
+
+    /**
+     * Download session start time.
+     */
+    protected long sessionStart;
+
+    /**
+     * Last download state save time.
+     */
+    protected long lastStateSave;
+
+    /**
+     * Whether download was aborted or not.
+     */
+    protected volatile boolean aborted;
+
+    /**
+     * Constructs new {@link FileDownload}.
+     *
+     * @param url  source url
+     * @param file destination file
+     */
+    public FileDownload ( @NotNull final String url, @NotNull final File file )
+    {
+        this.url = url;
+        this.file = file;
+        this.encodeUrl = false;
+        this.contentType = null;
+        this.timeout = 3000;
+        this.bufferSize = 50 * 1024;
+        this.maximumSpeed = 0;
+        this.segments = 1;
+        this.resume = false;
+        this.digestAlgorithm = null;
+        this.expectedDigest = null;
+        this.groupId = TaskManager.REMOTE_REQUEST;
+        this.listener = null;
+        this.lock = new Object ();
+        this.stateLock = new Object ();
+    }
+
+    /**
+     * Returns source url.
+     *
+     * @return source url
+     */
+    @NotNull
+    public String getUrl ()
+    {
+        return url;
+    }
+
+    /**
+     * Returns destination file.
+     *
+     * @return destination file
+     */
+    @NotNull
+    public File getFile ()
+    {
+        return file;
+    }
+
+    /**
+     * Sets whether source url should be encoded or not.
+     *
+     * @param encodeUrl whether source url should be encoded or not
+     * @return this {@link FileDownload}
+     */
+    @NotNull
+    public FileDownload setEncodeUrl ( final boolean encodeUrl )
+    {
+        this.encodeUrl = encodeUrl;
+        return this;
+    }
+
+    /**
+     * Sets content type limitation.
+     *
+     * @param contentType content type limitation, {@code null} if any content type is allowed
+     * @return this {@link FileDownload}
+     */
+    @NotNull
+    public FileDownload setContentType ( @Nullable final String contentType )
+    {
+        this.contentType = contentType;
+        return this;
+    }
+
+    /**
+     * Sets connection and read timeout.
+     *
+     * @param timeout connection and read timeout in milliseconds, {@code 0} to use default timeouts
+     * @return this {@link FileDownload}
+     */
+    @NotNull
+    public FileDownload setTimeout ( final int timeout )
+    {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Sets size of the buffer used to read downloaded data.
+     *
+     * @param bufferSize size of the buffer used to read downloaded data in bytes
+     * @return this {@link FileDownload}
+     */
+    @NotNull
+    public FileDownload setBufferSize ( final int bufferSize )
+    {
+        this.bufferSize = Math.max ( 1024, bufferSize );
+        return this;
+    }
+
+    /**
+     * Sets maximum download speed.
+     * It is shared between all downloaded segments.
+     *
+     * @param maximumSpeed maximum download speed in bytes per second, {@code 0} if download speed should not be limited
+     * @return this {@link FileDownload}
+     */
+    @NotNull
+    public FileDownload setMaximumSpeed ( final long maximumSpeed )
+    {
+        this.maximumSpeed = Math.max ( 0, maximumSpeed );
+        return this;
+    }
+
+    /**
+     * Sets maximum amount of segments downloaded in parallel.
+     * Segmented download is only used if server supports range requests and provides file size.
+     *
+     * @param segments maximum amount of segments downloaded in parallel
+     * @return this {@link FileDownload}
+     */
+    @NotNull
+    public FileDownload setSegments ( final int segments )
+    {
+        this.segments = Math.max ( 1, segments );
+        return this;
+    }
+
+    /**
+     * Sets whether previously interrupted download should be resumed or not.
+     * Partially downloaded file and download state are also kept if download fails or gets aborted when this option is enabled.
+     *
+     * @param resume whether previously interrupted download should be resumed or not
+     * @return this {@link FileDownload}
+     */
+    @NotNull
+    public FileDownload setResume ( final boolean resume )
+    {
+        this.resume = resume;
+        return this;
+    }
+
+    /**
+     * Sets expected digest of downloaded file.
+     * Downloaded file is removed if its digest doesn't match expected one.
+     *
+     * @param algorithm      {@link java.security.MessageDigest} algorithm, for example "MD5" or "SHA-256"
+     * @param expectedDigest expected hexadecimal digest of downloaded file
+     * @return this {@link FileDownload}
+     */
+    @NotNull
+    public FileDownload setExpectedDigest ( @Nullable final String algorithm, @Nullable final String expectedDigest )
+    {
+        this.digestAlgorithm = algorithm;
+        this.expectedDigest = expectedDigest;
+        return this;
+    }
+
+    /**
+     * Sets identifier of {@link TaskGroup} to run download on when it is started asynchronously.
+     *
+     * @param groupId identifier of {@link TaskGroup} to run download on
+     * @return this {@link FileDownload}
+     */
+    @NotNull
+    public FileDownload setGroupId ( @NotNull final String groupId )
+    {
+        this.groupId = groupId;
+        return this;
+    }
+
+    /**
+     * Sets {@link FileDownloadListener} for download process.
+     *
+     * @param listener {@link FileDownloadListener} for download process
+     * @return this {@link FileDownload}
+     */
+    @NotNull
+    public FileDownload setListener ( @Nullable final FileDownloadListener listener )
+    {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Returns download state file.
+     *
+     * @return download state file
+     */
+    @NotNull
+    public File getStateFile ()
+    {
+        return new File ( file.getAbsolutePath () + STATE_EXTENSION );
+    }
+
+    /**
+     * Aborts this download.
+     * Download stops as soon as possible, this method can be called from any thread.
+     */
+    public void abort ()
+    {
+        aborted = true;
+    }
+
+    /**
+     * Starts download on {@link TaskGroup} with {@link #groupId} identifier.
+     *
+     * @return {@link Future} providing downloaded file
+     */
+    @NotNull
+    public Future<File> start ()
+    {
+        return TaskManager.execute ( groupId, new Callable<File> ()
+        {
+            @Override
+            public File call ()
+            {
+                return download ();
+            }
+        } );
+    }
+
+    /**
+     * Downloads file on the current thread and returns it if download succeed.
+     *
+     * @return downloaded file
+     */
+    @NotNull
+    public File download ()
+    {
+        try
+        {
+            final URL source = new URL ( encodeUrl ? WebUtils.encodeUrl ( url ) : url );
+            checkAborted ();
+
+            // Restoring previous download progress
+            List<Segment> state = resume ? loadState () : null;
+            final long existing = resume && state == null && file.isFile () ? file.length () : 0;
+            final long offset = state != null ? state.get ( 0 ).position : existing;
+            final boolean ranged = state != null || existing > 0 || segments > 1;
+
+            // Opening first connection
+            final URLConnection connection = openConnection ( source, ranged ? offset : -1, -1 );
+            try
+            {
+                // Content type limitation
+                if ( contentType != null )
+                {
+                    final String ct = connection.getContentType ();
+                    if ( ct == null || !ct.contains ( contentType ) )
+                    {
+                        aborted = true;
+                        throw new UtilityException ( "File download was aborted due to content type not matching requested content type" );
+                    }
+                }
+
+                // Determining file size and whether or not server has accepted range request
+                final boolean partial = connection instanceof HttpURLConnection &&
+                        ( ( HttpURLConnection ) connection ).getResponseCode () == HttpURLConnection.HTTP_PARTIAL;
+                final long[] range = partial ? parseContentRange ( connection.getHeaderField ( "Content-Range" ) ) : null;
+                final long length = getContentLength ( connection );
+                total = range != null ? range[ 2 ] : length;
+                if ( state != null && ( !partial || range == null || total != state.get ( 0 ).total ) )
+                {
+                    // Previous state cannot be used with current server response
+                    state = null;
+                }
+                if ( listener != null )
+                {
+                    listener.sizeDetermined ( ( int ) Math.min ( Integer.MAX_VALUE, total ) );
+                }
+                checkAborted ();
+
+                // Preparing segments
+                final List<Segment> parts;
+                if ( state != null )
+                {
+                    parts = state;
+                }
+                else if ( partial && range != null && ( range[ 0 ] == offset || range[ 0 ] == 0 ) )
+                {
+                    parts = split ( range[ 0 ], total );
+                }
+                else
+                {
+                    // Server doesn't support ranges, downloading whole file from the beginning
+                    parts = new ArrayList<Segment> ( 1 );
+                    parts.add ( new Segment ( total, 0, partial ? -1 : total, 0 ) );
+                }
+                for ( final Segment part : parts )
+                {
+                    part.parts = parts;
+                }
+                downloaded = 0;
+                for ( final Segment part : parts )
+                {
+                    downloaded += part.position - part.start;
+                }
+                downloaded += parts.get ( 0 ).start;
+                prepareFile ( parts );
+                saveState ( parts );
+
+                // Downloading segments
+                sessionStart = System.currentTimeMillis ();
+                lastStateSave = sessionStart;
+                final boolean firstMatches = partial ? range != null && range[ 0 ] == parts.get ( 0 ).position :
+                        parts.get ( 0 ).position == 0;
+                if ( parts.size () > 1 )
+                {
+                    downloadInParallel ( source, parts, firstMatches ? connection : null );
+                }
+                else
+                {
+                    final Segment part = parts.get ( 0 );
+                    download ( firstMatches ? connection : openConnection ( source, part.position, part.end ), part );
+                }
+            }
+            finally
+            {
+                disconnect ( connection );
+            }
+            checkAborted ();
+
+            // Download is finished
+            FileUtils.deleteFile ( getStateFile () );
+            verify ();
+            if ( listener != null )
+            {
+                listener.fileDownloaded ( file );
+            }
+            return file;
+        }
+        catch ( final Exception e )
+        {
+            if ( aborted )
+            {
+                cleanup ();
+                if ( listener != null )
+                {
+                    listener.fileDownloadAborted ();
+                }
+                throw e instanceof UtilityException ? ( UtilityException ) e : new UtilityException ( "File download was aborted", e );
+            }
+            else
+            {
+                cleanup ();
+                if ( listener != null )
+                {
+                    listener.fileDownloadFailed ( e );
+                }
+                throw new UtilityException ( "Unable to download file from URL: " + url, e );
+            }
+        }
+    }
+
+    /**
+     * Removes downloaded data unless download can be resumed later.
+     */
+    protected void cleanup ()
+    {
+        if ( !resume )
+        {
+            FileUtils.deleteFile ( file );
+            FileUtils.deleteFile ( getStateFile () );
+        }
+    }
+
+    /**
+     * Verifies downloaded file against expected digest.
+     */
+    protected void verify ()
+    {
+        if ( digestAlgorithm != null && expectedDigest != null )
+        {
+            final String digest = FileUtils.computeDigest ( file, digestAlgorithm );
+            if ( !digest.equalsIgnoreCase ( expectedDigest.trim () ) )
+            {
+                // Corrupted file cannot be resumed
+                FileUtils.deleteFile ( file );
+                FileUtils.deleteFile ( getStateFile () );
+                throw new UtilityException ( "Downloaded file " + digestAlgorithm + " digest " + digest +
+                        " doesn't match expected one: " + expectedDigest );
+            }
+        }
+    }
+
+    /**
+     * Splits specified range into segments.
+     *
+     * @param start range start
+     * @param total total file size, {@code -1} if unknown
+     * @return segments
+     */
+    @NotNull
+    protected List<Segment> split ( final long start, final long total )
+    {
+        final List<Segment> parts = new ArrayList<Segment> ( segments );
+        final long remaining = total - start;
+        final int count = total > 0 ? ( int ) Math.max ( 1, Math.min ( segments, remaining / MINIMUM_SEGMENT_SIZE ) ) : 1;
+        for ( int i = 0; i < count; i++ )
+        {
+            final long from = start + remaining * i / count;
+            final long to = i == count - 1 ? total : start + remaining * ( i + 1 ) / count;
+            parts.add ( new Segment ( total, from, to, from ) );
+        }
+        return parts;
+    }
+
+    /**
+     * Prepares destination file for the specified segments.
+     *
+     * @param parts segments
+     * @throws IOException if file cannot be prepared
+     */
+    protected void prepareFile ( @NotNull final List<Segment> parts ) throws IOException
+    {
+        final File parent = FileUtils.getParent ( file );
+        if ( parent != null )
+        {
+            parent.mkdirs ();
+        }
+        final RandomAccessFile raf = new RandomAccessFile ( file, "rw" );
+        try
+        {
+            if ( parts.size () > 1 )
+            {
+                // Segments are written at their own positions
+                raf.setLength ( parts.get ( 0 ).total );
+            }
+            else
+            {
+                // Single segment is always appended
+                raf.setLength ( parts.get ( 0 ).position );
+            }
+        }
+        finally
+        {
+            raf.close ();
+        }
+    }
+
+    /**
+     * Downloads segments in parallel.
+     *
+     * @param source     source url
+     * @param parts      segments
+     * @param connection already opened connection for the first segment, {@code null} if there is none
+     * @throws Exception if download has failed
+     */
+    protected void downloadInParallel ( @NotNull final URL source, @NotNull final List<Segment> parts,
+                                        @Nullable final URLConnection connection ) throws Exception
+    {
+        final TaskGroup group = new TaskGroup ( "FileDownload", parts.size () );
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<Future<?>> ( parts.size () );
+            for ( int i = 0; i < parts.size (); i++ )
+            {
+                final Segment part = parts.get ( i );
+                final URLConnection opened = i == 0 ? connection : null;
+                futures.add ( group.execute ( new Callable<Object> ()
+                {
+                    @Override
+                    public Object call () throws Exception
+                    {
+                        if ( part.position < part.end )
+                        {
+                            if ( opened != null )
+                            {
+                                download ( opened, part );
+                            }
+                            else
+                            {
+                                final URLConnection segmentConnection = openConnection ( source, part.position, part.end );
+                                try
+                                {
+                                    download ( segmentConnection, part );
+                                }
+                                finally
+                                {
+                                    disconnect ( segmentConnection );
+                                }
+                            }
+                        }
+                        return null;
+                    }
+                } ) );
+            }
+            Exception failure = null;
+            for ( final Future<?> future : futures )
+            {
+                try
+                {
+                    future.get ();
+                }
+                catch ( final Exception e )
+                {
+                    // Stopping other segments on the first failure
+                    if ( failure == null )
+                    {
+                        failure = e instanceof ExecutionException && e.getCause () instanceof Exception ?
+                                ( Exception ) e.getCause () : e;
+                        if ( !aborted )
+                        {
+                            stopSegments ( parts );
+                        }
+                    }
+                }
+            }
+            if ( failure != null )
+            {
+                throw failure;
+            }
+        }
+        finally
+        {
+            group.shutdown ();
+            try
+            {
+                saveState ( parts );
+            }
+            catch ( final IOException e )
+            {
+                // State saving failure shouldn't hide the actual download outcome
+                LoggerFactory.getLogger ( FileDownload.class ).error ( "Unable to save download state: " + getStateFile (), e );
+            }
+        }
+    }
+
+    /**
+     * Stops all segments after one of them has failed.
+     *
+     * @param parts segments
+     */
+    protected void stopSegments ( @NotNull final List<Segment> parts )
+    {
+        for ( final Segment part : parts )
+        {
+            part.stopped = true;
+        }
+    }
+
+    /**
+     * Downloads single segment through the specified connection.
+     *
+     * @param connection opened connection
+     * @param part       segment
+     * @throws IOException if download has failed
+     */
+    protected void download ( @NotNull final URLConnection connection, @NotNull final Segment part ) throws IOException
+    {
+        final InputStream in = connection.getInputStream ();
+        try
+        {
+            final RandomAccessFile out = new RandomAccessFile ( file, "rw" );
+            try
+            {
+                out.seek ( part.position );
+                final byte[] buffer = new byte[ bufferSize ];
+                while ( !aborted && !part.stopped && ( part.end == -1 || part.position < part.end ) )
+                {
+                    final int length = part.end == -1 ? buffer.length : ( int ) Math.min ( buffer.length, part.end - part.position );
+                    final int read = in.read ( buffer, 0, length );
+                    if ( read == -1 )
+                    {
+                        if ( part.end != -1 )
+                        {
+                            throw new EOFException ( "Connection closed before segment end: " + part.end );
+                        }
+                        break;
+                    }
+                    out.write ( buffer, 0, read );
+                    synchronized ( lock )
+                    {
+                        part.position += read;
+                    }
+                    progress ( read, part );
+                }
+            }
+            finally
+            {
+                out.close ();
+            }
+        }
+        finally
+        {
+            in.close ();
+        }
+    }
+
+    /**
+     * Updates download progress and limits download speed.
+     *
+     * @param bytes newly downloaded bytes
+     * @param part  segment bytes were downloaded for
+     * @throws IOException if download state cannot be saved
+     */
+    protected void progress ( final int bytes, @NotNull final Segment part ) throws IOException
+    {
+        final long delay;
+        final boolean save;
+        synchronized ( lock )
+        {
+            downloaded += bytes;
+            sessionBytes += bytes;
+            if ( listener != null && !aborted )
+            {
+                listener.partDownloaded ( ( int ) Math.min ( Integer.MAX_VALUE, downloaded ) );
+                if ( listener.shouldStopDownload () )
+                {
+                    aborted = true;
+                }
+            }
+
+            // Calculating delay required to fit into speed limit
+            final long now = System.currentTimeMillis ();
+            delay = maximumSpeed > 0 ? sessionStart + sessionBytes * 1000 / maximumSpeed - now : 0;
+
+            // Checking whether download state should be saved
+            save = resume && now - lastStateSave >= STATE_SAVE_DELAY;
+            if ( save )
+            {
+                lastStateSave = now;
+            }
+        }
+        if ( save )
+        {
+            // Periodically saving download state outside of the lock
+            saveState ( part.parts );
+        }
+        if ( delay > 0 && !aborted )
+        {
+            try
+            {
+                Thread.sleep ( delay );
+            }
+            catch ( final InterruptedException e )
+            {
+                Thread.currentThread ().interrupt ();
+                aborted = true;
+            }
+        }
+    }
+
+    /**
+     * Throws an exception if download was aborted.
+     */
+    protected void checkAborted ()
+    {
+        if ( !aborted && listener != null && listener.shouldStopDownload () )
+        {
+            aborted = true;
+        }
+        if ( aborted )
+        {
+            throw new UtilityException ( "File download was aborted" );
+        }
+    }
+
+    /**
+     * Returns opened connection for the specified range.
+     *
+     * @param source source url
+     * @param from   first requested byte, {@code -1} to request whole file without range
+     * @param to     requested range end (exclusive), {@code -1} to request everything starting from the first byte
+     * @return opened connection for the specified range
+     * @throws IOException if connection cannot be opened
+     */
+    @NotNull
+    protected URLConnection openConnection ( @NotNull final URL source, final long from, final long to ) throws IOException
+    {
+        URLConnection connection = ProxyManager.getURLConnection ( source );
+        if ( timeout != 0 )
+        {
+            connection.setConnectTimeout ( timeout );
+            connection.setReadTimeout ( timeout );
+        }
+        if ( from >= 0 )
+        {
+            connection.setRequestProperty ( "Range", "bytes=" + from + "-" + ( to > 0 ? Long.toString ( to - 1 ) : "" ) );
+        }
+        connection.connect ();
+        if ( connection instanceof HttpURLConnection )
+        {
+            final int code = ( ( HttpURLConnection ) connection ).getResponseCode ();
+            if ( code == 416 && from > 0 && to < 0 )
+            {
+                // Requested range is not satisfiable, most probably local file is already complete or bigger than remote one
+                disconnect ( connection );
+                connection = openConnection ( source, segments > 1 ? 0 : -1, -1 );
+            }
+            else if ( code >= 400 )
+            {
+                throw new IOException ( "Server returned HTTP response code " + code + " for URL: " + source );
+            }
+            else if ( from > 0 && to > 0 && code != HttpURLConnection.HTTP_PARTIAL )
+            {
+                throw new IOException ( "Server doesn't support range requests for URL: " + source );
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Closes specified connection.
+     *
+     * @param connection connection to close
+     */
+    protected void disconnect ( @NotNull final URLConnection connection )
+    {
+        if ( connection instanceof HttpURLConnection )
+        {
+            ( ( HttpURLConnection ) connection ).disconnect ();
+        }
+    }
+
+    /**
+     * Returns content length provided by the specified connection.
+     *
+     * @param connection connection
+     * @return content length provided by the specified connection, {@code -1} if it is unknown
+     */
+    protected long getContentLength ( @NotNull final URLConnection connection )
+    {
+        long length = -1;
+        final String header = connection.getHeaderField ( "Content-Length" );
+        if ( header != null )
+        {
+            try
+            {
+                length = Long.parseLong ( header.trim () );
+            }
+            catch ( final NumberFormatException ignored )
+            {
+                length = -1;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Returns range start, end (inclusive) and total size parsed from "Content-Range" header value.
+     *
+     * @param header "Content-Range" header value
+     * @return range start, end (inclusive) and total size, {@code null} if header cannot be parsed or total size is unknown
+     */
+    @Nullable
+    protected long[] parseContentRange ( @Nullable final String header )
+    {
+        long[] range = null;
+        if ( header != null && header.startsWith ( "bytes " ) )
+        {
+            try
+            {
+                final int dash = header.indexOf ( '-' );
+                final int slash = header.indexOf ( '/' );
+                if ( dash != -1 && slash > dash && !header.endsWith ( "*" ) )
+                {
+                    range = new long[]{
+                            Long.parseLong ( header.substring ( 6, dash ).trim () ),
+                            Long.parseLong ( header.substring ( dash + 1, slash ).trim () ),
+                            Long.parseLong ( header.substring ( slash + 1 ).trim () )
+                    };
+                }
+            }
+            catch ( final NumberFormatException ignored )
+            {
+                range = null;
+            }
+        }
+        return range;
+    }
+
+    /**
+     * Returns previously saved download state or {@code null} if there is none or it cannot be used.
+     *
+     * @return previously saved download state or {@code null} if there is none or it cannot be used
+     */
+    @Nullable
+    protected List<Segment> loadState ()
+    {
+        List<Segment> parts = null;
+        final File stateFile = getStateFile ();
+        if ( stateFile.isFile () && file.isFile () )
+        {
+            try
+            {
+                final List<String> lines = TextUtils.stringToList ( FileUtils.readToString ( new FileResource ( stateFile ) ), "\n" );
+                final long total = Long.parseLong ( lines.get ( 0 ).trim () );
+                if ( total > 0 && file.length () == total && lines.size () > 1 )
+                {
+                    parts = new ArrayList<Segment> ( lines.size () - 1 );
+                    for ( int i = 1; i < lines.size (); i++ )
+                    {
+                        final List<String> values = TextUtils.stringToList ( lines.get ( i ).trim (), " " );
+                        parts.add ( new Segment ( total, Long.parseLong ( values.get ( 0 ) ), Long.parseLong ( values.get ( 1 ) ),
+                                Long.parseLong ( values.get ( 2 ) ) ) );
+                    }
+                }
+            }
+            catch ( final Exception e )
+            {
+                // Corrupted state is simply ignored
+                parts = null;
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Saves download state for the specified segments.
+     * State is only saved for resumable downloads split into multiple segments, single segment progress is determined by file length.
+     *
+     * @param parts segments
+     * @throws IOException if state cannot be saved
+     */
+    protected void saveState ( @NotNull final List<Segment> parts ) throws IOException
+    {
+        if ( resume && parts.size () > 1 )
+        {
+            // Only one state write at a time, each one taking the latest segments positions
+            synchronized ( stateLock )
+            {
+                final StringBuilder state = new StringBuilder ();
+                synchronized ( lock )
+                {
+                    state.append ( parts.get ( 0 ).total ).append ( "\n" );
+                    for ( final Segment part : parts )
+                    {
+                        state.append ( part.start ).append ( " " ).append ( part.end ).append ( " " );
+                        state.append ( part.position ).append ( "\n" );
+                    }
+                }
+                FileUtils.writeStringToFile ( state.toString (), getStateFile () );
+            }
+        }
+    }
+
+    /**
+     * Single downloaded segment.
+     */
+    protected static class Segment
+    {
+        /**
+         * Total file size, {@code -1} if it is unknown.
+         */
+        protected final long total;
+
+        /**
+         * Segment start.
+         */
+        protected final long start;
+
+        /**
+         * Segment end (exclusive), {@code -1} if it is unknown.
+         */
+        protected final long end;
+
+        /**
+         * Current segment position.
+         */
+        protected long position;
+
+        /**
+         * All segments of the download.
+         */
+        @NotNull
+        protected List<Segment> parts;
+
+        /**
+         * Whether segment download should be stopped or not.
+         */
+        protected volatile boolean stopped;
+
+        /**
+         * Constructs new {@link Segment}.
+         *
+         * @param total    total file size, {@code -1} if it is unknown
+         * @param start    segment start
+         * @param end      segment end (exclusive), {@code -1} if it is unknown
+         * @param position current segment position
+         */
+        public Segment ( final long total, final long start, final long end, final long position )
+        {
+            this.total = total;
+            this.start = start;
+            this.end = end;
+            this.position = position;
+            this.parts = new ArrayList<Segment> ( 1 );
+            this.parts.add ( this );
+        }
+    }
+}
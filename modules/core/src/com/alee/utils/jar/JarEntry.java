@@ -31,7 +31,6 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 
 /**
  * This class represents single JAR file structure element.
@@ -64,11 +63,19 @@ public class JarEntry implements Identifiable
     @Nullable
     protected final JarEntry parent;
 
+    /**
+     * Full path of this JAR entry within JAR, {@code null} if this entry is not backed by {@link JarStructure} entries.
+     * Package paths always end with "/" and root path is empty.
+     */
+    @Nullable
+    protected final String entryPath;
+
     /**
      * ZIP entry reference for this JAR entry.
+     * It is lazily resolved from {@link #entryPath} when it is specified.
      */
     @Nullable
-    protected final ZipEntry zipEntry;
+    protected ZipEntry zipEntry;
 
     /**
      * JAR entry type.
@@ -94,6 +101,11 @@ public class JarEntry implements Identifiable
     @Nullable
     protected List<JarEntry> children;
 
+    /**
+     * Whether or not children JAR entries were already created.
+     */
+    protected boolean childrenCreated;
+
     /**
      * Constructs new {@link JarEntry}.
      *
@@ -103,7 +115,7 @@ public class JarEntry implements Identifiable
      */
     public JarEntry ( @NotNull final JarStructure structure, @NotNull final JarEntryType type, @NotNull final String name )
     {
-        this ( structure, null, null, type, name );
+        this ( structure, null, ( ZipEntry ) null, type, name );
     }
 
     /**
@@ -121,8 +133,34 @@ public class JarEntry implements Identifiable
         this.id = TextUtils.generateId ( ID_PREFIX );
         this.structure = structure;
         this.parent = parent;
+        this.entryPath = null;
         this.zipEntry = zipEntry;
         this.children = null;
+        this.childrenCreated = true;
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * Constructs new {@link JarEntry} backed by {@link JarStructure} entries.
+     * Its children are only created when they are requested for the first time.
+     *
+     * @param structure {@link JarStructure}
+     * @param parent    parent {@link JarEntry}
+     * @param entryPath full path of this {@link JarEntry} within JAR
+     * @param type      {@link JarEntryType}
+     * @param name      {@link JarEntry} name
+     */
+    public JarEntry ( @NotNull final JarStructure structure, @Nullable final JarEntry parent, @NotNull final String entryPath,
+                      @NotNull final JarEntryType type, @NotNull final String name )
+    {
+        this.id = TextUtils.generateId ( ID_PREFIX );
+        this.structure = structure;
+        this.parent = parent;
+        this.entryPath = entryPath;
+        this.zipEntry = null;
+        this.children = null;
+        this.childrenCreated = type != JarEntryType.JAR && type != JarEntryType.PACKAGE;
         this.type = type;
         this.name = name;
     }
@@ -147,15 +185,31 @@ public class JarEntry implements Identifiable
 
     /**
      * Returns {@link ZipEntry} or {@code null} if this is a {@link JarEntryType#JAR} entry.
+     * {@link JarEntryType#PACKAGE} without its own directory entry in JAR returns {@link ZipEntry} of its first nested entry.
      *
      * @return {@link ZipEntry} or {@code null} if this is a {@link JarEntryType#JAR} entry
      */
     @Nullable
     public ZipEntry getZipEntry ()
     {
+        if ( zipEntry == null && entryPath != null && type != JarEntryType.JAR )
+        {
+            zipEntry = structure.getZipEntry ( entryPath );
+        }
         return zipEntry;
     }
 
+    /**
+     * Returns full path of this {@link JarEntry} within JAR or {@code null} if it is not backed by {@link JarStructure} entries.
+     *
+     * @return full path of this {@link JarEntry} within JAR or {@code null} if it is not backed by {@link JarStructure} entries
+     */
+    @Nullable
+    public String getEntryPath ()
+    {
+        return entryPath;
+    }
+
     /**
      * Returns {@link JarEntryType}.
      *
@@ -231,6 +285,7 @@ public class JarEntry implements Identifiable
     @NotNull
     public List<JarEntry> getChildren ()
     {
+        createChildren ();
         return this.children != null ?
                 new ArrayList<JarEntry> ( this.children ) :
                 new ArrayList<JarEntry> ();
@@ -288,6 +343,7 @@ public class JarEntry implements Identifiable
     @Nullable
     public JarEntry findChildByName ( @Nullable final String name, final boolean recursively )
     {
+        createChildren ();
         JarEntry childByName = null;
         if ( this.children != null )
         {
@@ -319,6 +375,7 @@ public class JarEntry implements Identifiable
      */
     public void addChild ( @NotNull final JarEntry child )
     {
+        createChildren ();
         if ( this.children == null )
         {
             this.children = new ArrayList<JarEntry> ();
@@ -334,12 +391,29 @@ public class JarEntry implements Identifiable
      */
     public void removeChild ( @NotNull final JarEntry child )
     {
+        createChildren ();
         if ( this.children != null )
         {
             this.children.remove ( child );
         }
     }
 
+    /**
+     * Creates children {@link JarEntry}s if they were not created yet.
+     */
+    protected void createChildren ()
+    {
+        synchronized ( structure )
+        {
+            if ( !childrenCreated )
+            {
+                childrenCreated = true;
+                final List<JarEntry> created = structure.createChildren ( this, entryPath != null ? entryPath : "" );
+                this.children = created.size () > 0 ? created : null;
+            }
+        }
+    }
+
     /**
      * Returns {@link JarEntry} file extension if it is a file, empty {@link String} othewise.
      *
@@ -428,6 +502,7 @@ public class JarEntry implements Identifiable
 
     /**
      * Returns {@link JarEntry} content {@link InputStream}.
+     * It is read from JAR file shared by the whole {@link JarStructure}, so it should be closed once read.
      *
      * @return {@link JarEntry} content {@link InputStream}
      */
@@ -439,7 +514,7 @@ public class JarEntry implements Identifiable
         {
             try
             {
-                return new ZipFile ( structure.getJarLocation () ).getInputStream ( zipEntry );
+                return structure.getInputStream ( zipEntry );
             }
             catch ( final IOException e )
             {
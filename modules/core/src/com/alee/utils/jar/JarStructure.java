@@ -19,29 +19,43 @@ package com.alee.utils.jar;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.utils.CollectionUtils;
 import com.alee.utils.FileUtils;
 import com.alee.utils.ReflectUtils;
 import com.alee.utils.UtilityException;
 import com.alee.utils.file.FileDownloadListener;
 
 import javax.swing.*;
-import java.io.File;
+import java.io.*;
 import java.net.URI;
 import java.net.URL;
 import java.security.CodeSource;
-import java.util.List;
-import java.util.Locale;
+import java.util.*;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
 /**
  * This class represents single JAR file structure.
  * It might be really useful to navigate through JAR
  *
+ * Structure only reads JAR central directory once and keeps sorted names of allowed entries.
+ * Nested {@link JarEntry}s are only created when their parent {@link JarEntry} children are requested.
+ * Optionally names of allowed entries can also be cached in an index file next to the JAR to avoid reading it next time.
+ *
  * @author Mikle Garin
  */
-public class JarStructure
+public class JarStructure implements Closeable
 {
+    /**
+     * Index file extension.
+     */
+    public static final String INDEX_EXTENSION = ".index";
+
+    /**
+     * Index file format version.
+     */
+    protected static final int INDEX_VERSION = 1;
+
     /**
      * Location of JAR file which structure is represented by this object.
      * Since local copy of file is always required to create this structure this field always points at existing local JAR file.
@@ -49,6 +63,12 @@ public class JarStructure
     @NotNull
     protected final String jarLocation;
 
+    /**
+     * Sorted names of all allowed JAR entries.
+     */
+    @NotNull
+    protected final String[] entries;
+
     /**
      * Root {@link JarEntry}.
      * Represents JAR structure itself using nested {@link JarEntry}.
@@ -56,6 +76,13 @@ public class JarStructure
     @NotNull
     protected final JarEntry root;
 
+    /**
+     * {@link ZipFile} used to read JAR entries.
+     * It is opened lazily upon first request and kept open until {@link #close()} is called.
+     */
+    @Nullable
+    protected ZipFile zipFile;
+
     /**
      * Constructs new {@link JarStructure}.
      *
@@ -89,6 +116,22 @@ public class JarStructure
      */
     public JarStructure ( @NotNull final Class jarClass, @Nullable final List<String> allowedExtensions,
                           @Nullable final List<String> allowedPackages, @Nullable final FileDownloadListener listener )
+    {
+        this ( jarClass, allowedExtensions, allowedPackages, listener, false );
+    }
+
+    /**
+     * Constructs new {@link JarStructure}.
+     *
+     * @param jarClass          any class within the JAR
+     * @param allowedExtensions list of extension filters
+     * @param allowedPackages   list of allowed packages
+     * @param listener          {@link FileDownloadListener} for JAR file
+     * @param useIndex          whether or not entries index should be cached next to the local JAR file
+     */
+    public JarStructure ( @NotNull final Class jarClass, @Nullable final List<String> allowedExtensions,
+                          @Nullable final List<String> allowedPackages, @Nullable final FileDownloadListener listener,
+                          final boolean useIndex )
     {
         try
         {
@@ -101,11 +144,13 @@ public class JarStructure
 
                 // Source file
                 final File jarFile;
+                final boolean local;
                 final String scheme = uri.getScheme ();
                 if ( scheme != null && scheme.equalsIgnoreCase ( "file" ) )
                 {
                     // Local jar-file
                     jarFile = new File ( uri );
+                    local = true;
                 }
                 else
                 {
@@ -115,73 +160,372 @@ public class JarStructure
                             File.createTempFile ( jarUrl.getFile (), ".tmp" ),
                             listener
                     );
+                    local = false;
                 }
 
                 // Creating JAR structure
                 this.jarLocation = jarFile.getAbsolutePath ();
 
+                // Reading allowed entries either from index or from JAR central directory
+                final String filter = getFilterKey ( allowedExtensions, allowedPackages );
+                final File indexFile = new File ( jarLocation + INDEX_EXTENSION );
+                final String[] indexed = useIndex && local ? readIndex ( jarFile, indexFile, filter ) : null;
+                if ( indexed != null )
+                {
+                    this.entries = indexed;
+                }
+                else
+                {
+                    this.entries = readEntries ( jarFile, allowedExtensions, allowedPackages );
+                    if ( useIndex && local )
+                    {
+                        writeIndex ( jarFile, indexFile, filter, entries );
+                    }
+                }
+
                 // Updating root element
-                this.root = new JarEntry ( this, JarEntryType.JAR, jarFile.getName () );
+                this.root = new JarEntry ( this, null, "", JarEntryType.JAR, jarFile.getName () );
+            }
+            else
+            {
+                throw new UtilityException ( "Unable to retrieve JAR file location" );
+            }
+        }
+        catch ( final Exception e )
+        {
+            throw new UtilityException ( "Unable to read JAR file", e );
+        }
+    }
 
-                // Reading all entries and parsing them into structure
-                final ZipInputStream zip = new ZipInputStream ( jarUrl.openStream () );
-                ZipEntry zipEntry;
-                while ( ( zipEntry = zip.getNextEntry () ) != null )
+    /**
+     * Returns sorted names of allowed JAR entries read from JAR central directory.
+     * Entries are filtered right away so that names of disallowed entries are never kept.
+     *
+     * @param jarFile           JAR file
+     * @param allowedExtensions list of extension filters
+     * @param allowedPackages   list of allowed packages
+     * @return sorted names of allowed JAR entries
+     * @throws IOException if JAR file cannot be read
+     */
+    @NotNull
+    protected String[] readEntries ( @NotNull final File jarFile, @Nullable final List<String> allowedExtensions,
+                                     @Nullable final List<String> allowedPackages ) throws IOException
+    {
+        final List<String> names = new ArrayList<String> ();
+        if ( jarFile.isFile () )
+        {
+            final Set<String> extensions = getExtensions ( allowedExtensions );
+            final ZipFile zipFile = new ZipFile ( jarFile );
+            try
+            {
+                final Enumeration<? extends ZipEntry> zipEntries = zipFile.entries ();
+                while ( zipEntries.hasMoreElements () )
                 {
+                    final ZipEntry zipEntry = zipEntries.nextElement ();
                     final String entryName = zipEntry.getName ();
                     if ( isAllowedPackage ( entryName, allowedPackages ) &&
-                            ( zipEntry.isDirectory () || isAllowedExtension ( entryName, allowedExtensions ) ) )
+                            ( zipEntry.isDirectory () || isAllowedExtension ( entryName, extensions ) ) )
+                    {
+                        names.add ( entryName );
+                    }
+                }
+            }
+            finally
+            {
+                zipFile.close ();
+            }
+        }
+        final String[] sorted = names.toArray ( new String[ names.size () ] );
+        Arrays.sort ( sorted );
+        return sorted;
+    }
+
+    /**
+     * Returns entries filter key used to check whether cached index can be used or not.
+     *
+     * @param allowedExtensions list of extension filters
+     * @param allowedPackages   list of allowed packages
+     * @return entries filter key
+     */
+    @NotNull
+    protected String getFilterKey ( @Nullable final List<String> allowedExtensions, @Nullable final List<String> allowedPackages )
+    {
+        return ( allowedExtensions != null ? allowedExtensions.toString () : "" ) + "|" +
+                ( allowedPackages != null ? allowedPackages.toString () : "" );
+    }
+
+    /**
+     * Returns sorted names of allowed JAR entries read from index file or {@code null} if index cannot be used.
+     *
+     * @param jarFile   JAR file
+     * @param indexFile index file
+     * @param filter    entries filter key
+     * @return sorted names of allowed JAR entries read from index file or {@code null} if index cannot be used
+     */
+    @Nullable
+    protected String[] readIndex ( @NotNull final File jarFile, @NotNull final File indexFile, @NotNull final String filter )
+    {
+        String[] names = null;
+        if ( indexFile.isFile () )
+        {
+            try
+            {
+                final DataInputStream in = new DataInputStream ( new BufferedInputStream ( new FileInputStream ( indexFile ) ) );
+                try
+                {
+                    if ( in.readInt () == INDEX_VERSION && in.readLong () == jarFile.lastModified () &&
+                            in.readLong () == jarFile.length () && in.readUTF ().equals ( filter ) )
                     {
-                        final String[] path = entryName.split ( "/" );
-                        JarEntry currentLevel = this.root;
-                        for ( int i = 0; i < path.length; i++ )
+                        final String[] indexed = new String[ in.readInt () ];
+                        for ( int i = 0; i < indexed.length; i++ )
                         {
-                            if ( i < path.length - 1 )
-                            {
-                                JarEntry child = currentLevel.findChildByName ( path[ i ] );
-                                if ( child == null )
-                                {
-                                    child = new JarEntry ( this, currentLevel, zipEntry, JarEntryType.PACKAGE, path[ i ] );
-                                    currentLevel.addChild ( child );
-                                }
-                                currentLevel = child;
-                            }
-                            else
-                            {
-                                final JarEntryType type;
-                                final String ext = FileUtils.getFileExtPart ( path[ i ], false );
-                                if ( ext.equals ( "java" ) )
-                                {
-                                    type = JarEntryType.JAVA;
-                                }
-                                else if ( ext.equals ( "class" ) )
-                                {
-                                    type = JarEntryType.CLASS;
-                                }
-                                else if ( !ext.isEmpty () )
-                                {
-                                    type = JarEntryType.FILE;
-                                }
-                                else
-                                {
-                                    type = JarEntryType.PACKAGE;
-                                }
-                                currentLevel.addChild ( new JarEntry ( this, currentLevel, zipEntry, type, path[ i ] ) );
-                            }
+                            indexed[ i ] = in.readUTF ();
                         }
+                        names = indexed;
                     }
                 }
-                zip.close ();
+                finally
+                {
+                    in.close ();
+                }
             }
-            else
+            catch ( final Exception e )
             {
-                throw new UtilityException ( "Unable to retrieve JAR file location" );
+                // Outdated or corrupted index is simply rebuilt
+                names = null;
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Writes sorted names of allowed JAR entries into index file.
+     * Index is only an optimization, so failure to write it is ignored.
+     *
+     * @param jarFile   JAR file
+     * @param indexFile index file
+     * @param filter    entries filter key
+     * @param names     sorted names of allowed JAR entries
+     */
+    protected void writeIndex ( @NotNull final File jarFile, @NotNull final File indexFile, @NotNull final String filter,
+                                @NotNull final String[] names )
+    {
+        try
+        {
+            final DataOutputStream out = new DataOutputStream ( new BufferedOutputStream ( new FileOutputStream ( indexFile ) ) );
+            try
+            {
+                out.writeInt ( INDEX_VERSION );
+                out.writeLong ( jarFile.lastModified () );
+                out.writeLong ( jarFile.length () );
+                out.writeUTF ( filter );
+                out.writeInt ( names.length );
+                for ( final String name : names )
+                {
+                    out.writeUTF ( name );
+                }
+            }
+            finally
+            {
+                out.close ();
             }
         }
         catch ( final Exception e )
         {
-            throw new UtilityException ( "Unable to read JAR file", e );
+            // JAR location might not be writable
+            FileUtils.deleteFile ( indexFile );
+        }
+    }
+
+    /**
+     * Creates children {@link JarEntry}s for the specified {@link JarEntry}.
+     * Children are found through binary search among sorted entry names, every nested package is skipped as a whole.
+     *
+     * @param parent {@link JarEntry} to create children for
+     * @param prefix {@link JarEntry} path prefix, empty for the root {@link JarEntry}
+     * @return children {@link JarEntry}s
+     */
+    @NotNull
+    protected List<JarEntry> createChildren ( @NotNull final JarEntry parent, @NotNull final String prefix )
+    {
+        final List<JarEntry> children = new ArrayList<JarEntry> ();
+        final Set<String> names = new HashSet<String> ();
+        int index = lowerBound ( prefix );
+        while ( index < entries.length && entries[ index ].startsWith ( prefix ) )
+        {
+            final String entryName = entries[ index ];
+            final int slash = entryName.indexOf ( '/', prefix.length () );
+            if ( entryName.length () == prefix.length () )
+            {
+                // Package directory entry itself
+                index++;
+            }
+            else if ( slash == -1 )
+            {
+                // Nested file
+                final String name = entryName.substring ( prefix.length () );
+                if ( names.add ( name ) )
+                {
+                    children.add ( new JarEntry ( this, parent, entryName, getEntryType ( name ), name ) );
+                }
+                index++;
+            }
+            else if ( slash > prefix.length () )
+            {
+                // Nested package, all of its entries are skipped at once
+                final String name = entryName.substring ( prefix.length (), slash );
+                final String path = entryName.substring ( 0, slash + 1 );
+                if ( names.add ( name ) )
+                {
+                    children.add ( new JarEntry ( this, parent, path, JarEntryType.PACKAGE, name ) );
+                }
+                index = lowerBound ( path + Character.MAX_VALUE );
+            }
+            else
+            {
+                // Malformed entry name with empty path element
+                index++;
+            }
         }
+        CollectionUtils.sort ( children, JarEntryComparator.instance () );
+        return children;
+    }
+
+    /**
+     * Returns index of the first entry name that is greater than or equal to the specified one.
+     *
+     * @param name entry name
+     * @return index of the first entry name that is greater than or equal to the specified one
+     */
+    protected int lowerBound ( @NotNull final String name )
+    {
+        int low = 0;
+        int high = entries.length;
+        while ( low < high )
+        {
+            final int middle = ( low + high ) >>> 1;
+            if ( entries[ middle ].compareTo ( name ) < 0 )
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns {@link ZipEntry} with the specified name or {@code null} if JAR doesn't contain it.
+     * Package that doesn't have its own directory entry in JAR is represented by {@link ZipEntry} of its first nested entry.
+     *
+     * @param entryName {@link ZipEntry} name
+     * @return {@link ZipEntry} with the specified name or {@code null} if JAR doesn't contain it
+     */
+    @Nullable
+    protected ZipEntry getZipEntry ( @NotNull final String entryName )
+    {
+        try
+        {
+            final ZipFile zip = getZipFile ();
+            ZipEntry zipEntry = zip.getEntry ( entryName );
+            if ( zipEntry == null && entryName.endsWith ( "/" ) )
+            {
+                final int index = lowerBound ( entryName );
+                if ( index < entries.length && entries[ index ].startsWith ( entryName ) )
+                {
+                    zipEntry = zip.getEntry ( entries[ index ] );
+                }
+            }
+            return zipEntry;
+        }
+        catch ( final IOException e )
+        {
+            throw new UtilityException ( "Unable to read JAR entry: " + entryName, e );
+        }
+    }
+
+    /**
+     * Returns {@link InputStream} for the specified {@link ZipEntry} content.
+     * Returned {@link InputStream} should be closed once it is read, it also becomes unusable once {@link #close()} is called.
+     *
+     * @param zipEntry {@link ZipEntry} to read
+     * @return {@link InputStream} for the specified {@link ZipEntry} content
+     * @throws IOException if JAR file cannot be read
+     */
+    @NotNull
+    protected InputStream getInputStream ( @NotNull final ZipEntry zipEntry ) throws IOException
+    {
+        return getZipFile ().getInputStream ( zipEntry );
+    }
+
+    /**
+     * Returns {@link ZipFile} used to read JAR entries, opens it if it is not opened yet.
+     *
+     * @return {@link ZipFile} used to read JAR entries
+     * @throws IOException if JAR file cannot be opened
+     */
+    @NotNull
+    protected synchronized ZipFile getZipFile () throws IOException
+    {
+        if ( zipFile == null )
+        {
+            zipFile = new ZipFile ( jarLocation );
+        }
+        return zipFile;
+    }
+
+    /**
+     * Closes JAR file opened to read entries.
+     * Structure itself stays usable, JAR file will be opened again if any entry has to be read later.
+     *
+     * @throws IOException if JAR file cannot be closed
+     */
+    @Override
+    public synchronized void close () throws IOException
+    {
+        if ( zipFile != null )
+        {
+            try
+            {
+                zipFile.close ();
+            }
+            finally
+            {
+                zipFile = null;
+            }
+        }
+    }
+
+    /**
+     * Returns {@link JarEntryType} for the JAR entry file with the specified name.
+     *
+     * @param name JAR entry file name
+     * @return {@link JarEntryType} for the JAR entry file with the specified name
+     */
+    @NotNull
+    protected JarEntryType getEntryType ( @NotNull final String name )
+    {
+        final JarEntryType type;
+        final String ext = FileUtils.getFileExtPart ( name, false );
+        if ( ext.equals ( "java" ) )
+        {
+            type = JarEntryType.JAVA;
+        }
+        else if ( ext.equals ( "class" ) )
+        {
+            type = JarEntryType.CLASS;
+        }
+        else if ( !ext.isEmpty () )
+        {
+            type = JarEntryType.FILE;
+        }
+        else
+        {
+            type = JarEntryType.PACKAGE;
+        }
+        return type;
     }
 
     /**
@@ -214,17 +558,43 @@ public class JarStructure
     }
 
     /**
-     * Returns whether JAR entry with the specified name is allowed by the extensions list or not.
+     * Returns lower-case allowed extensions or {@code null} if all extensions are allowed.
      *
-     * @param entryName         JAR entry name
      * @param allowedExtensions list of allowed extensions
-     * @return true if JAR entry with the specified name is allowed by the extensions list, false otherwise
+     * @return lower-case allowed extensions or {@code null} if all extensions are allowed
+     */
+    @Nullable
+    private Set<String> getExtensions ( @Nullable final List<String> allowedExtensions )
+    {
+        Set<String> extensions = null;
+        if ( allowedExtensions != null && allowedExtensions.size () != 0 )
+        {
+            extensions = new HashSet<String> ( allowedExtensions.size () );
+            for ( final String extension : allowedExtensions )
+            {
+                extensions.add ( extension.toLowerCase ( Locale.ROOT ) );
+            }
+        }
+        return extensions;
+    }
+
+    /**
+     * Returns whether JAR entry with the specified name is allowed by the extensions set or not.
+     *
+     * @param entryName  JAR entry name
+     * @param extensions lower-case allowed extensions or {@code null} if all extensions are allowed
+     * @return true if JAR entry with the specified name is allowed by the extensions set, false otherwise
      */
-    private boolean isAllowedExtension ( @NotNull final String entryName, @Nullable final List<String> allowedExtensions )
+    private boolean isAllowedExtension ( @NotNull final String entryName, @Nullable final Set<String> extensions )
     {
-        return allowedExtensions == null || allowedExtensions.size () == 0 || allowedExtensions.contains (
-                FileUtils.getFileExtPart ( entryName, true ).toLowerCase ( Locale.ROOT )
-        );
+        boolean allowed = true;
+        if ( extensions != null )
+        {
+            final int dot = entryName.lastIndexOf ( '.' );
+            allowed = dot > entryName.lastIndexOf ( '/' ) &&
+                    extensions.contains ( entryName.substring ( dot ).toLowerCase ( Locale.ROOT ) );
+        }
+        return allowed;
     }
 
     /**
@@ -23,8 +23,8 @@ import com.alee.api.jdk.BiConsumer;
 import com.alee.api.jdk.BiFunction;
 import com.alee.api.jdk.BiPredicate;
 import com.alee.api.jdk.Function;
+import com.alee.utils.collection.ConcurrentWeakHashSet;
 import com.alee.utils.collection.ImmutableSet;
-import com.alee.utils.collection.WeakHashSet;
 
 import javax.swing.*;
 import java.util.Set;
@@ -39,6 +39,11 @@ import java.util.Set;
  *
  * Note that stored data cannot be {@code null} at any point as {@code null} is considered to be no data case.
  *
+ * This class is thread-safe. Data retrieval and iteration methods do not acquire any locks - data is read directly from the
+ * {@link JComponent} client properties and iteration is performed over weakly consistent {@link ConcurrentWeakHashSet}.
+ * Data modification methods are only synchronized per {@link JComponent} using a fixed set of striped locks, so registrations made
+ * from different threads for different {@link JComponent}s rarely block each other.
+ *
  * @param <C> {@link JComponent} type
  * @param <D> data type
  * @author Mikle Garin
@@ -52,13 +57,24 @@ public class WeakComponentData<C extends JComponent, D>
     @NotNull
     protected final String key;
 
+    /**
+     * Amount of locks used for data modifications, must be a power of two.
+     */
+    protected static final int LOCKS = 16;
+
     /**
      * {@link Set} of {@link JComponent}s that have data of this kind stored within them.
-     * {@link WeakHashSet} implementation is used to avoid hard component references that could cause memory leaks.
+     * {@link ConcurrentWeakHashSet} implementation is used to avoid hard component references that could cause memory leaks.
      */
     @NotNull
     protected final Set<C> components;
 
+    /**
+     * Striped locks used for data modifications.
+     */
+    @NotNull
+    protected final Object[] locks;
+
     /**
      * Constructs new {@link WeakComponentData}.
      *
@@ -69,7 +85,25 @@ public class WeakComponentData<C extends JComponent, D>
     {
         super ();
         this.key = key;
-        this.components = new WeakHashSet<C> ( initialCapacity );
+        this.components = new ConcurrentWeakHashSet<C> ( initialCapacity );
+        this.locks = new Object[ LOCKS ];
+        for ( int i = 0; i < LOCKS; i++ )
+        {
+            this.locks[ i ] = new Object ();
+        }
+    }
+
+    /**
+     * Returns lock used for modifications of the data stored in the specified {@link JComponent}.
+     *
+     * @param component {@link JComponent} to return lock for
+     * @return lock used for modifications of the data stored in the specified {@link JComponent}
+     */
+    @NotNull
+    protected Object lock ( @NotNull final C component )
+    {
+        final int hash = System.identityHashCode ( component );
+        return locks[ ( hash ^ hash >>> 16 ) & LOCKS - 1 ];
     }
 
     /**
@@ -78,7 +112,7 @@ public class WeakComponentData<C extends JComponent, D>
      * @return {@link Set} of {@link JComponent}s that have data of this kind stored within them
      */
     @NotNull
-    public synchronized Set<C> components ()
+    public Set<C> components ()
     {
         return new ImmutableSet<C> ( components );
     }
@@ -88,7 +122,7 @@ public class WeakComponentData<C extends JComponent, D>
      *
      * @return size of the {@link Set} of {@link JComponent}s that have data of this kind stored within them
      */
-    public synchronized int size ()
+    public int size ()
     {
         return components.size ();
     }
@@ -99,7 +133,7 @@ public class WeakComponentData<C extends JComponent, D>
      * @param component {@link JComponent} to check data in
      * @return {@code true} if specified {@link JComponent} has data of this kind stored within, {@code false} otherwise
      */
-    public synchronized boolean contains ( @NotNull final C component )
+    public boolean contains ( @NotNull final C component )
     {
         return components.contains ( component );
     }
@@ -112,7 +146,7 @@ public class WeakComponentData<C extends JComponent, D>
      * @return data stored in the {@link JComponent}
      */
     @Nullable
-    public synchronized D get ( @NotNull final C component )
+    public D get ( @NotNull final C component )
     {
         return ( D ) component.getClientProperty ( key );
     }
@@ -126,15 +160,23 @@ public class WeakComponentData<C extends JComponent, D>
      * @return data stored in the {@link JComponent}
      */
     @NotNull
-    public synchronized D get ( @NotNull final C component, @NotNull final Function<C, D> defaultData )
+    public D get ( @NotNull final C component, @NotNull final Function<C, D> defaultData )
     {
         // Trying to retrieve existing data
         D data = get ( component );
         if ( data == null )
         {
-            // Requesting new data
-            data = defaultData.apply ( component );
-            set ( component, data );
+            synchronized ( lock ( component ) )
+            {
+                // Checking data again under the lock
+                data = get ( component );
+                if ( data == null )
+                {
+                    // Requesting new data
+                    data = defaultData.apply ( component );
+                    set ( component, data );
+                }
+            }
         }
         return data;
     }
@@ -149,24 +191,27 @@ public class WeakComponentData<C extends JComponent, D>
      * @return modified data from the {@link JComponent}
      */
     @NotNull
-    public synchronized D modify ( @NotNull final C component, @NotNull final BiFunction<C, D, D> modifiedData,
-                                   @NotNull final Function<C, D> defaultData )
+    public D modify ( @NotNull final C component, @NotNull final BiFunction<C, D, D> modifiedData,
+                      @NotNull final Function<C, D> defaultData )
     {
-        // Trying to retrieve existing data
-        D data = get ( component );
-        if ( data == null )
-        {
-            // Requesting new data
-            data = defaultData.apply ( component );
-            set ( component, data );
-        }
-        else
+        synchronized ( lock ( component ) )
         {
-            // Modifying existing data
-            data = modifiedData.apply ( component, data );
-            set ( component, data );
+            // Trying to retrieve existing data
+            D data = get ( component );
+            if ( data == null )
+            {
+                // Requesting new data
+                data = defaultData.apply ( component );
+                set ( component, data );
+            }
+            else
+            {
+                // Modifying existing data
+                data = modifiedData.apply ( component, data );
+                set ( component, data );
+            }
+            return data;
         }
-        return data;
     }
 
     /**
@@ -178,26 +223,29 @@ public class WeakComponentData<C extends JComponent, D>
      * @return old data
      */
     @Nullable
-    public synchronized D set ( @NotNull final C component, @Nullable final D data )
+    public D set ( @NotNull final C component, @Nullable final D data )
     {
-        // Saving old data
-        final D oldData = get ( component );
-
-        // Modifying data
-        if ( data != null )
+        synchronized ( lock ( component ) )
         {
-            // Saving new data
-            component.putClientProperty ( key, data );
-            components.add ( component );
-        }
-        else
-        {
-            // Clearing data instead if its null
-            clear ( component );
-        }
+            // Saving old data
+            final D oldData = get ( component );
 
-        // Returning old data
-        return oldData;
+            // Modifying data
+            if ( data != null )
+            {
+                // Saving new data
+                component.putClientProperty ( key, data );
+                components.add ( component );
+            }
+            else
+            {
+                // Clearing data instead if its null
+                clear ( component );
+            }
+
+            // Returning old data
+            return oldData;
+        }
     }
 
     /**
@@ -210,35 +258,38 @@ public class WeakComponentData<C extends JComponent, D>
      * @return old data
      */
     @Nullable
-    public synchronized D set ( @NotNull final C component, @Nullable final D data, @NotNull final BiConsumer<C, D> oldDataConsumer )
+    public D set ( @NotNull final C component, @Nullable final D data, @NotNull final BiConsumer<C, D> oldDataConsumer )
     {
-        // Processing old data
-        final D oldData;
-        if ( contains ( component ) )
-        {
-            oldData = get ( component );
-            oldDataConsumer.accept ( component, get ( component ) );
-        }
-        else
+        synchronized ( lock ( component ) )
         {
-            oldData = null;
-        }
+            // Processing old data
+            final D oldData;
+            if ( contains ( component ) )
+            {
+                oldData = get ( component );
+                oldDataConsumer.accept ( component, get ( component ) );
+            }
+            else
+            {
+                oldData = null;
+            }
 
-        // Modifying data
-        if ( data != null )
-        {
+            // Modifying data
+            if ( data != null )
+            {
 
-            // Saving new data
-            set ( component, data );
-        }
-        else
-        {
-            // Clearing data instead if its null
-            clear ( component, oldDataConsumer );
-        }
+                // Saving new data
+                set ( component, data );
+            }
+            else
+            {
+                // Clearing data instead if its null
+                clear ( component, oldDataConsumer );
+            }
 
-        // Returning old data
-        return oldData;
+            // Returning old data
+            return oldData;
+        }
     }
 
     /**
@@ -248,17 +299,20 @@ public class WeakComponentData<C extends JComponent, D>
      * @return old data
      */
     @Nullable
-    public synchronized D clear ( @NotNull final C component )
+    public D clear ( @NotNull final C component )
     {
-        // Saving old data
-        final D oldData = get ( component );
+        synchronized ( lock ( component ) )
+        {
+            // Saving old data
+            final D oldData = get ( component );
 
-        // Clearing data
-        component.putClientProperty ( key, null );
-        components.remove ( component );
+            // Clearing data
+            component.putClientProperty ( key, null );
+            components.remove ( component );
 
-        // Returning old data
-        return oldData;
+            // Returning old data
+            return oldData;
+        }
     }
 
     /**
@@ -269,42 +323,49 @@ public class WeakComponentData<C extends JComponent, D>
      * @return old data
      */
     @Nullable
-    public synchronized D clear ( @NotNull final C component, @NotNull final BiConsumer<C, D> removedDataConsumer )
+    public D clear ( @NotNull final C component, @NotNull final BiConsumer<C, D> removedDataConsumer )
     {
-        final D oldData;
-        if ( contains ( component ) )
+        synchronized ( lock ( component ) )
         {
-            // Saving old data
-            oldData = get ( component );
+            final D oldData;
+            if ( contains ( component ) )
+            {
+                // Saving old data
+                oldData = get ( component );
 
-            // Processing data to be removed
-            removedDataConsumer.accept ( component, oldData );
+                // Processing data to be removed
+                removedDataConsumer.accept ( component, oldData );
 
-            // Clearing data
-            clear ( component );
-        }
-        else
-        {
-            // No old data
-            oldData = null;
+                // Clearing data
+                clear ( component );
+            }
+            else
+            {
+                // No old data
+                oldData = null;
+            }
+            return oldData;
         }
-        return oldData;
     }
 
     /**
      * Provides each stored data piece into specified {@link BiConsumer}.
+     * Iteration is weakly consistent, data stored or removed concurrently might or might not be provided.
      *
      * @param consumer {@link BiConsumer} for {@link JComponent} and data
      */
-    public synchronized void forEach ( @NotNull final BiConsumer<C, D> consumer )
+    public void forEach ( @NotNull final BiConsumer<C, D> consumer )
     {
-        for ( final C component : components () )
+        for ( final C component : components )
         {
             // Retrieving data from the component
             final D data = get ( component );
 
-            // Consuming data
-            consumer.accept ( component, data );
+            // Consuming data unless it was removed concurrently
+            if ( data != null )
+            {
+                consumer.accept ( component, data );
+            }
         }
     }
 
@@ -314,12 +375,13 @@ public class WeakComponentData<C extends JComponent, D>
      * @param predicate {@link BiPredicate} for {@link JComponent} and data
      * @return {@code true} if at least one of the stored data pieces is accepted by specified {@link BiPredicate}, {@code false} otherwise
      */
-    public synchronized boolean anyMatch ( @NotNull final BiPredicate<C, D> predicate )
+    public boolean anyMatch ( @NotNull final BiPredicate<C, D> predicate )
     {
         boolean anyMatch = false;
-        for ( final C component : components () )
+        for ( final C component : components )
         {
-            if ( predicate.test ( component, get ( component ) ) )
+            final D data = get ( component );
+            if ( data != null && predicate.test ( component, data ) )
             {
                 anyMatch = true;
                 break;
@@ -334,12 +396,13 @@ public class WeakComponentData<C extends JComponent, D>
      * @param predicate {@link BiPredicate} for {@link JComponent} and data
      * @return {@code true} if all of the stored data pieces are accepted by specified {@link BiPredicate}, {@code false} otherwise
      */
-    public synchronized boolean allMatch ( @NotNull final BiPredicate<C, D> predicate )
+    public boolean allMatch ( @NotNull final BiPredicate<C, D> predicate )
     {
         boolean allMatch = true;
-        for ( final C component : components () )
+        for ( final C component : components )
         {
-            if ( !predicate.test ( component, get ( component ) ) )
+            final D data = get ( component );
+            if ( data != null && !predicate.test ( component, data ) )
             {
                 allMatch = false;
                 break;
@@ -354,12 +417,13 @@ public class WeakComponentData<C extends JComponent, D>
      * @param predicate {@link BiPredicate} for {@link JComponent} and data
      * @return {@code true} if none of the stored data pieces are accepted by specified {@link BiPredicate}, {@code false} otherwise
      */
-    public synchronized boolean noneMatch ( @NotNull final BiPredicate<C, D> predicate )
+    public boolean noneMatch ( @NotNull final BiPredicate<C, D> predicate )
     {
         boolean noneMatch = true;
-        for ( final C component : components () )
+        for ( final C component : components )
         {
-            if ( predicate.test ( component, get ( component ) ) )
+            final D data = get ( component );
+            if ( data != null && predicate.test ( component, data ) )
             {
                 noneMatch = false;
                 break;
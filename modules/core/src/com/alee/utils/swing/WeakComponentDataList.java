@@ -30,6 +30,10 @@ import java.util.List;
  * Extension over {@link WeakComponentData} that provides convenience methods for {@link List}-type data usage.
  * Note that {@link List}s kept within the {@link JComponent} would never have {@code null} values.
  *
+ * {@link List}s kept within the {@link JComponent} are never modified once stored, every modification replaces stored {@link List} with
+ * a modified copy instead. That allows data to be read and iterated without any locks or snapshots, while modifications are
+ * synchronized per {@link JComponent} just like in {@link WeakComponentData}.
+ *
  * @param <C> {@link JComponent} type
  * @param <E> {@link List} data type
  * @author Mikle Garin
@@ -53,7 +57,7 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param component {@link JComponent} to check data in
      * @return size of data list stored within {@link JComponent}
      */
-    public synchronized int size ( @NotNull final C component )
+    public int size ( @NotNull final C component )
     {
         final List<E> list = get ( component );
         return list != null ? list.size () : 0;
@@ -65,7 +69,7 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param component {@link JComponent} to check data in
      * @return {@code true} if {@link JComponent} has any data of this kind stored within, {@code false} otherwise
      */
-    public synchronized boolean containsData ( @NotNull final C component )
+    public boolean containsData ( @NotNull final C component )
     {
         return CollectionUtils.notEmpty ( get ( component ) );
     }
@@ -77,7 +81,7 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param data      data to find
      * @return {@code true} if {@link JComponent} has specified data stored within, {@code false} otherwise
      */
-    public synchronized boolean containsData ( @NotNull final C component, @NotNull final E data )
+    public boolean containsData ( @NotNull final C component, @NotNull final E data )
     {
         final List<E> list = get ( component );
         return list != null && list.contains ( data );
@@ -89,15 +93,19 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param component {@link JComponent} to store data in
      * @param data      data to store
      */
-    public synchronized void add ( @NotNull final C component, @NotNull final E data )
+    public void add ( @NotNull final C component, @NotNull final E data )
     {
-        List<E> list = get ( component );
-        if ( list == null )
+        synchronized ( lock ( component ) )
         {
-            list = new ArrayList<E> ( 1 );
-            set ( component, list );
+            final List<E> list = get ( component );
+            final List<E> modified = new ArrayList<E> ( list != null ? list.size () + 1 : 1 );
+            if ( list != null )
+            {
+                modified.addAll ( list );
+            }
+            modified.add ( data );
+            set ( component, modified );
         }
-        list.add ( data );
     }
 
     /**
@@ -106,15 +114,14 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param component {@link JComponent} to remove data from
      * @param data      data to remove
      */
-    public synchronized void remove ( @NotNull final C component, @NotNull final E data )
+    public void remove ( @NotNull final C component, @NotNull final E data )
     {
-        final List<E> list = get ( component );
-        if ( list != null )
+        synchronized ( lock ( component ) )
         {
-            list.remove ( data );
-            if ( list.size () == 0 )
+            final List<E> list = get ( component );
+            if ( list != null && list.contains ( data ) )
             {
-                clear ( component );
+                removeData ( component, list, data );
             }
         }
     }
@@ -126,29 +133,50 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param data                data to remove
      * @param removedDataConsumer {@link BiConsumer} for removed data
      */
-    public synchronized void remove ( @NotNull final C component, @NotNull final E data,
-                                      @NotNull final BiConsumer<C, E> removedDataConsumer )
+    public void remove ( @NotNull final C component, @NotNull final E data,
+                         @NotNull final BiConsumer<C, E> removedDataConsumer )
     {
-        final List<E> list = get ( component );
-        if ( list != null && list.contains ( data ) )
+        synchronized ( lock ( component ) )
         {
-            removedDataConsumer.accept ( component, data );
-            list.remove ( data );
-            if ( list.size () == 0 )
+            final List<E> list = get ( component );
+            if ( list != null && list.contains ( data ) )
             {
-                clear ( component );
+                removedDataConsumer.accept ( component, data );
+                removeData ( component, list, data );
             }
         }
     }
 
+    /**
+     * Replaces stored data list with its copy without specified data or clears it if no data would be left.
+     * This method must only be called under the {@link #lock(JComponent)} of the specified {@link JComponent}.
+     *
+     * @param component {@link JComponent} to remove data from
+     * @param list      data list currently stored within {@link JComponent}
+     * @param data      data to remove
+     */
+    protected void removeData ( @NotNull final C component, @NotNull final List<E> list, @NotNull final E data )
+    {
+        if ( list.size () > 1 )
+        {
+            final List<E> modified = new ArrayList<E> ( list );
+            modified.remove ( data );
+            set ( component, modified );
+        }
+        else
+        {
+            clear ( component );
+        }
+    }
+
     /**
      * Provides every stored data piece into specified {@link BiConsumer}.
      *
      * @param consumer {@link BiConsumer} for {@link JComponent} and data
      */
-    public synchronized void forEachData ( @NotNull final BiConsumer<C, E> consumer )
+    public void forEachData ( @NotNull final BiConsumer<C, E> consumer )
     {
-        for ( final C component : components () )
+        for ( final C component : components )
         {
             forEachData ( component, consumer );
         }
@@ -160,7 +188,7 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param component {@link JComponent} to provide data pieces for
      * @param consumer  {@link BiConsumer} for {@link JComponent} and data
      */
-    public synchronized void forEachData ( @NotNull final C component, @NotNull final BiConsumer<C, E> consumer )
+    public void forEachData ( @NotNull final C component, @NotNull final BiConsumer<C, E> consumer )
     {
         final List<E> dataList = get ( component );
         if ( dataList != null )
@@ -178,10 +206,10 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param predicate {@link BiPredicate} for {@link JComponent} and data
      * @return {@code true} if at least one of the data pieces is accepted by specified {@link BiPredicate}, {@code false} otherwise
      */
-    public synchronized boolean anyDataMatch ( @NotNull final BiPredicate<C, E> predicate )
+    public boolean anyDataMatch ( @NotNull final BiPredicate<C, E> predicate )
     {
         boolean anyDataMatch = false;
-        for ( final C component : components () )
+        for ( final C component : components )
         {
             if ( anyDataMatch ( component, predicate ) )
             {
@@ -199,7 +227,7 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param predicate {@link BiPredicate} for {@link JComponent} and data
      * @return {@code true} if at least one of the data pieces is accepted by {@link BiPredicate}, {@code false} otherwise
      */
-    public synchronized boolean anyDataMatch ( @NotNull final C component, @NotNull final BiPredicate<C, E> predicate )
+    public boolean anyDataMatch ( @NotNull final C component, @NotNull final BiPredicate<C, E> predicate )
     {
         boolean anyDataMatch = false;
         final List<E> dataList = get ( component );
@@ -223,10 +251,10 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param predicate {@link BiPredicate} for {@link JComponent} and data
      * @return {@code true} if all of the data pieces are accepted by specified {@link BiPredicate}, {@code false} otherwise
      */
-    public synchronized boolean allDataMatch ( @NotNull final BiPredicate<C, E> predicate )
+    public boolean allDataMatch ( @NotNull final BiPredicate<C, E> predicate )
     {
         boolean allDataMatch = true;
-        for ( final C component : components () )
+        for ( final C component : components )
         {
             if ( !allDataMatch ( component, predicate ) )
             {
@@ -244,7 +272,7 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param predicate {@link BiPredicate} for {@link JComponent} and data
      * @return {@code true} if all of the data pieces are accepted by {@link BiPredicate}, {@code false} otherwise
      */
-    public synchronized boolean allDataMatch ( @NotNull final C component, @NotNull final BiPredicate<C, E> predicate )
+    public boolean allDataMatch ( @NotNull final C component, @NotNull final BiPredicate<C, E> predicate )
     {
         boolean allDataMatch = true;
         final List<E> dataList = get ( component );
@@ -268,10 +296,10 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param predicate {@link BiPredicate} for {@link JComponent} and data
      * @return {@code true} if none of the data pieces are accepted by specified {@link BiPredicate}, {@code false} otherwise
      */
-    public synchronized boolean noneDataMatch ( @NotNull final BiPredicate<C, E> predicate )
+    public boolean noneDataMatch ( @NotNull final BiPredicate<C, E> predicate )
     {
         boolean noneDataMatch = true;
-        for ( final C component : components () )
+        for ( final C component : components )
         {
             if ( !noneDataMatch ( component, predicate ) )
             {
@@ -289,7 +317,7 @@ public class WeakComponentDataList<C extends JComponent, E> extends WeakComponen
      * @param predicate {@link BiPredicate} for {@link JComponent} and data
      * @return {@code true} if none of the data pieces are accepted by specified {@link BiPredicate}, {@code false} otherwise
      */
-    public synchronized boolean noneDataMatch ( @NotNull final C component, @NotNull final BiPredicate<C, E> predicate )
+    public boolean noneDataMatch ( @NotNull final C component, @NotNull final BiPredicate<C, E> predicate )
     {
         boolean noneDataMatch = true;
         final List<E> dataList = get ( component );
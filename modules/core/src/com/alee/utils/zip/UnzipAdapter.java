@@ -0,0 +1,61 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.zip;
+
+import java.io.File;
+import java.util.zip.ZipEntry;
+
+/**
+ * Adapter for {@link UnzipProgressListener}.
+ *
+ * @author Mikle Garin
+ */
+public abstract class UnzipAdapter implements UnzipProgressListener
+{
+    @Override
+    public void sizeDetermined ( final int size )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+
+    @Override
+    public void fileUnzipped ( final ZipEntry entry, final File file, final int index )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+
+    @Override
+    public void bytesUnzipped ( final long bytes, final long total, final long throughput )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+
+    @Override
+    public void fileSkipped ( final ZipEntry entry, final File file, final int index )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+}
@@ -0,0 +1,709 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.zip;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.managers.task.TaskGroup;
+import com.alee.utils.FileUtils;
+import com.alee.utils.UtilityException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * ZIP archive extraction operation.
+ * Entries can be extracted in parallel, each worker thread uses its own {@link ZipFile} to access a separate group of entries.
+ * Stored (uncompressed) entries are copied directly from archive {@link FileChannel} without passing through Java heap.
+ * Entries which target {@link File} already exists with the same size and CRC can optionally be skipped.
+ * Operation can be cancelled from any thread, partially extracted {@link File} is removed in that case.
+ *
+ * @author Mikle Garin
+ * @see com.alee.utils.ZipUtils#unzip(File, File, UnzipListener)
+ * @see UnzipProgressListener
+ */
+public class UnzipOperation
+{
+    /**
+     * Stream copy buffer size.
+     */
+    protected static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Maximum amount of bytes transferred between {@link FileChannel}s at once.
+     * It limits how long cancellation and progress updates can be delayed by a single large stored entry.
+     */
+    protected static final long TRANSFER_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Minimum delay between {@link UnzipProgressListener#bytesUnzipped(long, long, long)} events in milliseconds.
+     */
+    protected static final long PROGRESS_DELAY = 100;
+
+    /**
+     * End of central directory record signature.
+     */
+    protected static final int END_SIGNATURE = 0x06054b50;
+
+    /**
+     * Central directory file header signature.
+     */
+    protected static final int CENTRAL_SIGNATURE = 0x02014b50;
+
+    /**
+     * ZIP archive.
+     */
+    @NotNull
+    protected final File archive;
+
+    /**
+     * Destination directory.
+     */
+    @NotNull
+    protected final File destination;
+
+    /**
+     * Extraction process listener.
+     */
+    @Nullable
+    protected final UnzipListener listener;
+
+    /**
+     * Amount of threads used for extraction.
+     */
+    protected int threads;
+
+    /**
+     * Whether or not entries which target {@link File} already exists with the same size and CRC should be skipped.
+     */
+    protected boolean skipExisting;
+
+    /**
+     * Whether or not this operation was cancelled.
+     */
+    protected volatile boolean cancelled;
+
+    /**
+     * Events and progress lock.
+     */
+    @NotNull
+    protected final Object lock;
+
+    /**
+     * Index of the next processed entry.
+     */
+    protected int index;
+
+    /**
+     * Amount of uncompressed bytes processed so far.
+     */
+    protected long processed;
+
+    /**
+     * Total amount of uncompressed bytes.
+     */
+    protected long total;
+
+    /**
+     * Extraction start time.
+     */
+    protected long startTime;
+
+    /**
+     * Last progress event time.
+     */
+    protected long lastProgressTime;
+
+    /**
+     * Constructs new {@link UnzipOperation}.
+     *
+     * @param archive     ZIP archive
+     * @param destination destination directory
+     * @param listener    extraction process listener
+     */
+    public UnzipOperation ( @NotNull final File archive, @NotNull final File destination, @Nullable final UnzipListener listener )
+    {
+        this.archive = archive;
+        this.destination = destination;
+        this.listener = listener;
+        this.threads = 1;
+        this.skipExisting = false;
+        this.cancelled = false;
+        this.lock = new Object ();
+    }
+
+    /**
+     * Returns amount of threads used for extraction.
+     *
+     * @return amount of threads used for extraction
+     */
+    public int getThreads ()
+    {
+        return threads;
+    }
+
+    /**
+     * Sets amount of threads used for extraction.
+     * Values larger than {@code 1} enable parallel extraction.
+     *
+     * @param threads amount of threads used for extraction
+     */
+    public void setThreads ( final int threads )
+    {
+        this.threads = Math.max ( 1, threads );
+    }
+
+    /**
+     * Returns whether or not entries which target {@link File} already exists with the same size and CRC are skipped.
+     *
+     * @return {@code true} if entries which target {@link File} already exists with the same size and CRC are skipped
+     */
+    public boolean isSkipExisting ()
+    {
+        return skipExisting;
+    }
+
+    /**
+     * Sets whether or not entries which target {@link File} already exists with the same size and CRC should be skipped.
+     *
+     * @param skipExisting whether or not entries which target {@link File} already exists with the same size and CRC should be skipped
+     */
+    public void setSkipExisting ( final boolean skipExisting )
+    {
+        this.skipExisting = skipExisting;
+    }
+
+    /**
+     * Returns whether or not this operation was cancelled.
+     *
+     * @return {@code true} if this operation was cancelled, {@code false} otherwise
+     */
+    public boolean isCancelled ()
+    {
+        return cancelled;
+    }
+
+    /**
+     * Cancels this operation.
+     * Extraction stops as soon as possible, this method can be called from any thread.
+     */
+    public void cancel ()
+    {
+        cancelled = true;
+    }
+
+    /**
+     * Extracts ZIP archive contents into destination directory.
+     * Any folder required for extraction are created in the process.
+     * This method blocks until extraction is finished, failed or cancelled.
+     *
+     * @return {@code true} if extraction was completed, {@code false} if it was cancelled
+     */
+    public boolean run ()
+    {
+        try
+        {
+            // Reading archive structure
+            final List<ZipEntry> entries = new ArrayList<ZipEntry> ();
+            final ZipFile zipFile = new ZipFile ( archive );
+            try
+            {
+                final Enumeration<? extends ZipEntry> enumeration = zipFile.entries ();
+                while ( enumeration.hasMoreElements () )
+                {
+                    final ZipEntry entry = enumeration.nextElement ();
+                    entries.add ( entry );
+                    total += Math.max ( 0, entry.getSize () );
+                }
+            }
+            finally
+            {
+                zipFile.close ();
+            }
+
+            // Informing listener about zip entries amount
+            if ( listener != null )
+            {
+                listener.sizeDetermined ( entries.size () );
+            }
+
+            // Stored entries data offsets
+            final Map<String, Long> offsets = readLocalHeaderOffsets ();
+
+            // Starting zip extraction
+            startTime = System.currentTimeMillis ();
+            lastProgressTime = startTime;
+            final int workers = Math.min ( threads, entries.size () );
+            if ( workers > 1 )
+            {
+                extractInParallel ( split ( entries, workers ), offsets );
+            }
+            else
+            {
+                extract ( entries, offsets );
+            }
+        }
+        catch ( final UtilityException e )
+        {
+            throw e;
+        }
+        catch ( final Exception e )
+        {
+            throw new UtilityException ( "Unable to unzip ZIP archive: " + archive, e );
+        }
+        return !cancelled;
+    }
+
+    /**
+     * Extracts entry groups in parallel, one worker per group.
+     *
+     * @param groups  entry groups
+     * @param offsets stored entries local header offsets
+     * @throws Exception if extraction has failed
+     */
+    protected void extractInParallel ( @NotNull final List<List<ZipEntry>> groups, @NotNull final Map<String, Long> offsets )
+            throws Exception
+    {
+        final TaskGroup group = new TaskGroup ( "UnzipOperation", groups.size () );
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<Future<?>> ( groups.size () );
+            for ( final List<ZipEntry> entries : groups )
+            {
+                futures.add ( group.execute ( new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        try
+                        {
+                            extract ( entries, offsets );
+                        }
+                        catch ( final UtilityException e )
+                        {
+                            throw e;
+                        }
+                        catch ( final Exception e )
+                        {
+                            throw new UtilityException ( "Unable to unzip ZIP archive: " + archive, e );
+                        }
+                    }
+                } ) );
+            }
+            Exception failure = null;
+            for ( final Future<?> future : futures )
+            {
+                try
+                {
+                    future.get ();
+                }
+                catch ( final Exception e )
+                {
+                    // Stopping other workers on the first failure
+                    if ( failure == null )
+                    {
+                        failure = e instanceof ExecutionException && e.getCause () instanceof Exception ?
+                                ( Exception ) e.getCause () : e;
+                        cancelled = true;
+                    }
+                }
+            }
+            if ( failure != null )
+            {
+                throw failure;
+            }
+        }
+        finally
+        {
+            group.shutdown ();
+        }
+    }
+
+    /**
+     * Splits entries into the specified amount of groups with roughly equal amount of compressed data.
+     *
+     * @param entries entries to split
+     * @param amount  amount of groups
+     * @return entry groups
+     */
+    @NotNull
+    protected List<List<ZipEntry>> split ( @NotNull final List<ZipEntry> entries, final int amount )
+    {
+        final List<ZipEntry> sorted = new ArrayList<ZipEntry> ( entries );
+        Collections.sort ( sorted, new Comparator<ZipEntry> ()
+        {
+            @Override
+            public int compare ( final ZipEntry e1, final ZipEntry e2 )
+            {
+                final long s1 = e1.getCompressedSize ();
+                final long s2 = e2.getCompressedSize ();
+                return s1 > s2 ? -1 : s1 < s2 ? 1 : 0;
+            }
+        } );
+        final List<List<ZipEntry>> groups = new ArrayList<List<ZipEntry>> ( amount );
+        final long[] sizes = new long[ amount ];
+        for ( int i = 0; i < amount; i++ )
+        {
+            groups.add ( new ArrayList<ZipEntry> () );
+        }
+        for ( final ZipEntry entry : sorted )
+        {
+            // Largest entries go first into the currently lightest group
+            int lightest = 0;
+            for ( int i = 1; i < amount; i++ )
+            {
+                if ( sizes[ i ] < sizes[ lightest ] )
+                {
+                    lightest = i;
+                }
+            }
+            groups.get ( lightest ).add ( entry );
+            sizes[ lightest ] += Math.max ( 1, entry.getCompressedSize () );
+        }
+        return groups;
+    }
+
+    /**
+     * Extracts specified entries.
+     *
+     * @param entries entries to extract
+     * @param offsets stored entries local header offsets
+     * @throws IOException if extraction has failed
+     */
+    protected void extract ( @NotNull final List<ZipEntry> entries, @NotNull final Map<String, Long> offsets ) throws IOException
+    {
+        final ZipFile zipFile = new ZipFile ( archive );
+        final RandomAccessFile archiveFile = new RandomAccessFile ( archive, "r" );
+        try
+        {
+            final FileChannel archiveChannel = archiveFile.getChannel ();
+            for ( final ZipEntry entry : entries )
+            {
+                if ( cancelled )
+                {
+                    break;
+                }
+
+                // Single zip entry
+                final File extractToFile = getTarget ( entry );
+                if ( entry.isDirectory () )
+                {
+                    // Creating directories path
+                    extractToFile.mkdirs ();
+                    entryProcessed ( entry, extractToFile, false );
+                }
+                else if ( skipExisting && isExtracted ( entry, extractToFile ) )
+                {
+                    // Skipping already extracted file
+                    progress ( Math.max ( 0, entry.getSize () ) );
+                    entryProcessed ( entry, extractToFile, true );
+                }
+                else
+                {
+                    // Ensures that destination file and its folders exist
+                    final File parent = FileUtils.getParent ( extractToFile );
+                    if ( parent != null )
+                    {
+                        parent.mkdirs ();
+                    }
+
+                    // Copying file content
+                    final Long offset = offsets.get ( entry.getName () );
+                    final boolean completed = offset != null && entry.getMethod () == ZipEntry.STORED ?
+                            transfer ( archiveChannel, offset, entry.getCompressedSize (), extractToFile ) :
+                            copy ( zipFile.getInputStream ( entry ), extractToFile );
+                    if ( completed )
+                    {
+                        if ( entry.getTime () != -1 )
+                        {
+                            extractToFile.setLastModified ( entry.getTime () );
+                        }
+                        entryProcessed ( entry, extractToFile, false );
+                    }
+                    else
+                    {
+                        // Removing partially extracted file
+                        FileUtils.deleteFile ( extractToFile );
+                    }
+                }
+            }
+        }
+        finally
+        {
+            archiveFile.close ();
+            zipFile.close ();
+        }
+    }
+
+    /**
+     * Returns target {@link File} for the specified entry.
+     *
+     * @param entry zip entry
+     * @return target {@link File} for the specified entry
+     * @throws IOException if entry points outside of destination directory
+     */
+    @NotNull
+    protected File getTarget ( @NotNull final ZipEntry entry ) throws IOException
+    {
+        final File target = new File ( destination, entry.getName () );
+        final String root = destination.getCanonicalPath () + File.separator;
+        if ( !( target.getCanonicalPath () + File.separator ).startsWith ( root ) )
+        {
+            throw new UtilityException ( "ZIP entry is outside of destination directory: " + entry.getName () );
+        }
+        return target;
+    }
+
+    /**
+     * Returns whether or not specified {@link File} already contains data of the specified entry.
+     *
+     * @param entry zip entry
+     * @param file  target {@link File}
+     * @return {@code true} if specified {@link File} already contains data of the specified entry, {@code false} otherwise
+     * @throws IOException if {@link File} cannot be read
+     */
+    protected boolean isExtracted ( @NotNull final ZipEntry entry, @NotNull final File file ) throws IOException
+    {
+        boolean extracted = false;
+        if ( entry.getSize () != -1 && entry.getCrc () != -1 && file.isFile () && file.length () == entry.getSize () )
+        {
+            final CRC32 crc = new CRC32 ();
+            final InputStream inputStream = new FileInputStream ( file );
+            try
+            {
+                final byte[] buffer = new byte[ BUFFER_SIZE ];
+                int read;
+                while ( !cancelled && ( read = inputStream.read ( buffer ) ) != -1 )
+                {
+                    crc.update ( buffer, 0, read );
+                }
+            }
+            finally
+            {
+                inputStream.close ();
+            }
+            extracted = !cancelled && crc.getValue () == entry.getCrc ();
+        }
+        return extracted;
+    }
+
+    /**
+     * Copies entry data from archive {@link FileChannel} directly into the specified {@link File}.
+     *
+     * @param archiveChannel archive {@link FileChannel}
+     * @param headerOffset   entry local header offset
+     * @param size           entry data size
+     * @param file           target {@link File}
+     * @return {@code true} if data was fully copied, {@code false} if operation was cancelled
+     * @throws IOException if data cannot be copied
+     */
+    protected boolean transfer ( @NotNull final FileChannel archiveChannel, final long headerOffset, final long size,
+                                 @NotNull final File file ) throws IOException
+    {
+        // Local header has variable length, so data offset is only known after reading it
+        final ByteBuffer header = ByteBuffer.allocate ( 30 ).order ( ByteOrder.LITTLE_ENDIAN );
+        while ( header.hasRemaining () )
+        {
+            if ( archiveChannel.read ( header, headerOffset + header.position () ) == -1 )
+            {
+                throw new EOFException ( "Unexpected end of ZIP archive: " + archive );
+            }
+        }
+        final long dataOffset = headerOffset + 30 + ( header.getShort ( 26 ) & 0xFFFF ) + ( header.getShort ( 28 ) & 0xFFFF );
+
+        final FileOutputStream outputStream = new FileOutputStream ( file );
+        try
+        {
+            final FileChannel channel = outputStream.getChannel ();
+            long position = 0;
+            while ( position < size && !cancelled )
+            {
+                final long transferred = archiveChannel.transferTo ( dataOffset + position,
+                        Math.min ( TRANSFER_SIZE, size - position ), channel );
+                if ( transferred <= 0 )
+                {
+                    throw new EOFException ( "Unexpected end of ZIP archive: " + archive );
+                }
+                position += transferred;
+                progress ( transferred );
+            }
+        }
+        finally
+        {
+            outputStream.close ();
+        }
+        return !cancelled;
+    }
+
+    /**
+     * Copies entry data from {@link InputStream} into the specified {@link File}.
+     *
+     * @param inputStream entry {@link InputStream}
+     * @param file        target {@link File}
+     * @return {@code true} if data was fully copied, {@code false} if operation was cancelled
+     * @throws IOException if data cannot be copied
+     */
+    protected boolean copy ( @NotNull final InputStream inputStream, @NotNull final File file ) throws IOException
+    {
+        try
+        {
+            final OutputStream outputStream = new FileOutputStream ( file );
+            try
+            {
+                final byte[] buffer = new byte[ BUFFER_SIZE ];
+                int read;
+                while ( !cancelled && ( read = inputStream.read ( buffer ) ) != -1 )
+                {
+                    outputStream.write ( buffer, 0, read );
+                    progress ( read );
+                }
+            }
+            finally
+            {
+                outputStream.close ();
+            }
+        }
+        finally
+        {
+            inputStream.close ();
+        }
+        return !cancelled;
+    }
+
+    /**
+     * Informs listener about processed entry.
+     *
+     * @param entry   processed zip entry
+     * @param file    target {@link File}
+     * @param skipped whether or not entry was skipped
+     */
+    protected void entryProcessed ( @NotNull final ZipEntry entry, @NotNull final File file, final boolean skipped )
+    {
+        synchronized ( lock )
+        {
+            if ( listener != null && !cancelled )
+            {
+                if ( skipped && listener instanceof UnzipProgressListener )
+                {
+                    ( ( UnzipProgressListener ) listener ).fileSkipped ( entry, file, index );
+                }
+                else
+                {
+                    listener.fileUnzipped ( entry, file, index );
+                }
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Updates extraction progress.
+     *
+     * @param bytes amount of newly processed uncompressed bytes
+     */
+    protected void progress ( final long bytes )
+    {
+        synchronized ( lock )
+        {
+            processed += bytes;
+            if ( listener instanceof UnzipProgressListener && !cancelled )
+            {
+                final long time = System.currentTimeMillis ();
+                if ( time - lastProgressTime >= PROGRESS_DELAY || processed >= total )
+                {
+                    lastProgressTime = time;
+                    final long throughput = processed * 1000 / Math.max ( 1, time - startTime );
+                    ( ( UnzipProgressListener ) listener ).bytesUnzipped ( processed, total, throughput );
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns local header offsets of stored entries that can be copied directly, mapped by entry names.
+     * Offsets are read from archive central directory, ZIP64 archives are not supported and result in an empty map.
+     *
+     * @return local header offsets of stored entries that can be copied directly, mapped by entry names
+     * @throws IOException if archive cannot be read
+     */
+    @NotNull
+    protected Map<String, Long> readLocalHeaderOffsets () throws IOException
+    {
+        final Map<String, Long> offsets = new HashMap<String, Long> ();
+        final RandomAccessFile file = new RandomAccessFile ( archive, "r" );
+        try
+        {
+            final FileChannel channel = file.getChannel ();
+
+            // Searching for end of central directory record, it is followed by up to 64KB comment
+            final long length = channel.size ();
+            final int tail = ( int ) Math.min ( length, 22 + 0xFFFF );
+            final ByteBuffer end = ByteBuffer.allocate ( tail ).order ( ByteOrder.LITTLE_ENDIAN );
+            channel.read ( end, length - tail );
+            int position = tail - 22;
+            while ( position >= 0 && end.getInt ( position ) != END_SIGNATURE )
+            {
+                position--;
+            }
+            if ( position >= 0 )
+            {
+                final long directorySize = end.getInt ( position + 12 ) & 0xFFFFFFFFL;
+                final long directoryOffset = end.getInt ( position + 16 ) & 0xFFFFFFFFL;
+                if ( directorySize != 0xFFFFFFFFL && directoryOffset != 0xFFFFFFFFL &&
+                        directoryOffset + directorySize <= length && directorySize <= Integer.MAX_VALUE )
+                {
+                    // Reading central directory file headers
+                    final ByteBuffer directory = ByteBuffer.allocate ( ( int ) directorySize ).order ( ByteOrder.LITTLE_ENDIAN );
+                    channel.read ( directory, directoryOffset );
+                    int offset = 0;
+                    while ( offset + 46 <= directorySize && directory.getInt ( offset ) == CENTRAL_SIGNATURE )
+                    {
+                        final int flags = directory.getShort ( offset + 8 ) & 0xFFFF;
+                        final int method = directory.getShort ( offset + 10 ) & 0xFFFF;
+                        final int nameLength = directory.getShort ( offset + 28 ) & 0xFFFF;
+                        final int extraLength = directory.getShort ( offset + 30 ) & 0xFFFF;
+                        final int commentLength = directory.getShort ( offset + 32 ) & 0xFFFF;
+                        final long headerOffset = directory.getInt ( offset + 42 ) & 0xFFFFFFFFL;
+                        if ( method == ZipEntry.STORED && ( flags & 1 ) == 0 && headerOffset != 0xFFFFFFFFL &&
+                                offset + 46 + nameLength <= directorySize )
+                        {
+                            final byte[] name = new byte[ nameLength ];
+                            directory.position ( offset + 46 );
+                            directory.get ( name );
+                            offsets.put ( new String ( name, "UTF-8" ), headerOffset );
+                        }
+                        offset += 46 + nameLength + extraLength + commentLength;
+                    }
+                }
+            }
+        }
+        finally
+        {
+            file.close ();
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.zip;
+
+import java.io.File;
+import java.util.zip.ZipEntry;
+
+/**
+ * Extended {@link UnzipListener} that is also informed about byte-level extraction progress and skipped entries.
+ * Events might come from different threads when parallel extraction is used, but they are never fired concurrently.
+ *
+ * @author Mikle Garin
+ * @see UnzipOperation
+ * @see UnzipAdapter
+ */
+public interface UnzipProgressListener extends UnzipListener
+{
+    /**
+     * Notifies about extraction progress.
+     *
+     * @param bytes      amount of uncompressed bytes processed so far, including skipped entries
+     * @param total      total amount of uncompressed bytes in the archive
+     * @param throughput average extraction speed in bytes per second
+     */
+    public void bytesUnzipped ( long bytes, long total, long throughput );
+
+    /**
+     * Notifies about file that was not extracted because it already exists with the same size and CRC.
+     *
+     * @param entry file zip entry
+     * @param file  existing file
+     * @param index file index
+     */
+    public void fileSkipped ( ZipEntry entry, File file, int index );
+}
@@ -0,0 +1,177 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils;
+
+import com.alee.graphics.image.PixelPipeline;
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.*;
+import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Set of JUnit tests for {@link ImageUtils} pixel transformations and {@link PixelPipeline}.
+ * Both small images and images large enough to be processed in parallel are checked.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class ImageUtilsTest
+{
+    /**
+     * Checks that rotated images have swapped dimensions and correctly placed pixels.
+     */
+    @Test
+    public void rotation ()
+    {
+        for ( final BufferedImage image : new BufferedImage[]{ createImage ( 7, 3 ), createImage ( 600, 130 ) } )
+        {
+            final int width = image.getWidth ();
+            final int height = image.getHeight ();
+
+            final BufferedImage cw = ImageUtils.rotateImage90CW ( image );
+            assertSize ( cw, height, width );
+            final BufferedImage ccw = ImageUtils.rotateImage90CCW ( image );
+            assertSize ( ccw, height, width );
+            final BufferedImage flipped = ImageUtils.rotateImage180 ( image );
+            assertSize ( flipped, width, height );
+
+            for ( int y = 0; y < height; y++ )
+            {
+                for ( int x = 0; x < width; x++ )
+                {
+                    final int rgb = image.getRGB ( x, y );
+                    Assert.assertEquals ( rgb, cw.getRGB ( height - 1 - y, x ) );
+                    Assert.assertEquals ( rgb, ccw.getRGB ( y, width - 1 - x ) );
+                    Assert.assertEquals ( rgb, flipped.getRGB ( width - 1 - x, height - 1 - y ) );
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that image is only kept within the cut {@link Shape}.
+     */
+    @Test
+    public void cut ()
+    {
+        final BufferedImage image = createImage ( 20, 10 );
+        final BufferedImage cut = ImageUtils.cutImage ( image, new Ellipse2D.Double ( 0, 0, 20, 10 ) );
+        assertSize ( cut, 20, 10 );
+        Assert.assertEquals ( 0, cut.getRGB ( 0, 0 ) >>> 24 );
+        Assert.assertEquals ( 0, cut.getRGB ( 19, 9 ) >>> 24 );
+        Assert.assertEquals ( image.getRGB ( 10, 5 ), cut.getRGB ( 10, 5 ) );
+    }
+
+    /**
+     * Checks opacity and grayscale pixel values.
+     * Grayscale uses NTSC luma weights rather than {@link java.awt.color.ColorSpace#CS_GRAY} conversion.
+     */
+    @Test
+    public void pixelValues ()
+    {
+        final BufferedImage image = new BufferedImage ( 2, 1, BufferedImage.TYPE_INT_RGB );
+        image.setRGB ( 0, 0, new Color ( 200, 100, 50 ).getRGB () );
+        image.setRGB ( 1, 0, Color.WHITE.getRGB () );
+
+        final BufferedImage transparent = ImageUtils.createTransparentCopy ( image, 0.5f );
+        assertSize ( transparent, 2, 1 );
+        Assert.assertEquals ( 0x80c86432, transparent.getRGB ( 0, 0 ) );
+        Assert.assertEquals ( 0x80ffffff, transparent.getRGB ( 1, 0 ) );
+
+        // ( 200 * 77 + 100 * 151 + 50 * 28 ) >> 8 = 124 and ( 255 * 179 + 128 ) >> 8 = 178 for 0.7 opacity
+        final BufferedImage disabled = ImageUtils.createDisabledCopy ( image );
+        assertSize ( disabled, 2, 1 );
+        Assert.assertEquals ( 0xb27c7c7c, disabled.getRGB ( 0, 0 ) );
+        Assert.assertEquals ( 0xb2ffffff, disabled.getRGB ( 1, 0 ) );
+
+        final BufferedImage gray = new PixelPipeline ().grayscale ().apply ( image );
+        Assert.assertEquals ( 0xff7c7c7c, gray.getRGB ( 0, 0 ) );
+    }
+
+    /**
+     * Checks that failure on calling thread band is only thrown after all other bands have finished.
+     */
+    @Test
+    public void bandFailure ()
+    {
+        final int size = 1024;
+        final AtomicInteger processedRows = new AtomicInteger ( 0 );
+        final AtomicInteger failedRow = new AtomicInteger ( 0 );
+        try
+        {
+            PixelPipeline.processRows ( size, size, new PixelPipeline.RowsTask ()
+            {
+                @Override
+                public void process ( final int fromRow, final int toRow )
+                {
+                    if ( toRow == size )
+                    {
+                        failedRow.set ( fromRow );
+                        throw new IllegalStateException ( "Band failure" );
+                    }
+                    ThreadUtils.sleepSafely ( 100 );
+                    processedRows.addAndGet ( toRow - fromRow );
+                }
+            } );
+            Assert.fail ( "Band failure wasn't thrown" );
+        }
+        catch ( final IllegalStateException e )
+        {
+            Assert.assertEquals ( failedRow.get (), processedRows.get () );
+        }
+    }
+
+    /**
+     * Returns new opaque {@link BufferedImage} of {@link BufferedImage#TYPE_INT_ARGB} type with unique pixel at each position.
+     *
+     * @param width  image width
+     * @param height image height
+     * @return new opaque {@link BufferedImage} of {@link BufferedImage#TYPE_INT_ARGB} type with unique pixel at each position
+     */
+    private BufferedImage createImage ( final int width, final int height )
+    {
+        final BufferedImage image = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB );
+        for ( int y = 0; y < height; y++ )
+        {
+            for ( int x = 0; x < width; x++ )
+            {
+                image.setRGB ( x, y, 0xff000000 | x << 12 | y );
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Asserts that {@link BufferedImage} is of {@link BufferedImage#TYPE_INT_ARGB} type and has the specified size.
+     *
+     * @param image  {@link BufferedImage} to check
+     * @param width  expected width
+     * @param height expected height
+     */
+    private void assertSize ( final BufferedImage image, final int width, final int height )
+    {
+        Assert.assertEquals ( BufferedImage.TYPE_INT_ARGB, image.getType () );
+        Assert.assertEquals ( width, image.getWidth () );
+        Assert.assertEquals ( height, image.getHeight () );
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.managers.task.TaskManager;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.FileUtils;
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Set of JUnit tests for {@link DirectoryLoad}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class DirectoryLoadTest
+{
+    /**
+     * Temporary directory to load.
+     */
+    private static File directory;
+
+    /**
+     * Initializes {@link TaskManager} and creates temporary directory with some files.
+     *
+     * @throws IOException if temporary directory cannot be created
+     */
+    @BeforeClass
+    public static void prepare () throws IOException
+    {
+        TaskManager.initialize ();
+        directory = File.createTempFile ( "load", "" );
+        directory.delete ();
+        directory.mkdirs ();
+        for ( int i = 0; i < 10; i++ )
+        {
+            new File ( directory, "file" + i + ".txt" ).createNewFile ();
+        }
+    }
+
+    /**
+     * Removes temporary directory.
+     */
+    @AfterClass
+    public static void cleanup ()
+    {
+        FileUtils.deleteFile ( directory );
+    }
+
+    /**
+     * Checks that shared load is only cancelled once its last listener is released.
+     *
+     * @throws Exception if load doesn't complete in time
+     */
+    @Test
+    public void sharedRelease () throws Exception
+    {
+        final DirectoryLoad load = new DirectoryLoad ( directory, null );
+        final CountDownLatch completed = new CountDownLatch ( 1 );
+        final AtomicBoolean released = new AtomicBoolean ( false );
+        final DirectoryLoadListener first = new DirectoryLoadAdapter ()
+        {
+            @Override
+            public void loadCompleted ( @NotNull final DirectoryLoad load )
+            {
+                released.set ( true );
+            }
+        };
+        final DirectoryLoadListener second = new DirectoryLoadAdapter ()
+        {
+            @Override
+            public void loadCompleted ( @NotNull final DirectoryLoad load )
+            {
+                completed.countDown ();
+            }
+        };
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                load.addDirectoryLoadListener ( first );
+                load.addDirectoryLoadListener ( second );
+                load.release ( first );
+                load.start ();
+            }
+        } );
+
+        // Remaining listener still receives all events
+        Assert.assertFalse ( load.isCancelled () );
+        Assert.assertTrue ( completed.await ( 10, TimeUnit.SECONDS ) );
+        Assert.assertFalse ( released.get () );
+        Assert.assertEquals ( 10, load.getFiles ().size () );
+
+        // Releasing last listener cancels the load
+        load.release ( second );
+        Assert.assertTrue ( load.isCancelled () );
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.utils.FileUtils;
+import com.alee.utils.UtilityException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Set of JUnit tests for {@link FileDownload}.
+ * Downloads are performed from embedded HTTP server that supports range requests.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class FileDownloadTest
+{
+    /**
+     * Served file content.
+     */
+    private static byte[] content;
+
+    /**
+     * Embedded HTTP server.
+     */
+    private static HttpServer server;
+
+    /**
+     * Amount of range requests received by the server.
+     */
+    private static AtomicInteger ranges;
+
+    /**
+     * Temporary directory for downloaded files.
+     */
+    private static File directory;
+
+    /**
+     * Starts embedded HTTP server.
+     *
+     * @throws IOException if server cannot be started
+     */
+    @BeforeClass
+    public static void startServer () throws IOException
+    {
+        content = new byte[ 1536 * 1024 ];
+        new Random ( 42 ).nextBytes ( content );
+        ranges = new AtomicInteger ( 0 );
+        server = HttpServer.create ( new InetSocketAddress ( "127.0.0.1", 0 ), 0 );
+        server.createContext ( "/file", new HttpHandler ()
+        {
+            @Override
+            public void handle ( final HttpExchange exchange ) throws IOException
+            {
+                final String range = exchange.getRequestHeaders ().getFirst ( "Range" );
+                int from = 0;
+                int to = content.length - 1;
+                if ( range != null )
+                {
+                    ranges.incrementAndGet ();
+                    final String[] values = range.substring ( "bytes=".length () ).split ( "-", -1 );
+                    from = Integer.parseInt ( values[ 0 ] );
+                    to = values[ 1 ].isEmpty () ? to : Integer.parseInt ( values[ 1 ] );
+                }
+                if ( from >= content.length )
+                {
+                    exchange.getResponseHeaders ().add ( "Content-Range", "bytes */" + content.length );
+                    exchange.sendResponseHeaders ( 416, -1 );
+                }
+                else
+                {
+                    if ( range != null )
+                    {
+                        exchange.getResponseHeaders ().add ( "Content-Range", "bytes " + from + "-" + to + "/" + content.length );
+                    }
+                    exchange.sendResponseHeaders ( range != null ? 206 : 200, to - from + 1 );
+                    final OutputStream out = exchange.getResponseBody ();
+                    try
+                    {
+                        out.write ( content, from, to - from + 1 );
+                    }
+                    finally
+                    {
+                        out.close ();
+                    }
+                }
+                exchange.close ();
+            }
+        } );
+        server.start ();
+        directory = File.createTempFile ( "download", "" );
+        directory.delete ();
+        directory.mkdirs ();
+    }
+
+    /**
+     * Stops embedded HTTP server.
+     */
+    @AfterClass
+    public static void stopServer ()
+    {
+        server.stop ( 0 );
+        FileUtils.deleteFile ( directory );
+    }
+
+    /**
+     * Resets range requests counter.
+     */
+    @Before
+    public void resetRanges ()
+    {
+        ranges.set ( 0 );
+    }
+
+    /**
+     * Plain single stream download.
+     */
+    @Test
+    public void plainDownload ()
+    {
+        final File file = new File ( directory, "plain.bin" );
+        new FileDownload ( url (), file ).download ();
+        assertContent ( file );
+        Assert.assertEquals ( "Unexpected range requests", 0, ranges.get () );
+    }
+
+    /**
+     * Resuming partially downloaded file.
+     */
+    @Test
+    public void resumedDownload () throws IOException
+    {
+        final File file = new File ( directory, "resumed.bin" );
+        final OutputStream out = new FileOutputStream ( file );
+        try
+        {
+            out.write ( content, 0, 1000 );
+        }
+        finally
+        {
+            out.close ();
+        }
+        new FileDownload ( url (), file ).setResume ( true ).download ();
+        assertContent ( file );
+        Assert.assertEquals ( "Missing range request", 1, ranges.get () );
+    }
+
+    /**
+     * Resuming download that was aborted in the middle of segmented download.
+     */
+    @Test
+    public void abortedSegmentedDownload ()
+    {
+        final File file = new File ( directory, "segmented.bin" );
+        final AbortingListener listener = new AbortingListener ( content.length / 2 );
+        final FileDownload download = new FileDownload ( url (), file ).setResume ( true ).setSegments ( 4 ).setBufferSize ( 4096 )
+                .setListener ( listener );
+        try
+        {
+            download.download ();
+            Assert.fail ( "Download wasn't aborted" );
+        }
+        catch ( final UtilityException e )
+        {
+            Assert.assertTrue ( "Abort wasn't reported", listener.aborted );
+            Assert.assertTrue ( "Missing download state", download.getStateFile ().exists () );
+        }
+        new FileDownload ( url (), file ).setResume ( true ).setSegments ( 4 ).download ();
+        assertContent ( file );
+        Assert.assertFalse ( "Download state wasn't removed", download.getStateFile ().exists () );
+    }
+
+    /**
+     * Downloaded file digest verification.
+     */
+    @Test
+    public void digestVerification ()
+    {
+        final File file = new File ( directory, "verified.bin" );
+        final String digest = FileUtils.computeDigest ( new ByteArrayInputStream ( content ), "SHA-256" );
+        new FileDownload ( url (), file ).setExpectedDigest ( "SHA-256", digest.toUpperCase () ).download ();
+        assertContent ( file );
+        try
+        {
+            new FileDownload ( url (), file ).setExpectedDigest ( "SHA-256", digest.replace ( digest.charAt ( 0 ), 'x' ) ).download ();
+            Assert.fail ( "Digest mismatch wasn't detected" );
+        }
+        catch ( final UtilityException e )
+        {
+            Assert.assertFalse ( "Corrupted file wasn't removed", file.exists () );
+        }
+    }
+
+    /**
+     * Returns served file url.
+     *
+     * @return served file url
+     */
+    private String url ()
+    {
+        return "http://127.0.0.1:" + server.getAddress ().getPort () + "/file";
+    }
+
+    /**
+     * Asserts that downloaded file content matches served one.
+     *
+     * @param file downloaded file
+     */
+    private void assertContent ( final File file )
+    {
+        try
+        {
+            final byte[] downloaded = new byte[ ( int ) file.length () ];
+            final DataInputStream in = new DataInputStream ( new FileInputStream ( file ) );
+            try
+            {
+                in.readFully ( downloaded );
+            }
+            finally
+            {
+                in.close ();
+            }
+            Assert.assertTrue ( "Downloaded content doesn't match", Arrays.equals ( content, downloaded ) );
+        }
+        catch ( final IOException e )
+        {
+            throw new RuntimeException ( e );
+        }
+    }
+
+    /**
+     * {@link FileDownloadListener} that stops download after specified amount of bytes.
+     */
+    private static final class AbortingListener implements FileDownloadListener
+    {
+        /**
+         * Amount of bytes to stop download after.
+         */
+        private final int limit;
+
+        /**
+         * Total bytes downloaded so far.
+         */
+        private volatile int downloaded;
+
+        /**
+         * Whether or not download abort was reported.
+         */
+        private volatile boolean aborted;
+
+        /**
+         * Constructs new {@link AbortingListener}.
+         *
+         * @param limit amount of bytes to stop download after
+         */
+        public AbortingListener ( final int limit )
+        {
+            this.limit = limit;
+        }
+
+        @Override
+        public void sizeDetermined ( final int totalSize )
+        {
+            /**
+             * Do nothing by default.
+             */
+        }
+
+        @Override
+        public void partDownloaded ( final int totalBytesDownloaded )
+        {
+            downloaded = totalBytesDownloaded;
+        }
+
+        @Override
+        public void fileDownloaded ( final File file )
+        {
+            /**
+             * Do nothing by default.
+             */
+        }
+
+        @Override
+        public void fileDownloadAborted ()
+        {
+            aborted = true;
+        }
+
+        @Override
+        public void fileDownloadFailed ( final Throwable e )
+        {
+            /**
+             * Do nothing by default.
+             */
+        }
+
+        @Override
+        public boolean shouldStopDownload ()
+        {
+            return downloaded > limit;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.jar;
+
+import com.alee.utils.FileUtils;
+import com.alee.utils.IOUtils;
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Set of JUnit tests for {@link JarStructure}.
+ * Structures are read from temporary JAR files containing {@link Marker} class used to point at them.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class JarStructureTest
+{
+    /**
+     * {@link Marker} class file path.
+     */
+    private static final String MARKER = Marker.class.getName ().replace ( '.', '/' ) + ".class";
+
+    /**
+     * Temporary directory for JAR files.
+     */
+    private static File directory;
+
+    /**
+     * Creates temporary directory.
+     *
+     * @throws IOException if temporary directory cannot be created
+     */
+    @BeforeClass
+    public static void prepare () throws IOException
+    {
+        directory = File.createTempFile ( "structure", "" );
+        directory.delete ();
+        directory.mkdirs ();
+    }
+
+    /**
+     * Removes temporary directory.
+     */
+    @AfterClass
+    public static void cleanup ()
+    {
+        FileUtils.deleteFile ( directory );
+    }
+
+    /**
+     * Checks that children are created correctly while nested packages are skipped as a whole.
+     *
+     * @throws Exception if JAR file cannot be written or read
+     */
+    @Test
+    public void children () throws Exception
+    {
+        final File jar = createJar ( "children.jar", "a/", "a/b/", "a/b/c.txt", "a/b/d/e.txt", "a/b.txt", "a/b0.txt", "a/f.txt",
+                "a/g/h.txt", "ab.txt", "z/" );
+        final JarStructure structure = new JarStructure ( loadMarker ( jar ) );
+        try
+        {
+            Assert.assertEquals ( Arrays.asList ( "a", "com", "z", "ab.txt" ), getNames ( structure.getRoot () ) );
+
+            final JarEntry a = structure.getRoot ().getChildByName ( "a" );
+            Assert.assertEquals ( Arrays.asList ( "b", "g", "b.txt", "b0.txt", "f.txt" ), getNames ( a ) );
+            Assert.assertEquals ( Arrays.asList ( "d", "c.txt" ), getNames ( a.getChildByName ( "b" ) ) );
+            Assert.assertEquals ( Arrays.asList ( "e.txt" ), getNames ( a.getChildByName ( "b" ).getChildByName ( "d" ) ) );
+            Assert.assertEquals ( 0, structure.getRoot ().getChildByName ( "z" ).getChildren ().size () );
+
+            // Packages are represented by their directory entries or by their first nested entries
+            Assert.assertEquals ( "a/", a.getZipEntry ().getName () );
+            Assert.assertEquals ( "a/g/h.txt", a.getChildByName ( "g" ).getZipEntry ().getName () );
+
+            // Entries content is read through the structure
+            Assert.assertEquals ( "a/f.txt", FileUtils.readToString ( a.getChildByName ( "f.txt" ).getInputStream () ) );
+        }
+        finally
+        {
+            structure.close ();
+        }
+
+        // Structure remains usable after it is closed
+        final JarEntry c = structure.getRoot ().getChildByName ( "a" ).getChildByName ( "b" ).getChildByName ( "c.txt" );
+        Assert.assertEquals ( "a/b/c.txt", FileUtils.readToString ( c.getInputStream () ) );
+        structure.close ();
+    }
+
+    /**
+     * Checks that cached entries index is reused while JAR file and filter stay the same and is invalidated otherwise.
+     *
+     * @throws Exception if JAR file cannot be written or read
+     */
+    @Test
+    public void indexInvalidation () throws Exception
+    {
+        final File jar = createJar ( "indexed.jar", "a/", "a/b.txt", "c/d.txt" );
+        final File index = new File ( jar.getAbsolutePath () + JarStructure.INDEX_EXTENSION );
+        final Class marker = loadMarker ( jar );
+
+        // Index is written upon first read
+        final JarStructure first = new JarStructure ( marker, null, null, null, true );
+        first.close ();
+        Assert.assertTrue ( index.isFile () );
+        Assert.assertEquals ( Arrays.asList ( "a", "c", "com" ), getNames ( first.getRoot () ) );
+
+        // Valid index is reused without being rewritten
+        final long indexed = index.lastModified () - 10000;
+        index.setLastModified ( indexed );
+        final JarStructure second = new JarStructure ( marker, null, null, null, true );
+        second.close ();
+        Assert.assertEquals ( indexed, index.lastModified () );
+        Assert.assertEquals ( Arrays.asList ( "a", "c", "com" ), getNames ( second.getRoot () ) );
+
+        // Different filter doesn't use index created for another one
+        final JarStructure filtered = new JarStructure ( marker, null, Arrays.asList ( "a/" ), null, true );
+        filtered.close ();
+        Assert.assertEquals ( Arrays.asList ( "a" ), getNames ( filtered.getRoot () ) );
+
+        // Modified JAR file invalidates index
+        final long modified = jar.lastModified ();
+        createJar ( "indexed.jar", "a/", "a/b.txt", "c/d.txt", "e.txt" );
+        jar.setLastModified ( modified + 10000 );
+        final JarStructure updated = new JarStructure ( marker, null, null, null, true );
+        updated.close ();
+        Assert.assertEquals ( Arrays.asList ( "a", "c", "com", "e.txt" ), getNames ( updated.getRoot () ) );
+    }
+
+    /**
+     * Returns names of {@link JarEntry} children.
+     *
+     * @param entry {@link JarEntry} to return children names for
+     * @return names of {@link JarEntry} children
+     */
+    private List<String> getNames ( final JarEntry entry )
+    {
+        final List<String> names = new ArrayList<String> ();
+        for ( final JarEntry child : entry.getChildren () )
+        {
+            names.add ( child.getName () );
+        }
+        return names;
+    }
+
+    /**
+     * Returns {@link Marker} class loaded from the specified JAR file.
+     *
+     * @param jar JAR file
+     * @return {@link Marker} class loaded from the specified JAR file
+     * @throws Exception if class cannot be loaded
+     */
+    private Class loadMarker ( final File jar ) throws Exception
+    {
+        final URLClassLoader classLoader = new URLClassLoader ( new URL[]{ jar.toURI ().toURL () }, null );
+        return classLoader.loadClass ( Marker.class.getName () );
+    }
+
+    /**
+     * Returns JAR file with {@link Marker} class and the specified entries.
+     * Directory entry names end with slash, content of each file entry is its name.
+     *
+     * @param name    JAR file name
+     * @param entries JAR entry names
+     * @return JAR file with {@link Marker} class and the specified entries
+     * @throws IOException if JAR file cannot be written
+     */
+    private File createJar ( final String name, final String... entries ) throws IOException
+    {
+        final File jar = new File ( directory, name );
+        final ZipOutputStream zip = new ZipOutputStream ( new FileOutputStream ( jar ) );
+        try
+        {
+            final InputStream marker = Marker.class.getClassLoader ().getResourceAsStream ( MARKER );
+            try
+            {
+                zip.putNextEntry ( new ZipEntry ( MARKER ) );
+                zip.write ( IOUtils.toByteArray ( marker ) );
+                zip.closeEntry ();
+            }
+            finally
+            {
+                marker.close ();
+            }
+            for ( final String entry : entries )
+            {
+                zip.putNextEntry ( new ZipEntry ( entry ) );
+                if ( !entry.endsWith ( "/" ) )
+                {
+                    zip.write ( entry.getBytes ( "UTF-8" ) );
+                }
+                zip.closeEntry ();
+            }
+        }
+        finally
+        {
+            zip.close ();
+        }
+        return jar;
+    }
+
+    /**
+     * Class used to point {@link JarStructure} at temporary JAR files.
+     */
+    public static final class Marker
+    {
+    }
+}
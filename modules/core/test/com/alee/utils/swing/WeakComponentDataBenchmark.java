@@ -0,0 +1,162 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.utils.swing;
+
+import com.alee.api.jdk.BiConsumer;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.UtilityException;
+
+import javax.swing.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simple contention benchmark for {@link WeakComponentData} and {@link WeakComponentDataList}.
+ * Event Dispatch Thread repeatedly reads data and iterates over all stored data pieces, similar to what global managers do,
+ * while background threads keep registering and unregistering data for their own components.
+ * Prints amount of operations performed by Event Dispatch Thread and background threads per millisecond.
+ * It is not a JUnit test as results depend heavily on the environment it runs in.
+ *
+ * @author Mikle Garin
+ */
+public final class WeakComponentDataBenchmark
+{
+    /**
+     * Benchmark settings.
+     */
+    private static final int COMPONENTS = 1000;
+    private static final int REGISTRANTS = 4;
+    private static final int REGISTRANT_COMPONENTS = 100;
+    private static final int ITERATION_PERIOD = 100;
+    private static final long WARMUP_TIME = 2000;
+    private static final long TIME = 5000;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private WeakComponentDataBenchmark ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Runs benchmark.
+     *
+     * @param args arguments
+     * @throws InterruptedException if benchmark was interrupted
+     */
+    public static void main ( final String[] args ) throws InterruptedException
+    {
+        final WeakComponentDataList<JComponent, Object> data =
+                new WeakComponentDataList<JComponent, Object> ( "WeakComponentDataBenchmark.data", COMPONENTS );
+        final JComponent[] components = new JComponent[ COMPONENTS ];
+        for ( int i = 0; i < COMPONENTS; i++ )
+        {
+            components[ i ] = new JPanel ();
+            data.add ( components[ i ], new Object () );
+        }
+
+        run ( "Warmup", data, components, REGISTRANTS, WARMUP_TIME );
+        run ( "Uncontended", data, components, 0, TIME );
+        run ( "Contended", data, components, REGISTRANTS, TIME );
+    }
+
+    /**
+     * Runs single benchmark phase.
+     *
+     * @param name        phase name
+     * @param data        {@link WeakComponentDataList} to benchmark
+     * @param components  {@link JComponent}s with registered data
+     * @param registrants amount of background registrant threads
+     * @param time        phase duration in milliseconds
+     * @throws InterruptedException if benchmark was interrupted
+     */
+    private static void run ( final String name, final WeakComponentDataList<JComponent, Object> data,
+                              final JComponent[] components, final int registrants, final long time ) throws InterruptedException
+    {
+        final AtomicBoolean running = new AtomicBoolean ( true );
+        final AtomicLong registrantOperations = new AtomicLong ( 0 );
+        final CountDownLatch finished = new CountDownLatch ( registrants );
+        for ( int i = 0; i < registrants; i++ )
+        {
+            final Thread registrant = new Thread ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    final JComponent[] own = new JComponent[ REGISTRANT_COMPONENTS ];
+                    for ( int j = 0; j < REGISTRANT_COMPONENTS; j++ )
+                    {
+                        own[ j ] = new JPanel ();
+                    }
+                    long operations = 0;
+                    while ( running.get () )
+                    {
+                        final JComponent component = own[ ( int ) ( operations % REGISTRANT_COMPONENTS ) ];
+                        final Object value = new Object ();
+                        data.add ( component, value );
+                        data.remove ( component, value );
+                        operations += 2;
+                    }
+                    registrantOperations.addAndGet ( operations );
+                    finished.countDown ();
+                }
+            }, "WeakComponentDataBenchmark.registrant-" + i );
+            registrant.setDaemon ( true );
+            registrant.start ();
+        }
+
+        final long[] readerOperations = new long[ 1 ];
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final long[] found = new long[ 1 ];
+                final BiConsumer<JComponent, Object> consumer = new BiConsumer<JComponent, Object> ()
+                {
+                    @Override
+                    public void accept ( final JComponent component, final Object value )
+                    {
+                        found[ 0 ]++;
+                    }
+                };
+                final long end = System.currentTimeMillis () + time;
+                long operations = 0;
+                while ( System.currentTimeMillis () < end )
+                {
+                    if ( operations % ITERATION_PERIOD == 0 )
+                    {
+                        data.forEachData ( consumer );
+                    }
+                    else if ( data.get ( components[ ( int ) ( operations % COMPONENTS ) ] ) != null )
+                    {
+                        found[ 0 ]++;
+                    }
+                    operations++;
+                }
+                readerOperations[ 0 ] = operations;
+            }
+        } );
+        running.set ( false );
+        finished.await ();
+
+        System.out.println ( String.format ( "%s: EDT %.1f ops/ms, registrants %.1f ops/ms", name,
+                ( double ) readerOperations[ 0 ] / time, ( double ) registrantOperations.get () / time ) );
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.swing;
+
+import com.alee.api.jdk.BiConsumer;
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Set of JUnit tests for {@link WeakComponentData} and {@link WeakComponentDataList}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class WeakComponentDataTest
+{
+    /**
+     * Test settings.
+     */
+    private static final int THREADS = 8;
+    private static final int COMPONENTS = 10;
+    private static final int OPERATIONS = 5000;
+
+    /**
+     * Checks that concurrent additions and removals for the same {@link JComponent}s are never lost.
+     * Every thread keeps values added during each second round and removes all values added into the last {@link JComponent}.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void concurrentAddRemove () throws InterruptedException
+    {
+        final WeakComponentDataList<JComponent, Object> data =
+                new WeakComponentDataList<JComponent, Object> ( "WeakComponentDataTest.data", COMPONENTS );
+        final JComponent[] components = new JComponent[ COMPONENTS ];
+        for ( int i = 0; i < COMPONENTS; i++ )
+        {
+            components[ i ] = new JPanel ();
+        }
+
+        final List<List<Object>> kept = new ArrayList<List<Object>> ();
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable> ();
+        final AtomicBoolean running = new AtomicBoolean ( true );
+        final CountDownLatch start = new CountDownLatch ( 1 );
+        final CountDownLatch finished = new CountDownLatch ( THREADS );
+        for ( int i = 0; i < THREADS; i++ )
+        {
+            final List<Object> threadKept = new ArrayList<Object> ();
+            kept.add ( threadKept );
+            new Thread ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    try
+                    {
+                        start.await ();
+                        for ( int j = 0; j < OPERATIONS; j++ )
+                        {
+                            final JComponent component = components[ j % COMPONENTS ];
+                            final Object value = new Object ();
+                            data.add ( component, value );
+                            if ( j / COMPONENTS % 2 == 0 && component != components[ COMPONENTS - 1 ] )
+                            {
+                                threadKept.add ( value );
+                            }
+                            else
+                            {
+                                data.remove ( component, value );
+                            }
+                        }
+                    }
+                    catch ( final Throwable e )
+                    {
+                        failure.compareAndSet ( null, e );
+                    }
+                    finally
+                    {
+                        finished.countDown ();
+                    }
+                }
+            }, "WeakComponentDataTest.registrant-" + i ).start ();
+        }
+        final Thread reader = new Thread ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                try
+                {
+                    while ( running.get () )
+                    {
+                        data.forEachData ( new BiConsumer<JComponent, Object> ()
+                        {
+                            @Override
+                            public void accept ( final JComponent component, final Object value )
+                            {
+                                if ( component == null || value == null )
+                                {
+                                    throw new IllegalStateException ( "Incomplete data provided" );
+                                }
+                            }
+                        } );
+                    }
+                }
+                catch ( final Throwable e )
+                {
+                    failure.compareAndSet ( null, e );
+                }
+            }
+        }, "WeakComponentDataTest.reader" );
+        reader.start ();
+
+        start.countDown ();
+        finished.await ();
+        running.set ( false );
+        reader.join ();
+        if ( failure.get () != null )
+        {
+            throw new AssertionError ( failure.get () );
+        }
+
+        final Set<Object> expected = new HashSet<Object> ();
+        for ( final List<Object> threadKept : kept )
+        {
+            expected.addAll ( threadKept );
+        }
+        final Set<Object> actual = new HashSet<Object> ();
+        for ( int i = 0; i < COMPONENTS - 1; i++ )
+        {
+            Assert.assertTrue ( data.contains ( components[ i ] ) );
+            actual.addAll ( data.get ( components[ i ] ) );
+        }
+        Assert.assertEquals ( expected, actual );
+        Assert.assertFalse ( data.contains ( components[ COMPONENTS - 1 ] ) );
+        Assert.assertEquals ( COMPONENTS - 1, data.size () );
+        Assert.assertEquals ( COMPONENTS - 1, data.components ().size () );
+    }
+}
@@ -118,7 +118,9 @@ public final class ExamplesManager
             jarStructure = new JarStructure (
                     DemoApplication.class,
                     new ImmutableList<String> ( ".java", ".png", ".gif", ".jpg", ".txt", ".xml" ),
-                    new ImmutableList<String> ( "com/alee", "licenses" )
+                    new ImmutableList<String> ( "com/alee", "licenses" ),
+                    null,
+                    true
             );
 
             // Applying some custom icons
@@ -17,18 +17,102 @@
 
 package com.alee.managers.plugin;
 
+import com.alee.utils.CollectionUtils;
+import com.alee.utils.IOUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLStreamHandlerFactory;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 
 /**
  * Custom {@link java.lang.ClassLoader} for plugins based on {@link URLClassLoader}.
  * This class loader is used when a sandbox is required for loaded plugins.
+ * <p>
+ * In indexed mode this class loader also keeps an index of packages contained in each added JAR file.
+ * Classes and resources are looked up only in JAR files containing their package instead of searching all JAR files one by one.
+ * Names that were not found anywhere are remembered until new URL is added to avoid repeating expensive lookups.
+ * URLs that cannot be indexed, for instance directories, are still searched the usual way.
  *
  * @author Mikle Garin
  */
 public class PluginClassLoader extends URLClassLoader
 {
+    /**
+     * Registering this class loader as parallel capable.
+     * This is only supported since Java 7, so it is called through reflection and simply skipped on earlier versions.
+     * It is important to call it directly from this class, since the method registers the class that calls it.
+     */
+    static
+    {
+        try
+        {
+            final Method register = ClassLoader.class.getDeclaredMethod ( "registerAsParallelCapable" );
+            register.invoke ( null );
+        }
+        catch ( final Exception ignored )
+        {
+            /**
+             * Running on Java 6, class loading will be synchronized on class loader instance.
+             */
+        }
+    }
+
+    /**
+     * Whether or not classes and resources are looked up using package index.
+     */
+    protected final boolean indexed;
+
+    /**
+     * JAR file URLs mapped by packages they contain.
+     * Packages are stored in resource path form, for example {@code com/alee/managers/plugin}.
+     * URLs for each package are kept in the order they were added in, same as {@link URLClassLoader} would search them.
+     */
+    protected final Map<String, List<URL>> packageIndex;
+
+    /**
+     * Opened JAR files mapped by their URLs.
+     */
+    protected final Map<URL, JarFile> jarFiles;
+
+    /**
+     * URLs that were added but could not be indexed.
+     */
+    protected final List<URL> unindexed;
+
+    /**
+     * Names of classes that were not found by this class loader or its parent.
+     */
+    protected final Set<String> missingClasses;
+
+    /**
+     * Names of resources that were not found in any of the URLs of this class loader.
+     */
+    protected final Set<String> missingResources;
+
+    /**
+     * Amount of URLs added so far.
+     * It is used to avoid caching lookup misses that happened while new URL was being added.
+     */
+    protected volatile int generation;
+
+    /**
+     * Whether or not this class loader was closed.
+     * JAR files are not opened again once it is closed.
+     */
+    protected volatile boolean closed;
+
     /**
      * Constructs a new URLClassLoader for the given URLs. The URLs will be
      * searched in the order specified for classes and resources after first
@@ -48,7 +132,34 @@ public class PluginClassLoader extends URLClassLoader
      */
     public PluginClassLoader ( final URL[] urls, final ClassLoader parent )
     {
-        super ( urls, parent );
+        this ( urls, parent, false );
+    }
+
+    /**
+     * Constructs a new class loader for the given URLs.
+     * The URLs will be searched for classes and resources after first searching in the specified parent class loader.
+     * In indexed mode JAR files are only searched for classes and resources whose packages they actually contain.
+     *
+     * @param urls    the URLs from which to load classes and resources
+     * @param parent  the parent class loader for delegation
+     * @param indexed whether or not classes and resources are looked up using package index
+     * @throws SecurityException if a security manager exists and its {@code checkCreateClassLoader}
+     *                           method doesn't allow creation of a class loader
+     * @see SecurityManager#checkCreateClassLoader
+     */
+    public PluginClassLoader ( final URL[] urls, final ClassLoader parent, final boolean indexed )
+    {
+        super ( new URL[ 0 ], parent );
+        this.indexed = indexed;
+        this.packageIndex = new ConcurrentHashMap<String, List<URL>> ();
+        this.jarFiles = new ConcurrentHashMap<URL, JarFile> ();
+        this.unindexed = new CopyOnWriteArrayList<URL> ();
+        this.missingClasses = Collections.newSetFromMap ( new ConcurrentHashMap<String, Boolean> () );
+        this.missingResources = Collections.newSetFromMap ( new ConcurrentHashMap<String, Boolean> () );
+        for ( final URL url : urls )
+        {
+            addURL ( url );
+        }
     }
 
     /**
@@ -71,7 +182,7 @@ public class PluginClassLoader extends URLClassLoader
      */
     public PluginClassLoader ( final URL[] urls )
     {
-        super ( urls );
+        this ( urls, getSystemClassLoader () );
     }
 
     /**
@@ -95,6 +206,22 @@ public class PluginClassLoader extends URLClassLoader
     public PluginClassLoader ( final URL[] urls, final ClassLoader parent, final URLStreamHandlerFactory factory )
     {
         super ( urls, parent, factory );
+        this.indexed = false;
+        this.packageIndex = null;
+        this.jarFiles = null;
+        this.unindexed = null;
+        this.missingClasses = null;
+        this.missingResources = null;
+    }
+
+    /**
+     * Returns whether or not classes and resources are looked up using package index.
+     *
+     * @return {@code true} if classes and resources are looked up using package index, {@code false} otherwise
+     */
+    public boolean isIndexed ()
+    {
+        return indexed;
     }
 
     /**
@@ -105,6 +232,477 @@ public class PluginClassLoader extends URLClassLoader
     @Override
     public void addURL ( final URL url )
     {
-        super.addURL ( url );
+        addURL ( url, null );
+    }
+
+    /**
+     * Appends the specified URL to the list of URLs to search for classes and resources.
+     * Packages contained in the JAR file can be provided if they are already known, otherwise they will be read from the JAR file.
+     *
+     * @param url      the URL to be added to the search path of URLs
+     * @param packages packages contained in the JAR file in resource path form, {@code null} if they are not known
+     */
+    public synchronized void addURL ( final URL url, final Collection<String> packages )
+    {
+        if ( indexed )
+        {
+            if ( !CollectionUtils.asList ( getURLs () ).contains ( url ) )
+            {
+                // Indexing JAR file packages
+                final Collection<String> jarPackages = packages != null ? packages : readPackages ( url );
+                if ( jarPackages != null )
+                {
+                    for ( final String jarPackage : jarPackages )
+                    {
+                        List<URL> urls = packageIndex.get ( jarPackage );
+                        if ( urls == null )
+                        {
+                            urls = new CopyOnWriteArrayList<URL> ();
+                            packageIndex.put ( jarPackage, urls );
+                        }
+                        urls.add ( url );
+                    }
+                }
+                else
+                {
+                    unindexed.add ( url );
+                }
+
+                // Adding URL for default lookups
+                super.addURL ( url );
+
+                // Resetting lookup misses as new URL might contain them
+                generation++;
+                missingClasses.clear ();
+                missingResources.clear ();
+            }
+        }
+        else
+        {
+            super.addURL ( url );
+        }
+    }
+
+    @Override
+    protected Class<?> loadClass ( final String name, final boolean resolve ) throws ClassNotFoundException
+    {
+        final Class<?> loadedClass;
+        if ( indexed )
+        {
+            if ( missingClasses.contains ( name ) )
+            {
+                throw new ClassNotFoundException ( name );
+            }
+            final int lookupGeneration = generation;
+            try
+            {
+                loadedClass = super.loadClass ( name, resolve );
+            }
+            catch ( final ClassNotFoundException e )
+            {
+                if ( lookupGeneration == generation )
+                {
+                    missingClasses.add ( name );
+                }
+                throw e;
+            }
+        }
+        else
+        {
+            loadedClass = super.loadClass ( name, resolve );
+        }
+        return loadedClass;
+    }
+
+    @Override
+    protected Class<?> findClass ( final String name ) throws ClassNotFoundException
+    {
+        final Class<?> foundClass;
+        if ( indexed )
+        {
+            final String path = name.replace ( '.', '/' ) + ".class";
+            final Class<?> indexedClass = findIndexedClass ( name, path );
+            if ( indexedClass != null )
+            {
+                foundClass = indexedClass;
+            }
+            else if ( !unindexed.isEmpty () )
+            {
+                foundClass = super.findClass ( name );
+            }
+            else
+            {
+                throw new ClassNotFoundException ( name );
+            }
+        }
+        else
+        {
+            foundClass = super.findClass ( name );
+        }
+        return foundClass;
+    }
+
+    /**
+     * Returns class defined from the first indexed JAR file containing it or {@code null} if there is no such JAR file.
+     *
+     * @param name class name
+     * @param path class file path
+     * @return class defined from the first indexed JAR file containing it or {@code null} if there is no such JAR file
+     * @throws ClassNotFoundException if class file cannot be read
+     */
+    protected Class<?> findIndexedClass ( final String name, final String path ) throws ClassNotFoundException
+    {
+        Class<?> foundClass = null;
+        final List<URL> urls = packageIndex.get ( getPackagePath ( path ) );
+        if ( urls != null )
+        {
+            for ( final URL url : urls )
+            {
+                final JarFile jarFile = getJarFile ( url );
+                final JarEntry entry = jarFile != null ? jarFile.getJarEntry ( path ) : null;
+                if ( entry != null )
+                {
+                    try
+                    {
+                        foundClass = defineClass ( name, url, jarFile, entry );
+                    }
+                    catch ( final IOException e )
+                    {
+                        throw new ClassNotFoundException ( name, e );
+                    }
+                    break;
+                }
+            }
+        }
+        return foundClass;
+    }
+
+    /**
+     * Returns class defined from the specified JAR file entry.
+     *
+     * @param name    class name
+     * @param url     JAR file URL
+     * @param jarFile JAR file
+     * @param entry   class file entry
+     * @return class defined from the specified JAR file entry
+     * @throws IOException if class file cannot be read
+     */
+    protected Class<?> defineClass ( final String name, final URL url, final JarFile jarFile, final JarEntry entry ) throws IOException
+    {
+        // Reading class bytes
+        // Entry must be read fully before its code signers are available
+        final InputStream inputStream = jarFile.getInputStream ( entry );
+        final byte[] bytes;
+        try
+        {
+            bytes = IOUtils.toByteArray ( inputStream );
+        }
+        finally
+        {
+            inputStream.close ();
+        }
+
+        // Defining package
+        final int lastDot = name.lastIndexOf ( '.' );
+        if ( lastDot != -1 )
+        {
+            final String packageName = name.substring ( 0, lastDot );
+            if ( getPackage ( packageName ) == null )
+            {
+                try
+                {
+                    final Manifest manifest = jarFile.getManifest ();
+                    if ( manifest != null )
+                    {
+                        definePackage ( packageName, manifest, url );
+                    }
+                    else
+                    {
+                        definePackage ( packageName, null, null, null, null, null, null, null );
+                    }
+                }
+                catch ( final IllegalArgumentException e )
+                {
+                    /**
+                     * Package was defined concurrently by another thread.
+                     */
+                }
+            }
+        }
+
+        // Defining class
+        final CodeSource codeSource = new CodeSource ( url, entry.getCodeSigners () );
+        return defineClass ( name, bytes, 0, bytes.length, codeSource );
+    }
+
+    @Override
+    public URL findResource ( final String name )
+    {
+        URL resource;
+        if ( indexed )
+        {
+            if ( !missingResources.contains ( name ) )
+            {
+                final int lookupGeneration = generation;
+                resource = findIndexedResource ( name );
+                if ( resource == null && !unindexed.isEmpty () )
+                {
+                    resource = super.findResource ( name );
+                }
+                if ( resource == null && lookupGeneration == generation )
+                {
+                    missingResources.add ( name );
+                }
+            }
+            else
+            {
+                resource = null;
+            }
+        }
+        else
+        {
+            resource = super.findResource ( name );
+        }
+        return resource;
+    }
+
+    /**
+     * Returns resource URL from the first indexed JAR file containing it or {@code null} if there is no such JAR file.
+     *
+     * @param name resource name
+     * @return resource URL from the first indexed JAR file containing it or {@code null} if there is no such JAR file
+     */
+    protected URL findIndexedResource ( final String name )
+    {
+        URL resource = null;
+        final String path = name.startsWith ( "/" ) ? name.substring ( 1 ) : name;
+        final List<URL> urls = packageIndex.get ( getPackagePath ( path ) );
+        if ( urls != null )
+        {
+            for ( final URL url : urls )
+            {
+                resource = getResource ( url, path );
+                if ( resource != null )
+                {
+                    break;
+                }
+            }
+        }
+        return resource;
+    }
+
+    @Override
+    public Enumeration<URL> findResources ( final String name ) throws IOException
+    {
+        final Enumeration<URL> resources;
+        if ( indexed && unindexed.isEmpty () )
+        {
+            resources = Collections.enumeration ( findIndexedResources ( name ) );
+        }
+        else
+        {
+            // URLs that cannot be indexed have to be searched along with all others to preserve resources order
+            resources = super.findResources ( name );
+        }
+        return resources;
+    }
+
+    /**
+     * Returns resource URLs from all indexed JAR files containing it.
+     *
+     * @param name resource name
+     * @return resource URLs from all indexed JAR files containing it
+     */
+    protected List<URL> findIndexedResources ( final String name )
+    {
+        final List<URL> resources = new ArrayList<URL> ( 1 );
+        final String path = name.startsWith ( "/" ) ? name.substring ( 1 ) : name;
+        final List<URL> urls = packageIndex.get ( getPackagePath ( path ) );
+        if ( urls != null )
+        {
+            for ( final URL url : urls )
+            {
+                final URL resource = getResource ( url, path );
+                if ( resource != null )
+                {
+                    resources.add ( resource );
+                }
+            }
+        }
+        return resources;
+    }
+
+    /**
+     * Returns resource URL within the specified JAR file or {@code null} if JAR file doesn't contain it.
+     *
+     * @param url  JAR file URL
+     * @param path resource path
+     * @return resource URL within the specified JAR file or {@code null} if JAR file doesn't contain it
+     */
+    protected URL getResource ( final URL url, final String path )
+    {
+        URL resource = null;
+        final JarFile jarFile = getJarFile ( url );
+        if ( jarFile != null && jarFile.getEntry ( path ) != null )
+        {
+            try
+            {
+                resource = new URL ( "jar:" + url + "!/" + path );
+            }
+            catch ( final MalformedURLException e )
+            {
+                /**
+                 * Resource cannot be referenced.
+                 */
+                resource = null;
+            }
+        }
+        return resource;
+    }
+
+    /**
+     * Returns opened {@link JarFile} for the specified URL or {@code null} if it cannot be opened.
+     *
+     * @param url JAR file URL
+     * @return opened {@link JarFile} for the specified URL or {@code null} if it cannot be opened
+     */
+    protected JarFile getJarFile ( final URL url )
+    {
+        JarFile jarFile = jarFiles.get ( url );
+        if ( jarFile == null )
+        {
+            synchronized ( jarFiles )
+            {
+                jarFile = jarFiles.get ( url );
+                if ( jarFile == null && !closed )
+                {
+                    final File file = getFile ( url );
+                    if ( file != null )
+                    {
+                        try
+                        {
+                            jarFile = new JarFile ( file );
+                            jarFiles.put ( url, jarFile );
+                        }
+                        catch ( final IOException e )
+                        {
+                            jarFile = null;
+                        }
+                    }
+                }
+            }
+        }
+        return jarFile;
+    }
+
+    /**
+     * Closes all JAR files opened by this class loader.
+     * Class loader cannot be used to load new classes or resources once it is closed, already loaded classes are not affected.
+     *
+     * @throws IOException if any of JAR files cannot be closed
+     */
+    @Override
+    public void close () throws IOException
+    {
+        IOException exception = null;
+        if ( jarFiles != null )
+        {
+            synchronized ( jarFiles )
+            {
+                closed = true;
+                for ( final JarFile jarFile : jarFiles.values () )
+                {
+                    try
+                    {
+                        jarFile.close ();
+                    }
+                    catch ( final IOException e )
+                    {
+                        exception = e;
+                    }
+                }
+                jarFiles.clear ();
+            }
+        }
+        try
+        {
+            super.close ();
+        }
+        catch ( final NoSuchMethodError e )
+        {
+            /**
+             * Running on Java 6, {@link URLClassLoader} doesn't hold any closeable resources there.
+             */
+        }
+        if ( exception != null )
+        {
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns packages contained in JAR file at the specified URL or {@code null} if it cannot be indexed.
+     *
+     * @param url JAR file URL
+     * @return packages contained in JAR file at the specified URL or {@code null} if it cannot be indexed
+     */
+    protected Collection<String> readPackages ( final URL url )
+    {
+        Collection<String> packages = null;
+        final JarFile jarFile = getJarFile ( url );
+        if ( jarFile != null )
+        {
+            packages = new HashSet<String> ();
+            final Enumeration<JarEntry> entries = jarFile.entries ();
+            while ( entries.hasMoreElements () )
+            {
+                final JarEntry entry = entries.nextElement ();
+                if ( !entry.isDirectory () )
+                {
+                    packages.add ( getPackagePath ( entry.getName () ) );
+                }
+            }
+        }
+        return packages;
+    }
+
+    /**
+     * Returns local {@link File} for the specified JAR file URL or {@code null} if URL doesn't point to local JAR file.
+     *
+     * @param url JAR file URL
+     * @return local {@link File} for the specified JAR file URL or {@code null} if URL doesn't point to local JAR file
+     */
+    protected File getFile ( final URL url )
+    {
+        File file = null;
+        if ( "file".equals ( url.getProtocol () ) && !url.getPath ().endsWith ( "/" ) )
+        {
+            try
+            {
+                file = new File ( url.toURI () );
+            }
+            catch ( final Exception e )
+            {
+                file = new File ( url.getPath () );
+            }
+            if ( !file.isFile () )
+            {
+                file = null;
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Returns package of the specified resource path in resource path form.
+     * For example {@code com/alee/managers/plugin} is returned for {@code com/alee/managers/plugin/Plugin.class}.
+     *
+     * @param path resource path
+     * @return package of the specified resource path in resource path form
+     */
+    public static String getPackagePath ( final String path )
+    {
+        final int lastSlash = path.lastIndexOf ( '/' );
+        return lastSlash != -1 ? path.substring ( 0, lastSlash ) : "";
     }
-}
\ No newline at end of file
+}
@@ -18,7 +18,9 @@
 package com.alee.managers.plugin;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.jdk.Objects;
 import com.alee.managers.plugin.data.*;
+import com.alee.managers.task.TaskGroup;
 import com.alee.utils.*;
 import com.alee.utils.collection.ImmutableList;
 import com.alee.utils.compare.Filter;
@@ -168,6 +170,32 @@ public abstract class PluginManager<P extends Plugin>
      */
     protected ClassLoaderType classLoaderType;
 
+    /**
+     * Whether or not {@link PluginClassLoader}s created by this manager use package index to look up classes and resources.
+     * Packages of plugin files are collected upon detection in that case, so plugin files don't have to be read again.
+     *
+     * @see PluginClassLoader#isIndexed()
+     */
+    protected boolean indexedClassLoading;
+
+    /**
+     * Maximum amount of threads used to initialize detected plugins.
+     * Plugins that do not depend on each other are initialized in parallel if this is more than {@code 1}.
+     * Otherwise plugins are initialized one by one on the thread that performs plugins scan.
+     */
+    protected int initializationThreads;
+
+    /**
+     * Whether or not parallel plugins initialization is currently in progress.
+     */
+    protected boolean initializing;
+
+    /**
+     * Threads currently initializing plugins in parallel.
+     * Those threads are allowed to access {@link PluginManager} while initialization is in progress.
+     */
+    protected final Set<Thread> initializationWorkers;
+
     /**
      * Constructs new plugin manager.
      */
@@ -205,6 +233,9 @@ public abstract class PluginManager<P extends Plugin>
         pluginFilter = null;
         allowSimilarPlugins = false;
         classLoaderType = ClassLoaderType.context;
+        indexedClassLoading = false;
+        initializationThreads = 1;
+        initializationWorkers = new HashSet<Thread> ();
 
         // User settings
         pluginsDirectoryPath = path;
@@ -316,6 +347,50 @@ public abstract class PluginManager<P extends Plugin>
         this.classLoaderType = classLoaderType;
     }
 
+    /**
+     * Returns whether or not {@link PluginClassLoader}s created by this manager use package index to look up classes and resources.
+     *
+     * @return {@code true} if {@link PluginClassLoader}s created by this manager use package index, {@code false} otherwise
+     */
+    public boolean isIndexedClassLoading ()
+    {
+        return indexedClassLoading;
+    }
+
+    /**
+     * Sets whether or not {@link PluginClassLoader}s created by this manager use package index to look up classes and resources.
+     * This is mostly useful for {@link ClassLoaderType#global} and {@link ClassLoaderType#local} class loaders with lots of plugins.
+     * Be aware that global class loader is shared between managers, so it is configured by the manager that creates it first.
+     *
+     * @param indexed whether or not {@link PluginClassLoader}s created by this manager use package index
+     */
+    public void setIndexedClassLoading ( final boolean indexed )
+    {
+        this.indexedClassLoading = indexed;
+    }
+
+    /**
+     * Returns maximum amount of threads used to initialize detected plugins.
+     *
+     * @return maximum amount of threads used to initialize detected plugins
+     */
+    public int getInitializationThreads ()
+    {
+        return initializationThreads;
+    }
+
+    /**
+     * Sets maximum amount of threads used to initialize detected plugins.
+     * Plugins that do not depend on each other will be initialized in parallel if this is more than {@code 1}.
+     * Plugins that depend on each other or share the same identifier are still initialized in the order they were sorted in.
+     *
+     * @param threads maximum amount of threads used to initialize detected plugins
+     */
+    public void setInitializationThreads ( final int threads )
+    {
+        this.initializationThreads = threads;
+    }
+
     /**
      * Returns special filter that filters out unwanted plugins before their initialization.
      *
@@ -526,6 +601,9 @@ public abstract class PluginManager<P extends Plugin>
     {
         synchronized ( checkLock )
         {
+            // Waiting for initialization started from another thread
+            waitForInitialization ();
+
             final String prefix = "[" + information + "] ";
             LoggerFactory.getLogger ( PluginManager.class ).info ( prefix + "Initializing pre-loaded plugin" );
 
@@ -601,6 +679,9 @@ public abstract class PluginManager<P extends Plugin>
     {
         synchronized ( checkLock )
         {
+            // Waiting for initialization started from another thread
+            waitForInitialization ();
+
             final String scanPath = FileUtils.canonicalPath ( pluginFile );
             final String msg = "Scanning plugin file: %s";
             LoggerFactory.getLogger ( PluginManager.class ).info ( String.format ( msg, scanPath ) );
@@ -669,6 +750,9 @@ public abstract class PluginManager<P extends Plugin>
                 return;
             }
 
+            // Waiting for initialization started from another thread
+            waitForInitialization ();
+
             // Informing about plugins check start
             firePluginsCheckStarted ( pluginsDirectoryPath, recursively );
 
@@ -886,9 +970,11 @@ public abstract class PluginManager<P extends Plugin>
                 // Adding plugins which didn't get into graph into the end
                 // There might be plugins with some side dependencies and they might still be properly initialized
                 // Plugins that have missing dependencies will also be added into this list and taken care of later
+                final Set<DetectedPlugin<P>> graphPlugins = Collections.newSetFromMap ( new IdentityHashMap<DetectedPlugin<P>, Boolean> ( s ) );
+                graphPlugins.addAll ( sorted );
                 for ( final DetectedPlugin<P> plugin : recentlyDetected )
                 {
-                    if ( !sorted.contains ( plugin ) )
+                    if ( !graphPlugins.contains ( plugin ) )
                     {
                         sorted.add ( plugin );
                     }
@@ -996,16 +1082,36 @@ public abstract class PluginManager<P extends Plugin>
      */
     protected DetectedPlugin<P> detectPlugin ( final File file )
     {
+        DetectedPlugin<P> plugin = null;
         try
         {
             final String pluginDescriptor = getPluginDescriptorFile ();
             final String pluginLogo = getPluginLogoFile ();
             final ZipFile zipFile = new ZipFile ( file );
-            final Enumeration entries = zipFile.entries ();
-            while ( entries.hasMoreElements () )
+            try
             {
-                final ZipEntry entry = ( ZipEntry ) entries.nextElement ();
-                if ( entry.getName ().endsWith ( pluginDescriptor ) )
+                // Looking for plugin descriptor
+                // Packages contained in plugin file are also collected along the way if indexed class loading is enabled
+                ZipEntry entry = null;
+                final Set<String> packages = indexedClassLoading ? new HashSet<String> () : null;
+                final Enumeration entries = zipFile.entries ();
+                while ( entries.hasMoreElements () )
+                {
+                    final ZipEntry zipEntry = ( ZipEntry ) entries.nextElement ();
+                    if ( entry == null && zipEntry.getName ().endsWith ( pluginDescriptor ) )
+                    {
+                        entry = zipEntry;
+                        if ( packages == null )
+                        {
+                            break;
+                        }
+                    }
+                    if ( packages != null && !zipEntry.isDirectory () )
+                    {
+                        packages.add ( PluginClassLoader.getPackagePath ( zipEntry.getName () ) );
+                    }
+                }
+                if ( entry != null )
                 {
                     // Reading plugin information
                     final InputStream inputStream = zipFile.getInputStream ( entry );
@@ -1039,21 +1145,22 @@ public abstract class PluginManager<P extends Plugin>
                     {
                         // Cache and return new plugin information
                         // This cache map is filled here since it has different usage cases
-                        final DetectedPlugin<P> plugin = new DetectedPlugin<P> ( file.getParent (), file.getName (), info, logo );
+                        plugin = new DetectedPlugin<P> ( file.getParent (), file.getName (), info, logo );
+                        plugin.setPackages ( packages );
                         detectedPluginsByPath.put ( FileUtils.canonicalPath ( file ), plugin );
-                        return plugin;
                     }
-
-                    break;
                 }
             }
-            zipFile.close ();
+            finally
+            {
+                zipFile.close ();
+            }
         }
         catch ( final IOException e )
         {
             LoggerFactory.getLogger ( PluginManager.class ).error ( "Unable to read plugin information", e );
         }
-        return null;
+        return plugin;
     }
 
     /**
@@ -1095,17 +1202,18 @@ public abstract class PluginManager<P extends Plugin>
             // Sorting plugins according to their initialization strategies
             applyInitializationStrategy ();
 
-            // Properly sorting recently initialized plugins
-            Collections.sort ( recentlyInitialized, new Comparator<P> ()
+            // Ordering recently initialized plugins the same way as available ones
+            // This doesn't require any additional sorting since available plugins are already sorted
+            final Set<P> initialized = Collections.newSetFromMap ( new IdentityHashMap<P, Boolean> ( recentlyInitialized.size () ) );
+            initialized.addAll ( recentlyInitialized );
+            recentlyInitialized = new ArrayList<P> ( recentlyInitialized.size () );
+            for ( final P plugin : availablePlugins )
             {
-                @Override
-                public int compare ( final P o1, final P o2 )
+                if ( initialized.contains ( plugin ) )
                 {
-                    final Integer i1 = availablePlugins.indexOf ( o1 );
-                    final Integer i2 = availablePlugins.indexOf ( o2 );
-                    return i1.compareTo ( i2 );
+                    recentlyInitialized.add ( plugin );
                 }
-            } );
+            }
 
             LoggerFactory.getLogger ( PluginManager.class ).info ( "Plugins initialization finished" );
 
@@ -1134,134 +1242,373 @@ public abstract class PluginManager<P extends Plugin>
         // Adding recently detected into the end of the detected plugins list
         detectedPlugins.addAll ( recentlyDetected );
 
-        // Initializing detected plugins
-        final String acceptedPluginType = getAcceptedPluginType ();
+        // Collecting plugins we haven't tried to initialize yet
+        final List<DetectedPlugin<P>> plugins = new ArrayList<DetectedPlugin<P>> ( recentlyDetected.size () );
         for ( final DetectedPlugin<P> dp : detectedPlugins )
         {
-            // Skip plugins we have already tried to initialize
-            if ( dp.getStatus () != PluginStatus.detected )
+            if ( dp.getStatus () == PluginStatus.detected )
             {
-                continue;
+                plugins.add ( dp );
             }
+        }
 
-            final File pluginFile = dp.getFile ();
-            final PluginInformation info = dp.getInformation ();
-            final String prefix = "[" + FileUtils.getRelativePath ( pluginFile, new File ( pluginsDirectoryPath ) ) + "] [" + info + "] ";
-            try
-            {
-                // Starting to load plugin now
-                LoggerFactory.getLogger ( PluginManager.class ).info ( prefix + "Initializing plugin" );
-                dp.setStatus ( PluginStatus.loading );
+        // Initializing detected plugins
+        final String acceptedPluginType = getAcceptedPluginType ();
+        if ( initializationThreads > 1 && plugins.size () > 1 )
+        {
+            initializePluginsInParallel ( plugins, acceptedPluginType, pluginLibraries );
 
-                // Checking plugin type as we don't want (for example) to load server plugins on client side
-                if ( acceptedPluginType != null && ( info.getType () == null || !info.getType ().equals ( acceptedPluginType ) ) )
+            // Saving initialized plugins in the order they were detected in
+            // This way resulting order doesn't depend on initialization timings
+            for ( final DetectedPlugin<P> dp : plugins )
+            {
+                if ( dp.getStatus () == PluginStatus.loaded )
                 {
-                    final String msg = "Plugin of type '%s' cannot be loaded, required type is: %s";
-                    final String fmsg = String.format ( msg, info.getType (), acceptedPluginType );
-                    LoggerFactory.getLogger ( PluginManager.class ).info ( prefix + fmsg );
-
-                    dp.setStatus ( PluginStatus.failed );
-                    dp.setFailureCause ( "Wrong type" );
-                    dp.setExceptionMessage ( fmsg );
+                    availablePlugins.add ( dp.getPlugin () );
+                    recentlyInitialized.add ( dp.getPlugin () );
+                }
+            }
+        }
+        else
+        {
+            for ( final DetectedPlugin<P> dp : plugins )
+            {
+                initializePlugin ( dp, acceptedPluginType, pluginLibraries );
 
-                    continue;
+                // Saving each initialized plugin right away so that following plugins can already see it
+                if ( dp.getStatus () == PluginStatus.loaded )
+                {
+                    availablePlugins.add ( dp.getPlugin () );
+                    recentlyInitialized.add ( dp.getPlugin () );
                 }
+            }
+        }
 
-                // Checking that this is latest plugin version of all available
-                // Usually there shouldn't be different versions of the same plugin but everyone make mistakes
-                if ( isDeprecatedVersion ( dp ) )
+        // Checking for same/similar libraries used within plugins
+        // todo There should be a flag for libraries to specify when duplicates usage is intended
+        boolean sameLibrariesInPlugins = false;
+        for ( final Map.Entry<String, Map<PluginLibrary, PluginInformation>> libraries : pluginLibraries.entrySet () )
+        {
+            final Map<PluginLibrary, PluginInformation> sameLibraries = libraries.getValue ();
+            if ( sameLibraries.size () > 1 )
+            {
+                final String title = sameLibraries.keySet ().iterator ().next ().getTitle ();
+                final StringBuilder sb = new StringBuilder ( "Library [ " ).append ( title ).append ( " ] was found in plugins: " );
+                for ( final Map.Entry<PluginLibrary, PluginInformation> library : sameLibraries.entrySet () )
                 {
-                    final String msg = "This plugin is deprecated, newer version loaded instead";
-                    LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + msg );
+                    final PluginInformation plugin = library.getValue ();
+                    final String libraryVersion = library.getKey ().getVersion ();
+                    sb.append ( "[ " ).append ( plugin.toString () ).append ( ", version " ).append ( libraryVersion ).append ( " ] " );
+                }
+                LoggerFactory.getLogger ( PluginManager.class ).info ( sb.toString () );
+                sameLibrariesInPlugins = true;
+                break;
+            }
+        }
+        if ( sameLibrariesInPlugins )
+        {
+            final String msg = "Make sure that the same library usage within different plugins was actually your intent";
+            LoggerFactory.getLogger ( PluginManager.class ).info ( msg );
+        }
+    }
 
-                    dp.setStatus ( PluginStatus.failed );
-                    dp.setFailureCause ( "Deprecated" );
-                    dp.setExceptionMessage ( msg );
+    /**
+     * Initializes specified detected plugins in parallel.
+     * Each plugin is only initialized after all plugins it depends on or shares identifier with have finished initializing.
+     * Current thread waits until all plugins are either loaded or failed.
+     *
+     * @param plugins            detected plugins to initialize, sorted by dependencies
+     * @param acceptedPluginType accepted plugin type
+     * @param pluginLibraries    map to store plugin libraries
+     */
+    protected void initializePluginsInParallel ( final List<DetectedPlugin<P>> plugins, final String acceptedPluginType,
+                                                 final Map<String, Map<PluginLibrary, PluginInformation>> pluginLibraries )
+    {
+        synchronized ( checkLock )
+        {
+            LoggerFactory.getLogger ( PluginManager.class ).info ( "Initializing plugins in parallel" );
 
-                    continue;
+            // Mapping plugins that have to be initialized before each plugin
+            // Only preceding plugins are taken into account, that way there are no cycles and same order is preserved
+            final ParallelInitialization initialization = new ParallelInitialization (
+                    Math.min ( initializationThreads, plugins.size () ), plugins.size (), acceptedPluginType, pluginLibraries );
+            for ( int i = 0; i < plugins.size (); i++ )
+            {
+                final DetectedPlugin<P> plugin = plugins.get ( i );
+                int prerequisites = 0;
+                for ( int j = 0; j < i; j++ )
+                {
+                    final DetectedPlugin<P> other = plugins.get ( j );
+                    if ( isInitializedAfter ( plugin, other ) )
+                    {
+                        List<DetectedPlugin<P>> dependents = initialization.dependents.get ( other );
+                        if ( dependents == null )
+                        {
+                            dependents = new ArrayList<DetectedPlugin<P>> ( 1 );
+                            initialization.dependents.put ( other, dependents );
+                        }
+                        dependents.add ( plugin );
+                        prerequisites++;
+                    }
                 }
+                initialization.prerequisites.put ( plugin, prerequisites );
+            }
 
-                // Checking that this plugin version is not yet loaded
-                // This might occur in case the same plugin appears more than once in different files
-                if ( isSameVersionAlreadyLoaded ( dp, detectedPlugins ) )
+            // Initializing plugins
+            boolean interrupted = false;
+            initializing = true;
+            try
+            {
+                // Starting with plugins that do not depend on anything
+                for ( final DetectedPlugin<P> plugin : plugins )
                 {
-                    final String msg = "Plugin is duplicate, it will be loaded from another file";
-                    LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + msg );
-
-                    dp.setStatus ( PluginStatus.failed );
-                    dp.setFailureCause ( "Duplicate" );
-                    dp.setExceptionMessage ( msg );
+                    if ( initialization.prerequisites.get ( plugin ) == 0 )
+                    {
+                        initialization.submit ( plugin );
+                    }
+                }
 
-                    continue;
+                // Waiting for all plugins to finish initializing
+                // Waiting releases the lock so plugins are able to access this manager meanwhile
+                while ( initialization.remaining > 0 )
+                {
+                    try
+                    {
+                        checkLock.wait ();
+                    }
+                    catch ( final InterruptedException e )
+                    {
+                        // Initialization cannot be abandoned halfway, so interruption is simply restored afterwards
+                        interrupted = true;
+                    }
                 }
+            }
+            finally
+            {
+                initialization.group.shutdown ();
+                initializing = false;
+                checkLock.notifyAll ();
+            }
+            if ( interrupted )
+            {
+                Thread.currentThread ().interrupt ();
+            }
+        }
+    }
 
-                // Checking that plugin filter accepts this plugin
-                if ( getPluginFilter () != null && !getPluginFilter ().accept ( dp ) )
+    /**
+     * Returns whether or not first plugin has to be initialized after the second one.
+     * That is the case when first plugin depends on the second one or when both of them have the same identifier.
+     * Plugins with the same identifier are initialized one after another to properly resolve deprecated and duplicate plugins.
+     *
+     * @param plugin detected plugin
+     * @param other  other detected plugin
+     * @return {@code true} if first plugin has to be initialized after the second one, {@code false} otherwise
+     */
+    protected boolean isInitializedAfter ( final DetectedPlugin<P> plugin, final DetectedPlugin<P> other )
+    {
+        final PluginInformation info = plugin.getInformation ();
+        boolean after = Objects.equals ( info.getId (), other.getInformation ().getId () );
+        if ( !after && info.getDependencies () != null )
+        {
+            for ( final PluginDependency dependency : info.getDependencies () )
+            {
+                if ( dependency.accept ( other.getInformation () ) )
                 {
-                    final String msg = "Plugin was not accepted by plugin filter";
-                    LoggerFactory.getLogger ( PluginManager.class ).info ( prefix + msg );
+                    after = true;
+                    break;
+                }
+            }
+        }
+        return after;
+    }
 
-                    dp.setStatus ( PluginStatus.failed );
-                    dp.setFailureCause ( "Filtered" );
-                    dp.setExceptionMessage ( msg );
+    /**
+     * Waits for parallel plugins initialization started from another thread to finish.
+     * Threads that are initializing plugins are never blocked to avoid deadlocks.
+     * This method must only be called while holding {@link #checkLock}.
+     */
+    protected void waitForInitialization ()
+    {
+        boolean interrupted = false;
+        while ( initializing && !initializationWorkers.contains ( Thread.currentThread () ) )
+        {
+            try
+            {
+                checkLock.wait ();
+            }
+            catch ( final InterruptedException e )
+            {
+                interrupted = true;
+            }
+        }
+        if ( interrupted )
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
 
-                    continue;
-                }
+    /**
+     * Initializes single detected plugin.
+     * Informs listeners about initialization outcome and time spent on it.
+     *
+     * @param dp                 detected plugin to initialize
+     * @param acceptedPluginType accepted plugin type
+     * @param pluginLibraries    map to store plugin libraries
+     */
+    protected void initializePlugin ( final DetectedPlugin<P> dp, final String acceptedPluginType,
+                                      final Map<String, Map<PluginLibrary, PluginInformation>> pluginLibraries )
+    {
+        final long start = System.currentTimeMillis ();
+        try
+        {
+            initializePluginImpl ( dp, acceptedPluginType, pluginLibraries );
+        }
+        finally
+        {
+            final long time = System.currentTimeMillis () - start;
+            if ( dp.getStatus () == PluginStatus.loaded )
+            {
+                firePluginInitialized ( dp, time );
+            }
+            else
+            {
+                firePluginFailed ( dp, time );
+            }
+        }
+    }
+
+    /**
+     * Initializes single detected plugin.
+     * This method might be called from multiple threads at once if parallel initialization is enabled.
+     *
+     * @param dp                 detected plugin to initialize
+     * @param acceptedPluginType accepted plugin type
+     * @param pluginLibraries    map to store plugin libraries
+     */
+    protected void initializePluginImpl ( final DetectedPlugin<P> dp, final String acceptedPluginType,
+                                          final Map<String, Map<PluginLibrary, PluginInformation>> pluginLibraries )
+    {
+        final File pluginFile = dp.getFile ();
+        final PluginInformation info = dp.getInformation ();
+        final String prefix = "[" + FileUtils.getRelativePath ( pluginFile, new File ( pluginsDirectoryPath ) ) + "] [" + info + "] ";
+        try
+        {
+            // Starting to load plugin now
+            LoggerFactory.getLogger ( PluginManager.class ).info ( prefix + "Initializing plugin" );
+            dp.setStatus ( PluginStatus.loading );
+
+            // Checking plugin type as we don't want (for example) to load server plugins on client side
+            if ( acceptedPluginType != null && ( info.getType () == null || !info.getType ().equals ( acceptedPluginType ) ) )
+            {
+                final String msg = "Plugin of type '%s' cannot be loaded, required type is: %s";
+                final String fmsg = String.format ( msg, info.getType (), acceptedPluginType );
+                LoggerFactory.getLogger ( PluginManager.class ).info ( prefix + fmsg );
+
+                dp.setStatus ( PluginStatus.failed );
+                dp.setFailureCause ( "Wrong type" );
+                dp.setExceptionMessage ( fmsg );
 
-                // Checking plugin dependencies
-                final List<PluginDependency> dependencies = dp.getInformation ().getDependencies ();
-                if ( dependencies != null )
+                return;
+            }
+
+            // Checking that this is latest plugin version of all available
+            // Usually there shouldn't be different versions of the same plugin but everyone make mistakes
+            if ( isDeprecatedVersion ( dp ) )
+            {
+                final String msg = "This plugin is deprecated, newer version loaded instead";
+                LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + msg );
+
+                dp.setStatus ( PluginStatus.failed );
+                dp.setFailureCause ( "Deprecated" );
+                dp.setExceptionMessage ( msg );
+
+                return;
+            }
+
+            // Checking that this plugin version is not yet loaded
+            // This might occur in case the same plugin appears more than once in different files
+            if ( isSameVersionAlreadyLoaded ( dp, detectedPlugins ) )
+            {
+                final String msg = "Plugin is duplicate, it will be loaded from another file";
+                LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + msg );
+
+                dp.setStatus ( PluginStatus.failed );
+                dp.setFailureCause ( "Duplicate" );
+                dp.setExceptionMessage ( msg );
+
+                return;
+            }
+
+            // Checking that plugin filter accepts this plugin
+            if ( getPluginFilter () != null && !getPluginFilter ().accept ( dp ) )
+            {
+                final String msg = "Plugin was not accepted by plugin filter";
+                LoggerFactory.getLogger ( PluginManager.class ).info ( prefix + msg );
+
+                dp.setStatus ( PluginStatus.failed );
+                dp.setFailureCause ( "Filtered" );
+                dp.setExceptionMessage ( msg );
+
+                return;
+            }
+
+            // Checking plugin dependencies
+            final List<PluginDependency> dependencies = dp.getInformation ().getDependencies ();
+            if ( dependencies != null )
+            {
+                for ( final PluginDependency dependency : dependencies )
                 {
-                    for ( final PluginDependency dependency : dependencies )
+                    // Checking whether or not dependency is mandatory and whether or not it is available
+                    final String did = dependency.getPluginId ();
+                    if ( !dependency.isOptional () && !isPluginAvailable ( did ) )
                     {
-                        // Checking whether or not dependency is mandatory and whether or not it is available
-                        final String did = dependency.getPluginId ();
-                        if ( !dependency.isOptional () && !isPluginAvailable ( did ) )
+                        // If it is mandatory and not available - check related managers for that dependency
+                        boolean available = false;
+                        for ( final PluginManager relatedManager : parentManagers )
                         {
-                            // If it is mandatory and not available - check related managers for that dependency
-                            boolean available = false;
-                            for ( final PluginManager relatedManager : parentManagers )
+                            if ( relatedManager.isPluginAvailable ( did ) )
                             {
-                                if ( relatedManager.isPluginAvailable ( did ) )
-                                {
-                                    available = true;
-                                    break;
-                                }
+                                available = true;
+                                break;
                             }
-                            if ( !available )
-                            {
-                                final String msg = "Mandatory plugin dependency was not found: %s";
-                                final String fmsg = String.format ( msg, did );
-                                LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + fmsg );
+                        }
+                        if ( !available )
+                        {
+                            final String msg = "Mandatory plugin dependency was not found: %s";
+                            final String fmsg = String.format ( msg, did );
+                            LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + fmsg );
 
-                                dp.setStatus ( PluginStatus.failed );
-                                dp.setFailureCause ( "Incomplete" );
-                                dp.setExceptionMessage ( fmsg );
+                            dp.setStatus ( PluginStatus.failed );
+                            dp.setFailureCause ( "Incomplete" );
+                            dp.setExceptionMessage ( fmsg );
 
-                                break;
-                            }
+                            break;
                         }
                     }
-                    if ( dp.getStatus () == PluginStatus.failed )
-                    {
-                        continue;
-                    }
                 }
+                if ( dp.getStatus () == PluginStatus.failed )
+                {
+                    return;
+                }
+            }
 
-                // Collecting plugin and its libraries JAR paths
-                final List<URL> jarPaths = new ArrayList<URL> ( 1 + info.getLibrariesCount () );
-                jarPaths.add ( pluginFile.toURI ().toURL () );
-                if ( info.getLibraries () != null )
+            // Collecting plugin and its libraries JAR paths
+            final List<URL> jarPaths = new ArrayList<URL> ( 1 + info.getLibrariesCount () );
+            jarPaths.add ( pluginFile.toURI ().toURL () );
+            if ( info.getLibraries () != null )
+            {
+                for ( final PluginLibrary library : info.getLibraries () )
                 {
-                    for ( final PluginLibrary library : info.getLibraries () )
+                    final File file = new File ( dp.getPluginFolder (), library.getFile () );
+                    if ( file.exists () )
                     {
-                        final File file = new File ( dp.getPluginFolder (), library.getFile () );
-                        if ( file.exists () )
-                        {
-                            // Adding library URI to path
-                            jarPaths.add ( file.toURI ().toURL () );
+                        // Adding library URI to path
+                        jarPaths.add ( file.toURI ().toURL () );
 
-                            // Saving library information for further checks
+                        // Saving library information for further checks
+                        synchronized ( pluginLibraries )
+                        {
                             Map<PluginLibrary, PluginInformation> libraries = pluginLibraries.get ( library.getId () );
                             if ( libraries == null )
                             {
@@ -1270,140 +1617,125 @@ public abstract class PluginManager<P extends Plugin>
                             }
                             libraries.put ( library, info );
                         }
-                        else
-                        {
-                            final String msg = "Plugin library was not found: %s";
-                            final String fmsg = String.format ( msg, file.getAbsolutePath () );
-                            LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + fmsg );
-
-                            dp.setStatus ( PluginStatus.failed );
-                            dp.setFailureCause ( "Incomplete" );
-                            dp.setExceptionMessage ( fmsg );
-
-                            break;
-                        }
                     }
-                    if ( dp.getStatus () == PluginStatus.failed )
+                    else
                     {
-                        continue;
+                        final String msg = "Plugin library was not found: %s";
+                        final String fmsg = String.format ( msg, file.getAbsolutePath () );
+                        LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + fmsg );
+
+                        dp.setStatus ( PluginStatus.failed );
+                        dp.setFailureCause ( "Incomplete" );
+                        dp.setExceptionMessage ( fmsg );
+
+                        break;
                     }
                 }
+                if ( dp.getStatus () == PluginStatus.failed )
+                {
+                    return;
+                }
+            }
 
-                try
+            try
+            {
+                // Choosing class loader
+                final ClassLoader cl;
+                switch ( classLoaderType )
                 {
-                    // Choosing class loader
-                    final ClassLoader cl;
-                    switch ( classLoaderType )
+                    case system:
                     {
-                        case system:
-                        {
-                            cl = ClassLoader.getSystemClassLoader ();
-                            break;
-                        }
-                        case context:
-                        default:
-                        {
-                            final ClassLoader ccl = Thread.currentThread ().getContextClassLoader ();
-                            cl = ccl != null ? ccl : getClass ().getClassLoader ();
-                            break;
-                        }
-                        case global:
-                        {
-                            cl = getGlobalClassLoader ();
-                            break;
-                        }
-                        case local:
-                        {
-                            cl = getLocalClassLoader ();
-                            break;
-                        }
-                        case separate:
-                        {
-                            cl = createPluginClassLoader ( new URL[ 0 ] );
-                            break;
-                        }
+                        cl = ClassLoader.getSystemClassLoader ();
+                        break;
                     }
-
-                    // Obtaining {@link URLClassLoader}
-                    final URLClassLoader classLoader;
-                    if ( cl instanceof URLClassLoader )
+                    case context:
+                    default:
                     {
-                        // Use current class loader
-                        classLoader = ( URLClassLoader ) cl;
+                        final ClassLoader ccl = Thread.currentThread ().getContextClassLoader ();
+                        cl = ccl != null ? ccl : getClass ().getClassLoader ();
+                        break;
                     }
-                    else
+                    case global:
+                    {
+                        cl = getGlobalClassLoader ();
+                        break;
+                    }
+                    case local:
+                    {
+                        cl = getLocalClassLoader ();
+                        break;
+                    }
+                    case separate:
                     {
-                        // Create new class loader
-                        classLoader = new PluginClassLoader ( jarPaths.toArray ( new URL[ jarPaths.size () ] ), cl );
+                        cl = createPluginClassLoader ( new URL[ 0 ] );
+                        break;
                     }
+                }
+
+                // Obtaining {@link URLClassLoader}
+                final URLClassLoader classLoader;
+                if ( cl instanceof URLClassLoader )
+                {
+                    // Use current class loader
+                    classLoader = ( URLClassLoader ) cl;
+                }
+                else
+                {
+                    // Create new class loader
+                    classLoader = new PluginClassLoader ( new URL[ 0 ], cl, indexedClassLoading );
+                }
 
-                    // Adding all plugin paths
-                    for ( final URL url : jarPaths )
+                // Adding all plugin paths
+                // Packages collected upon detection are provided for plugin file to avoid reading it again
+                for ( final URL url : jarPaths )
+                {
+                    if ( classLoader instanceof PluginClassLoader )
+                    {
+                        final Set<String> packages = url == jarPaths.get ( 0 ) ? dp.getPackages () : null;
+                        ( ( PluginClassLoader ) classLoader ).addURL ( url, packages );
+                    }
+                    else
                     {
                         ReflectUtils.callMethodSafely ( classLoader, "addURL", url );
                     }
+                }
 
-                    // Loading plugin
-                    final Class<?> pluginClass = classLoader.loadClass ( info.getMainClass () );
-                    final P plugin = ReflectUtils.createInstance ( pluginClass );
-                    plugin.setPluginManager ( PluginManager.this );
-                    plugin.setDetectedPlugin ( dp );
+                // Loading plugin
+                final Class<?> pluginClass = classLoader.loadClass ( info.getMainClass () );
+                final P plugin = ReflectUtils.createInstance ( pluginClass );
+                plugin.setPluginManager ( PluginManager.this );
+                plugin.setDetectedPlugin ( dp );
 
-                    // Saving initialized plugin
-                    availablePlugins.add ( plugin );
+                // Saving initialized plugin
+                // It is added into available plugins list by the caller to preserve detection order
+                synchronized ( checkLock )
+                {
                     availablePluginsById.put ( plugin.getId (), plugin );
                     availablePluginsByClass.put ( plugin.getClass (), plugin );
-                    recentlyInitialized.add ( plugin );
-
-                    // Updating detected plugin status
-                    LoggerFactory.getLogger ( PluginManager.class ).info ( prefix + "Plugin initialized" );
-                    dp.setStatus ( PluginStatus.loaded );
-                    dp.setPlugin ( plugin );
-                }
-                catch ( final Exception e )
-                {
-                    // Something happened while performing plugin class load
-                    LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + "Unable to initialize plugin", e );
-                    dp.setStatus ( PluginStatus.failed );
-                    dp.setFailureCause ( "Internal exception" );
-                    dp.setException ( e );
                 }
+
+                // Updating detected plugin status
+                LoggerFactory.getLogger ( PluginManager.class ).info ( prefix + "Plugin initialized" );
+                dp.setStatus ( PluginStatus.loaded );
+                dp.setPlugin ( plugin );
             }
-            catch ( final Exception e )
+            catch ( final Throwable e )
             {
-                // Something happened while checking plugin information
-                LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + "Unable to initialize plugin data", e );
+                // Something happened while performing plugin class load
+                // Linkage and initializer errors are also caught since plugin code might be broken or incompatible
+                LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + "Unable to initialize plugin", e );
                 dp.setStatus ( PluginStatus.failed );
-                dp.setFailureCause ( "Data exception" );
+                dp.setFailureCause ( "Internal exception" );
                 dp.setException ( e );
             }
         }
-
-        // Checking for same/similar libraries used within plugins
-        // todo There should be a flag for libraries to specify when duplicates usage is intended
-        boolean sameLibrariesInPlugins = false;
-        for ( final Map.Entry<String, Map<PluginLibrary, PluginInformation>> libraries : pluginLibraries.entrySet () )
-        {
-            final Map<PluginLibrary, PluginInformation> sameLibraries = libraries.getValue ();
-            if ( sameLibraries.size () > 1 )
-            {
-                final String title = sameLibraries.keySet ().iterator ().next ().getTitle ();
-                final StringBuilder sb = new StringBuilder ( "Library [ " ).append ( title ).append ( " ] was found in plugins: " );
-                for ( final Map.Entry<PluginLibrary, PluginInformation> library : sameLibraries.entrySet () )
-                {
-                    final PluginInformation plugin = library.getValue ();
-                    final String libraryVersion = library.getKey ().getVersion ();
-                    sb.append ( "[ " ).append ( plugin.toString () ).append ( ", version " ).append ( libraryVersion ).append ( " ] " );
-                }
-                LoggerFactory.getLogger ( PluginManager.class ).info ( sb.toString () );
-                sameLibrariesInPlugins = true;
-                break;
-            }
-        }
-        if ( sameLibrariesInPlugins )
+        catch ( final Exception e )
         {
-            final String msg = "Make sure that the same library usage within different plugins was actually your intent";
-            LoggerFactory.getLogger ( PluginManager.class ).info ( msg );
+            // Something happened while checking plugin information
+            LoggerFactory.getLogger ( PluginManager.class ).error ( prefix + "Unable to initialize plugin data", e );
+            dp.setStatus ( PluginStatus.failed );
+            dp.setFailureCause ( "Data exception" );
+            dp.setException ( e );
         }
     }
 
@@ -1864,6 +2196,40 @@ public abstract class PluginManager<P extends Plugin>
         }
     }
 
+    /**
+     * Informs about single plugin initialization.
+     *
+     * @param plugin initialized detected plugin
+     * @param time   plugin initialization time in milliseconds
+     */
+    public void firePluginInitialized ( final DetectedPlugin<P> plugin, final long time )
+    {
+        synchronized ( listeners )
+        {
+            for ( final PluginsListener<P> listener : CollectionUtils.copy ( listeners ) )
+            {
+                listener.pluginInitialized ( plugin, time );
+            }
+        }
+    }
+
+    /**
+     * Informs about single plugin initialization failure.
+     *
+     * @param plugin failed detected plugin
+     * @param time   time spent on plugin initialization attempt in milliseconds
+     */
+    public void firePluginFailed ( final DetectedPlugin<P> plugin, final long time )
+    {
+        synchronized ( listeners )
+        {
+            for ( final PluginsListener<P> listener : CollectionUtils.copy ( listeners ) )
+            {
+                listener.pluginFailed ( plugin, time );
+            }
+        }
+    }
+
     /**
      * Returns local class loader for this specific plugin manager implementation.
      *
@@ -1912,6 +2278,134 @@ public abstract class PluginManager<P extends Plugin>
      */
     protected PluginClassLoader createPluginClassLoader ( final URL[] classpath )
     {
-        return new PluginClassLoader ( classpath, PluginManager.class.getClassLoader () );
+        return new PluginClassLoader ( classpath, PluginManager.class.getClassLoader (), indexedClassLoading );
+    }
+
+    /**
+     * State of a single parallel plugins initialization.
+     * All fields except {@link #group} are guarded by {@link #checkLock}.
+     */
+    protected class ParallelInitialization
+    {
+        /**
+         * {@link TaskGroup} used to initialize plugins.
+         */
+        protected final TaskGroup group;
+
+        /**
+         * Amount of plugins that have to be initialized before each plugin.
+         */
+        protected final Map<DetectedPlugin<P>, Integer> prerequisites;
+
+        /**
+         * Plugins that have to be initialized after each plugin.
+         */
+        protected final Map<DetectedPlugin<P>, List<DetectedPlugin<P>>> dependents;
+
+        /**
+         * Accepted plugin type.
+         */
+        protected final String acceptedPluginType;
+
+        /**
+         * Map to store plugin libraries.
+         */
+        protected final Map<String, Map<PluginLibrary, PluginInformation>> pluginLibraries;
+
+        /**
+         * Amount of plugins that are not yet initialized.
+         */
+        protected int remaining;
+
+        /**
+         * Constructs new {@link ParallelInitialization}.
+         *
+         * @param threads            maximum amount of threads used to initialize plugins
+         * @param plugins            amount of plugins to initialize
+         * @param acceptedPluginType accepted plugin type
+         * @param pluginLibraries    map to store plugin libraries
+         */
+        public ParallelInitialization ( final int threads, final int plugins, final String acceptedPluginType,
+                                        final Map<String, Map<PluginLibrary, PluginInformation>> pluginLibraries )
+        {
+            this.group = new TaskGroup ( "PluginManager", threads );
+            this.prerequisites = new IdentityHashMap<DetectedPlugin<P>, Integer> ( plugins );
+            this.dependents = new IdentityHashMap<DetectedPlugin<P>, List<DetectedPlugin<P>>> ( plugins );
+            this.acceptedPluginType = acceptedPluginType;
+            this.pluginLibraries = pluginLibraries;
+            this.remaining = plugins;
+        }
+
+        /**
+         * Submits specified plugin for initialization.
+         *
+         * @param plugin detected plugin to initialize
+         */
+        public void submit ( final DetectedPlugin<P> plugin )
+        {
+            group.execute ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    initialize ( plugin );
+                }
+            } );
+        }
+
+        /**
+         * Initializes specified plugin and submits plugins that were waiting for it.
+         *
+         * @param plugin detected plugin to initialize
+         */
+        protected void initialize ( final DetectedPlugin<P> plugin )
+        {
+            final Thread thread = Thread.currentThread ();
+            synchronized ( checkLock )
+            {
+                initializationWorkers.add ( thread );
+            }
+            try
+            {
+                initializePlugin ( plugin, acceptedPluginType, pluginLibraries );
+            }
+            catch ( final Throwable e )
+            {
+                // Something unexpected happened, most probably within one of the listeners
+                LoggerFactory.getLogger ( PluginManager.class ).error ( "[" + plugin.getInformation () + "] Unable to initialize plugin", e );
+                if ( plugin.getStatus () != PluginStatus.loaded )
+                {
+                    plugin.setStatus ( PluginStatus.failed );
+                    plugin.setFailureCause ( "Internal exception" );
+                    plugin.setException ( e );
+                }
+            }
+            finally
+            {
+                synchronized ( checkLock )
+                {
+                    initializationWorkers.remove ( thread );
+
+                    // Submitting plugins that no longer wait for anything
+                    final List<DetectedPlugin<P>> waiting = dependents.get ( plugin );
+                    if ( waiting != null )
+                    {
+                        for ( final DetectedPlugin<P> dependent : waiting )
+                        {
+                            final int left = prerequisites.get ( dependent ) - 1;
+                            prerequisites.put ( dependent, left );
+                            if ( left == 0 )
+                            {
+                                submit ( dependent );
+                            }
+                        }
+                    }
+
+                    // Informing waiting thread
+                    remaining--;
+                    checkLock.notifyAll ();
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -62,4 +62,20 @@ public abstract class PluginsAdapter<P extends Plugin> implements PluginsListene
          * Do nothing by default.
          */
     }
-}
\ No newline at end of file
+
+    @Override
+    public void pluginInitialized ( final DetectedPlugin<P> plugin, final long time )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+
+    @Override
+    public void pluginFailed ( final DetectedPlugin<P> plugin, final long time )
+    {
+        /**
+         * Do nothing by default.
+         */
+    }
+}
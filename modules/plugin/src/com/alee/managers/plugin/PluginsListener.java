@@ -63,4 +63,23 @@ public interface PluginsListener<P extends Plugin>
      * @param plugins recently initialized plugins
      */
     public void pluginsInitialized ( List<P> plugins );
-}
\ No newline at end of file
+
+    /**
+     * Called when single detected plugin have been successfully initialized.
+     * Be aware that this might be called from one of the initialization threads if parallel initialization is enabled.
+     *
+     * @param plugin detected plugin
+     * @param time   plugin initialization time in milliseconds
+     */
+    public void pluginInitialized ( DetectedPlugin<P> plugin, long time );
+
+    /**
+     * Called when single detected plugin have failed to initialize.
+     * Failure cause and exception can be retrieved from {@link DetectedPlugin} itself.
+     * Be aware that this might be called from one of the initialization threads if parallel initialization is enabled.
+     *
+     * @param plugin detected plugin
+     * @param time   time spent on plugin initialization attempt in milliseconds
+     */
+    public void pluginFailed ( DetectedPlugin<P> plugin, long time );
+}
@@ -22,6 +22,7 @@ import com.alee.utils.SystemUtils;
 
 import javax.swing.*;
 import java.io.File;
+import java.util.Set;
 
 /**
  * Initial information gathered about existing {@link Plugin}.
@@ -78,6 +79,12 @@ public class DetectedPlugin<P extends Plugin>
      */
     private P plugin;
 
+    /**
+     * Packages contained in plugin file in resource path form.
+     * These are only collected when indexed class loading is enabled in {@link com.alee.managers.plugin.PluginManager}.
+     */
+    private Set<String> packages;
+
     /**
      * Constructs new information object about existing plugin.
      *
@@ -256,6 +263,26 @@ public class DetectedPlugin<P extends Plugin>
         this.plugin = plugin;
     }
 
+    /**
+     * Returns packages contained in plugin file in resource path form.
+     *
+     * @return packages contained in plugin file in resource path form or {@code null} if they were not collected
+     */
+    public Set<String> getPackages ()
+    {
+        return packages;
+    }
+
+    /**
+     * Sets packages contained in plugin file in resource path form.
+     *
+     * @param packages packages contained in plugin file in resource path form
+     */
+    public void setPackages ( final Set<String> packages )
+    {
+        this.packages = packages;
+    }
+
     @Override
     public String toString ()
     {
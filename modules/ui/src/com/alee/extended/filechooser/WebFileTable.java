@@ -22,13 +22,15 @@ import com.alee.laf.table.WebTable;
 import com.alee.managers.style.StyleId;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.FileUtils;
+import com.alee.utils.file.DirectoryLoad;
+import com.alee.utils.file.DirectoryLoadAdapter;
+import com.alee.utils.file.DirectoryLoadListener;
 import com.alee.utils.filefilter.AbstractFileFilter;
 import com.alee.utils.filefilter.NonHiddenFilter;
 
 import javax.swing.table.TableColumn;
 import javax.swing.table.TableModel;
 import java.io.File;
-import java.io.FileFilter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -61,6 +63,21 @@ public class WebFileTable extends WebTable implements FileTableColumns
      */
     protected File displayedDirectory;
 
+    /**
+     * {@link DirectoryLoad} providing displayed directory content.
+     */
+    protected transient DirectoryLoad directoryLoad;
+
+    /**
+     * {@link DirectoryLoadListener} attached to {@link #directoryLoad}.
+     */
+    protected transient DirectoryLoadListener directoryLoadListener;
+
+    /**
+     * Files that should be selected once they are loaded.
+     */
+    protected transient List<File> pendingSelection;
+
     /**
      * Constructs empty WebFileTable.
      */
@@ -233,9 +250,23 @@ public class WebFileTable extends WebTable implements FileTableColumns
      * @param fileFilter new file filter
      */
     public void setFileFilter ( final AbstractFileFilter fileFilter )
+    {
+        setFileFilter ( fileFilter, true );
+    }
+
+    /**
+     * Sets file filter.
+     *
+     * @param fileFilter new file filter
+     * @param reload     whether or not files should be reloaded from displayed directory
+     */
+    public void setFileFilter ( final AbstractFileFilter fileFilter, final boolean reload )
     {
         this.fileFilter = fileFilter;
-        reloadFiles ();
+        if ( reload )
+        {
+            reloadFiles ();
+        }
     }
 
     /**
@@ -259,31 +290,128 @@ public class WebFileTable extends WebTable implements FileTableColumns
 
     /**
      * Sets displayed directory.
-     * This will force list to load and display files from the specified directory.
+     * This will force table to load and display files from the specified directory.
+     * Files are loaded asynchronously and added into the table in sorted batches as they are loaded.
      *
      * @param file new displayed directory
      */
     public void setDisplayedDirectory ( final File file )
+    {
+        final DirectoryLoad load = new DirectoryLoad ( file, fileFilter );
+        setDirectoryLoad ( load );
+        load.start ();
+    }
+
+    /**
+     * Sets {@link DirectoryLoad} providing displayed directory content.
+     * Same {@link DirectoryLoad} can be shared between multiple file views displaying the same directory.
+     * Previous {@link DirectoryLoad} is released and only gets cancelled if no other views are listening to it.
+     * Specified {@link DirectoryLoad} must be started separately.
+     * Reloaded directory content is replaced only once loading completes to preserve current view and selection.
+     *
+     * @param load {@link DirectoryLoad} providing displayed directory content
+     */
+    public void setDirectoryLoad ( @NotNull final DirectoryLoad load )
     {
         // Stop cell editing
         stopCellEditing ();
 
-        // Saving selection to restore later
-        final List<File> oldSelection = getSelectedFiles ();
+        // Releasing previous load
+        releaseDirectoryLoad ();
 
-        // Update files data
-        final File[] listedFiles = file != null ? FileUtils.listFiles ( file, ( FileFilter ) fileFilter ) : null;
-        final File[] files = file != null ? FileUtils.sortFiles ( listedFiles ) : FileUtils.getDiskRoots ();
-        getFileTableModel ().setFiles ( CollectionUtils.asList ( files ) );
+        // Saving selection to restore later if its same folder
+        final File directory = load.getDirectory ();
+        final boolean reload = FileUtils.equals ( displayedDirectory, directory );
+        pendingSelection = reload ? getSelectedFiles () : null;
 
-        // Restoring selection if its same folder
-        if ( FileUtils.equals ( displayedDirectory, file ) )
+        // Clearing previous folder files
+        if ( !reload )
         {
-            setSelectedFiles ( oldSelection );
+            getFileTableModel ().setFiles ( new ArrayList<File> ( 0 ) );
         }
 
+        // Listening to loaded files
+        directoryLoad = load;
+        directoryLoadListener = new DirectoryLoadAdapter ()
+        {
+            @Override
+            public void filesLoaded ( @NotNull final DirectoryLoad load, @NotNull final List<File> files )
+            {
+                if ( !reload )
+                {
+                    getFileTableModel ().addSortedFiles ( files, load.getComparator () );
+                    applyPendingSelection ();
+                }
+            }
+
+            @Override
+            public void loadCompleted ( @NotNull final DirectoryLoad load )
+            {
+                if ( reload )
+                {
+                    getFileTableModel ().setFiles ( load.getFiles () );
+                }
+                applyPendingSelection ();
+            }
+
+            @Override
+            public void loadFailed ( @NotNull final DirectoryLoad load, @NotNull final Throwable cause )
+            {
+                loadCompleted ( load );
+            }
+        };
+        load.addDirectoryLoadListener ( directoryLoadListener );
+
         // Saving new displayed directory
-        displayedDirectory = file;
+        displayedDirectory = directory;
+    }
+
+    /**
+     * Returns {@link DirectoryLoad} providing displayed directory content.
+     *
+     * @return {@link DirectoryLoad} providing displayed directory content
+     */
+    public DirectoryLoad getDirectoryLoad ()
+    {
+        return directoryLoad;
+    }
+
+    /**
+     * Returns whether or not displayed directory content is still loading.
+     *
+     * @return {@code true} if displayed directory content is still loading, {@code false} otherwise
+     */
+    public boolean isDirectoryLoading ()
+    {
+        return directoryLoad != null && !directoryLoad.isCompleted () && !directoryLoad.isCancelled ();
+    }
+
+    /**
+     * Stops listening to {@link DirectoryLoad} providing displayed directory content.
+     * It is only cancelled if no other views share it.
+     */
+    protected void releaseDirectoryLoad ()
+    {
+        if ( directoryLoad != null )
+        {
+            directoryLoad.release ( directoryLoadListener );
+            directoryLoadListener = null;
+            directoryLoad = null;
+        }
+        pendingSelection = null;
+    }
+
+    /**
+     * Selects files which were requested to be selected before they were loaded.
+     */
+    protected void applyPendingSelection ()
+    {
+        if ( pendingSelection != null )
+        {
+            final List<File> files = pendingSelection;
+            setSelectedFiles ( files );
+            pendingSelection = isDirectoryLoading () && getSelectedRowCount () < files.size () ? files : null;
+        }
     }
 
     /**
@@ -293,6 +421,7 @@ public class WebFileTable extends WebTable implements FileTableColumns
      */
     public void setFiles ( final Collection<File> files )
     {
+        releaseDirectoryLoad ();
         displayedDirectory = null;
         getFileTableModel ().setFiles ( files );
     }
@@ -386,6 +515,10 @@ public class WebFileTable extends WebTable implements FileTableColumns
     {
         final int row = getFileTableModel ().getFileRow ( file );
         setSelectedRow ( row == -1 ? -1 : convertRowIndexToView ( row ), scroll );
+        if ( isDirectoryLoading () )
+        {
+            pendingSelection = file != null && row == -1 ? CollectionUtils.asList ( file ) : null;
+        }
     }
 
     /**
@@ -425,14 +558,20 @@ public class WebFileTable extends WebTable implements FileTableColumns
     public void setSelectedFiles ( final Collection<File> files )
     {
         clearSelection ();
+        int selected = 0;
         for ( final File file : files )
         {
             final int row = getFileTableModel ().getFileRow ( file );
             if ( row != -1 )
             {
                 addSelectedRow ( convertRowIndexToView ( row ) );
+                selected++;
             }
         }
+        if ( isDirectoryLoading () )
+        {
+            pendingSelection = selected < files.size () ? new ArrayList<File> ( files ) : null;
+        }
     }
 
     /**
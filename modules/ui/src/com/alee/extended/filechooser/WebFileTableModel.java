@@ -25,6 +25,7 @@ import javax.swing.table.AbstractTableModel;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -42,7 +43,7 @@ public class WebFileTableModel extends AbstractTableModel implements FileTableCo
     /**
      * List of displayed files.
      */
-    private final List<File> files;
+    private List<File> files;
 
     /**
      * Constructs empty model with default displayed columns.
@@ -133,6 +134,30 @@ public class WebFileTableModel extends AbstractTableModel implements FileTableCo
         }
     }
 
+    /**
+     * Merges specified sorted files into displayed files.
+     * Displayed files are expected to be sorted with the same {@link Comparator}.
+     *
+     * @param files      sorted files to merge
+     * @param comparator {@link Comparator} both displayed and specified files are sorted with, {@code null} to append files
+     */
+    public void addSortedFiles ( final List<File> files, final Comparator<File> comparator )
+    {
+        if ( files.size () > 0 )
+        {
+            final int lastIndex = this.files.size ();
+            if ( lastIndex == 0 || comparator == null || comparator.compare ( this.files.get ( lastIndex - 1 ), files.get ( 0 ) ) <= 0 )
+            {
+                addFiles ( files );
+            }
+            else
+            {
+                this.files = CollectionUtils.mergeSorted ( this.files, files, comparator );
+                fireTableDataChanged ();
+            }
+        }
+    }
+
     /**
      * Returns index of row with the specified file.
      *
@@ -0,0 +1,218 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.extended.heatmap;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.laf.WebLookAndFeel;
+import com.alee.painter.PaintListener;
+import com.alee.painter.Painter;
+import com.alee.painter.PainterSupport;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Per-component paint time profiler.
+ * It measures {@link Painter} paint times of each separate {@link JComponent} within profiled frames through {@link PaintListener}.
+ * Paint times are only measured while frame is being profiled, so this profiler has no impact on painting performance otherwise.
+ * Collected times are aggregated into {@link PaintStatistics} that provide rolling percentiles over a number of last frames.
+ *
+ * This class is not thread-safe and is only meant to be used within Event Dispatch Thread.
+ *
+ * @author Mikle Garin
+ * @see PaintStatistics
+ * @see HeatMap.Mode#component
+ */
+public class ComponentPaintProfiler implements PaintListener
+{
+    /**
+     * Maximum amount of frames to keep samples for.
+     */
+    protected final int frames;
+
+    /**
+     * {@link PaintStatistics} for each profiled {@link JComponent}.
+     */
+    @NotNull
+    protected final Map<JComponent, PaintStatistics> statistics;
+
+    /**
+     * Whether or not frame is being profiled right now.
+     */
+    protected boolean profiling;
+
+    /**
+     * Constructs new {@link ComponentPaintProfiler}.
+     */
+    public ComponentPaintProfiler ()
+    {
+        this ( 100 );
+    }
+
+    /**
+     * Constructs new {@link ComponentPaintProfiler}.
+     *
+     * @param frames maximum amount of frames to keep samples for
+     */
+    public ComponentPaintProfiler ( final int frames )
+    {
+        super ();
+        if ( frames <= 0 )
+        {
+            throw new IllegalArgumentException ( "Frames amount must be greater than zero: " + frames );
+        }
+        this.frames = frames;
+        this.statistics = new WeakHashMap<JComponent, PaintStatistics> ();
+        this.profiling = false;
+    }
+
+    /**
+     * Returns maximum amount of frames to keep samples for.
+     *
+     * @return maximum amount of frames to keep samples for
+     */
+    public int getFrames ()
+    {
+        return frames;
+    }
+
+    /**
+     * Profiles single frame of the specified {@link JComponent} painting.
+     * {@link JComponent} and all of its children are painted on the provided {@link Graphics2D}.
+     *
+     * @param component {@link JComponent} to profile
+     * @param g2d       {@link Graphics2D} to paint on
+     */
+    public void profile ( @NotNull final JComponent component, @NotNull final Graphics2D g2d )
+    {
+        // Event Dispatch Thread check
+        WebLookAndFeel.checkEventDispatchThread ();
+
+        // Painting frame
+        // Listener is only added for the frame duration to avoid measuring any other paint operations
+        PainterSupport.addPaintListener ( this );
+        profiling = true;
+        try
+        {
+            component.paintAll ( g2d );
+        }
+        finally
+        {
+            profiling = false;
+            PainterSupport.removePaintListener ( this );
+        }
+
+        // Completing frame
+        completeFrame ( component );
+    }
+
+    @Override
+    public void painted ( @NotNull final JComponent component, @NotNull final Painter painter, final long time )
+    {
+        if ( profiling )
+        {
+            PaintStatistics componentStatistics = statistics.get ( component );
+            if ( componentStatistics == null )
+            {
+                componentStatistics = new PaintStatistics ( component, frames );
+                statistics.put ( component, componentStatistics );
+            }
+            componentStatistics.painted ( painter, time );
+        }
+    }
+
+    /**
+     * Completes profiled frame for the specified {@link Component} and its children.
+     * Returns total paint time of the {@link Component} within the frame.
+     *
+     * @param component {@link Component} to complete frame for
+     * @return total paint time of the {@link Component} within the frame
+     */
+    protected long completeFrame ( @NotNull final Component component )
+    {
+        long childrenTime = 0;
+        if ( component instanceof Container )
+        {
+            final Container container = ( Container ) component;
+            for ( int i = 0; i < container.getComponentCount (); i++ )
+            {
+                childrenTime += completeFrame ( container.getComponent ( i ) );
+            }
+        }
+        final PaintStatistics componentStatistics = component instanceof JComponent ? statistics.get ( component ) : null;
+        final long selfTime = componentStatistics != null ? componentStatistics.completeFrame ( childrenTime ) : 0;
+        return selfTime + childrenTime;
+    }
+
+    /**
+     * Returns {@link PaintStatistics} for the specified {@link Component} and all of its children.
+     * Statistics are returned in depth-first order, so parent statistics always come before its children statistics.
+     *
+     * @param component {@link Component} to retrieve {@link PaintStatistics} for
+     * @return {@link PaintStatistics} for the specified {@link Component} and all of its children
+     */
+    @NotNull
+    public List<PaintStatistics> getStatistics ( @NotNull final Component component )
+    {
+        // Event Dispatch Thread check
+        WebLookAndFeel.checkEventDispatchThread ();
+
+        // Collecting statistics
+        final List<PaintStatistics> result = new ArrayList<PaintStatistics> ();
+        collectStatistics ( component, result );
+        return result;
+    }
+
+    /**
+     * Collects {@link PaintStatistics} for the specified {@link Component} and all of its children.
+     *
+     * @param component {@link Component} to collect {@link PaintStatistics} for
+     * @param result    {@link List} to collect {@link PaintStatistics} into
+     */
+    protected void collectStatistics ( @NotNull final Component component, @NotNull final List<PaintStatistics> result )
+    {
+        final PaintStatistics componentStatistics = component instanceof JComponent ? statistics.get ( component ) : null;
+        if ( componentStatistics != null && componentStatistics.getSamples () > 0 )
+        {
+            result.add ( componentStatistics );
+        }
+        if ( component instanceof Container )
+        {
+            final Container container = ( Container ) component;
+            for ( int i = 0; i < container.getComponentCount (); i++ )
+            {
+                collectStatistics ( container.getComponent ( i ), result );
+            }
+        }
+    }
+
+    /**
+     * Clears all collected {@link PaintStatistics}.
+     */
+    public void reset ()
+    {
+        // Event Dispatch Thread check
+        WebLookAndFeel.checkEventDispatchThread ();
+
+        // Clearing statistics
+        statistics.clear ();
+    }
+}
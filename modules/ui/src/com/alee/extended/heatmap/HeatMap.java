@@ -31,6 +31,8 @@ import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.image.BufferedImage;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -84,6 +86,18 @@ public class HeatMap extends JComponent
      */
     protected boolean displayTimeMetrics;
 
+    /**
+     * Percentile of rolling component paint times displayed on {@link HeatMap}.
+     * It is only meaningful for {@link Mode#component}.
+     */
+    protected double percentile;
+
+    /**
+     * {@link ComponentPaintProfiler} used to collect component paint times.
+     * It is only used for {@link Mode#component}.
+     */
+    protected transient final ComponentPaintProfiler profiler;
+
     /**
      * Resize listener for {@link JRootPane}.
      * It tracks size changes to update {@link HeatMap} accordingly.
@@ -154,6 +168,10 @@ public class HeatMap extends JComponent
         this.updateDeplay = 250L;
         this.sectorSize = new Dimension ( 40, 40 );
         this.displayTimeMetrics = true;
+        this.percentile = 0.9;
+
+        // Component paint times profiler
+        profiler = new ComponentPaintProfiler ();
 
         // Forceful updater
         updater = new WebTimer ( updateDeplay, new ActionListener ()
@@ -271,6 +289,40 @@ public class HeatMap extends JComponent
         updateHeatMap ();
     }
 
+    /**
+     * Returns percentile of rolling component paint times displayed on {@link HeatMap}.
+     * It is only meaningful for {@link Mode#component}.
+     *
+     * @return percentile of rolling component paint times displayed on {@link HeatMap}
+     */
+    public double getPercentile ()
+    {
+        return percentile;
+    }
+
+    /**
+     * Sets percentile of rolling component paint times displayed on {@link HeatMap}.
+     * It is only meaningful for {@link Mode#component}.
+     *
+     * @param percentile percentile of rolling component paint times, value between {@code 0} and {@code 1}
+     */
+    public void setPercentile ( final double percentile )
+    {
+        this.percentile = percentile;
+        updateHeatMap ();
+    }
+
+    /**
+     * Returns {@link ComponentPaintProfiler} used to collect component paint times.
+     * It is only used for {@link Mode#component}, but can also be used to retrieve collected {@link PaintStatistics}.
+     *
+     * @return {@link ComponentPaintProfiler} used to collect component paint times
+     */
+    public ComponentPaintProfiler getProfiler ()
+    {
+        return profiler;
+    }
+
     /**
      * Performs {@link HeatMap} {@link #buffer} update according to {@link HeatMap} current state.
      */
@@ -307,6 +359,22 @@ public class HeatMap extends JComponent
      * This is a heavy operation that takes quite a while to complete.
      */
     protected void repaintHeatMap ()
+    {
+        if ( mode == Mode.component )
+        {
+            repaintComponentHeatMap ();
+        }
+        else
+        {
+            repaintGridHeatMap ();
+        }
+    }
+
+    /**
+     * Performs full {@link HeatMap} buffer repaint for {@link Mode#grid}.
+     * This is a heavy operation that takes quite a while to complete.
+     */
+    protected void repaintGridHeatMap ()
     {
         // Checking renderer existence and size validity
         if ( renderer == null || renderer.getWidth () != sectorSize.width || renderer.getHeight () != sectorSize.height )
@@ -459,6 +527,164 @@ public class HeatMap extends JComponent
         } );
     }
 
+    /**
+     * Performs {@link HeatMap} buffer repaint for {@link Mode#component}.
+     * Each update profiles one more frame of the whole {@link JLayeredPane} painting with {@link ComponentPaintProfiler}.
+     * Resulting {@link HeatMap} displays rolling self paint time percentile of each separate component.
+     */
+    protected void repaintComponentHeatMap ()
+    {
+        // Checking renderer existence and size validity
+        final JLayeredPane layeredPane = rootPane.getLayeredPane ();
+        final Dimension size = layeredPane.getSize ();
+        if ( size.width <= 0 || size.height <= 0 )
+        {
+            return;
+        }
+        if ( renderer == null || renderer.getWidth () != size.width || renderer.getHeight () != size.height )
+        {
+            // Cleanup renderer image
+            if ( renderer != null )
+            {
+                renderer.flush ();
+                renderer = null;
+            }
+
+            // Create new renderer image
+            // It is important to make it OPAQUE to match font rendering speed
+            renderer = ImageUtils.createCompatibleImage ( size.width, size.height, Transparency.OPAQUE );
+        }
+
+        // Profiling single frame and collecting component times
+        final List<Rectangle> bounds = new ArrayList<Rectangle> ();
+        final List<Long> times = new ArrayList<Long> ();
+        try
+        {
+            CoreSwingUtils.invokeAndWait ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    // Put measurment process marker
+                    // This will allow us to ignore heat map painting speed in calculations
+                    measuring = true;
+
+                    // Profiling frame
+                    final Graphics2D rendererGraphics = renderer.createGraphics ();
+                    rendererGraphics.setClip ( 0, 0, size.width, size.height );
+                    profiler.profile ( layeredPane, rendererGraphics );
+                    rendererGraphics.dispose ();
+
+                    // Reset measurment process marker
+                    measuring = false;
+
+                    // Collecting times of all displayed components
+                    for ( final PaintStatistics statistics : profiler.getStatistics ( layeredPane ) )
+                    {
+                        final JComponent component = statistics.getComponent ();
+                        if ( component != null && component != layeredPane && component.isShowing () )
+                        {
+                            bounds.add ( SwingUtilities.convertRectangle ( component,
+                                    new Rectangle ( 0, 0, component.getWidth (), component.getHeight () ), layeredPane ) );
+                            times.add ( statistics.getSelfTime ( percentile ) );
+                        }
+                    }
+                }
+            }, false );
+        }
+        catch ( final Exception e )
+        {
+            // Throw a separate exception
+            throw new UtilityException ( "Unable to profile components", e );
+        }
+        finally
+        {
+            // Reset measurment process marker
+            // It is needed to properly reset state upon exception
+            measuring = false;
+        }
+
+        // Checking min and max times
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for ( final Long time : times )
+        {
+            min = Math.min ( min, time );
+            max = Math.max ( max, time );
+        }
+
+        // Checking buffer existence and size validity
+        if ( buffer == null || buffer.getWidth () != size.width || buffer.getHeight () != size.height )
+        {
+            // Cleanup buffer image
+            if ( buffer != null )
+            {
+                buffer.flush ();
+            }
+
+            // Create new buffer image
+            buffer = ImageUtils.createCompatibleImage ( size.width, size.height, Transparency.TRANSLUCENT );
+        }
+
+        // Buffer image graphics
+        final Graphics2D bufferGraphics = buffer.createGraphics ();
+        bufferGraphics.setBackground ( new Color ( 255, 255, 255, 0 ) );
+        bufferGraphics.clearRect ( 0, 0, size.width, size.height );
+        bufferGraphics.setFont ( new Font ( "Tahoma", Font.PLAIN, 9 ) );
+
+        // Updating displayed buffer
+        // Components come in depth-first order, so children heat is always painted on top of their parents heat
+        final DecimalFormat df = new DecimalFormat ( "0.00" );
+        final FontMetrics fm = bufferGraphics.getFontMetrics ();
+        for ( int i = 0; i < bounds.size (); i++ )
+        {
+            // Additional break to avoid pointless operations
+            if ( !isDisplayed () )
+            {
+                bufferGraphics.dispose ();
+                return;
+            }
+
+            final Rectangle b = bounds.get ( i );
+            final long time = times.get ( i );
+
+            // Drawing component heat
+            final Color color = getHeatColor ( min, max, time );
+            bufferGraphics.setPaint ( color );
+            bufferGraphics.fillRect ( b.x, b.y, b.width, b.height );
+            bufferGraphics.setPaint ( ColorUtils.opaque ( color ) );
+            bufferGraphics.drawRect ( b.x, b.y, b.width - 1, b.height - 1 );
+
+            // Drawing component self paint time
+            if ( displayTimeMetrics )
+            {
+                final String ms = df.format ( ( double ) time / 1000000 );
+                final int sw = fm.stringWidth ( ms );
+                if ( sw + 4 <= b.width && fm.getHeight () + 2 <= b.height )
+                {
+                    bufferGraphics.setPaint ( Color.BLACK );
+                    bufferGraphics.drawString ( ms, b.x + b.width - sw - 2, b.y + fm.getAscent () + 1 );
+                }
+            }
+        }
+        bufferGraphics.dispose ();
+
+        // Updating heat map location
+        CoreSwingUtils.invokeLater ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final Rectangle b = new Rectangle ( 0, 0, size.width, size.height );
+                if ( !getBounds ().equals ( b ) )
+                {
+                    setBounds ( b );
+                }
+                repaint ();
+            }
+        } );
+    }
+
     /**
      * Disposes {@link HeatMap} buffer and any rendering resources.
      * This is only done upon {@link HeatMap} becoming hidden so it doesn't keep any unnecessary resources.
@@ -554,7 +780,7 @@ public class HeatMap extends JComponent
      */
     protected Color getHeatColor ( final long min, final long max, final long value )
     {
-        final float progress = ( float ) ( value - min ) / ( max - min );
+        final float progress = max > min ? Math.max ( 0f, Math.min ( 1f, ( float ) ( value - min ) / ( max - min ) ) ) : 0f;
         final int floor = ( int ) Math.round ( Math.floor ( ( HEAT_COLORS.length - 1 ) * progress ) );
         final int ceil = ( int ) Math.round ( Math.ceil ( ( HEAT_COLORS.length - 1 ) * progress ) );
         return ColorUtils.intermediate ( HEAT_COLORS[ floor ], HEAT_COLORS[ ceil ], ( HEAT_COLORS.length - 1 ) * progress - floor );
@@ -747,7 +973,8 @@ public class HeatMap extends JComponent
 
         /**
          * Displays heat map for the components tree.
+         * Each component is highlighted according to rolling percentile of its own painting time.
          */
-        /* component */
+        component
     }
 }
\ No newline at end of file
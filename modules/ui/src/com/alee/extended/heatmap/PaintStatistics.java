@@ -0,0 +1,248 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.extended.heatmap;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.painter.Painter;
+
+import javax.swing.*;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * Rolling paint time statistics of a single {@link JComponent}.
+ * It keeps paint times of a limited amount of last profiled frames and provides percentiles over them.
+ * Two separate times are tracked for each frame - self time, which is {@link JComponent}'s own {@link Painter} time, and total time,
+ * which is self time combined with total times of all painted children.
+ *
+ * This class is not thread-safe and is only meant to be used within Event Dispatch Thread.
+ *
+ * @author Mikle Garin
+ * @see ComponentPaintProfiler
+ * @see HeatMap.Mode#component
+ */
+public final class PaintStatistics
+{
+    /**
+     * Profiled {@link JComponent}.
+     * It is weakly referenced to avoid holding it in memory.
+     */
+    @NotNull
+    private final WeakReference<JComponent> component;
+
+    /**
+     * Self paint times of last profiled frames in nanoseconds.
+     */
+    @NotNull
+    private final long[] selfTimes;
+
+    /**
+     * Total paint times of last profiled frames in nanoseconds.
+     */
+    @NotNull
+    private final long[] totalTimes;
+
+    /**
+     * Position of the next sample within {@link #selfTimes} and {@link #totalTimes}.
+     */
+    private int position;
+
+    /**
+     * Amount of available samples.
+     */
+    private int samples;
+
+    /**
+     * Class name of the last {@link Painter} used to paint {@link JComponent}.
+     */
+    @Nullable
+    private String painter;
+
+    /**
+     * Self paint time accumulated within currently profiled frame.
+     */
+    private long frameTime;
+
+    /**
+     * Whether or not {@link JComponent} was painted within currently profiled frame.
+     */
+    private boolean framePainted;
+
+    /**
+     * Sorted copy of {@link #selfTimes}, {@code null} if it has to be updated.
+     */
+    @Nullable
+    private long[] sortedSelfTimes;
+
+    /**
+     * Sorted copy of {@link #totalTimes}, {@code null} if it has to be updated.
+     */
+    @Nullable
+    private long[] sortedTotalTimes;
+
+    /**
+     * Constructs new {@link PaintStatistics}.
+     *
+     * @param component profiled {@link JComponent}
+     * @param frames    maximum amount of frames to keep samples for
+     */
+    public PaintStatistics ( @NotNull final JComponent component, final int frames )
+    {
+        this.component = new WeakReference<JComponent> ( component );
+        this.selfTimes = new long[ frames ];
+        this.totalTimes = new long[ frames ];
+        this.position = 0;
+        this.samples = 0;
+    }
+
+    /**
+     * Returns profiled {@link JComponent} or {@code null} if it was already garbage collected.
+     *
+     * @return profiled {@link JComponent} or {@code null} if it was already garbage collected
+     */
+    @Nullable
+    public JComponent getComponent ()
+    {
+        return component.get ();
+    }
+
+    /**
+     * Returns class name of the last {@link Painter} used to paint {@link JComponent}.
+     *
+     * @return class name of the last {@link Painter} used to paint {@link JComponent}
+     */
+    @Nullable
+    public String getPainter ()
+    {
+        return painter;
+    }
+
+    /**
+     * Returns amount of frames paint times are available for.
+     *
+     * @return amount of frames paint times are available for
+     */
+    public int getSamples ()
+    {
+        return samples;
+    }
+
+    /**
+     * Returns self paint time percentile in nanoseconds.
+     *
+     * @param percentile percentile, value between {@code 0} and {@code 1}
+     * @return self paint time percentile in nanoseconds
+     */
+    public long getSelfTime ( final double percentile )
+    {
+        if ( sortedSelfTimes == null )
+        {
+            sortedSelfTimes = sort ( selfTimes );
+        }
+        return percentile ( sortedSelfTimes, percentile );
+    }
+
+    /**
+     * Returns total paint time percentile in nanoseconds.
+     *
+     * @param percentile percentile, value between {@code 0} and {@code 1}
+     * @return total paint time percentile in nanoseconds
+     */
+    public long getTotalTime ( final double percentile )
+    {
+        if ( sortedTotalTimes == null )
+        {
+            sortedTotalTimes = sort ( totalTimes );
+        }
+        return percentile ( sortedTotalTimes, percentile );
+    }
+
+    /**
+     * Informs about {@link JComponent} being painted within currently profiled frame.
+     *
+     * @param painter {@link Painter} used to paint {@link JComponent}
+     * @param time    paint operation time in nanoseconds
+     */
+    void painted ( @NotNull final Painter painter, final long time )
+    {
+        this.painter = painter.getClass ().getSimpleName ();
+        this.frameTime += time;
+        this.framePainted = true;
+    }
+
+    /**
+     * Completes currently profiled frame and returns self paint time of {@link JComponent} within it.
+     * Sample is only added if {@link JComponent} was actually painted within the frame, otherwise it would affect percentiles.
+     *
+     * @param childrenTime total paint time of {@link JComponent} children within the frame
+     * @return self paint time of {@link JComponent} within the frame
+     */
+    long completeFrame ( final long childrenTime )
+    {
+        final long selfTime = frameTime;
+        if ( framePainted )
+        {
+            selfTimes[ position ] = selfTime;
+            totalTimes[ position ] = selfTime + childrenTime;
+            position = ( position + 1 ) % selfTimes.length;
+            samples = Math.min ( samples + 1, selfTimes.length );
+            sortedSelfTimes = null;
+            sortedTotalTimes = null;
+        }
+        frameTime = 0;
+        framePainted = false;
+        return selfTime;
+    }
+
+    /**
+     * Returns sorted copy of available samples.
+     *
+     * @param times samples
+     * @return sorted copy of available samples
+     */
+    @NotNull
+    private long[] sort ( @NotNull final long[] times )
+    {
+        final long[] sorted = new long[ samples ];
+        System.arraycopy ( times, 0, sorted, 0, samples );
+        Arrays.sort ( sorted );
+        return sorted;
+    }
+
+    /**
+     * Returns percentile of the sorted samples using nearest-rank method.
+     *
+     * @param sorted     sorted samples
+     * @param percentile percentile, value between {@code 0} and {@code 1}
+     * @return percentile of the sorted samples
+     */
+    private static long percentile ( @NotNull final long[] sorted, final double percentile )
+    {
+        final long value;
+        if ( sorted.length > 0 )
+        {
+            final int rank = ( int ) Math.ceil ( percentile * sorted.length );
+            value = sorted[ Math.max ( 0, Math.min ( sorted.length - 1, rank - 1 ) ) ];
+        }
+        else
+        {
+            value = 0;
+        }
+        return value;
+    }
+}
@@ -21,7 +21,6 @@ import com.alee.api.annotations.NotNull;
 import com.alee.managers.drag.transfer.FilesTransferHandler;
 import com.alee.utils.ImageUtils;
 
-import javax.swing.*;
 import java.io.File;
 import java.util.List;
 
@@ -48,7 +47,7 @@ public class GalleryTransferHandler extends FilesTransferHandler
             {
                 if ( ImageUtils.isImageSupported ( file.getName () ) )
                 {
-                    gallery.addImage ( new ImageIcon ( file.getAbsolutePath () ) );
+                    gallery.addImage ( file );
                     added = true;
                 }
             }
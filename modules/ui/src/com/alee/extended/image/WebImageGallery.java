@@ -21,10 +21,16 @@ import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.laf.WebLookAndFeel;
 import com.alee.laf.scroll.WebScrollPane;
+import com.alee.managers.animation.easing.Linear;
+import com.alee.managers.animation.easing.Quadratic;
+import com.alee.managers.animation.transition.TimedTransition;
+import com.alee.managers.animation.transition.Transition;
+import com.alee.managers.animation.transition.TransitionAdapter;
 import com.alee.managers.hotkey.Hotkey;
 import com.alee.managers.style.StyleId;
+import com.alee.managers.task.TaskManager;
 import com.alee.utils.*;
-import com.alee.utils.swing.WebTimer;
+import org.slf4j.LoggerFactory;
 
 import javax.swing.*;
 import java.awt.*;
@@ -32,10 +38,17 @@ import java.awt.event.*;
 import java.awt.geom.Area;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
+ * Image gallery component.
+ * Image previews and their reflections are only generated when they become visible and are kept in a bounded cache.
+ * Images added as {@link File}s are not decoded until displayed, which keeps large galleries cheap.
+ *
  * @author Mikle Garin
  */
 public class WebImageGallery extends JComponent
@@ -53,10 +66,34 @@ public class WebImageGallery extends JComponent
 
     private int maxWidth = 0;
     private int maxHeight = 0;
-    private final List<BufferedImage> images = new ArrayList<BufferedImage> ();
-    private final List<BufferedImage> reflections = new ArrayList<BufferedImage> ();
-    private final List<String> descriptions = new ArrayList<String> ();
-    //    private List<Integer> sizes = new ArrayList<Integer> (  );
+    private final List<GalleryImage> images = new ArrayList<GalleryImage> ();
+
+    /**
+     * Maximum amount of images with generated preview and reflection kept in memory.
+     */
+    private int cacheSize = 64;
+
+    /**
+     * Images with generated preview and reflection in access order.
+     */
+    private final Map<GalleryImage, GalleryImage> rendered = new LinkedHashMap<GalleryImage, GalleryImage> ( 16, 0.75f, true )
+    {
+        @Override
+        protected boolean removeEldestEntry ( final Map.Entry<GalleryImage, GalleryImage> eldest )
+        {
+            final boolean remove = size () > cacheSize;
+            if ( remove )
+            {
+                eldest.getKey ().clear ();
+            }
+            return remove;
+        }
+    };
+
+    /**
+     * Preview generation counter, it is incremented whenever previously generated previews become outdated.
+     */
+    private int generation = 0;
 
     private int preferredColumnCount = 4;
     private boolean scrollOnSelection = true;
@@ -64,15 +101,20 @@ public class WebImageGallery extends JComponent
 
     private int oldSelectedIndex = -1;
     private float progress = 0f;
-    private WebTimer reflectionMover = null;
 
-    private WebScrollPane view;
+    /**
+     * Selection highlight and reflection movement transition.
+     */
+    @Nullable
+    private TimedTransition<Float> reflectionTransition;
 
     /**
-     * Thread used for smooth component scrolling.
+     * Smooth scrolling transition.
      */
     @Nullable
-    private static Thread scrollThread;
+    private TimedTransition<Float> scrollTransition;
+
+    private WebScrollPane view;
 
     public WebImageGallery ()
     {
@@ -159,9 +201,40 @@ public class WebImageGallery extends JComponent
         } );
     }
 
+    /**
+     * Returns previews of all gallery images.
+     * Note that this will generate previews for all images, including the ones that are not displayed.
+     *
+     * @return previews of all gallery images
+     */
     public List<BufferedImage> getImages ()
     {
-        return images;
+        final List<BufferedImage> previews = new ArrayList<BufferedImage> ( images.size () );
+        for ( final GalleryImage image : images )
+        {
+            previews.add ( image.preview != null ? image.preview : image.createPreview ( imageLength ) );
+        }
+        return previews;
+    }
+
+    /**
+     * Returns maximum amount of images with generated preview and reflection kept in memory.
+     *
+     * @return maximum amount of images with generated preview and reflection kept in memory
+     */
+    public int getCacheSize ()
+    {
+        return cacheSize;
+    }
+
+    /**
+     * Sets maximum amount of images with generated preview and reflection kept in memory.
+     *
+     * @param cacheSize maximum amount of images with generated preview and reflection kept in memory
+     */
+    public void setCacheSize ( final int cacheSize )
+    {
+        this.cacheSize = cacheSize;
     }
 
     public int getPreferredColumnCount ()
@@ -215,7 +288,15 @@ public class WebImageGallery extends JComponent
 
     public void setImageLength ( final int imageLength )
     {
-        this.imageLength = imageLength;
+        if ( this.imageLength != imageLength )
+        {
+            this.imageLength = imageLength;
+
+            // Previously generated previews are outdated now
+            clearCache ();
+            recalculateMaxSizes ();
+            updateContainer ();
+        }
     }
 
     public boolean isScrollOnSelection ()
@@ -253,117 +334,83 @@ public class WebImageGallery extends JComponent
 
     /**
      * Scrolls scroll pane visible area smoothly to destination values.
+     * Previous scrolling is stopped, so this method can be called repeatedly and on multiple galleries at once.
      *
      * @param scrollPane scroll pane to scroll through
      * @param xValue     horizontal scroll bar value
      * @param yValue     vertical scroll bar value
-     * @deprecated replace this implementation with a separate feature
      */
-    private static void scrollSmoothly ( @NotNull final JScrollPane scrollPane, int xValue, int yValue )
+    private void scrollSmoothly ( @NotNull final JScrollPane scrollPane, final int xValue, final int yValue )
     {
-        // todo 1. Replace this method with a separate behavior or class to allow its parallel usage on multiple components
-        // todo 2. Use timer instead of thread
-
         final JScrollBar hor = scrollPane.getHorizontalScrollBar ();
         final JScrollBar ver = scrollPane.getVerticalScrollBar ();
 
         final Dimension viewportSize = scrollPane.getViewport ().getSize ();
-        xValue = xValue > hor.getMaximum () - viewportSize.width ? hor.getMaximum () - viewportSize.width : xValue;
-        yValue = yValue > ver.getMaximum () - viewportSize.height ? ver.getMaximum () - viewportSize.height : yValue;
-        final int x = xValue < 0 ? 0 : xValue;
-        final int y = yValue < 0 ? 0 : yValue;
-
-        final int xSign = hor.getValue () > x ? -1 : 1;
-        final int ySign = ver.getValue () > y ? -1 : 1;
+        final int x = Math.max ( 0, Math.min ( xValue, hor.getMaximum () - viewportSize.width ) );
+        final int y = Math.max ( 0, Math.min ( yValue, ver.getMaximum () - viewportSize.height ) );
+        final int startX = hor.getValue ();
+        final int startY = ver.getValue ();
 
-        final Thread scroller = new Thread ( new Runnable ()
+        if ( scrollTransition != null )
         {
-            @Override
-            public void run ()
+            scrollTransition.stop ();
+            scrollTransition = null;
+        }
+        if ( isShowing () && ( startX != x || startY != y ) )
+        {
+            final TimedTransition<Float> transition = new TimedTransition<Float> ( 0f, 1f, new Quadratic.Out (), 400L );
+            transition.addListener ( new TransitionAdapter<Float> ()
             {
-                scrollThread = Thread.currentThread ();
-                int lastHorValue = hor.getValue ();
-                int lastVerValue = ver.getValue ();
-                while ( lastHorValue != x || lastVerValue != y )
+                @Override
+                public void adjusted ( final Transition t, final Float value )
                 {
-                    if ( scrollThread != Thread.currentThread () )
-                    {
-                        Thread.currentThread ().interrupt ();
-                    }
-                    if ( lastHorValue != x )
-                    {
-                        final int value = lastHorValue + xSign * Math.max ( Math.abs ( lastHorValue - x ) / 4, 1 );
-                        lastHorValue = value;
-                        CoreSwingUtils.invokeLater ( new Runnable ()
-                        {
-                            @Override
-                            public void run ()
-                            {
-                                hor.setValue ( value );
-                            }
-                        } );
-                        if ( xSign < 0 && value == hor.getMinimum () || xSign > 0 && value == hor.getMaximum () )
-                        {
-                            break;
-                        }
-                    }
-                    if ( lastVerValue != y )
+                    // Ignoring events from transitions that were already replaced
+                    if ( scrollTransition == transition )
                     {
-                        final int value = lastVerValue + ySign * Math.max ( Math.abs ( lastVerValue - y ) / 4, 1 );
-                        lastVerValue = value;
-                        CoreSwingUtils.invokeLater ( new Runnable ()
-                        {
-                            @Override
-                            public void run ()
-                            {
-                                ver.setValue ( value );
-                            }
-                        } );
-                        if ( ySign < 0 && value == ver.getMinimum () || ySign > 0 && value == ver.getMaximum () )
-                        {
-                            break;
-                        }
+                        hor.setValue ( startX + Math.round ( ( x - startX ) * value ) );
+                        ver.setValue ( startY + Math.round ( ( y - startY ) * value ) );
                     }
-                    ThreadUtils.sleepSafely ( 25 );
                 }
-            }
-        } );
-        scroller.setDaemon ( true );
-        scroller.start ();
+            } );
+            scrollTransition = transition;
+            transition.play ();
+        }
+        else
+        {
+            hor.setValue ( x );
+            ver.setValue ( y );
+        }
     }
 
     private void moveReflection ()
     {
-        if ( reflectionMover != null && reflectionMover.isRunning () )
+        if ( reflectionTransition != null )
         {
-            reflectionMover.stop ();
+            reflectionTransition.stop ();
         }
 
         progress = 0f;
-        reflectionMover = new WebTimer ( "WebImageGallery.reflectionMoveTimer", SwingUtils.frameRateDelay ( 48 ), new ActionListener ()
+        final TimedTransition<Float> transition = new TimedTransition<Float> ( 0f, 1f, new Linear (), 250L );
+        transition.addListener ( new TransitionAdapter<Float> ()
         {
             @Override
-            public void actionPerformed ( final ActionEvent e )
+            public void adjusted ( final Transition t, final Float value )
             {
-                if ( progress < 1f )
+                if ( reflectionTransition == transition )
                 {
-                    progress += 0.08f;
-                    progress = Math.min ( progress, 1f );
+                    progress = value;
                     WebImageGallery.this.repaint ();
                 }
-                else
-                {
-                    reflectionMover.stop ();
-                }
             }
         } );
-        reflectionMover.start ();
+        reflectionTransition = transition;
+        transition.play ();
     }
 
     public Rectangle getImageRect ( final int index )
     {
-        final int iconWidth = images.get ( index ).getWidth ();
-        final int iconHeight = images.get ( index ).getHeight ();
+        final int iconWidth = images.get ( index ).width;
+        final int iconHeight = images.get ( index ).height;
         final Dimension ps = getPreferredSize ();
         final int x = ( getWidth () > ps.width ? ( getWidth () - ps.width ) / 2 : 0 ) + spacing +
                 ( maxWidth + spacing ) * index + maxWidth / 2;
@@ -391,28 +438,46 @@ public class WebImageGallery extends JComponent
         // Converting image to buffered image first
         final BufferedImage bufferedImage = ImageUtils.toNonNullBufferedImage ( image );
 
-        // Creating preview image
+        // Keeping only preview-sized copy, reflection is created once image is displayed
         final BufferedImage previewImage = ImageUtils.createImageThumbnail ( bufferedImage, imageLength );
-        final int rWidth = previewImage.getWidth ();
-        final int rHeight = previewImage.getHeight ();
+        addImage ( index, new GalleryImage ( previewImage, bufferedImage.getWidth (), bufferedImage.getHeight () ) );
+    }
 
-        // Creating reflection image
-        final BufferedImage reflection = ImageUtils.createCompatibleImage ( rWidth, rHeight, Transparency.TRANSLUCENT );
-        final Graphics2D g2d = reflection.createGraphics ();
-        GraphicsUtils.setupAntialias ( g2d );
-        g2d.drawImage ( previewImage, 0, 0, null );
-        g2d.setComposite ( AlphaComposite.getInstance ( AlphaComposite.DST_IN ) );
-        g2d.setPaint ( new GradientPaint (
-                0, rHeight * ( 1f - fadeHeight ), new Color ( 0, 0, 0, 0 ),
-                0, rHeight, new Color ( 0, 0, 0, opacity )
-        ) );
-        g2d.fillRect ( 0, 0, rWidth, rHeight );
-        g2d.dispose ();
+    /**
+     * Adds image stored in the specified {@link File}.
+     * Only image header is read at this point, image itself is loaded once it is displayed.
+     *
+     * @param file {@link File} containing image
+     */
+    public void addImage ( @NotNull final File file )
+    {
+        addImage ( images.size (), file );
+    }
+
+    /**
+     * Adds image stored in the specified {@link File} at the specified index.
+     * Only image header is read at this point, image itself is loaded once it is displayed.
+     *
+     * @param index index to add image at
+     * @param file  {@link File} containing image
+     */
+    public void addImage ( final int index, @NotNull final File file )
+    {
+        final Dimension size = ImageUtils.getImageSize ( file );
+        addImage ( index, new GalleryImage ( file, size.width, size.height ) );
+    }
 
+    /**
+     * Adds {@link GalleryImage} at the specified index.
+     *
+     * @param index index to add image at
+     * @param image {@link GalleryImage} to add
+     */
+    private void addImage ( final int index, @NotNull final GalleryImage image )
+    {
         // Saving image information
-        images.add ( index, previewImage );
-        descriptions.add ( index, bufferedImage.getWidth () + " x " + bufferedImage.getHeight () + " px" );
-        reflections.add ( index, reflection );
+        image.updateSize ( imageLength );
+        images.add ( index, image );
 
         // Updating view
         recalculateMaxSizes ();
@@ -425,9 +490,9 @@ public class WebImageGallery extends JComponent
         {
             final boolean wasSelected = getSelectedIndex () == index;
 
-            images.remove ( index );
-            descriptions.remove ( index );
-            reflections.remove ( index ).flush ();
+            final GalleryImage image = images.remove ( index );
+            rendered.remove ( image );
+            image.clear ();
             recalculateMaxSizes ();
             updateContainer ();
 
@@ -438,6 +503,117 @@ public class WebImageGallery extends JComponent
         }
     }
 
+    /**
+     * Clears all generated previews and reflections.
+     */
+    private void clearCache ()
+    {
+        generation++;
+        rendered.clear ();
+        for ( final GalleryImage image : images )
+        {
+            image.clear ();
+            image.updateSize ( imageLength );
+        }
+    }
+
+    /**
+     * Returns {@link GalleryImage} with generated preview and reflection or {@code null} if they are not available yet.
+     * Images stored in {@link File}s are loaded in background and gallery is repainted once they are ready.
+     *
+     * @param image {@link GalleryImage} to render
+     * @return {@link GalleryImage} with generated preview and reflection or {@code null} if they are not available yet
+     */
+    @Nullable
+    private GalleryImage render ( @NotNull final GalleryImage image )
+    {
+        GalleryImage result = null;
+        if ( image.preview != null )
+        {
+            // Marking image as recently used
+            rendered.get ( image );
+            result = image;
+        }
+        else if ( image.file == null )
+        {
+            // In-memory images are small enough to be rendered right away
+            image.render ( image.createPreview ( imageLength ) );
+            rendered.put ( image, image );
+            result = image;
+        }
+        else if ( !image.loading && !image.failed )
+        {
+            // Loading image in background
+            image.loading = true;
+            final int length = imageLength;
+            final int gen = generation;
+            TaskManager.execute ( TaskManager.COMPUTATION, new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    BufferedImage preview;
+                    try
+                    {
+                        preview = image.createPreview ( length );
+                    }
+                    catch ( final Exception e )
+                    {
+                        LoggerFactory.getLogger ( WebImageGallery.class ).error ( "Unable to load image: " + image.file, e );
+                        preview = null;
+                    }
+                    final BufferedImage loaded = preview;
+                    final BufferedImage reflection = loaded != null ? createReflection ( loaded ) : null;
+                    CoreSwingUtils.invokeLater ( new Runnable ()
+                    {
+                        @Override
+                        public void run ()
+                        {
+                            image.loading = false;
+                            if ( loaded == null )
+                            {
+                                image.failed = true;
+                            }
+                            else if ( gen == generation && images.contains ( image ) )
+                            {
+                                image.preview = loaded;
+                                image.reflection = reflection;
+                                rendered.put ( image, image );
+                            }
+                            repaint ();
+                        }
+                    } );
+                }
+            } );
+        }
+        return result;
+    }
+
+    /**
+     * Returns reflection image for the specified preview.
+     *
+     * @param previewImage preview to create reflection for
+     * @return reflection image for the specified preview
+     */
+    @NotNull
+    private BufferedImage createReflection ( @NotNull final BufferedImage previewImage )
+    {
+        final int rWidth = previewImage.getWidth ();
+        final int rHeight = previewImage.getHeight ();
+        final BufferedImage reflection = ImageUtils.createCompatibleImage ( rWidth, rHeight, Transparency.TRANSLUCENT );
+        final Graphics2D g2d = reflection.createGraphics ();
+        GraphicsUtils.setupAntialias ( g2d );
+        g2d.drawImage ( previewImage, 0, 0, null );
+        g2d.setComposite ( AlphaComposite.getInstance ( AlphaComposite.DST_IN ) );
+        g2d.setPaint ( new GradientPaint (
+                0, rHeight * ( 1f - fadeHeight ), new Color ( 0, 0, 0, 0 ),
+                0, rHeight, new Color ( 0, 0, 0, opacity )
+        ) );
+        g2d.fillRect ( 0, 0, rWidth, rHeight );
+        g2d.dispose ();
+        return reflection;
+    }
+
     private void updateContainer ()
     {
         if ( getParent () instanceof JComponent )
@@ -449,10 +625,12 @@ public class WebImageGallery extends JComponent
 
     private void recalculateMaxSizes ()
     {
-        for ( final BufferedImage icon : images )
+        maxWidth = 0;
+        maxHeight = 0;
+        for ( final GalleryImage image : images )
         {
-            maxWidth = Math.max ( maxWidth, icon.getWidth () );
-            maxHeight = Math.max ( maxHeight, icon.getHeight () );
+            maxWidth = Math.max ( maxWidth, image.width );
+            maxHeight = Math.max ( maxHeight, image.height );
         }
     }
 
@@ -480,9 +658,10 @@ public class WebImageGallery extends JComponent
                 continue;
             }
 
-            final BufferedImage image = images.get ( i );
-            final int imageWidth = image.getWidth ();
-            final int imageHeight = image.getHeight ();
+            final GalleryImage image = images.get ( i );
+            final GalleryImage ready = render ( image );
+            final int imageWidth = image.width;
+            final int imageHeight = image.height;
 
             final int x = ( getWidth () > ps.width ? ( getWidth () - ps.width ) / 2 : 0 ) + spacing +
                     ( maxWidth + spacing ) * i + maxWidth / 2;
@@ -496,7 +675,10 @@ public class WebImageGallery extends JComponent
                     : oldSelectedIndex == i ? 0.4f - progress * 0.4f : 0;
             g2d.setComposite ( AlphaComposite.getInstance ( AlphaComposite.SRC_OVER, 0.6f + add ) );
 
-            g2d.drawImage ( image, x - imageWidth / 2, y - imageHeight / 2, null );
+            if ( ready != null )
+            {
+                g2d.drawImage ( ready.preview, x - imageWidth / 2, y - imageHeight / 2, imageWidth, imageHeight, null );
+            }
 
             g2d.setPaint ( selectedIndex == i ? Color.WHITE : Color.GRAY );
             Area gp = new Area ( new RoundRectangle2D.Double ( x - imageWidth / 2 - borderWidth, y - imageHeight / 2 - borderWidth,
@@ -514,7 +696,7 @@ public class WebImageGallery extends JComponent
                 g2d.setComposite ( AlphaComposite.getInstance ( AlphaComposite.SRC_OVER, opacity ) );
                 g2d.setPaint ( Color.WHITE );
 
-                final String infoText = descriptions.get ( i );
+                final String infoText = image.description;
                 final Point ts = LafUtils.getTextCenterShift ( g2d.getFontMetrics (), infoText );
                 g2d.drawString ( infoText, x + ts.x, getHeight () / 2 + spacing / 2 + ts.y );
                 g2d.setComposite ( oldComposite );
@@ -528,9 +710,9 @@ public class WebImageGallery extends JComponent
             final int addition = selectedIndex == i
                     ? Math.round ( progress * spacing )
                     : oldSelectedIndex == i ? spacing - Math.round ( progress * spacing ) : 0;
-            if ( reflections.get ( i ) != null )
+            if ( ready != null && ready.reflection != null )
             {
-                g2d.drawImage ( reflections.get ( i ), x - imageWidth / 2, y2 + imageHeight / 2 + addition, imageWidth, -imageHeight,
+                g2d.drawImage ( ready.reflection, x - imageWidth / 2, y2 + imageHeight / 2 + addition, imageWidth, -imageHeight,
                         null );
             }
 
@@ -552,4 +734,165 @@ public class WebImageGallery extends JComponent
     {
         return new Dimension ( spacing * ( images.size () + 1 ) + maxWidth * images.size (), spacing * 3 + maxHeight * 2 );
     }
-}
\ No newline at end of file
+
+    /**
+     * Single gallery image.
+     * It only keeps information required for layout, preview and reflection are generated on demand.
+     */
+    private final class GalleryImage
+    {
+        /**
+         * {@link File} image is loaded from, {@code null} for in-memory images.
+         */
+        @Nullable
+        private final File file;
+
+        /**
+         * In-memory image, {@code null} for images loaded from {@link File}.
+         */
+        @Nullable
+        private final BufferedImage source;
+
+        /**
+         * Width of image preview is created from.
+         */
+        private final int sourceWidth;
+
+        /**
+         * Height of image preview is created from.
+         */
+        private final int sourceHeight;
+
+        /**
+         * Image description.
+         */
+        @NotNull
+        private final String description;
+
+        /**
+         * Preview width for the current image length.
+         */
+        private int width;
+
+        /**
+         * Preview height for the current image length.
+         */
+        private int height;
+
+        /**
+         * Generated preview.
+         */
+        @Nullable
+        private BufferedImage preview;
+
+        /**
+         * Generated reflection.
+         */
+        @Nullable
+        private BufferedImage reflection;
+
+        /**
+         * Whether image is being loaded in background or not.
+         */
+        private boolean loading;
+
+        /**
+         * Whether image loading has failed or not.
+         */
+        private boolean failed;
+
+        /**
+         * Constructs new in-memory {@link GalleryImage}.
+         *
+         * @param source         preview-sized image
+         * @param originalWidth  original image width
+         * @param originalHeight original image height
+         */
+        public GalleryImage ( @NotNull final BufferedImage source, final int originalWidth, final int originalHeight )
+        {
+            this.file = null;
+            this.source = source;
+            this.sourceWidth = source.getWidth ();
+            this.sourceHeight = source.getHeight ();
+            this.description = originalWidth + " x " + originalHeight + " px";
+        }
+
+        /**
+         * Constructs new {@link GalleryImage} stored in the specified {@link File}.
+         *
+         * @param file   {@link File} image is stored in
+         * @param width  image width
+         * @param height image height
+         */
+        public GalleryImage ( @NotNull final File file, final int width, final int height )
+        {
+            this.file = file;
+            this.source = null;
+            this.sourceWidth = width;
+            this.sourceHeight = height;
+            this.description = width + " x " + height + " px";
+        }
+
+        /**
+         * Updates preview size for the specified image length.
+         *
+         * @param length maximum preview width and height
+         */
+        public void updateSize ( final int length )
+        {
+            if ( sourceWidth <= length && sourceHeight <= length )
+            {
+                width = sourceWidth;
+                height = sourceHeight;
+            }
+            else if ( sourceWidth > sourceHeight )
+            {
+                width = length;
+                height = Math.round ( ( float ) length * sourceHeight / sourceWidth );
+            }
+            else if ( sourceWidth < sourceHeight )
+            {
+                width = Math.round ( ( float ) length * sourceWidth / sourceHeight );
+                height = length;
+            }
+            else
+            {
+                width = height = length;
+            }
+        }
+
+        /**
+         * Returns newly created preview for the specified image length.
+         * This might be a long-running operation for images stored in {@link File}s.
+         *
+         * @param length maximum preview width and height
+         * @return newly created preview for the specified image length
+         */
+        @NotNull
+        public BufferedImage createPreview ( final int length )
+        {
+            final BufferedImage image = source != null ? source : ImageUtils.loadSubsampledImage ( file, length, length );
+            return ImageUtils.createImageThumbnail ( image, length );
+        }
+
+        /**
+         * Saves specified preview and its reflection.
+         *
+         * @param preview generated preview
+         */
+        public void render ( @NotNull final BufferedImage preview )
+        {
+            this.preview = preview;
+            this.reflection = createReflection ( preview );
+        }
+
+        /**
+         * Clears generated preview and reflection.
+         */
+        public void clear ()
+        {
+            preview = null;
+            reflection = null;
+        }
+    }
+}
@@ -20,6 +20,8 @@ package com.alee.extended.inspector;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.extended.behavior.VisibilityBehavior;
+import com.alee.extended.heatmap.HeatMap;
+import com.alee.extended.heatmap.PaintStatistics;
 import com.alee.extended.panel.GroupPanel;
 import com.alee.extended.panel.GroupingType;
 import com.alee.extended.tree.WebTreeFilterField;
@@ -36,10 +38,12 @@ import com.alee.managers.hotkey.Hotkey;
 import com.alee.managers.icon.Icons;
 import com.alee.managers.style.StyleId;
 import com.alee.utils.ProprietaryUtils;
+import com.alee.utils.swing.WebTimer;
 
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
 
 /**
  * Complex component that provides Swing components structure overview and allows inspecting specific components.
@@ -49,6 +53,7 @@ import java.awt.event.ActionListener;
  * @see InterfaceTree
  * @see ComponentInspectBehavior
  * @see ComponentHighlighter
+ * @see PaintStatisticsTable
  * @see #showFrame(Component)
  * @see #showDialog(Component, Component)
  * @see #showPopOver(Component, Component)
@@ -62,12 +67,37 @@ public class InterfaceInspector extends WebPanel
     @NotNull
     protected final InterfaceTree tree;
 
+    /**
+     * {@link PaintStatisticsTable}.
+     * It replaces {@link InterfaceTree} while components painting is being profiled.
+     */
+    @NotNull
+    protected final PaintStatisticsTable statisticsTable;
+
+    /**
+     * {@link WebScrollPane} containing either {@link InterfaceTree} or {@link PaintStatisticsTable}.
+     */
+    @NotNull
+    protected final WebScrollPane scrollPane;
+
     /**
      * {@link Component} inspect behavior.
      */
     @Nullable
     protected transient ComponentInspectBehavior inspectBehavior;
 
+    /**
+     * {@link HeatMap} displaying components paint times while profiling.
+     */
+    @Nullable
+    protected transient HeatMap heatMap;
+
+    /**
+     * {@link PaintStatisticsTable} updater used while profiling.
+     */
+    @Nullable
+    protected transient WebTimer statisticsUpdater;
+
     /**
      * Constructs new empty {@link InterfaceInspector}.
      */
@@ -107,13 +137,16 @@ public class InterfaceInspector extends WebPanel
         super ( id );
 
         // Tree scroll
-        final WebScrollPane scrollPane = new WebScrollPane ( StyleId.inspectorScroll.at ( InterfaceInspector.this ) );
+        scrollPane = new WebScrollPane ( StyleId.inspectorScroll.at ( InterfaceInspector.this ) );
         scrollPane.setPreferredWidth ( 300 );
 
         // Interface tree
         tree = new InterfaceTree ( StyleId.inspectorTree.at ( scrollPane ), inspected );
         scrollPane.getViewport ().setView ( tree );
 
+        // Paint statistics table
+        statisticsTable = new PaintStatisticsTable ( StyleId.inspectorStatistics.at ( scrollPane ) );
+
         // Filtering field
         final WebTreeFilterField filter = new WebTreeFilterField ( StyleId.inspectorFilter.at ( InterfaceInspector.this ), tree );
 
@@ -163,7 +196,31 @@ public class InterfaceInspector extends WebPanel
                 }
             }
         } );
-        filter.setTrailingComponent ( inspectToggle );
+
+        // Components painting profiling
+        final WebToggleButton profileToggle = new WebToggleButton ( StyleId.inspectorProfile.at ( filter ), Icons.hourglass );
+        profileToggle.setRolloverIcon ( Icons.hourglassHover );
+        profileToggle.setCursor ( Cursor.getDefaultCursor () );
+        profileToggle.addHotkey ( Hotkey.CTRL_P );
+        profileToggle.addActionListener ( new ActionListener ()
+        {
+            @Override
+            public void actionPerformed ( @NotNull final ActionEvent e )
+            {
+                if ( profileToggle.isSelected () )
+                {
+                    if ( !startProfiling () )
+                    {
+                        profileToggle.setSelected ( false );
+                    }
+                }
+                else
+                {
+                    stopProfiling ();
+                }
+            }
+        } );
+        filter.setTrailingComponent ( new GroupPanel ( StyleId.panelTransparent, profileToggle, inspectToggle ) );
 
         // UI composition
         final WebSeparator separator = new WebSeparator ( StyleId.inspectorSeparator.at ( InterfaceInspector.this ) );
@@ -182,10 +239,88 @@ public class InterfaceInspector extends WebPanel
                 {
                     inspectBehavior.uninstall ();
                 }
+                stopProfiling ();
             }
         }.install ();
     }
 
+    /**
+     * Starts profiling painting of the inspected {@link Component}.
+     * {@link HeatMap} in {@link HeatMap.Mode#component} mode is displayed over the inspected {@link Component}'s window and
+     * {@link PaintStatisticsTable} replaces {@link InterfaceTree} until profiling is stopped.
+     * If there is no inspected {@link Component} - {@link Component} selected in {@link InterfaceTree} is profiled instead.
+     *
+     * @return {@code true} if profiling was started, {@code false} otherwise
+     */
+    protected boolean startProfiling ()
+    {
+        Component profiled = tree.getRootComponent ();
+        if ( profiled == null || !profiled.isShowing () )
+        {
+            final InterfaceTreeNode node = tree.getSelectedNode ();
+            profiled = node != null ? node.getUserObject () : null;
+        }
+        final boolean started;
+        if ( heatMap == null && profiled != null && profiled.isShowing () )
+        {
+            // Displaying heat map
+            heatMap = new HeatMap ();
+            heatMap.setMode ( HeatMap.Mode.component );
+            heatMap.display ( profiled );
+
+            // Displaying statistics
+            final HeatMap profiler = heatMap;
+            final Component root = profiled;
+            statisticsTable.setStatistics ( new ArrayList<PaintStatistics> () );
+            scrollPane.getViewport ().setView ( statisticsTable );
+            statisticsUpdater = WebTimer.repeat ( 500L, new ActionListener ()
+            {
+                @Override
+                public void actionPerformed ( @NotNull final ActionEvent e )
+                {
+                    if ( profiler.isDisplayed () )
+                    {
+                        statisticsTable.setStatistics ( profiler.getProfiler ().getStatistics ( root ) );
+                    }
+                }
+            } );
+
+            started = true;
+        }
+        else
+        {
+            started = false;
+        }
+        return started;
+    }
+
+    /**
+     * Stops profiling painting of the inspected {@link Component}.
+     */
+    protected void stopProfiling ()
+    {
+        if ( heatMap != null )
+        {
+            // Stopping statistics updates
+            if ( statisticsUpdater != null )
+            {
+                statisticsUpdater.stop ();
+                statisticsUpdater = null;
+            }
+
+            // Disposing heat map
+            if ( heatMap.isDisplayed () )
+            {
+                heatMap.dispose ();
+            }
+            heatMap = null;
+
+            // Restoring interface tree
+            statisticsTable.setStatistics ( new ArrayList<PaintStatistics> () );
+            scrollPane.getViewport ().setView ( tree );
+        }
+    }
+
     /**
      * Sets inspected {@link Component}.
      *
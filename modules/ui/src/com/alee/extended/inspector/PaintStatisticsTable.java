@@ -0,0 +1,78 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.extended.inspector;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.extended.heatmap.PaintStatistics;
+import com.alee.laf.table.WebTable;
+import com.alee.managers.style.StyleId;
+
+import javax.swing.*;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * {@link WebTable} displaying per-component {@link PaintStatistics}.
+ * It is sorted by self paint time 90th percentile by default, but can be sorted by any other column.
+ *
+ * @author Mikle Garin
+ * @see PaintStatisticsTableModel
+ * @see com.alee.extended.heatmap.ComponentPaintProfiler
+ */
+public class PaintStatisticsTable extends WebTable
+{
+    /**
+     * Constructs new {@link PaintStatisticsTable}.
+     */
+    public PaintStatisticsTable ()
+    {
+        this ( StyleId.auto );
+    }
+
+    /**
+     * Constructs new {@link PaintStatisticsTable}.
+     *
+     * @param id {@link StyleId}
+     */
+    public PaintStatisticsTable ( @NotNull final StyleId id )
+    {
+        super ( id, new PaintStatisticsTableModel () );
+        setAutoCreateRowSorter ( true );
+        setSelectionMode ( ListSelectionModel.SINGLE_SELECTION );
+        getRowSorter ().setSortKeys ( Arrays.asList (
+                new RowSorter.SortKey ( PaintStatisticsTableModel.SELF_COLUMN + 1, SortOrder.DESCENDING )
+        ) );
+    }
+
+    @NotNull
+    @Override
+    public PaintStatisticsTableModel getModel ()
+    {
+        return ( PaintStatisticsTableModel ) super.getModel ();
+    }
+
+    /**
+     * Sets displayed {@link PaintStatistics}.
+     * Current sorting is preserved.
+     *
+     * @param statistics {@link PaintStatistics} to display
+     */
+    public void setStatistics ( @NotNull final Collection<PaintStatistics> statistics )
+    {
+        getModel ().setStatistics ( statistics );
+    }
+}
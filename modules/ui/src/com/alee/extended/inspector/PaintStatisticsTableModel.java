@@ -0,0 +1,239 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.extended.inspector;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.extended.heatmap.PaintStatistics;
+import com.alee.managers.language.LM;
+import com.alee.utils.ReflectUtils;
+import com.alee.utils.TextUtils;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link javax.swing.table.TableModel} implementation for {@link PaintStatisticsTable}.
+ * All paint times are provided in milliseconds.
+ *
+ * @author Mikle Garin
+ * @see PaintStatistics
+ */
+public class PaintStatisticsTableModel extends AbstractTableModel
+{
+    /**
+     * Component column index.
+     */
+    public static final int COMPONENT_COLUMN = 0;
+
+    /**
+     * Painter column index.
+     */
+    public static final int PAINTER_COLUMN = 1;
+
+    /**
+     * Profiled frames column index.
+     */
+    public static final int FRAMES_COLUMN = 2;
+
+    /**
+     * Index of the first self paint time column.
+     */
+    public static final int SELF_COLUMN = 3;
+
+    /**
+     * Index of the first total paint time column.
+     */
+    public static final int TOTAL_COLUMN = 6;
+
+    /**
+     * Displayed percentiles.
+     * There is a separate self and total paint time column for each of these percentiles.
+     */
+    protected static final double[] PERCENTILES = new double[]{ 0.5, 0.9, 0.99 };
+
+    /**
+     * Displayed {@link PaintStatistics}.
+     */
+    @NotNull
+    protected final List<PaintStatistics> statistics;
+
+    /**
+     * Constructs new empty {@link PaintStatisticsTableModel}.
+     */
+    public PaintStatisticsTableModel ()
+    {
+        super ();
+        this.statistics = new ArrayList<PaintStatistics> ();
+    }
+
+    /**
+     * Sets displayed {@link PaintStatistics}.
+     *
+     * @param statistics {@link PaintStatistics} to display
+     */
+    public void setStatistics ( @NotNull final Collection<PaintStatistics> statistics )
+    {
+        this.statistics.clear ();
+        this.statistics.addAll ( statistics );
+        fireTableDataChanged ();
+    }
+
+    /**
+     * Returns {@link PaintStatistics} for the specified row.
+     *
+     * @param row model row index
+     * @return {@link PaintStatistics} for the specified row
+     */
+    @NotNull
+    public PaintStatistics getStatistics ( final int row )
+    {
+        return statistics.get ( row );
+    }
+
+    @Override
+    public int getRowCount ()
+    {
+        return statistics.size ();
+    }
+
+    @Override
+    public int getColumnCount ()
+    {
+        return TOTAL_COLUMN + PERCENTILES.length;
+    }
+
+    @NotNull
+    @Override
+    public String getColumnName ( final int column )
+    {
+        final String name;
+        if ( column == COMPONENT_COLUMN )
+        {
+            name = LM.get ( "weblaf.ex.inspector.statistics.component" );
+        }
+        else if ( column == PAINTER_COLUMN )
+        {
+            name = LM.get ( "weblaf.ex.inspector.statistics.painter" );
+        }
+        else if ( column == FRAMES_COLUMN )
+        {
+            name = LM.get ( "weblaf.ex.inspector.statistics.frames" );
+        }
+        else if ( column < TOTAL_COLUMN )
+        {
+            name = LM.get ( "weblaf.ex.inspector.statistics.self" ) + " " + getPercentileName ( column - SELF_COLUMN );
+        }
+        else
+        {
+            name = LM.get ( "weblaf.ex.inspector.statistics.total" ) + " " + getPercentileName ( column - TOTAL_COLUMN );
+        }
+        return name;
+    }
+
+    /**
+     * Returns short name of the percentile at the specified index.
+     *
+     * @param index percentile index
+     * @return short name of the percentile at the specified index
+     */
+    @NotNull
+    protected String getPercentileName ( final int index )
+    {
+        return "p" + Math.round ( PERCENTILES[ index ] * 100 );
+    }
+
+    @NotNull
+    @Override
+    public Class<?> getColumnClass ( final int column )
+    {
+        final Class<?> columnClass;
+        if ( column == COMPONENT_COLUMN || column == PAINTER_COLUMN )
+        {
+            columnClass = String.class;
+        }
+        else if ( column == FRAMES_COLUMN )
+        {
+            columnClass = Integer.class;
+        }
+        else
+        {
+            columnClass = Double.class;
+        }
+        return columnClass;
+    }
+
+    @Override
+    public boolean isCellEditable ( final int row, final int column )
+    {
+        return false;
+    }
+
+    @Nullable
+    @Override
+    public Object getValueAt ( final int row, final int column )
+    {
+        final PaintStatistics rowStatistics = statistics.get ( row );
+        final Object value;
+        if ( column == COMPONENT_COLUMN )
+        {
+            value = getComponentName ( rowStatistics.getComponent () );
+        }
+        else if ( column == PAINTER_COLUMN )
+        {
+            value = rowStatistics.getPainter ();
+        }
+        else if ( column == FRAMES_COLUMN )
+        {
+            value = rowStatistics.getSamples ();
+        }
+        else if ( column < TOTAL_COLUMN )
+        {
+            value = ( double ) rowStatistics.getSelfTime ( PERCENTILES[ column - SELF_COLUMN ] ) / 1000000;
+        }
+        else
+        {
+            value = ( double ) rowStatistics.getTotalTime ( PERCENTILES[ column - TOTAL_COLUMN ] ) / 1000000;
+        }
+        return value;
+    }
+
+    /**
+     * Returns displayed name for the specified {@link JComponent}.
+     *
+     * @param component {@link JComponent} to return displayed name for
+     * @return displayed name for the specified {@link JComponent}
+     */
+    @Nullable
+    protected String getComponentName ( @Nullable final JComponent component )
+    {
+        final String name;
+        if ( component != null )
+        {
+            final String className = ReflectUtils.getClassName ( component );
+            name = TextUtils.notEmpty ( component.getName () ) ? className + " [" + component.getName () + "]" : className;
+        }
+        else
+        {
+            name = null;
+        }
+        return name;
+    }
+}
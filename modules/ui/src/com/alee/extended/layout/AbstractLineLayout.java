@@ -104,6 +104,14 @@ public abstract class AbstractLineLayout extends AbstractLayoutManager implement
     @NotNull
     protected transient Map<String, List<Component>> components;
 
+    /**
+     * {@link Component} preferred sizes kept across layout passes.
+     * Only sizes of {@link Component}s that were valid upon measurement are kept here.
+     * All sizes are cleared in {@link #invalidateLayout(Container)} and {@link Component} size is cleared on its addition and removal.
+     */
+    @NotNull
+    protected transient Map<Component, Dimension> sizeCache;
+
     /**
      * Constructs new {@link AbstractLineLayout}.
      *
@@ -116,6 +124,7 @@ public abstract class AbstractLineLayout extends AbstractLayoutManager implement
         this.partsSpacing = partsSpacing;
         this.constraints = new HashMap<Component, String> ( 10 );
         this.components = new HashMap<String, List<Component>> ( 4 );
+        this.sizeCache = new HashMap<Component, Dimension> ( 10 );
     }
 
     /**
@@ -207,6 +216,11 @@ public abstract class AbstractLineLayout extends AbstractLayoutManager implement
         }
         components.add ( component );
         this.components.put ( actualConstraints, components );
+
+        /**
+         * Clearing outdated component size.
+         */
+        this.sizeCache.remove ( component );
     }
 
     @Override
@@ -228,6 +242,11 @@ public abstract class AbstractLineLayout extends AbstractLayoutManager implement
         {
             this.components.remove ( constraints );
         }
+
+        /**
+         * Removing component size.
+         */
+        this.sizeCache.remove ( component );
     }
 
     @Override
@@ -260,7 +279,8 @@ public abstract class AbstractLineLayout extends AbstractLayoutManager implement
         /**
          * Calculating preferred size of the whole layout.
          * We will need this to decide how components should be placed.
-         * We also cache all component preferred sizes to avoid overhead calculations.
+         * We also cache preferred sizes of invalid components for this layout pass to avoid overhead calculations.
+         * Preferred sizes of valid components are reused from {@link #sizeCache}.
          */
         final Map<Component, Dimension> cache = new HashMap<Component, Dimension> ();
         final Dimension preferredSize = preferredLayoutSize ( container, cache );
@@ -687,6 +707,8 @@ public abstract class AbstractLineLayout extends AbstractLayoutManager implement
 
     /**
      * Returns cached {@link Component} preferred size.
+     * Preferred size of valid {@link Component} is kept in {@link #sizeCache} until it gets invalidated.
+     * Preferred size of invalid {@link Component} is only kept in the provided cache for the duration of current calculation.
      *
      * @param component {@link Component}
      * @param cache     {@link Map} containing {@link Component} size caches
@@ -698,12 +720,35 @@ public abstract class AbstractLineLayout extends AbstractLayoutManager implement
         Dimension ps = cache.get ( component );
         if ( ps == null )
         {
-            ps = component.getPreferredSize ();
+            if ( component.isValid () )
+            {
+                ps = sizeCache.get ( component );
+                if ( ps == null )
+                {
+                    ps = component.getPreferredSize ();
+                    sizeCache.put ( component, ps );
+                }
+            }
+            else
+            {
+                ps = component.getPreferredSize ();
+                sizeCache.remove ( component );
+            }
             cache.put ( component, ps );
         }
         return ps;
     }
 
+    @Override
+    public void invalidateLayout ( @NotNull final Container container )
+    {
+        /**
+         * Clearing all component sizes.
+         * Component sizes can change without components being invalidated, for instance when they are set explicitly.
+         */
+        sizeCache.clear ();
+    }
+
     /**
      * Returns actual constraints based on the layout orientation and component orientation.
      *
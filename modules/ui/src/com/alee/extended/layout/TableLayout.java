@@ -51,11 +51,16 @@
 
 package com.alee.extended.layout;
 
+import com.alee.api.jdk.Objects;
+
 import java.awt.*;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 
 /**
  * TableLayout is a layout manager that is more powerful than GridBagLayout yet much easier to
@@ -307,6 +312,47 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
      */
     protected boolean dirty;
 
+    /**
+     * Snapshot of {@link #list} entries used for size calculations, {@code null} if it has to be updated.
+     */
+    protected transient Entry[] entries;
+
+    /**
+     * Preferred sizes of {@link #entries} components measured within the last bulk measurement pass.
+     */
+    protected transient Dimension[] preferredSizes;
+
+    /**
+     * Minimum sizes of {@link #entries} components measured within the last bulk measurement pass.
+     */
+    protected transient Dimension[] minimumSizes;
+
+    /**
+     * Validity stamps of {@link #entries} components.
+     * Measured sizes are only reused while component was valid upon measurement, still remains valid and layout wasn't invalidated.
+     */
+    protected transient boolean[] measuredValid;
+
+    /**
+     * Container insets used for the last calculation of cell sizes and layout sizes, {@code null} if they have to be checked again.
+     */
+    protected transient Insets measuredInsets;
+
+    /**
+     * Indices of {@link #entries} for each component, used to find entries during layout.
+     */
+    protected transient Map<Component, Integer> entryIndices;
+
+    /**
+     * Cached preferred layout size, {@code null} if it has to be calculated.
+     */
+    protected transient Dimension cachedPreferredSize;
+
+    /**
+     * Cached minimum layout size, {@code null} if it has to be calculated.
+     */
+    protected transient Dimension cachedMinimumSize;
+
     /**
      * Previous known width of the container
      */
@@ -466,7 +512,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
         list = new LinkedList ();
 
         // Indicate that the cell sizes are not known
-        dirty = true;
+        invalidateCache ();
     }
 
     /**
@@ -522,6 +568,9 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
                 iterator.set ( new Entry ( component, constraint ) );
             }
         }
+
+        // Indicate that the cell sizes are not known
+        invalidateCache ();
     }
 
     /**
@@ -599,7 +648,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
         }
 
         // Indicate that the cell sizes are not known
-        dirty = true;
+        invalidateCache ();
     }
 
     /**
@@ -673,7 +722,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
         crSpec[ z ][ i ] = size;
 
         // Indicate that the cell sizes are not known
-        dirty = true;
+        invalidateCache ();
     }
 
     /**
@@ -782,6 +831,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
         if ( hGap >= 0 )
         {
             this.hGap = hGap;
+            invalidateCache ();
         }
         else
         {
@@ -799,6 +849,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
         if ( vGap >= 0 )
         {
             this.vGap = vGap;
+            invalidateCache ();
         }
         else
         {
@@ -903,7 +954,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
         }
 
         // Indicate that the cell sizes are not known
-        dirty = true;
+        invalidateCache ();
     }
 
     /**
@@ -981,7 +1032,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
         }
 
         // Indicate that the cell sizes are not known
-        dirty = true;
+        invalidateCache ();
     }
 
     /**
@@ -1301,6 +1352,8 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
      * preferred widths/heights, but not vice versa.  The end result is that any component contained
      * wholly or partly in a column/row of minimum/preferred width or height will get at least its
      * minimum/preferred width or height, respectively.
+     * <p>
+     * Component sizes must be measured with {@link #measureEntries()} before calling this method.
      *
      * @param z             indicates row or column
      * @param availableSize amount of space available in the container
@@ -1323,12 +1376,13 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
 
                 // Find maximum preferred/min width of all components completely
                 // or partially contained within this cr
-                final ListIterator iterator = list.listIterator ( 0 );
+                // Sizes are taken from the last bulk measurement pass
+                final Dimension[] sizes = typeOfSize == PREFERRED ? preferredSizes : minimumSizes;
 
                 nextComponent:
-                while ( iterator.hasNext () )
+                for ( int index = 0; index < entries.length; index++ )
                 {
-                    final Entry entry = ( Entry ) iterator.next ();
+                    final Entry entry = entries[ index ];
 
                     // Skip invalid entries
                     if ( entry.cr1[ z ] < 0 || entry.cr2[ z ] >= numCr )
@@ -1341,8 +1395,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
                     if ( entry.cr1[ z ] <= counter && entry.cr2[ z ] >= counter )
                     {
                         // Setup size and number of adjustable crs
-                        final Dimension p =
-                                typeOfSize == PREFERRED ? entry.component.getPreferredSize () : entry.component.getMinimumSize ();
+                        final Dimension p = sizes[ index ];
 
                         int size = p == null ? 0 : z == C ? p.width : p.height;
                         int numAdjustable = 0;
@@ -1433,6 +1486,9 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
     @Override
     public void layoutContainer ( final Container container )
     {
+        // Measure components that are not yet measured or were invalidated
+        measureEntries ( container );
+
         // Calculate sizes if container has changed size or components were added
         final Dimension d = container.getSize ();
 
@@ -1455,30 +1511,16 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
             try
             {
                 // Get the entry for the next component
-                final ListIterator iterator = list.listIterator ( 0 );
-                Entry entry = null;
-
-                while ( iterator.hasNext () )
-                {
-                    entry = ( Entry ) iterator.next ();
-
-                    if ( entry.component == component )
-                    {
-                        break;
-                    }
-                    else
-                    {
-                        entry = null;
-                    }
-                }
+                final Integer index = entryIndices.get ( component );
 
                 // Skip any components that have not been place in a specific cell,
                 // setting the skip component's bounds to zero
-                if ( entry == null )
+                if ( index == null )
                 {
                     component.setBounds ( 0, 0, 0, 0 );
                     continue;
                 }
+                final Entry entry = entries[ index ];
 
                 // The following block of code has been optimized so that the
                 // preferred size of the component is only obtained if it is
@@ -1492,7 +1534,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
 
                 if ( entry.alignment[ C ] != FULL || entry.alignment[ R ] != FULL )
                 {
-                    final Dimension preferredSize = component.getPreferredSize ();
+                    final Dimension preferredSize = preferredSizes[ index ];
 
                     preferredWidth = preferredSize.width;
                     preferredHeight = preferredSize.height;
@@ -1722,28 +1764,140 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
      */
     protected Dimension calculateLayoutSize ( final Container container, final double typeOfSize )
     {
-        //  Get preferred/minimum sizes
-        final Entry[] entryList = ( Entry[] ) list.toArray ( new Entry[ list.size () ] );
-        final int numEntry = entryList.length;
-        final Dimension[] prefMinSize = new Dimension[ numEntry ];
+        // Measure components that are not yet measured or were invalidated
+        measureEntries ( container );
 
-        for ( int i = 0; i < numEntry; i++ )
+        // Calculate sizes unless they are already known
+        Dimension layoutSize = typeOfSize == PREFERRED ? cachedPreferredSize : cachedMinimumSize;
+        if ( layoutSize == null )
         {
-            prefMinSize[ i ] =
-                    typeOfSize == PREFERRED ? entryList[ i ].component.getPreferredSize () : entryList[ i ].component.getMinimumSize ();
+            //  Get preferred/minimum sizes
+            final Dimension[] prefMinSize = typeOfSize == PREFERRED ? preferredSizes : minimumSizes;
+
+            // Calculate sizes
+            int width = calculateLayoutSize ( container, C, typeOfSize, entries, prefMinSize );
+
+            int height = calculateLayoutSize ( container, R, typeOfSize, entries, prefMinSize );
+
+            // Compensate for container's insets
+            final Insets inset = container.getInsets ();
+            width += inset.left + inset.right;
+            height += inset.top + inset.bottom;
+
+            // Cache calculated size
+            layoutSize = new Dimension ( width, height );
+            if ( typeOfSize == PREFERRED )
+            {
+                cachedPreferredSize = layoutSize;
+            }
+            else
+            {
+                cachedMinimumSize = layoutSize;
+            }
+
+            // Cell sizes were overwritten by this calculation
+            dirty = true;
         }
 
-        // Calculate sizes
-        int width = calculateLayoutSize ( container, C, typeOfSize, entryList, prefMinSize );
+        return new Dimension ( layoutSize );
+    }
+
+    /**
+     * Measures preferred and minimum sizes of all components in a single bulk pass.
+     * Only components that were not measured yet, were invalid upon measurement or were invalidated since are measured again,
+     * sizes of all other components are reused from the previous pass.
+     * If any measured size or container insets differ from the previous ones all cached layout sizes and cell sizes are discarded.
+     *
+     * @param container container using this TableLayout
+     * @return {@code true} if any component size or container insets have changed, {@code false} otherwise
+     */
+    protected boolean measureEntries ( final Container container )
+    {
+        // Update entries snapshot
+        if ( entries == null )
+        {
+            entries = ( Entry[] ) list.toArray ( new Entry[ list.size () ] );
+            preferredSizes = new Dimension[ entries.length ];
+            minimumSizes = new Dimension[ entries.length ];
+            measuredValid = new boolean[ entries.length ];
+            entryIndices = new IdentityHashMap<Component, Integer> ( entries.length );
+            for ( int index = 0; index < entries.length; index++ )
+            {
+                if ( !entryIndices.containsKey ( entries[ index ].component ) )
+                {
+                    entryIndices.put ( entries[ index ].component, index );
+                }
+            }
+        }
 
-        int height = calculateLayoutSize ( container, R, typeOfSize, entryList, prefMinSize );
+        // Check container insets which are included into all calculated sizes
+        boolean changed = false;
+        final Insets insets = container.getInsets ();
+        if ( !insets.equals ( measuredInsets ) )
+        {
+            measuredInsets = insets;
+            changed = true;
+        }
 
-        // Compensate for container's insets
-        final Insets inset = container.getInsets ();
-        width += inset.left + inset.right;
-        height += inset.top + inset.bottom;
+        // Measure components with outdated sizes
+        for ( int index = 0; index < entries.length; index++ )
+        {
+            final Component component = entries[ index ].component;
+            if ( preferredSizes[ index ] == null || !measuredValid[ index ] || !component.isValid () )
+            {
+                final Dimension preferredSize = component.getPreferredSize ();
+                final Dimension minimumSize = component.getMinimumSize ();
+                if ( !Objects.equals ( preferredSize, preferredSizes[ index ] ) ||
+                        !Objects.equals ( minimumSize, minimumSizes[ index ] ) )
+                {
+                    preferredSizes[ index ] = preferredSize;
+                    minimumSizes[ index ] = minimumSize;
+                    changed = true;
+                }
+                measuredValid[ index ] = component.isValid ();
+            }
+        }
+
+        // Discard layout sizes calculated from outdated sizes
+        if ( changed )
+        {
+            cachedPreferredSize = null;
+            cachedMinimumSize = null;
+            dirty = true;
+        }
+
+        return changed;
+    }
+
+    /**
+     * Discards all cached sizes.
+     * Cell sizes, layout sizes and measured component sizes will be calculated again upon next request.
+     */
+    protected void invalidateCache ()
+    {
+        dirty = true;
+        entries = null;
+        preferredSizes = null;
+        minimumSizes = null;
+        measuredValid = null;
+        measuredInsets = null;
+        entryIndices = null;
+        cachedPreferredSize = null;
+        cachedMinimumSize = null;
+    }
 
-        return new Dimension ( width, height );
+    /**
+     * Marks all measured component sizes to be requested again upon next measurement.
+     * Component sizes can change without components being invalidated, for instance when they are set explicitly,
+     * so validity stamps cannot be trusted once layout is invalidated.
+     * Cell sizes and layout sizes are kept and only discarded by {@link #measureEntries(Container)} if anything has actually changed.
+     */
+    protected void invalidateMeasurements ()
+    {
+        if ( measuredValid != null )
+        {
+            Arrays.fill ( measuredValid, false );
+        }
     }
 
     /**
@@ -1959,7 +2113,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
             list.add ( new Entry ( component, ( TableLayoutConstraints ) constraint ) );
 
             // Indicate that the cell sizes are not known
-            dirty = true;
+            invalidateCache ();
         }
         else if ( constraint instanceof TableLayoutConstraints )
         {
@@ -1967,7 +2121,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
             list.add ( new Entry ( component, ( TableLayoutConstraints ) constraint ) );
 
             // Indicate that the cell sizes are not known
-            dirty = true;
+            invalidateCache ();
         }
         else if ( constraint == null )
         {
@@ -2001,7 +2155,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
         }
 
         // Indicate that the cell sizes are not known since
-        dirty = true;
+        invalidateCache ();
     }
 
     /**
@@ -2053,7 +2207,7 @@ public class TableLayout implements java.awt.LayoutManager2, java.io.Serializabl
     @Override
     public void invalidateLayout ( final Container container )
     {
-        dirty = true;
+        invalidateMeasurements ();
     }
 
     /**
@@ -21,6 +21,7 @@ import com.alee.laf.list.WebListModel;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -182,6 +183,63 @@ public class FileListModel extends WebListModel<FileElement>
         setAll ( toElementsList ( data ) );
     }
 
+    /**
+     * Merges specified sorted files into list data.
+     * List data is expected to be sorted with the same {@link Comparator}.
+     *
+     * @param data       sorted files list
+     * @param comparator {@link Comparator} both list data and specified files are sorted with, {@code null} to append files
+     */
+    public void addSortedData ( final List<File> data, final Comparator<File> comparator )
+    {
+        if ( data.size () > 0 )
+        {
+            final List<FileElement> elements = toElementsList ( data );
+            final int size = delegate.size ();
+            if ( size == 0 || comparator == null || comparator.compare ( delegate.lastElement ().getFile (), data.get ( 0 ) ) <= 0 )
+            {
+                addAll ( elements );
+            }
+            else
+            {
+                // Merging elements while remembering ranges of inserted ones
+                // Each range is reported separately so that existing elements are not considered changed
+                final List<FileElement> merged = new ArrayList<FileElement> ( size + elements.size () );
+                final List<int[]> inserted = new ArrayList<int[]> ();
+                int existing = 0;
+                int added = 0;
+                while ( existing < size || added < elements.size () )
+                {
+                    if ( added < elements.size () && ( existing == size ||
+                            comparator.compare ( elements.get ( added ).getFile (), delegate.get ( existing ).getFile () ) < 0 ) )
+                    {
+                        final int index = merged.size ();
+                        final int[] last = inserted.size () > 0 ? inserted.get ( inserted.size () - 1 ) : null;
+                        if ( last != null && last[ 1 ] == index - 1 )
+                        {
+                            last[ 1 ] = index;
+                        }
+                        else
+                        {
+                            inserted.add ( new int[]{ index, index } );
+                        }
+                        merged.add ( elements.get ( added++ ) );
+                    }
+                    else
+                    {
+                        merged.add ( delegate.get ( existing++ ) );
+                    }
+                }
+                delegate.clear ();
+                delegate.addAll ( merged );
+                for ( final int[] range : inserted )
+                {
+                    fireIntervalAdded ( this, range[ 0 ], range[ 1 ] );
+                }
+            }
+        }
+    }
+
     /**
      * Returns files under the specified directory.
      *
@@ -0,0 +1,335 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.list;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.FileUtils;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.*;
+
+/**
+ * Persistent on-disk cache for generated file thumbnails.
+ * Each thumbnail is stored as a separate PNG file named after a hash of source file path, modification time, length and
+ * thumbnail size, so any change to the source file automatically results in a cache miss.
+ * Total size of cached files is limited, least recently used thumbnails are removed first once the limit is exceeded.
+ * Last access time is persisted through cached files modification time, so it is preserved between application sessions.
+ *
+ * @author Mikle Garin
+ * @see WebFileList#setThumbnailCache(FileThumbnailCache)
+ */
+public class FileThumbnailCache
+{
+    /**
+     * Cached thumbnail files extension.
+     */
+    protected static final String EXTENSION = ".png";
+
+    /**
+     * Temporary thumbnail files extension.
+     */
+    protected static final String TEMPORARY_EXTENSION = ".tmp";
+
+    /**
+     * Minimum age of temporary thumbnail files in milliseconds before they are considered leftovers of interrupted writes.
+     * Younger temporary files might still be written by another cache instance using the same directory.
+     */
+    protected static final long STALE_TEMPORARY_AGE = 60 * 1000;
+
+    /**
+     * Directory thumbnails are stored in.
+     */
+    @NotNull
+    protected final File directory;
+
+    /**
+     * Maximum total size of cached thumbnails in bytes.
+     */
+    protected final long maximumSize;
+
+    /**
+     * Cached thumbnail file names mapped to their lengths in access order.
+     * It is lazily loaded from {@link #directory} content upon first cache access.
+     */
+    @Nullable
+    protected LinkedHashMap<String, Long> entries;
+
+    /**
+     * Current total size of cached thumbnails in bytes.
+     */
+    protected long size;
+
+    /**
+     * Constructs new {@link FileThumbnailCache}.
+     *
+     * @param directory   directory thumbnails are stored in
+     * @param maximumSize maximum total size of cached thumbnails in bytes
+     */
+    public FileThumbnailCache ( @NotNull final File directory, final long maximumSize )
+    {
+        this.directory = directory;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns directory thumbnails are stored in.
+     *
+     * @return directory thumbnails are stored in
+     */
+    @NotNull
+    public File getDirectory ()
+    {
+        return directory;
+    }
+
+    /**
+     * Returns maximum total size of cached thumbnails in bytes.
+     *
+     * @return maximum total size of cached thumbnails in bytes
+     */
+    public long getMaximumSize ()
+    {
+        return maximumSize;
+    }
+
+    /**
+     * Returns current total size of cached thumbnails in bytes.
+     *
+     * @return current total size of cached thumbnails in bytes
+     */
+    public synchronized long getSize ()
+    {
+        loadEntries ();
+        return size;
+    }
+
+    /**
+     * Returns cached thumbnail for the specified {@link File} or {@code null} if it is not cached.
+     *
+     * @param file          {@link File} to retrieve cached thumbnail for
+     * @param thumbnailSize maximum thumbnail width and height
+     * @return cached thumbnail for the specified {@link File} or {@code null} if it is not cached
+     */
+    @Nullable
+    public BufferedImage get ( @NotNull final File file, final int thumbnailSize )
+    {
+        BufferedImage thumbnail = null;
+        final String name = getKey ( file, thumbnailSize );
+        final File cached = new File ( directory, name );
+        final boolean known;
+        synchronized ( this )
+        {
+            known = loadEntries ().get ( name ) != null;
+        }
+        if ( known )
+        {
+            try
+            {
+                thumbnail = ImageIO.read ( cached );
+                if ( thumbnail != null )
+                {
+                    // Persisting last access time
+                    cached.setLastModified ( System.currentTimeMillis () );
+                }
+            }
+            catch ( final Exception e )
+            {
+                // Thumbnail was removed or corrupted, it will be regenerated
+                thumbnail = null;
+            }
+            if ( thumbnail == null )
+            {
+                synchronized ( this )
+                {
+                    remove ( name );
+                }
+            }
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Stores thumbnail for the specified {@link File}.
+     * Least recently used thumbnails are removed afterwards if total cache size exceeds {@link #getMaximumSize()}.
+     *
+     * @param file          {@link File} thumbnail was generated for
+     * @param thumbnailSize maximum thumbnail width and height
+     * @param thumbnail     thumbnail to store
+     */
+    public void put ( @NotNull final File file, final int thumbnailSize, @NotNull final BufferedImage thumbnail )
+    {
+        final String name = getKey ( file, thumbnailSize );
+        try
+        {
+            // Loading entries before writing temporary file so that leftovers cleanup never meets it
+            synchronized ( this )
+            {
+                loadEntries ();
+            }
+            if ( directory.exists () || directory.mkdirs () )
+            {
+                // Writing into temporary file first to avoid exposing partially written thumbnails
+                final File temporary = File.createTempFile ( name, TEMPORARY_EXTENSION, directory );
+                if ( ImageIO.write ( thumbnail, "png", temporary ) )
+                {
+                    synchronized ( this )
+                    {
+                        final File cached = new File ( directory, name );
+                        remove ( name );
+                        if ( temporary.renameTo ( cached ) )
+                        {
+                            final long length = cached.length ();
+                            loadEntries ().put ( name, length );
+                            size += length;
+                            trim ();
+                        }
+                        else
+                        {
+                            FileUtils.deleteFile ( temporary );
+                        }
+                    }
+                }
+                else
+                {
+                    FileUtils.deleteFile ( temporary );
+                }
+            }
+        }
+        catch ( final Exception e )
+        {
+            LoggerFactory.getLogger ( FileThumbnailCache.class ).error ( "Unable to cache thumbnail for file: " + file, e );
+        }
+    }
+
+    /**
+     * Removes all cached thumbnails.
+     */
+    public synchronized void clear ()
+    {
+        for ( final String name : new ArrayList<String> ( loadEntries ().keySet () ) )
+        {
+            remove ( name );
+        }
+    }
+
+    /**
+     * Returns cached thumbnail file name for the specified {@link File}.
+     *
+     * @param file          {@link File} to return cached thumbnail file name for
+     * @param thumbnailSize maximum thumbnail width and height
+     * @return cached thumbnail file name for the specified {@link File}
+     */
+    @NotNull
+    protected String getKey ( @NotNull final File file, final int thumbnailSize )
+    {
+        final String source = file.getAbsolutePath () + "|" + file.lastModified () + "|" + file.length () + "|" + thumbnailSize;
+        return FileUtils.computeMD5 ( source ) + EXTENSION;
+    }
+
+    /**
+     * Returns cached thumbnail file names mapped to their lengths in access order.
+     * Loads them from {@link #directory} upon first call, ordered by their last access time.
+     * Stale temporary files left by interrupted writes are also removed upon first call.
+     *
+     * @return cached thumbnail file names mapped to their lengths in access order
+     */
+    @NotNull
+    protected LinkedHashMap<String, Long> loadEntries ()
+    {
+        if ( entries == null )
+        {
+            entries = new LinkedHashMap<String, Long> ( 64, 0.75f, true );
+            size = 0;
+            final long staleTime = System.currentTimeMillis () - STALE_TEMPORARY_AGE;
+            final File[] files = directory.listFiles ();
+            if ( files != null )
+            {
+                final List<File> cached = new ArrayList<File> ( files.length );
+                for ( final File file : files )
+                {
+                    if ( file.getName ().endsWith ( EXTENSION ) )
+                    {
+                        cached.add ( file );
+                    }
+                    else if ( file.getName ().endsWith ( TEMPORARY_EXTENSION ) && file.lastModified () < staleTime )
+                    {
+                        // Leftovers of interrupted writes
+                        FileUtils.deleteFile ( file );
+                    }
+                }
+                final Map<File, Long> modified = new HashMap<File, Long> ( cached.size () );
+                for ( final File file : cached )
+                {
+                    modified.put ( file, file.lastModified () );
+                }
+                Collections.sort ( cached, new Comparator<File> ()
+                {
+                    @Override
+                    public int compare ( final File f1, final File f2 )
+                    {
+                        final long m1 = modified.get ( f1 );
+                        final long m2 = modified.get ( f2 );
+                        return m1 < m2 ? -1 : m1 > m2 ? 1 : 0;
+                    }
+                } );
+                for ( final File file : cached )
+                {
+                    final long length = file.length ();
+                    entries.put ( file.getName (), length );
+                    size += length;
+                }
+            }
+            trim ();
+        }
+        return entries;
+    }
+
+    /**
+     * Removes least recently used thumbnails until total cache size fits into {@link #getMaximumSize()}.
+     */
+    protected void trim ()
+    {
+        final Iterator<Map.Entry<String, Long>> iterator = entries.entrySet ().iterator ();
+        while ( size > maximumSize && iterator.hasNext () )
+        {
+            final Map.Entry<String, Long> entry = iterator.next ();
+            FileUtils.deleteFile ( new File ( directory, entry.getKey () ) );
+            size -= entry.getValue ();
+            iterator.remove ();
+        }
+    }
+
+    /**
+     * Removes cached thumbnail with the specified file name.
+     *
+     * @param name cached thumbnail file name
+     */
+    protected void remove ( @NotNull final String name )
+    {
+        final Long length = loadEntries ().remove ( name );
+        if ( length != null )
+        {
+            FileUtils.deleteFile ( new File ( directory, name ) );
+            size -= length;
+        }
+    }
+}
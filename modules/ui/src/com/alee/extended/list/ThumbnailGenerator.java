@@ -19,7 +19,6 @@ package com.alee.extended.list;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
-import com.alee.api.resource.FileResource;
 import com.alee.managers.task.TaskManager;
 import com.alee.utils.CoreSwingUtils;
 import com.alee.utils.FileUtils;
@@ -29,11 +28,14 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.*;
+import java.util.List;
 
 /**
  * Utility class that allows asynchronous image thumbnails generation.
+ * Generators are kept in a bounded priority queue and executed in the most recently requested first order, so thumbnails for
+ * currently visible cells are generated before the ones that were requested earlier and might have been scrolled out of view.
+ * Queued generators for cells that are no longer visible are cancelled through {@link #abortInvisibleThumbnailLoads(WebFileList)}.
  *
  * @author Mikle Garin
  */
@@ -55,6 +57,32 @@ public class ThumbnailGenerator implements Runnable
      */
     protected static final Object generatorsLock = new Object ();
 
+    /**
+     * Generators waiting for execution, most recently requested ones come first.
+     * It is guarded by {@link #generatorsLock}.
+     */
+    protected static final PriorityQueue<ThumbnailGenerator> queue = new PriorityQueue<ThumbnailGenerator> ( 64,
+            new Comparator<ThumbnailGenerator> ()
+            {
+                @Override
+                public int compare ( final ThumbnailGenerator g1, final ThumbnailGenerator g2 )
+                {
+                    return g1.priority > g2.priority ? -1 : g1.priority < g2.priority ? 1 : 0;
+                }
+            } );
+
+    /**
+     * Maximum amount of generators waiting for execution.
+     * Once it is exceeded the least recently requested generator is cancelled.
+     */
+    protected static int maximumQueueSize = 256;
+
+    /**
+     * Last assigned generator priority.
+     * It is guarded by {@link #generatorsLock}.
+     */
+    protected static long lastPriority = 0;
+
     /**
      * File list this generator is working for.
      */
@@ -81,7 +109,13 @@ public class ThumbnailGenerator implements Runnable
     /**
      * Whether generation was aborted or not.
      */
-    protected boolean aborted;
+    protected volatile boolean aborted;
+
+    /**
+     * Generator priority, larger values are executed first.
+     * It is guarded by {@link #generatorsLock}.
+     */
+    protected long priority;
 
     /**
      * Constructs thumbnail generator for the specified file element.
@@ -297,11 +331,29 @@ public class ThumbnailGenerator implements Runnable
         Icon thumbnail;
         try
         {
-            final BufferedImage bufferedImage = ImageUtils.loadBufferedImage ( new FileResource ( file ) );
-            final BufferedImage previewImage = ImageUtils.createImageThumbnail ( bufferedImage, Math.min ( size.width, size.height ) );
-            final ImageIcon previewIcon = new ImageIcon ( previewImage );
-            previewIcon.setDescription ( previewImage.getWidth () + "x" + previewImage.getHeight () );
-            thumbnail = previewIcon;
+            final int maxSize = Math.min ( size.width, size.height );
+            final FileThumbnailCache cache = list.getThumbnailCache ();
+            BufferedImage previewImage = cache != null ? cache.get ( file, maxSize ) : null;
+            if ( previewImage == null && !aborted )
+            {
+                final BufferedImage bufferedImage = ImageUtils.loadSubsampledImage ( file, maxSize, maxSize );
+                previewImage = ImageUtils.createImageThumbnail ( bufferedImage, maxSize );
+                if ( cache != null )
+                {
+                    cache.put ( file, maxSize, previewImage );
+                }
+            }
+            if ( previewImage != null && !aborted )
+            {
+                final ImageIcon previewIcon = new ImageIcon ( previewImage );
+                previewIcon.setDescription ( previewImage.getWidth () + "x" + previewImage.getHeight () );
+                thumbnail = previewIcon;
+            }
+            else
+            {
+                // Generation was aborted and there was no cached thumbnail, or thumbnail is not needed anymore
+                thumbnail = null;
+            }
         }
         catch ( final Exception e )
         {
@@ -398,13 +450,140 @@ public class ThumbnailGenerator implements Runnable
 
                     // Queueing thumbnail generation
                     final ThumbnailGenerator generator = new ThumbnailGenerator ( list, element, size, disabled );
+                    generator.priority = ++lastPriority;
                     generators.put ( element, generator );
-                    TaskManager.execute ( TaskManager.COMPUTATION, generator );
+                    queue.add ( generator );
+
+                    // Cancelling least recently requested generator if queue is full
+                    if ( queue.size () > maximumQueueSize )
+                    {
+                        ThumbnailGenerator eldest = null;
+                        for ( final ThumbnailGenerator queued : queue )
+                        {
+                            if ( eldest == null || queued.priority < eldest.priority )
+                            {
+                                eldest = queued;
+                            }
+                        }
+                        cancel ( eldest );
+                    }
+
+                    // Each execution runs the most recently requested generator available at that time
+                    TaskManager.execute ( TaskManager.COMPUTATION, new Runnable ()
+                    {
+                        @Override
+                        public void run ()
+                        {
+                            final ThumbnailGenerator next;
+                            synchronized ( generatorsLock )
+                            {
+                                next = queue.poll ();
+                            }
+                            if ( next != null )
+                            {
+                                next.run ();
+                            }
+                        }
+                    } );
+                }
+                else if ( !disabled && element.isThumbnailQueued () || disabled && element.isDisabledThumbnailQueued () )
+                {
+                    // Raising priority of element that is still waiting in queue since it was just requested again
+                    final ThumbnailGenerator generator = generators.get ( element );
+                    if ( generator != null && queue.remove ( generator ) )
+                    {
+                        generator.priority = ++lastPriority;
+                        queue.add ( generator );
+                    }
                 }
             }
         }
     }
 
+    /**
+     * Cancels queued thumbnail generation for all elements of the specified {@link WebFileList} that are not visible.
+     * Generators that are already running are not affected.
+     * Cancelled elements will be queued again once they are rendered.
+     * This method should be called from the Event Dispatch Thread.
+     *
+     * @param list {@link WebFileList} to cancel queued thumbnail generation for
+     */
+    public static void abortInvisibleThumbnailLoads ( @NotNull final WebFileList list )
+    {
+        synchronized ( generatorsLock )
+        {
+            if ( !queue.isEmpty () )
+            {
+                // Collecting visible elements
+                final Set<FileElement> visible = Collections.newSetFromMap ( new IdentityHashMap<FileElement, Boolean> () );
+                final int first = list.getFirstVisibleIndex ();
+                final int last = list.getLastVisibleIndex ();
+                if ( first != -1 && last != -1 )
+                {
+                    final FileListModel model = list.getFileListModel ();
+                    for ( int index = first; index <= last && index < model.getSize (); index++ )
+                    {
+                        visible.add ( model.get ( index ) );
+                    }
+                }
+
+                // Cancelling generators for elements that are not visible anymore
+                final List<ThumbnailGenerator> invisible = new ArrayList<ThumbnailGenerator> ();
+                for ( final ThumbnailGenerator generator : queue )
+                {
+                    if ( generator.list == list && !visible.contains ( generator.element ) )
+                    {
+                        invisible.add ( generator );
+                    }
+                }
+                for ( final ThumbnailGenerator generator : invisible )
+                {
+                    cancel ( generator );
+                }
+            }
+        }
+    }
+
+    /**
+     * Cancels specified queued generator.
+     * Should only be called while holding {@link #generatorsLock}.
+     *
+     * @param generator queued generator to cancel
+     */
+    protected static void cancel ( @NotNull final ThumbnailGenerator generator )
+    {
+        queue.remove ( generator );
+        generator.abort ();
+        generator.cleanup ();
+    }
+
+    /**
+     * Returns maximum amount of generators waiting for execution.
+     *
+     * @return maximum amount of generators waiting for execution
+     */
+    public static int getMaximumQueueSize ()
+    {
+        synchronized ( generatorsLock )
+        {
+            return maximumQueueSize;
+        }
+    }
+
+    /**
+     * Sets maximum amount of generators waiting for execution.
+     * Least recently requested generators are cancelled once it is exceeded.
+     *
+     * @param maximumQueueSize maximum amount of generators waiting for execution
+     */
+    public static void setMaximumQueueSize ( final int maximumQueueSize )
+    {
+        synchronized ( generatorsLock )
+        {
+            ThumbnailGenerator.maximumQueueSize = maximumQueueSize;
+        }
+    }
+
     /**
      * Forces thumbnail generation to be aborted for the specified element.
      *
@@ -418,6 +597,7 @@ public class ThumbnailGenerator implements Runnable
             final ThumbnailGenerator generator = generators.get ( element );
             if ( generator != null )
             {
+                queue.remove ( generator );
                 generator.abort ();
             }
 
@@ -21,10 +21,16 @@ import com.alee.api.annotations.NotNull;
 import com.alee.laf.list.WebList;
 import com.alee.laf.list.editor.ListCellEditor;
 import com.alee.managers.style.StyleId;
+import com.alee.utils.CollectionUtils;
 import com.alee.utils.FileUtils;
+import com.alee.utils.file.DirectoryLoad;
+import com.alee.utils.file.DirectoryLoadAdapter;
+import com.alee.utils.file.DirectoryLoadListener;
 import com.alee.utils.filefilter.NonHiddenFilter;
 
 import javax.swing.*;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
 import java.awt.*;
 import java.io.File;
 import java.io.FileFilter;
@@ -74,11 +80,41 @@ public class WebFileList extends WebList
      */
     protected FileThumbnailProvider thumbnailProvider;
 
+    /**
+     * Persistent thumbnail cache, {@code null} if thumbnails should not be cached on disk.
+     */
+    protected FileThumbnailCache thumbnailCache;
+
+    /**
+     * {@link JViewport} this list is displayed in.
+     */
+    protected transient JViewport viewport = null;
+
+    /**
+     * {@link ChangeListener} cancelling thumbnail generation for elements scrolled out of view.
+     */
+    protected transient ChangeListener viewportListener = null;
+
     /**
      * Displayed directory.
      */
     protected File displayedDirectory = null;
 
+    /**
+     * {@link DirectoryLoad} providing displayed directory content.
+     */
+    protected transient DirectoryLoad directoryLoad = null;
+
+    /**
+     * {@link DirectoryLoadListener} attached to {@link #directoryLoad}.
+     */
+    protected transient DirectoryLoadListener directoryLoadListener = null;
+
+    /**
+     * Files that should be selected once they are loaded.
+     */
+    protected transient List<File> pendingSelection = null;
+
     /**
      * Constructs empty file list.
      */
@@ -345,9 +381,23 @@ public class WebFileList extends WebList
      * @param fileFilter new file filter
      */
     public void setFileFilter ( final FileFilter fileFilter )
+    {
+        setFileFilter ( fileFilter, true );
+    }
+
+    /**
+     * Sets file filter.
+     *
+     * @param fileFilter new file filter
+     * @param reload     whether or not files should be reloaded from displayed directory
+     */
+    public void setFileFilter ( final FileFilter fileFilter, final boolean reload )
     {
         this.fileFilter = fileFilter;
-        reloadFiles ();
+        if ( reload )
+        {
+            reloadFiles ();
+        }
     }
 
     /**
@@ -386,6 +436,61 @@ public class WebFileList extends WebList
         repaint ();
     }
 
+    /**
+     * Returns persistent thumbnail cache.
+     *
+     * @return persistent thumbnail cache, {@code null} if thumbnails are not cached on disk
+     */
+    public FileThumbnailCache getThumbnailCache ()
+    {
+        return thumbnailCache;
+    }
+
+    /**
+     * Sets persistent thumbnail cache.
+     * It allows image thumbnails to be reused between application sessions instead of decoding source images again.
+     *
+     * @param cache persistent thumbnail cache, {@code null} to disable thumbnails caching on disk
+     */
+    public void setThumbnailCache ( final FileThumbnailCache cache )
+    {
+        this.thumbnailCache = cache;
+    }
+
+    @Override
+    public void addNotify ()
+    {
+        super.addNotify ();
+
+        // Cancelling thumbnail generation for elements scrolled out of view
+        final Container parent = getParent ();
+        if ( parent instanceof JViewport )
+        {
+            viewport = ( JViewport ) parent;
+            viewportListener = new ChangeListener ()
+            {
+                @Override
+                public void stateChanged ( final ChangeEvent e )
+                {
+                    ThumbnailGenerator.abortInvisibleThumbnailLoads ( WebFileList.this );
+                }
+            };
+            viewport.addChangeListener ( viewportListener );
+        }
+    }
+
+    @Override
+    public void removeNotify ()
+    {
+        if ( viewport != null )
+        {
+            viewport.removeChangeListener ( viewportListener );
+            viewportListener = null;
+            viewport = null;
+        }
+        super.removeNotify ();
+    }
+
     /**
      * Aborts thumbnail generators for all elements accepted by the specified provider.
      *
@@ -419,29 +524,127 @@ public class WebFileList extends WebList
     /**
      * Sets displayed directory.
      * This will force list to load and display files from the specified directory.
+     * Files are loaded asynchronously and added into the list in sorted batches as they are loaded.
      *
      * @param file new displayed directory
      */
     public void setDisplayedDirectory ( final File file )
+    {
+        final DirectoryLoad load = new DirectoryLoad ( file, fileFilter );
+        setDirectoryLoad ( load );
+        load.start ();
+    }
+
+    /**
+     * Sets {@link DirectoryLoad} providing displayed directory content.
+     * Same {@link DirectoryLoad} can be shared between multiple file views displaying the same directory.
+     * Previous {@link DirectoryLoad} is released and only gets cancelled if no other views are listening to it.
+     * Specified {@link DirectoryLoad} must be started separately.
+     * Reloaded directory content is replaced only once loading completes to preserve current view and selection.
+     *
+     * @param load {@link DirectoryLoad} providing displayed directory content
+     */
+    public void setDirectoryLoad ( @NotNull final DirectoryLoad load )
     {
         // Stop cell editing
         stopCellEditing ();
 
-        // Saving selection to restore later
-        final List<File> oldSelection = getSelectedFiles ();
+        // Releasing previous load
+        releaseDirectoryLoad ();
 
-        // Getting files and updating list model
-        final File[] files = file != null ? FileUtils.sortFiles ( file.listFiles ( fileFilter ) ) : FileUtils.getDiskRoots ();
-        getFileListModel ().setData ( files );
+        // Saving selection to restore later if its same folder
+        final File directory = load.getDirectory ();
+        final boolean reload = FileUtils.equals ( displayedDirectory, directory );
+        pendingSelection = reload ? getSelectedFiles () : null;
 
-        // Restoring selection if its same folder
-        if ( FileUtils.equals ( displayedDirectory, file ) )
+        // Clearing previous folder files
+        if ( !reload )
         {
-            setSelectedFiles ( oldSelection );
+            getFileListModel ().setData ( new ArrayList<File> ( 0 ) );
         }
 
+        // Listening to loaded files
+        directoryLoad = load;
+        directoryLoadListener = new DirectoryLoadAdapter ()
+        {
+            @Override
+            public void filesLoaded ( @NotNull final DirectoryLoad load, @NotNull final List<File> files )
+            {
+                if ( !reload )
+                {
+                    getFileListModel ().addSortedData ( files, load.getComparator () );
+                    applyPendingSelection ();
+                }
+            }
+
+            @Override
+            public void loadCompleted ( @NotNull final DirectoryLoad load )
+            {
+                if ( reload )
+                {
+                    getFileListModel ().setData ( load.getFiles () );
+                }
+                applyPendingSelection ();
+            }
+
+            @Override
+            public void loadFailed ( @NotNull final DirectoryLoad load, @NotNull final Throwable cause )
+            {
+                loadCompleted ( load );
+            }
+        };
+        load.addDirectoryLoadListener ( directoryLoadListener );
+
         // Saving new displayed directory
-        this.displayedDirectory = file;
+        this.displayedDirectory = directory;
+    }
+
+    /**
+     * Returns {@link DirectoryLoad} providing displayed directory content.
+     *
+     * @return {@link DirectoryLoad} providing displayed directory content
+     */
+    public DirectoryLoad getDirectoryLoad ()
+    {
+        return directoryLoad;
+    }
+
+    /**
+     * Returns whether or not displayed directory content is still loading.
+     *
+     * @return {@code true} if displayed directory content is still loading, {@code false} otherwise
+     */
+    public boolean isDirectoryLoading ()
+    {
+        return directoryLoad != null && !directoryLoad.isCompleted () && !directoryLoad.isCancelled ();
+    }
+
+    /**
+     * Stops listening to {@link DirectoryLoad} providing displayed directory content.
+     * It is only cancelled if no other views share it.
+     */
+    protected void releaseDirectoryLoad ()
+    {
+        if ( directoryLoad != null )
+        {
+            directoryLoad.release ( directoryLoadListener );
+            directoryLoadListener = null;
+            directoryLoad = null;
+        }
+        pendingSelection = null;
+    }
+
+    /**
+     * Selects files which were requested to be selected before they were loaded.
+     */
+    protected void applyPendingSelection ()
+    {
+        if ( pendingSelection != null )
+        {
+            final List<File> files = pendingSelection;
+            setSelectedFiles ( files );
+            pendingSelection = isDirectoryLoading () && getSelectedIndices ().length < files.size () ? files : null;
+        }
     }
 
     /**
@@ -498,6 +701,10 @@ public class WebFileList extends WebList
         {
             clearSelection ();
         }
+        if ( isDirectoryLoading () )
+        {
+            pendingSelection = file != null && element == null ? CollectionUtils.asList ( file ) : null;
+        }
     }
 
     /**
@@ -517,6 +724,10 @@ public class WebFileList extends WebList
             }
         }
         setSelectedValues ( elements );
+        if ( isDirectoryLoading () )
+        {
+            pendingSelection = elements.size () < files.size () ? new ArrayList<File> ( files ) : null;
+        }
     }
 
     @Override
@@ -953,4 +953,32 @@ public class WebFileTree extends WebAsyncTree<FileTreeNode>
             reloadNode ( node, select );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Replaces child files for the specified folder with the already listed ones.
+     * This allows updating folder children without listing folder content again.
+     * Provided files are filtered and sorted by the tree just like files loaded by the data provider.
+     * This method will have effect only if node with the specified folder exists and it is not loading children right now.
+     *
+     * @param folder folder to replace children for
+     * @param files  new child files
+     */
+    public void setChildFiles ( @NotNull final File folder, @NotNull final List<File> files )
+    {
+        final FileTreeNode node = getNode ( folder );
+        final AsyncTreeModel<FileTreeNode> model = getModel ();
+        if ( node != null && model != null && !node.isLoading () )
+        {
+            if ( node.isLoaded () )
+            {
+                model.removeNodesFromParent ( node );
+            }
+            final List<FileTreeNode> childNodes = new ArrayList<FileTreeNode> ( files.size () );
+            for ( final File file : files )
+            {
+                childNodes.add ( new FileTreeNode ( file ) );
+            }
+            model.setChildNodes ( node, childNodes );
+        }
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.virtual;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.managers.task.TaskManager;
+import com.alee.utils.CoreSwingUtils;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.event.EventListenerList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded cache of rows pages loaded on demand from {@link RowSource}.
+ * Only {@link #getMaximumPages()} most recently used pages are kept in memory, others are dropped and reloaded when needed.
+ * Total rows count is provided by {@link RowSource} separately from loaded rows.
+ * This cache is not thread-safe and must only be used on Event Dispatch Thread, only {@link RowSource} is queried outside of it.
+ *
+ * @param <T> row type
+ * @author Mikle Garin
+ * @see RowSource
+ * @see VirtualListModel
+ * @see VirtualTableModel
+ */
+public class RowPageCache<T>
+{
+    /**
+     * Default amount of rows in a single page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 256;
+
+    /**
+     * Default amount of rows to preload before and after requested row.
+     */
+    public static final int DEFAULT_PREFETCH_DISTANCE = 256;
+
+    /**
+     * Default maximum amount of pages kept in memory.
+     */
+    public static final int DEFAULT_MAXIMUM_PAGES = 64;
+
+    /**
+     * {@link RowSource} providing rows.
+     */
+    @NotNull
+    protected final RowSource<T> source;
+
+    /**
+     * Amount of rows in a single page.
+     */
+    protected final int pageSize;
+
+    /**
+     * Amount of rows to preload before and after requested row.
+     */
+    protected final int prefetchDistance;
+
+    /**
+     * Maximum amount of pages kept in memory.
+     * It should be big enough to fit all visible rows and rows within prefetch distance.
+     */
+    protected final int maximumPages;
+
+    /**
+     * {@link RowPageListener}s.
+     */
+    @NotNull
+    protected final EventListenerList listeners;
+
+    /**
+     * Loaded pages in least recently used order.
+     */
+    @NotNull
+    protected final LinkedHashMap<Integer, List<T>> pages;
+
+    /**
+     * Amounts of rows in loaded pages.
+     * Kept separately from {@link #pages} to check rows presence without affecting pages usage order.
+     */
+    @NotNull
+    protected final Map<Integer, Integer> pageSizes;
+
+    /**
+     * Indices of pages which are currently being loaded.
+     */
+    @NotNull
+    protected final Set<Integer> pendingPages;
+
+    /**
+     * Indices of pages which failed to load.
+     * They are not requested again until {@link #clear()} is called.
+     */
+    @NotNull
+    protected final Set<Integer> failedPages;
+
+    /**
+     * Total amount of rows provided by {@link RowSource}.
+     */
+    protected int rowCount;
+
+    /**
+     * Cache generation, incremented on each {@link #clear()} call to discard outdated pages.
+     */
+    protected int generation;
+
+    /**
+     * Index of the most recently requested page.
+     * Pages too far from it are skipped when their loading starts as they are most probably not needed anymore.
+     */
+    protected volatile int lastRequestedPage;
+
+    /**
+     * Constructs new {@link RowPageCache} with default settings.
+     *
+     * @param source {@link RowSource} providing rows
+     */
+    public RowPageCache ( @NotNull final RowSource<T> source )
+    {
+        this ( source, DEFAULT_PAGE_SIZE, DEFAULT_PREFETCH_DISTANCE, DEFAULT_MAXIMUM_PAGES );
+    }
+
+    /**
+     * Constructs new {@link RowPageCache}.
+     *
+     * @param source           {@link RowSource} providing rows
+     * @param pageSize         amount of rows in a single page
+     * @param prefetchDistance amount of rows to preload before and after requested row
+     * @param maximumPages     maximum amount of pages kept in memory
+     */
+    public RowPageCache ( @NotNull final RowSource<T> source, final int pageSize, final int prefetchDistance, final int maximumPages )
+    {
+        if ( pageSize < 1 )
+        {
+            throw new IllegalArgumentException ( "Page size must be positive: " + pageSize );
+        }
+        if ( maximumPages < 1 )
+        {
+            throw new IllegalArgumentException ( "Maximum pages amount must be positive: " + maximumPages );
+        }
+        this.source = source;
+        this.pageSize = pageSize;
+        this.prefetchDistance = Math.max ( 0, prefetchDistance );
+        this.maximumPages = maximumPages;
+        this.listeners = new EventListenerList ();
+        this.pageSizes = new HashMap<Integer, Integer> ( maximumPages + 1, 1f );
+        this.pages = new LinkedHashMap<Integer, List<T>> ( maximumPages + 1, 1f, true )
+        {
+            @Override
+            protected boolean removeEldestEntry ( final Map.Entry<Integer, List<T>> eldest )
+            {
+                final boolean remove = size () > RowPageCache.this.maximumPages;
+                if ( remove )
+                {
+                    pageSizes.remove ( eldest.getKey () );
+                }
+                return remove;
+            }
+        };
+        this.pendingPages = new HashSet<Integer> ();
+        this.failedPages = new HashSet<Integer> ();
+        this.rowCount = source.getRowCount ();
+        this.generation = 0;
+        this.lastRequestedPage = 0;
+    }
+
+    /**
+     * Returns {@link RowSource} providing rows.
+     *
+     * @return {@link RowSource} providing rows
+     */
+    @NotNull
+    public RowSource<T> getSource ()
+    {
+        return source;
+    }
+
+    /**
+     * Returns amount of rows in a single page.
+     *
+     * @return amount of rows in a single page
+     */
+    public int getPageSize ()
+    {
+        return pageSize;
+    }
+
+    /**
+     * Returns amount of rows to preload before and after requested row.
+     *
+     * @return amount of rows to preload before and after requested row
+     */
+    public int getPrefetchDistance ()
+    {
+        return prefetchDistance;
+    }
+
+    /**
+     * Returns maximum amount of pages kept in memory.
+     *
+     * @return maximum amount of pages kept in memory
+     */
+    public int getMaximumPages ()
+    {
+        return maximumPages;
+    }
+
+    /**
+     * Returns total amount of rows provided by {@link RowSource}.
+     *
+     * @return total amount of rows provided by {@link RowSource}
+     */
+    public int getRowCount ()
+    {
+        return rowCount;
+    }
+
+    /**
+     * Returns amount of rows currently kept in memory.
+     *
+     * @return amount of rows currently kept in memory
+     */
+    public int getLoadedRowCount ()
+    {
+        int loaded = 0;
+        for ( final Integer size : pageSizes.values () )
+        {
+            loaded += size;
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns whether or not row at the specified index is loaded.
+     * This method doesn't request row loading and doesn't affect pages usage order.
+     *
+     * @param row row index
+     * @return {@code true} if row at the specified index is loaded, {@code false} otherwise
+     */
+    public boolean isRowLoaded ( final int row )
+    {
+        final int page = row / pageSize;
+        final Integer size = pageSizes.get ( page );
+        return size != null && row - page * pageSize < size;
+    }
+
+    /**
+     * Returns row at the specified index or {@code null} if it is not loaded yet.
+     * Requests loading of the row and rows within prefetch distance from it if they are not loaded yet.
+     *
+     * @param row row index
+     * @return row at the specified index or {@code null} if it is not loaded yet
+     */
+    @Nullable
+    public T getRow ( final int row )
+    {
+        requestRow ( row );
+        final int page = row / pageSize;
+        final List<T> rows = pages.get ( page );
+        final int offset = row - page * pageSize;
+        return rows != null && offset < rows.size () ? rows.get ( offset ) : null;
+    }
+
+    /**
+     * Requests loading of the row at the specified index and rows within prefetch distance from it.
+     *
+     * @param row row index
+     */
+    public void requestRow ( final int row )
+    {
+        if ( row >= 0 && row < rowCount )
+        {
+            final int page = row / pageSize;
+            lastRequestedPage = page;
+            requestPage ( page );
+
+            final int firstPage = Math.max ( 0, row - prefetchDistance ) / pageSize;
+            final int lastPage = Math.min ( rowCount - 1, row + prefetchDistance ) / pageSize;
+            for ( int prefetchPage = firstPage; prefetchPage <= lastPage; prefetchPage++ )
+            {
+                requestPage ( prefetchPage );
+            }
+        }
+    }
+
+    /**
+     * Requests loading of the page with the specified index.
+     * Does nothing if page is already loaded, being loaded or has failed to load.
+     *
+     * @param page page index
+     */
+    protected void requestPage ( final int page )
+    {
+        if ( !pages.containsKey ( page ) && !pendingPages.contains ( page ) && !failedPages.contains ( page ) )
+        {
+            pendingPages.add ( page );
+            final int loadGeneration = generation;
+            final int from = page * pageSize;
+            final int count = Math.min ( pageSize, rowCount - from );
+            TaskManager.execute ( source.getThreadGroupId (), new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    if ( Math.abs ( page - lastRequestedPage ) <= maximumPages / 2 )
+                    {
+                        try
+                        {
+                            final List<T> rows = source.loadRows ( from, count );
+                            CoreSwingUtils.invokeLater ( new Runnable ()
+                            {
+                                @Override
+                                public void run ()
+                                {
+                                    pageLoaded ( loadGeneration, page, rows );
+                                }
+                            } );
+                        }
+                        catch ( final Exception e )
+                        {
+                            LoggerFactory.getLogger ( RowPageCache.class ).error ( "Unable to load rows page: " + page, e );
+                            CoreSwingUtils.invokeLater ( new Runnable ()
+                            {
+                                @Override
+                                public void run ()
+                                {
+                                    pageFailed ( loadGeneration, page );
+                                }
+                            } );
+                        }
+                    }
+                    else
+                    {
+                        CoreSwingUtils.invokeLater ( new Runnable ()
+                        {
+                            @Override
+                            public void run ()
+                            {
+                                pageSkipped ( loadGeneration, page );
+                            }
+                        } );
+                    }
+                }
+            } );
+        }
+    }
+
+    /**
+     * Saves loaded page and informs listeners about it.
+     *
+     * @param loadGeneration cache generation page was requested in
+     * @param page           page index
+     * @param rows           loaded rows
+     */
+    protected void pageLoaded ( final int loadGeneration, final int page, @NotNull final List<T> rows )
+    {
+        if ( loadGeneration == generation )
+        {
+            pendingPages.remove ( page );
+            pageSizes.put ( page, rows.size () );
+            pages.put ( page, rows );
+            if ( rows.size () > 0 )
+            {
+                final int firstRow = page * pageSize;
+                firePageLoaded ( firstRow, firstRow + rows.size () - 1 );
+            }
+        }
+    }
+
+    /**
+     * Marks page as failed to load.
+     *
+     * @param loadGeneration cache generation page was requested in
+     * @param page           page index
+     */
+    protected void pageFailed ( final int loadGeneration, final int page )
+    {
+        if ( loadGeneration == generation )
+        {
+            pendingPages.remove ( page );
+            failedPages.add ( page );
+        }
+    }
+
+    /**
+     * Allows skipped page to be requested again later.
+     *
+     * @param loadGeneration cache generation page was requested in
+     * @param page           page index
+     */
+    protected void pageSkipped ( final int loadGeneration, final int page )
+    {
+        if ( loadGeneration == generation )
+        {
+            pendingPages.remove ( page );
+        }
+    }
+
+    /**
+     * Drops all loaded pages and updates total rows count from {@link RowSource}.
+     * Pages which are currently being loaded will be discarded once loaded.
+     */
+    public void clear ()
+    {
+        generation++;
+        pages.clear ();
+        pageSizes.clear ();
+        pendingPages.clear ();
+        failedPages.clear ();
+        rowCount = source.getRowCount ();
+    }
+
+    /**
+     * Adds {@link RowPageListener}.
+     *
+     * @param listener {@link RowPageListener} to add
+     */
+    public void addRowPageListener ( @NotNull final RowPageListener listener )
+    {
+        listeners.add ( RowPageListener.class, listener );
+    }
+
+    /**
+     * Removes {@link RowPageListener}.
+     *
+     * @param listener {@link RowPageListener} to remove
+     */
+    public void removeRowPageListener ( @NotNull final RowPageListener listener )
+    {
+        listeners.remove ( RowPageListener.class, listener );
+    }
+
+    /**
+     * Informs listeners about rows page being loaded.
+     *
+     * @param firstRow index of the first loaded row
+     * @param lastRow  index of the last loaded row
+     */
+    protected void firePageLoaded ( final int firstRow, final int lastRow )
+    {
+        for ( final RowPageListener listener : listeners.getListeners ( RowPageListener.class ) )
+        {
+            listener.pageLoaded ( firstRow, lastRow );
+        }
+    }
+}
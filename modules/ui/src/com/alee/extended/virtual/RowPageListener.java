@@ -0,0 +1,38 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.virtual;
+
+import java.util.EventListener;
+
+/**
+ * {@link RowPageCache} pages load listener.
+ * All methods of this listener are always called on Event Dispatch Thread.
+ *
+ * @author Mikle Garin
+ * @see RowPageCache
+ */
+public interface RowPageListener extends EventListener
+{
+    /**
+     * Informs about rows page being loaded.
+     *
+     * @param firstRow index of the first loaded row
+     * @param lastRow  index of the last loaded row
+     */
+    public void pageLoaded ( int firstRow, int lastRow );
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.virtual;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.managers.task.TaskManager;
+
+import java.util.List;
+
+/**
+ * External data source for virtual models which only keep a limited amount of rows in memory.
+ * Rows are requested in pages through {@link #loadRows(int, int)} on a separate {@link Thread}.
+ *
+ * @param <T> row type
+ * @author Mikle Garin
+ * @see RowPageCache
+ * @see VirtualListModel
+ * @see VirtualTableModel
+ */
+public interface RowSource<T>
+{
+    /**
+     * Returns identifier of a {@link ThreadGroup} registered within {@link TaskManager}.
+     * It will be used to perform asynchronous rows loading.
+     *
+     * @return identifier of a {@link ThreadGroup} registered within {@link TaskManager}
+     */
+    @NotNull
+    public String getThreadGroupId ();
+
+    /**
+     * Returns total amount of rows available in this source.
+     * This operation is always performed on EDT and should not take excessive amounts of time.
+     *
+     * @return total amount of rows available in this source
+     * @see <a href="https://github.com/mgarin/weblaf/wiki/Event-Dispatch-Thread">Event Dispatch Thread</a>
+     */
+    public int getRowCount ();
+
+    /**
+     * Returns rows within the specified range.
+     * Returned {@link List} must contain exactly {@code count} rows unless source end is reached.
+     * This operation uses a separate {@link Thread} and it is allowed to take as much time as it needs to complete.
+     *
+     * @param from  index of the first row to load
+     * @param count amount of rows to load
+     * @return rows within the specified range
+     * @throws Exception if rows cannot be loaded
+     */
+    @NotNull
+    public List<T> loadRows ( int from, int count ) throws Exception;
+}
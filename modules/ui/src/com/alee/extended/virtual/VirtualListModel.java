@@ -0,0 +1,133 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.virtual;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import javax.swing.*;
+
+/**
+ * {@link ListModel} implementation that keeps only a bounded amount of elements in memory.
+ * Elements are loaded in pages from {@link RowSource} whenever they are requested, {@code null} is returned until then.
+ * {@link com.alee.laf.list.ListPainter} paints lightweight placeholders for elements which are not loaded yet.
+ * Since elements are not available upfront {@link JList} should use fixed cell height or prototype value for its layout.
+ *
+ * @param <T> element type
+ * @author Mikle Garin
+ * @see RowSource
+ * @see RowPageCache
+ */
+public class VirtualListModel<T> extends AbstractListModel implements VirtualModel
+{
+    /**
+     * {@link RowPageCache} keeping loaded elements.
+     */
+    @NotNull
+    protected final RowPageCache<T> cache;
+
+    /**
+     * Constructs new {@link VirtualListModel} with default {@link RowPageCache} settings.
+     *
+     * @param source {@link RowSource} providing elements
+     */
+    public VirtualListModel ( @NotNull final RowSource<T> source )
+    {
+        this ( new RowPageCache<T> ( source ) );
+    }
+
+    /**
+     * Constructs new {@link VirtualListModel}.
+     *
+     * @param cache {@link RowPageCache} keeping loaded elements
+     */
+    public VirtualListModel ( @NotNull final RowPageCache<T> cache )
+    {
+        this.cache = cache;
+        this.cache.addRowPageListener ( new RowPageListener ()
+        {
+            @Override
+            public void pageLoaded ( final int firstRow, final int lastRow )
+            {
+                fireContentsChanged ( VirtualListModel.this, firstRow, lastRow );
+            }
+        } );
+    }
+
+    /**
+     * Returns {@link RowPageCache} keeping loaded elements.
+     *
+     * @return {@link RowPageCache} keeping loaded elements
+     */
+    @NotNull
+    public RowPageCache<T> getCache ()
+    {
+        return cache;
+    }
+
+    @Override
+    public int getSize ()
+    {
+        return cache.getRowCount ();
+    }
+
+    @Nullable
+    @Override
+    public T getElementAt ( final int index )
+    {
+        return cache.getRow ( index );
+    }
+
+    @Override
+    public boolean isRowLoaded ( final int row )
+    {
+        return cache.isRowLoaded ( row );
+    }
+
+    @Override
+    public void requestRow ( final int row )
+    {
+        cache.requestRow ( row );
+    }
+
+    @Override
+    public int getLoadedRowCount ()
+    {
+        return cache.getLoadedRowCount ();
+    }
+
+    @Override
+    public void reload ()
+    {
+        final int oldSize = cache.getRowCount ();
+        cache.clear ();
+        final int newSize = cache.getRowCount ();
+        if ( oldSize > newSize )
+        {
+            fireIntervalRemoved ( this, newSize, oldSize - 1 );
+        }
+        else if ( oldSize < newSize )
+        {
+            fireIntervalAdded ( this, oldSize, newSize - 1 );
+        }
+        if ( Math.min ( oldSize, newSize ) > 0 )
+        {
+            fireContentsChanged ( this, 0, Math.min ( oldSize, newSize ) - 1 );
+        }
+    }
+}
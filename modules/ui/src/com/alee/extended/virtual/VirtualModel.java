@@ -0,0 +1,59 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.virtual;
+
+/**
+ * Interface for models that only keep a limited amount of rows in memory and load other rows on demand.
+ * Painters use it to display lightweight placeholders for rows which are not loaded yet instead of running cell renderers.
+ *
+ * @author Mikle Garin
+ * @see VirtualListModel
+ * @see VirtualTableModel
+ */
+public interface VirtualModel
+{
+    /**
+     * Returns whether or not row at the specified index is loaded.
+     * This method doesn't request row loading.
+     *
+     * @param row row index
+     * @return {@code true} if row at the specified index is loaded, {@code false} otherwise
+     */
+    public boolean isRowLoaded ( int row );
+
+    /**
+     * Requests loading of the row at the specified index and rows within prefetch distance from it.
+     * Does nothing if row is already loaded or is being loaded.
+     *
+     * @param row row index
+     */
+    public void requestRow ( int row );
+
+    /**
+     * Returns amount of rows currently kept in memory.
+     * This is different from total amount of rows which is provided by {@link RowSource}.
+     *
+     * @return amount of rows currently kept in memory
+     */
+    public int getLoadedRowCount ();
+
+    /**
+     * Drops all loaded rows and updates total rows count from {@link RowSource}.
+     */
+    public void reload ();
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.virtual;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Abstract {@link javax.swing.table.TableModel} implementation that keeps only a bounded amount of rows in memory.
+ * Rows are loaded in pages from {@link RowSource} whenever they are requested, cell values are {@code null} until then.
+ * {@link com.alee.laf.table.TablePainter} paints lightweight placeholders for rows which are not loaded yet.
+ * Implementations only need to provide columns information and cell values for loaded rows.
+ *
+ * @param <T> row type
+ * @author Mikle Garin
+ * @see RowSource
+ * @see RowPageCache
+ */
+public abstract class VirtualTableModel<T> extends AbstractTableModel implements VirtualModel
+{
+    /**
+     * {@link RowPageCache} keeping loaded rows.
+     */
+    @NotNull
+    protected final RowPageCache<T> cache;
+
+    /**
+     * Constructs new {@link VirtualTableModel} with default {@link RowPageCache} settings.
+     *
+     * @param source {@link RowSource} providing rows
+     */
+    public VirtualTableModel ( @NotNull final RowSource<T> source )
+    {
+        this ( new RowPageCache<T> ( source ) );
+    }
+
+    /**
+     * Constructs new {@link VirtualTableModel}.
+     *
+     * @param cache {@link RowPageCache} keeping loaded rows
+     */
+    public VirtualTableModel ( @NotNull final RowPageCache<T> cache )
+    {
+        this.cache = cache;
+        this.cache.addRowPageListener ( new RowPageListener ()
+        {
+            @Override
+            public void pageLoaded ( final int firstRow, final int lastRow )
+            {
+                fireTableRowsUpdated ( firstRow, lastRow );
+            }
+        } );
+    }
+
+    /**
+     * Returns {@link RowPageCache} keeping loaded rows.
+     *
+     * @return {@link RowPageCache} keeping loaded rows
+     */
+    @NotNull
+    public RowPageCache<T> getCache ()
+    {
+        return cache;
+    }
+
+    /**
+     * Returns row at the specified index or {@code null} if it is not loaded yet.
+     *
+     * @param rowIndex row index
+     * @return row at the specified index or {@code null} if it is not loaded yet
+     */
+    @Nullable
+    public T getRow ( final int rowIndex )
+    {
+        return cache.getRow ( rowIndex );
+    }
+
+    @Override
+    public int getRowCount ()
+    {
+        return cache.getRowCount ();
+    }
+
+    @Nullable
+    @Override
+    public Object getValueAt ( final int rowIndex, final int columnIndex )
+    {
+        final T row = cache.getRow ( rowIndex );
+        return row != null ? getValueAt ( row, columnIndex ) : null;
+    }
+
+    /**
+     * Returns value of the specified column for the specified loaded row.
+     *
+     * @param row         loaded row
+     * @param columnIndex column index
+     * @return value of the specified column for the specified loaded row
+     */
+    @Nullable
+    protected abstract Object getValueAt ( @NotNull T row, int columnIndex );
+
+    @Override
+    public boolean isRowLoaded ( final int row )
+    {
+        return cache.isRowLoaded ( row );
+    }
+
+    @Override
+    public void requestRow ( final int row )
+    {
+        cache.requestRow ( row );
+    }
+
+    @Override
+    public int getLoadedRowCount ()
+    {
+        return cache.getLoadedRowCount ();
+    }
+
+    @Override
+    public void reload ()
+    {
+        cache.clear ();
+        fireTableDataChanged ();
+    }
+}
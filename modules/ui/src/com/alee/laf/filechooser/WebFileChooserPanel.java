@@ -56,6 +56,8 @@ import com.alee.managers.tooltip.TooltipWay;
 import com.alee.utils.*;
 import com.alee.utils.collection.ImmutableList;
 import com.alee.utils.compare.Filter;
+import com.alee.utils.file.DirectoryLoad;
+import com.alee.utils.file.DirectoryLoadAdapter;
 import com.alee.utils.file.FileComparator;
 import com.alee.utils.filefilter.*;
 import com.alee.utils.swing.AncestorAdapter;
@@ -160,6 +162,12 @@ public class WebFileChooserPanel extends WebPanel
      */
     protected File currentFolder = null;
 
+    /**
+     * {@link DirectoryLoad} shared by files list, table and tree for the current folder.
+     * Panel owns it and cancels it once it is replaced, views only release their own listeners.
+     */
+    protected DirectoryLoad directoryLoad = null;
+
     /**
      * Current view history index.
      */
@@ -1319,8 +1327,7 @@ public class WebFileChooserPanel extends WebPanel
         {
             updateTree ( file );
         }
-        updateList ( file );
-        updateTable ( file );
+        updateFiles ( file, false );
         currentFolder = file;
 
         // Updating controls
@@ -1617,6 +1624,7 @@ public class WebFileChooserPanel extends WebPanel
 
     /**
      * Updates files list view.
+     * Unlike {@link #updateFiles(File, boolean)} this method lists folder content for the list view only.
      *
      * @param file new current folder
      */
@@ -1627,6 +1635,7 @@ public class WebFileChooserPanel extends WebPanel
 
     /**
      * Updates files table view.
+     * Unlike {@link #updateFiles(File, boolean)} this method lists folder content for the table view only.
      *
      * @param file new current folder
      */
@@ -1635,6 +1644,29 @@ public class WebFileChooserPanel extends WebPanel
         fileTable.setDisplayedDirectory ( file );
     }
 
+    /**
+     * Updates files list and table views.
+     * Both views share single {@link DirectoryLoad} so that folder content is only listed once.
+     * Previous shared {@link DirectoryLoad} is cancelled even if some views are still listening to it.
+     *
+     * @param file        new current folder
+     * @param clearCaches whether or not {@link FileUtils} caches should be cleared for listed files
+     * @return {@link DirectoryLoad} shared by files list and table views
+     */
+    protected DirectoryLoad updateFiles ( final File file, final boolean clearCaches )
+    {
+        if ( directoryLoad != null )
+        {
+            directoryLoad.cancel ();
+        }
+        final DirectoryLoad load = new DirectoryLoad ( file, fileList.getFileFilter (), FileUtils.FILE_COMPARATOR, clearCaches );
+        directoryLoad = load;
+        fileList.setDirectoryLoad ( load );
+        fileTable.setDirectoryLoad ( load );
+        load.start ();
+        return load;
+    }
+
     /**
      * Updates file filters combobox view.
      */
@@ -1687,8 +1719,10 @@ public class WebFileChooserPanel extends WebPanel
      */
     protected void updateFileComponentFilters ()
     {
-        fileList.setFileFilter ( applyHiddenFilesFilter ( applyDirectoriesFilter ( fileFilter ) ) );
-        fileTable.setFileFilter ( applyHiddenFilesFilter ( applyDirectoriesFilter ( fileFilter ) ) );
+        final GroupedFileFilter filter = applyHiddenFilesFilter ( applyDirectoriesFilter ( fileFilter ) );
+        fileList.setFileFilter ( filter, false );
+        fileTable.setFileFilter ( filter, false );
+        updateFiles ( currentFolder, false );
     }
 
     /**
@@ -1730,17 +1764,41 @@ public class WebFileChooserPanel extends WebPanel
      */
     public void reloadCurrentFolder ()
     {
-        // Clearing all caches for folder files
-        if ( currentFolder != null )
+        // Updating path view
+        pathField.updatePath ();
+
+        // Reloading files while clearing their caches
+        final File folder = currentFolder;
+        final DirectoryLoad load = updateFiles ( folder, true );
+
+        // Updating tree children from the same listing once it completes
+        if ( folder != null )
         {
-            FileUtils.clearFilesCaches ( currentFolder.listFiles () );
-        }
+            load.addDirectoryLoadListener ( new DirectoryLoadAdapter ()
+            {
+                @Override
+                public void loadCompleted ( @NotNull final DirectoryLoad load )
+                {
+                    if ( getFileSelectionMode () != FileSelectionMode.directoriesOnly )
+                    {
+                        // Listed files include all directories accepted by the hidden files filter
+                        // Tree applies its own directories filter on top of these files
+                        fileTree.setChildFiles ( folder, load.getFiles () );
+                    }
+                    else
+                    {
+                        // Listed files might miss directories not accepted by the custom filter
+                        fileTree.reloadChildren ( folder );
+                    }
+                }
 
-        // Updating view in a specific way
-        pathField.updatePath ();
-        fileTree.reloadChildren ( currentFolder );
-        fileList.reloadFiles ();
-        fileTable.reloadFiles ();
+                @Override
+                public void loadFailed ( @NotNull final DirectoryLoad load, @NotNull final Throwable cause )
+                {
+                    fileTree.reloadChildren ( folder );
+                }
+            } );
+        }
     }
 
     /**
@@ -46,6 +46,7 @@ import com.alee.managers.style.StyleManager;
 import com.alee.utils.CoreSwingUtils;
 import com.alee.utils.FileUtils;
 import com.alee.utils.SystemUtils;
+import com.alee.utils.collection.ImmutableList;
 import com.alee.utils.jar.JarEntry;
 import com.alee.utils.jar.JarStructure;
 import com.alee.utils.swing.extensions.KeyEventRunnable;
@@ -200,8 +201,8 @@ public class AboutLibraryDialog extends WebFrame
         Component tab = null;
         try
         {
-            // Parsing jar structure
-            final JarStructure structure = new JarStructure ( getClass () );
+            // Parsing jar structure, only licenses are required here
+            final JarStructure structure = new JarStructure ( getClass (), null, new ImmutableList<String> ( "licenses/" ) );
 
             // Retrieving required files
             final JarEntry licensesFolder = structure.getRoot ().getChildByName ( "licenses" );
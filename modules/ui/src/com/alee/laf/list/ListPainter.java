@@ -2,6 +2,7 @@ package com.alee.laf.list;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.extended.virtual.VirtualModel;
 import com.alee.managers.language.Language;
 import com.alee.managers.language.LanguageListener;
 import com.alee.managers.language.LanguageSensitive;
@@ -13,6 +14,7 @@ import com.alee.painter.decoration.AbstractDecorationPainter;
 import com.alee.painter.decoration.DecorationState;
 import com.alee.painter.decoration.IDecoration;
 import com.alee.painter.decoration.IDecorationPainter;
+import com.alee.utils.ColorUtils;
 import com.alee.utils.GeometryUtils;
 import com.alee.utils.ReflectUtils;
 
@@ -448,11 +450,38 @@ public class ListPainter<C extends JList, U extends WListUI, D extends IDecorati
     protected void paintCell ( final Graphics2D g2d, final int index, final Rectangle rowBounds, final ListCellRenderer cellRenderer,
                                final ListModel dataModel, final ListSelectionModel selModel, final int leadIndex )
     {
-        final Object value = dataModel.getElementAt ( index );
-        final boolean isSelected = selModel.isSelectedIndex ( index );
-        final boolean cellHasFocus = component.hasFocus () && index == leadIndex;
-        final Component renderer = cellRenderer.getListCellRendererComponent ( component, value, index, isSelected, cellHasFocus );
-        rendererPane.paintComponent ( g2d, renderer, component, rowBounds.x, rowBounds.y, rowBounds.width, rowBounds.height, true );
+        if ( dataModel instanceof VirtualModel && !( ( VirtualModel ) dataModel ).isRowLoaded ( index ) )
+        {
+            // Requesting element and painting placeholder instead of running renderer
+            ( ( VirtualModel ) dataModel ).requestRow ( index );
+            paintPlaceholder ( g2d, rowBounds );
+        }
+        else
+        {
+            final Object value = dataModel.getElementAt ( index );
+            final boolean isSelected = selModel.isSelectedIndex ( index );
+            final boolean cellHasFocus = component.hasFocus () && index == leadIndex;
+            final Component renderer = cellRenderer.getListCellRendererComponent ( component, value, index, isSelected, cellHasFocus );
+            rendererPane.paintComponent ( g2d, renderer, component, rowBounds.x, rowBounds.y, rowBounds.width, rowBounds.height, true );
+        }
+    }
+
+    /**
+     * Paints lightweight placeholder for the list cell which is not loaded yet.
+     *
+     * @param g2d    graphics context
+     * @param bounds cell bounds
+     */
+    protected void paintPlaceholder ( final Graphics2D g2d, final Rectangle bounds )
+    {
+        final int height = Math.min ( bounds.height / 2, 8 );
+        if ( bounds.width > 8 && height > 0 )
+        {
+            final Paint paint = g2d.getPaint ();
+            g2d.setPaint ( ColorUtils.transparent ( component.getForeground (), 32 ) );
+            g2d.fillRect ( bounds.x + 4, bounds.y + ( bounds.height - height ) / 2, bounds.width - 8, height );
+            g2d.setPaint ( paint );
+        }
     }
 
     /**
@@ -60,6 +60,14 @@ public class TabContainerLayout extends AbstractLayoutManager implements Mergeab
      */
     protected transient int runCount = 1;
 
+    /**
+     * {@link SizeCache} kept across layout passes.
+     * Sizes of invalid {@link Tab}s are cleared at the start of each pass.
+     * All sizes are cleared whenever layout is invalidated or {@link Tab}s are added or removed.
+     */
+    @Nullable
+    protected transient SizeCache sizeCache;
+
     /**
      * Returns {@link TabStretchType}.
      *
@@ -96,7 +104,7 @@ public class TabContainerLayout extends AbstractLayoutManager implements Mergeab
     public void layoutContainer ( @NotNull final Container parent )
     {
         final TabContainer tabContainer = ( TabContainer ) parent;
-        final SizeCache sizeCache = new SizeCache ( tabContainer );
+        final SizeCache sizeCache = getSizeCache ( tabContainer );
         final Insets insets = tabContainer.getInsets ();
         final int tabPlacement = tabContainer.getTabbedPane ().getTabPlacement ();
         final boolean horizontal = tabPlacement == JTabbedPane.TOP || tabPlacement == JTabbedPane.BOTTOM;
@@ -204,7 +212,7 @@ public class TabContainerLayout extends AbstractLayoutManager implements Mergeab
     {
         final Dimension ps = new Dimension ( 0, 0 );
         final TabContainer tabContainer = ( TabContainer ) parent;
-        final SizeCache sizeCache = new SizeCache ( tabContainer );
+        final SizeCache sizeCache = getSizeCache ( tabContainer );
         final Insets insets = tabContainer.getInsets ();
         final int tabLayoutPolicy = tabContainer.getTabbedPane ().getTabLayoutPolicy ();
         final int tabPlacement = tabContainer.getTabbedPane ().getTabPlacement ();
@@ -245,6 +253,45 @@ public class TabContainerLayout extends AbstractLayoutManager implements Mergeab
         return ps;
     }
 
+    @Override
+    public void addComponent ( @NotNull final Component component, @Nullable final Object constraints )
+    {
+        sizeCache = null;
+    }
+
+    @Override
+    public void removeComponent ( @NotNull final Component component )
+    {
+        sizeCache = null;
+    }
+
+    @Override
+    public void invalidateLayout ( @NotNull final Container container )
+    {
+        sizeCache = null;
+    }
+
+    /**
+     * Returns {@link SizeCache} for the specified {@link TabContainer}.
+     * Sizes of invalid {@link Tab}s are cleared from the cache to ensure they are measured again.
+     *
+     * @param tabContainer {@link TabContainer}
+     * @return {@link SizeCache} for the specified {@link TabContainer}
+     */
+    @NotNull
+    protected SizeCache getSizeCache ( @NotNull final TabContainer tabContainer )
+    {
+        if ( sizeCache == null )
+        {
+            sizeCache = new SizeCache ( tabContainer );
+        }
+        else
+        {
+            sizeCache.clearInvalid ( tabContainer );
+        }
+        return sizeCache;
+    }
+
     /**
      * Returns preferred size of the {@link Tab} at the specified index in {@link TabContainer}.
      * This method accounts for {@link TabSize} setting to ensure that it affects used {@link Tab} sizes.
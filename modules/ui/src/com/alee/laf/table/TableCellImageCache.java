@@ -0,0 +1,342 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.table;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.jdk.Objects;
+import com.alee.extended.behavior.AbstractComponentBehavior;
+import com.alee.extended.behavior.Behavior;
+import com.alee.laf.WebLookAndFeel;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableModel;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link Behavior} that caches rendered {@link JTable} cells as images to avoid running {@link TableCellRenderer}s for unchanged cells.
+ * Cached cell image is reused as long as cell value wasn't updated and its size, selection, focus and rollover states are the same.
+ * Cell images are invalidated according to {@link TableModelEvent} ranges, any {@link JTable} property change drops the whole cache.
+ * <p>
+ * This cache should only be used for {@link TableCellRenderer}s that display nothing but the cell value and states mentioned above.
+ * Also cells are rendered on a translucent image, so text antialiasing will fall back to grayscale on cached cells.
+ *
+ * @author Mikle Garin
+ * @see WebTable#setCacheCellImages(boolean)
+ * @see TablePainter
+ */
+public class TableCellImageCache extends AbstractComponentBehavior<JTable> implements PropertyChangeListener, TableModelListener
+{
+    /**
+     * Default maximum amount of cached cell images.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 8192;
+
+    /**
+     * Maximum amount of cached cell images.
+     */
+    protected final int maximumSize;
+
+    /**
+     * Cached cell images mapped by model row and column indices in least recently used order.
+     */
+    @NotNull
+    protected final LinkedHashMap<Long, CellImage> images;
+
+    /**
+     * Constructs new {@link TableCellImageCache}.
+     *
+     * @param table {@link JTable} this behavior is attached to
+     */
+    public TableCellImageCache ( @NotNull final JTable table )
+    {
+        this ( table, DEFAULT_MAXIMUM_SIZE );
+    }
+
+    /**
+     * Constructs new {@link TableCellImageCache}.
+     *
+     * @param table       {@link JTable} this behavior is attached to
+     * @param maximumSize maximum amount of cached cell images
+     */
+    public TableCellImageCache ( @NotNull final JTable table, final int maximumSize )
+    {
+        super ( table );
+        this.maximumSize = maximumSize;
+        this.images = new LinkedHashMap<Long, CellImage> ( 256, 0.75f, true )
+        {
+            @Override
+            protected boolean removeEldestEntry ( final Map.Entry<Long, CellImage> eldest )
+            {
+                return size () > TableCellImageCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Installs this {@link TableCellImageCache} into the {@link #component}.
+     */
+    public void install ()
+    {
+        if ( component.getModel () != null )
+        {
+            component.getModel ().addTableModelListener ( this );
+        }
+        component.addPropertyChangeListener ( this );
+    }
+
+    /**
+     * Uninstalls this {@link TableCellImageCache} from the {@link #component}.
+     */
+    public void uninstall ()
+    {
+        component.removePropertyChangeListener ( this );
+        if ( component.getModel () != null )
+        {
+            component.getModel ().removeTableModelListener ( this );
+        }
+        clear ();
+    }
+
+    /**
+     * Returns amount of currently cached cell images.
+     *
+     * @return amount of currently cached cell images
+     */
+    public int size ()
+    {
+        return images.size ();
+    }
+
+    /**
+     * Drops all cached cell images.
+     */
+    public void clear ()
+    {
+        images.clear ();
+    }
+
+    @Override
+    public void propertyChange ( @NotNull final PropertyChangeEvent event )
+    {
+        if ( Objects.equals ( event.getPropertyName (), WebLookAndFeel.MODEL_PROPERTY ) )
+        {
+            // Move table model listener to new model
+            final TableModel oldModel = ( TableModel ) event.getOldValue ();
+            if ( oldModel != null )
+            {
+                oldModel.removeTableModelListener ( this );
+            }
+            final TableModel newModel = ( TableModel ) event.getNewValue ();
+            if ( newModel != null )
+            {
+                newModel.addTableModelListener ( this );
+            }
+        }
+
+        // Renderers, fonts, colors or anything else might have changed
+        clear ();
+    }
+
+    @Override
+    public void tableChanged ( @NotNull final TableModelEvent event )
+    {
+        final int firstRow = event.getFirstRow ();
+        final int lastRow = event.getLastRow ();
+        if ( firstRow == TableModelEvent.HEADER_ROW || lastRow == Integer.MAX_VALUE )
+        {
+            // Whole data or structure has changed
+            clear ();
+        }
+        else
+        {
+            // Rows shift on insertion and removal so all following cells have to be dropped
+            final boolean update = event.getType () == TableModelEvent.UPDATE;
+            final int column = event.getColumn ();
+            final Iterator<Long> iterator = images.keySet ().iterator ();
+            while ( iterator.hasNext () )
+            {
+                final long key = iterator.next ();
+                final int row = ( int ) ( key >> 32 );
+                if ( update ?
+                        row >= firstRow && row <= lastRow && ( column == TableModelEvent.ALL_COLUMNS || column == ( int ) key ) :
+                        row >= firstRow )
+                {
+                    iterator.remove ();
+                }
+            }
+        }
+    }
+
+    /**
+     * Paints cell at the specified view row and column using cached image when possible.
+     * Cell image is rendered and cached first if it is missing or outdated.
+     *
+     * @param g2d          graphics context
+     * @param rendererPane {@link CellRendererPane} used for cell rendering
+     * @param bounds       cell bounds
+     * @param row          cell view row index
+     * @param column       cell view column index
+     * @param rollover     whether or not cell is under rollover
+     */
+    public void paintCell ( @NotNull final Graphics2D g2d, @NotNull final CellRendererPane rendererPane, @NotNull final Rectangle bounds,
+                            final int row, final int column, final boolean rollover )
+    {
+        if ( bounds.width > 0 && bounds.height > 0 )
+        {
+            final AffineTransform transform = g2d.getTransform ();
+            final int width = ( int ) Math.ceil ( bounds.width * transform.getScaleX () );
+            final int height = ( int ) Math.ceil ( bounds.height * transform.getScaleY () );
+            final boolean selected = component.isCellSelected ( row, column );
+            final boolean focused = component.hasFocus () &&
+                    component.getSelectionModel ().getLeadSelectionIndex () == row &&
+                    component.getColumnModel ().getSelectionModel ().getLeadSelectionIndex () == column;
+
+            final long key = ( long ) component.convertRowIndexToModel ( row ) << 32 |
+                    component.convertColumnIndexToModel ( column ) & 0xFFFFFFFFL;
+            CellImage cellImage = images.get ( key );
+            if ( cellImage == null || !cellImage.isValid ( width, height, selected, focused, rollover ) )
+            {
+                cellImage = renderCell ( cellImage, rendererPane, bounds, width, height, row, column );
+                cellImage.selected = selected;
+                cellImage.focused = focused;
+                cellImage.rollover = rollover;
+                images.put ( key, cellImage );
+            }
+            g2d.drawImage ( cellImage.image, bounds.x, bounds.y, bounds.width, bounds.height, null );
+        }
+    }
+
+    /**
+     * Renders cell into an image.
+     * Previous cell image is reused if it has the same size.
+     *
+     * @param previous     previous {@link CellImage}, can be {@code null}
+     * @param rendererPane {@link CellRendererPane} used for cell rendering
+     * @param bounds       cell bounds
+     * @param width        image width
+     * @param height       image height
+     * @param row          cell view row index
+     * @param column       cell view column index
+     * @return rendered {@link CellImage}
+     */
+    @NotNull
+    protected CellImage renderCell ( @Nullable final CellImage previous, @NotNull final CellRendererPane rendererPane,
+                                     @NotNull final Rectangle bounds, final int width, final int height, final int row, final int column )
+    {
+        final CellImage cellImage;
+        if ( previous != null && previous.image.getWidth () == width && previous.image.getHeight () == height )
+        {
+            cellImage = previous;
+        }
+        else
+        {
+            cellImage = new CellImage ( createImage ( width, height ) );
+        }
+
+        final Graphics2D ig = cellImage.image.createGraphics ();
+        ig.setComposite ( AlphaComposite.Clear );
+        ig.fillRect ( 0, 0, width, height );
+        ig.setComposite ( AlphaComposite.SrcOver );
+        ig.scale ( ( double ) width / bounds.width, ( double ) height / bounds.height );
+        final TableCellRenderer renderer = component.getCellRenderer ( row, column );
+        final Component prepareRenderer = component.prepareRenderer ( renderer, row, column );
+        rendererPane.paintComponent ( ig, prepareRenderer, component, 0, 0, bounds.width, bounds.height, true );
+        ig.dispose ();
+
+        return cellImage;
+    }
+
+    /**
+     * Returns new translucent image for cell rendering.
+     *
+     * @param width  image width
+     * @param height image height
+     * @return new translucent image for cell rendering
+     */
+    @NotNull
+    protected BufferedImage createImage ( final int width, final int height )
+    {
+        final GraphicsConfiguration gc = component.getGraphicsConfiguration ();
+        return gc != null ? gc.createCompatibleImage ( width, height, Transparency.TRANSLUCENT ) :
+                new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB_PRE );
+    }
+
+    /**
+     * Cached cell image and states it was rendered for.
+     */
+    protected static class CellImage
+    {
+        /**
+         * Rendered cell image.
+         */
+        @NotNull
+        protected final BufferedImage image;
+
+        /**
+         * Whether or not cell was selected.
+         */
+        protected boolean selected;
+
+        /**
+         * Whether or not cell was focused.
+         */
+        protected boolean focused;
+
+        /**
+         * Whether or not cell was under rollover.
+         */
+        protected boolean rollover;
+
+        /**
+         * Constructs new {@link CellImage}.
+         *
+         * @param image rendered cell image
+         */
+        public CellImage ( @NotNull final BufferedImage image )
+        {
+            this.image = image;
+        }
+
+        /**
+         * Returns whether or not this {@link CellImage} can be used for the specified size and states.
+         *
+         * @param width    image width
+         * @param height   image height
+         * @param selected whether or not cell is selected
+         * @param focused  whether or not cell is focused
+         * @param rollover whether or not cell is under rollover
+         * @return {@code true} if this {@link CellImage} can be used for the specified size and states, {@code false} otherwise
+         */
+        public boolean isValid ( final int width, final int height, final boolean selected, final boolean focused, final boolean rollover )
+        {
+            return image.getWidth () == width && image.getHeight () == height &&
+                    this.selected == selected && this.focused == focused && this.rollover == rollover;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.alee.laf.table;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.jdk.Objects;
+import com.alee.extended.virtual.VirtualModel;
 import com.alee.managers.language.Language;
 import com.alee.managers.language.LanguageListener;
 import com.alee.managers.language.LanguageSensitive;
@@ -12,6 +13,7 @@ import com.alee.painter.SectionPainter;
 import com.alee.painter.decoration.AbstractDecorationPainter;
 import com.alee.painter.decoration.IDecoration;
 import com.alee.utils.CollectionUtils;
+import com.alee.utils.ColorUtils;
 import com.alee.utils.GeometryUtils;
 import com.alee.utils.ReflectUtils;
 import com.alee.utils.general.Pair;
@@ -735,10 +737,46 @@ public class TablePainter<C extends JTable, U extends WTableUI, D extends IDecor
         }
         else
         {
-            // Paint cell renderer
-            final TableCellRenderer renderer = component.getCellRenderer ( row, column );
-            final Component prepareRenderer = component.prepareRenderer ( renderer, row, column );
-            rendererPane.paintComponent ( g2d, prepareRenderer, component, bounds.x, bounds.y, bounds.width, bounds.height, true );
+            final TableModel model = component.getModel ();
+            final int modelRow = model instanceof VirtualModel ? component.convertRowIndexToModel ( row ) : -1;
+            if ( modelRow != -1 && !( ( VirtualModel ) model ).isRowLoaded ( modelRow ) )
+            {
+                // Requesting row and painting placeholder instead of running renderer
+                ( ( VirtualModel ) model ).requestRow ( modelRow );
+                paintPlaceholder ( g2d, bounds );
+            }
+            else if ( component instanceof WebTable && ( ( WebTable ) component ).getCellImageCache () != null )
+            {
+                // Paint cached cell image
+                final TableCellImageCache cache = ( ( WebTable ) component ).getCellImageCache ();
+                final boolean rollover = rolloverCell != null && rolloverCell.row () == row && rolloverCell.column () == column;
+                cache.paintCell ( g2d, rendererPane, bounds, row, column, rollover );
+            }
+            else
+            {
+                // Paint cell renderer
+                final TableCellRenderer renderer = component.getCellRenderer ( row, column );
+                final Component prepareRenderer = component.prepareRenderer ( renderer, row, column );
+                rendererPane.paintComponent ( g2d, prepareRenderer, component, bounds.x, bounds.y, bounds.width, bounds.height, true );
+            }
+        }
+    }
+
+    /**
+     * Paints lightweight placeholder for the table cell which is not loaded yet.
+     *
+     * @param g2d    graphics context
+     * @param bounds cell bounds
+     */
+    protected void paintPlaceholder ( final Graphics2D g2d, final Rectangle bounds )
+    {
+        final int height = Math.min ( bounds.height / 2, 8 );
+        if ( bounds.width > 8 && height > 0 )
+        {
+            final Paint paint = g2d.getPaint ();
+            g2d.setPaint ( ColorUtils.transparent ( component.getForeground (), 32 ) );
+            g2d.fillRect ( bounds.x + 4, bounds.y + ( bounds.height - height ) / 2, bounds.width - 8, height );
+            g2d.setPaint ( paint );
         }
     }
 
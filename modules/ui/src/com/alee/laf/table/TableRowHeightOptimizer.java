@@ -23,25 +23,54 @@ import com.alee.extended.behavior.AbstractComponentBehavior;
 import com.alee.extended.behavior.Behavior;
 import com.alee.laf.WebLookAndFeel;
 import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.swing.WebTimer;
 
 import javax.swing.*;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.TableColumnModelEvent;
+import javax.swing.event.TableColumnModelListener;
 import javax.swing.event.TableModelEvent;
 import javax.swing.event.TableModelListener;
+import javax.swing.table.JTableHeader;
 import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumnModel;
 import javax.swing.table.TableModel;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.Arrays;
 
 /**
  * {@link Behavior} that adjusts {@link JTable} row height on the fly according to data from {@link TableModel}.
- * Note that this behavior will not cover all possible cell sizes as it will only use a small chunk of {@link TableModel} data to test
+ * Measured row heights are memoized per {@link TableModel} row and only rows affected by {@link TableModelEvent}s are measured again.
+ * Note that this behavior will not cover all possible cell sizes as it will only use visible chunk of {@link TableModel} data to test
  * {@link TableCellRenderer} preferred size, otherwise we are risking to hit various issues with {@link TableModel}s of large size.
+ * <p>
+ * By default single row height is used for all rows, but it can also optimize each row height separately.
+ * In that case rows are measured lazily as they become visible and their heights are passed into {@link JTable#setRowHeight(int, int)},
+ * which keeps them in {@link javax.swing.SizeSequence} that already provides O(log n) {@link JTable#rowAtPoint(Point)} and
+ * {@link JTable#getCellRect(int, int, boolean)} lookups.
  *
  * @author Mikle Garin
  */
-public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> implements PropertyChangeListener, TableModelListener
+public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable>
+        implements PropertyChangeListener, TableModelListener, TableColumnModelListener, ComponentListener
 {
+    /**
+     * Delay in milliseconds after last column width change before rows are measured again.
+     */
+    protected static final long COLUMNS_UPDATE_DELAY = 100;
+
+    /**
+     * Whether or not each row height should be optimized separately.
+     */
+    protected final boolean variable;
+
     /**
      * Initial row height of the {@link JTable}.
      * It is saved whenever {@link JTable#setRowHeight(int)} is called.
@@ -54,14 +83,55 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
      */
     protected boolean adjusting;
 
+    /**
+     * Measured row heights indexed by {@link TableModel} row index.
+     * Rows that are not measured yet or were updated since last measurement have {@code 0} height.
+     */
+    @NotNull
+    protected int[] heights;
+
+    /**
+     * Whether or not row height update is already scheduled.
+     */
+    protected boolean updateScheduled;
+
+    /**
+     * {@link WebTimer} coalescing column width changes.
+     * Rows are measured again only once column widths stop changing, for instance when column resize ends.
+     */
+    protected WebTimer columnsUpdater;
+
     /**
      * Constructs new {@link TableRowHeightOptimizer}.
      *
      * @param table {@link JTable} this behavior is attached to
      */
     public TableRowHeightOptimizer ( @NotNull final JTable table )
+    {
+        this ( table, false );
+    }
+
+    /**
+     * Constructs new {@link TableRowHeightOptimizer}.
+     *
+     * @param table    {@link JTable} this behavior is attached to
+     * @param variable whether or not each row height should be optimized separately
+     */
+    public TableRowHeightOptimizer ( @NotNull final JTable table, final boolean variable )
     {
         super ( table );
+        this.variable = variable;
+        this.heights = new int[ 0 ];
+    }
+
+    /**
+     * Returns whether or not each row height is optimized separately.
+     *
+     * @return {@code true} if each row height is optimized separately, {@code false} otherwise
+     */
+    public boolean isVariable ()
+    {
+        return variable;
     }
 
     /**
@@ -69,13 +139,27 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
      */
     public void install ()
     {
+        columnsUpdater = new WebTimer ( "TableRowHeightOptimizer.columnsUpdater", COLUMNS_UPDATE_DELAY, new ActionListener ()
+        {
+            @Override
+            public void actionPerformed ( @NotNull final ActionEvent e )
+            {
+                updateColumnWidths ();
+            }
+        } ).setRepeats ( false );
         initialRowHeight = component.getRowHeight ();
+        resetHeights ();
         optimizeRowHeight ();
         if ( component.getModel () != null )
         {
             component.getModel ().addTableModelListener ( this );
         }
+        if ( component.getColumnModel () != null )
+        {
+            component.getColumnModel ().addColumnModelListener ( this );
+        }
         component.addPropertyChangeListener ( this );
+        component.addComponentListener ( this );
     }
 
     /**
@@ -83,13 +167,21 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
      */
     public void uninstall ()
     {
+        component.removeComponentListener ( this );
         component.removePropertyChangeListener ( this );
+        if ( component.getColumnModel () != null )
+        {
+            component.getColumnModel ().removeColumnModelListener ( this );
+        }
         if ( component.getModel () != null )
         {
             component.getModel ().removeTableModelListener ( this );
         }
+        columnsUpdater.stop ();
+        columnsUpdater = null;
         restoreRowHeight ();
         initialRowHeight = 0;
+        heights = new int[ 0 ];
     }
 
     @Override
@@ -109,6 +201,28 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
             {
                 newModel.addTableModelListener ( this );
             }
+
+            // Measure rows from new model
+            resetHeights ();
+            scheduleUpdate ();
+        }
+        else if ( Objects.equals ( propertyName, WebTable.COLUMN_MODEL_PROPERTY ) )
+        {
+            // Move column model listener to new model
+            final TableColumnModel oldModel = ( TableColumnModel ) event.getOldValue ();
+            if ( oldModel != null )
+            {
+                oldModel.removeColumnModelListener ( this );
+            }
+            final TableColumnModel newModel = ( TableColumnModel ) event.getNewValue ();
+            if ( newModel != null )
+            {
+                newModel.addColumnModelListener ( this );
+            }
+
+            // Measure rows with new columns
+            resetHeights ();
+            scheduleUpdate ();
         }
         else if ( Objects.equals ( propertyName, WebTable.ROW_HEIGHT_PROPERTY ) && !adjusting )
         {
@@ -123,18 +237,182 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
     @Override
     public void tableChanged ( @NotNull final TableModelEvent event )
     {
+        // Updating memoized heights right away while event rows still match model
+        final int rowCount = component.getModel ().getRowCount ();
+        final int firstRow = event.getFirstRow ();
+        final int lastRow = event.getLastRow ();
+        if ( firstRow == TableModelEvent.HEADER_ROW || lastRow == Integer.MAX_VALUE || firstRow < 0 || lastRow < firstRow )
+        {
+            resetHeights ();
+        }
+        else if ( event.getType () == TableModelEvent.INSERT )
+        {
+            final int count = lastRow - firstRow + 1;
+            if ( heights.length + count == rowCount && firstRow <= heights.length )
+            {
+                final int[] updated = new int[ rowCount ];
+                System.arraycopy ( heights, 0, updated, 0, firstRow );
+                System.arraycopy ( heights, firstRow, updated, lastRow + 1, heights.length - firstRow );
+                heights = updated;
+            }
+            else
+            {
+                resetHeights ();
+            }
+        }
+        else if ( event.getType () == TableModelEvent.DELETE )
+        {
+            final int count = lastRow - firstRow + 1;
+            if ( heights.length - count == rowCount && lastRow < heights.length )
+            {
+                final int[] updated = new int[ rowCount ];
+                System.arraycopy ( heights, 0, updated, 0, firstRow );
+                System.arraycopy ( heights, lastRow + 1, updated, firstRow, heights.length - lastRow - 1 );
+                heights = updated;
+            }
+            else
+            {
+                resetHeights ();
+            }
+        }
+        else if ( heights.length == rowCount && lastRow < rowCount )
+        {
+            Arrays.fill ( heights, firstRow, lastRow + 1, 0 );
+        }
+        else
+        {
+            resetHeights ();
+        }
+
         /**
          * This call must be made later due to the way {@link javax.swing.table.TableRowSorter} is implemented.
          * Otherwise this listener will receive outdated information from the methods that go to the sorter instead of the model.
          */
-        CoreSwingUtils.invokeLater ( new Runnable ()
+        scheduleUpdate ();
+    }
+
+    @Override
+    public void columnAdded ( @NotNull final TableColumnModelEvent event )
+    {
+        resetHeights ();
+        scheduleUpdate ();
+    }
+
+    @Override
+    public void columnRemoved ( @NotNull final TableColumnModelEvent event )
+    {
+        resetHeights ();
+        scheduleUpdate ();
+    }
+
+    @Override
+    public void columnMoved ( @NotNull final TableColumnModelEvent event )
+    {
+        /**
+         * Column order doesn't affect row heights.
+         */
+    }
+
+    @Override
+    public void columnMarginChanged ( @NotNull final ChangeEvent event )
+    {
+        // Column widths might affect renderers preferred height
+        // Column resize fires this event on each drag step, so rows are measured again once it ends
+        columnsUpdater.restart ();
+    }
+
+    @Override
+    public void columnSelectionChanged ( @NotNull final ListSelectionEvent event )
+    {
+        /**
+         * Column selection doesn't affect row heights.
+         */
+    }
+
+    @Override
+    public void componentResized ( @NotNull final ComponentEvent event )
+    {
+        updateVisibleRows ();
+    }
+
+    @Override
+    public void componentMoved ( @NotNull final ComponentEvent event )
+    {
+        updateVisibleRows ();
+    }
+
+    @Override
+    public void componentShown ( @NotNull final ComponentEvent event )
+    {
+        updateVisibleRows ();
+    }
+
+    @Override
+    public void componentHidden ( @NotNull final ComponentEvent event )
+    {
+        /**
+         * Hidden table has no visible rows to measure.
+         */
+    }
+
+    /**
+     * Updates row heights for rows that became visible.
+     * Only used when each row height is optimized separately as single row height is not updated upon scrolling.
+     */
+    protected void updateVisibleRows ()
+    {
+        if ( variable && !adjusting )
         {
-            @Override
-            public void run ()
+            optimizeRowHeight ();
+        }
+    }
+
+    /**
+     * Measures rows again after column widths change.
+     * Postponed while any column is still being resized through {@link javax.swing.table.JTableHeader}.
+     */
+    protected void updateColumnWidths ()
+    {
+        final JTableHeader header = component.getTableHeader ();
+        if ( header != null && header.getResizingColumn () != null )
+        {
+            columnsUpdater.restart ();
+        }
+        else
+        {
+            resetHeights ();
+            optimizeRowHeight ();
+        }
+    }
+
+    /**
+     * Drops all memoized row heights.
+     */
+    protected void resetHeights ()
+    {
+        final TableModel model = component.getModel ();
+        heights = new int[ model != null ? model.getRowCount () : 0 ];
+    }
+
+    /**
+     * Schedules row height update.
+     * Multiple updates requested before it happens are merged into one.
+     */
+    protected void scheduleUpdate ()
+    {
+        if ( !updateScheduled )
+        {
+            updateScheduled = true;
+            CoreSwingUtils.invokeLater ( new Runnable ()
             {
-                optimizeRowHeight ();
-            }
-        } );
+                @Override
+                public void run ()
+                {
+                    updateScheduled = false;
+                    optimizeRowHeight ();
+                }
+            } );
+        }
     }
 
     /**
@@ -142,52 +420,129 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
      */
     protected void optimizeRowHeight ()
     {
-        int maxHeight = initialRowHeight;
-        if ( component.getColumnCount () > 0 )
+        if ( variable )
         {
-            final TableModel model = component.getModel ();
-            if ( model.getRowCount () > 0 )
+            optimizeVisibleRowHeights ();
+        }
+        else
+        {
+            int maxHeight = initialRowHeight;
+            if ( component.getColumnCount () > 0 && component.getRowCount () > 0 )
             {
-                final Rectangle vr = component.getVisibleRect ();
-                if ( vr.width > 0 && vr.height > 0 )
+                final int[] rows = getVisibleRows ();
+                final int rMin = rows != null ? rows[ 0 ] : 0;
+                final int rMax = rows != null ? rows[ 1 ] : 0;
+                for ( int row = rMin; row <= rMax; row++ )
                 {
-                    final boolean ltr = component.getComponentOrientation ().isLeftToRight ();
-                    final Point upperLeft = new Point ( ltr ? vr.x + 1 : vr.x + vr.width - 1, vr.y + 1 );
-                    final Point lowerLeft = new Point ( ltr ? vr.x + 1 : vr.x + vr.width - 1, vr.y + vr.height - 1 );
-                    final Point upperRight = new Point ( ltr ? vr.x + vr.width - 1 : vr.x + 1, vr.y + 1 );
-                    final int rMin = Math.max ( 0, component.rowAtPoint ( upperLeft ) );
-                    final int rMax = Math.min ( component.getRowCount () - 1, component.rowAtPoint ( lowerLeft ) );
-                    final int cMin = Math.max ( 0, component.columnAtPoint ( upperLeft ) );
-                    final int cMax = Math.min ( component.getColumnCount () - 1, component.columnAtPoint ( upperRight ) );
-                    for ( int row = rMin; row <= rMax; row++ )
-                    {
-                        for ( int col = cMin; col < cMax; col++ )
-                        {
-                            final TableCellRenderer cellRenderer = component.getCellRenderer ( row, col );
-                            final Component renderer = component.prepareRenderer ( cellRenderer, row, col );
-                            final Dimension ps = renderer.getPreferredSize ();
-                            maxHeight = Math.max ( maxHeight, ps.height );
-                        }
-                    }
+                    maxHeight = Math.max ( maxHeight, getRowHeight ( row ) );
                 }
-                else
+            }
+            if ( maxHeight != component.getRowHeight () )
+            {
+                adjusting = true;
+                component.setRowHeight ( maxHeight );
+                adjusting = false;
+            }
+        }
+    }
+
+    /**
+     * Optimizes visible {@link JTable} rows heights separately.
+     * Rows that become visible after the adjustment will be handled upon following {@link JTable} resize or move.
+     */
+    protected void optimizeVisibleRowHeights ()
+    {
+        if ( component.getColumnCount () > 0 && component.getRowCount () > 0 )
+        {
+            final int[] rows = getVisibleRows ();
+            if ( rows != null )
+            {
+                adjusting = true;
+                for ( int row = rows[ 0 ]; row <= rows[ 1 ]; row++ )
                 {
-                    for ( int col = 0; col < component.getColumnCount (); col++ )
+                    final int height = Math.max ( initialRowHeight, getRowHeight ( row ) );
+                    if ( component.getRowHeight ( row ) != height )
                     {
-                        final TableCellRenderer cellRenderer = component.getCellRenderer ( 0, col );
-                        final Component renderer = component.prepareRenderer ( cellRenderer, 0, col );
-                        final Dimension ps = renderer.getPreferredSize ();
-                        maxHeight = Math.max ( maxHeight, ps.height );
+                        component.setRowHeight ( row, height );
                     }
                 }
+                adjusting = false;
+            }
+        }
+    }
+
+    /**
+     * Returns first and last visible {@link JTable} row indices, or {@code null} if {@link JTable} is not visible.
+     *
+     * @return first and last visible {@link JTable} row indices, or {@code null} if {@link JTable} is not visible
+     */
+    protected int[] getVisibleRows ()
+    {
+        final int[] rows;
+        final Rectangle vr = component.getVisibleRect ();
+        if ( vr.width > 0 && vr.height > 0 )
+        {
+            final int rMin = component.rowAtPoint ( new Point ( vr.x, vr.y ) );
+            if ( rMin != -1 )
+            {
+                final int rMax = component.rowAtPoint ( new Point ( vr.x, vr.y + vr.height - 1 ) );
+                rows = new int[]{ rMin, rMax != -1 ? rMax : component.getRowCount () - 1 };
+            }
+            else
+            {
+                rows = null;
             }
         }
-        if ( maxHeight != component.getRowHeight () )
+        else
+        {
+            rows = null;
+        }
+        return rows;
+    }
+
+    /**
+     * Returns preferred height of the {@link JTable} row.
+     * Memoized height is returned if row wasn't updated since last measurement.
+     *
+     * @param row {@link JTable} row index
+     * @return preferred height of the {@link JTable} row
+     */
+    protected int getRowHeight ( final int row )
+    {
+        final int height;
+        final int modelRow = component.convertRowIndexToModel ( row );
+        if ( modelRow >= 0 && modelRow < heights.length )
+        {
+            if ( heights[ modelRow ] == 0 )
+            {
+                heights[ modelRow ] = Math.max ( 1, measureRowHeight ( row ) );
+            }
+            height = heights[ modelRow ];
+        }
+        else
+        {
+            height = measureRowHeight ( row );
+        }
+        return height;
+    }
+
+    /**
+     * Returns preferred height of the {@link JTable} row measured using {@link TableCellRenderer}s.
+     *
+     * @param row {@link JTable} row index
+     * @return preferred height of the {@link JTable} row measured using {@link TableCellRenderer}s
+     */
+    protected int measureRowHeight ( final int row )
+    {
+        int maxHeight = 0;
+        for ( int col = 0; col < component.getColumnCount (); col++ )
         {
-            adjusting = true;
-            component.setRowHeight ( maxHeight );
-            adjusting = false;
+            final TableCellRenderer cellRenderer = component.getCellRenderer ( row, col );
+            final Component renderer = component.prepareRenderer ( cellRenderer, row, col );
+            final Dimension ps = renderer.getPreferredSize ();
+            maxHeight = Math.max ( maxHeight, ps.height );
         }
+        return maxHeight;
     }
 
     /**
@@ -199,4 +554,4 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
         component.setRowHeight ( initialRowHeight );
         adjusting = false;
     }
-}
\ No newline at end of file
+}
@@ -64,6 +64,7 @@ public class WebTable extends JTable implements Styleable, EventMethods, Languag
      */
     public static final String TABLE_HEADER_PROPERTY = "tableHeader";
     public static final String ROW_HEIGHT_PROPERTY = "rowHeight";
+    public static final String COLUMN_MODEL_PROPERTY = "columnModel";
 
     /**
      * Client properties used for backward compatibility with Swing {@link JTable}.
@@ -94,6 +95,11 @@ public class WebTable extends JTable implements Styleable, EventMethods, Languag
      */
     protected transient TableRowHeightOptimizer rowHeightOptimizer;
 
+    /**
+     * {@link TableCellImageCache} if it is enabled, {@code null} otherwise.
+     */
+    protected transient TableCellImageCache cellImageCache;
+
     /**
      * Constructs new table.
      */
@@ -319,6 +325,16 @@ public class WebTable extends JTable implements Styleable, EventMethods, Languag
         return rowHeightOptimizer != null;
     }
 
+    /**
+     * Returns whether or not {@link TableRowHeightOptimizer} is enabled and optimizes each row height separately.
+     *
+     * @return {@code true} if {@link TableRowHeightOptimizer} is enabled and optimizes each row height separately, {@code false} otherwise
+     */
+    public boolean isOptimizeVariableRowHeight ()
+    {
+        return rowHeightOptimizer != null && rowHeightOptimizer.isVariable ();
+    }
+
     /**
      * Sets whether or not {@link TableRowHeightOptimizer} should be enabled.
      *
@@ -326,20 +342,73 @@ public class WebTable extends JTable implements Styleable, EventMethods, Languag
      */
     public void setOptimizeRowHeight ( final boolean optimize )
     {
-        if ( optimize )
+        setOptimizeRowHeight ( optimize, false );
+    }
+
+    /**
+     * Sets whether or not {@link TableRowHeightOptimizer} should be enabled.
+     *
+     * @param optimize whether or not {@link TableRowHeightOptimizer} should be enabled
+     * @param variable whether or not each row height should be optimized separately
+     */
+    public void setOptimizeRowHeight ( final boolean optimize, final boolean variable )
+    {
+        if ( rowHeightOptimizer != null && ( !optimize || rowHeightOptimizer.isVariable () != variable ) )
+        {
+            rowHeightOptimizer.uninstall ();
+            rowHeightOptimizer = null;
+        }
+        if ( optimize && rowHeightOptimizer == null )
+        {
+            rowHeightOptimizer = new TableRowHeightOptimizer ( this, variable );
+            rowHeightOptimizer.install ();
+        }
+    }
+
+    /**
+     * Returns {@link TableCellImageCache} if it is enabled, {@code null} otherwise.
+     *
+     * @return {@link TableCellImageCache} if it is enabled, {@code null} otherwise
+     */
+    public TableCellImageCache getCellImageCache ()
+    {
+        return cellImageCache;
+    }
+
+    /**
+     * Returns whether or not {@link TableCellImageCache} is enabled.
+     *
+     * @return {@code true} if {@link TableCellImageCache} is enabled, {@code false} otherwise
+     */
+    public boolean isCacheCellImages ()
+    {
+        return cellImageCache != null;
+    }
+
+    /**
+     * Sets whether or not {@link TableCellImageCache} should be enabled.
+     * Should only be enabled for tables with renderers that depend solely on cell values and selection, focus and rollover states.
+     *
+     * @param cache whether or not {@link TableCellImageCache} should be enabled
+     */
+    public void setCacheCellImages ( final boolean cache )
+    {
+        if ( cache )
         {
-            if ( rowHeightOptimizer == null )
+            if ( cellImageCache == null )
             {
-                rowHeightOptimizer = new TableRowHeightOptimizer ( this );
-                rowHeightOptimizer.install ();
+                cellImageCache = new TableCellImageCache ( this );
+                cellImageCache.install ();
+                repaint ();
             }
         }
         else
         {
-            if ( rowHeightOptimizer != null )
+            if ( cellImageCache != null )
             {
-                rowHeightOptimizer.uninstall ();
-                rowHeightOptimizer = null;
+                cellImageCache.uninstall ();
+                cellImageCache = null;
+                repaint ();
             }
         }
     }
@@ -109,8 +109,13 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
 
     /**
      * Painting variables.
+     * {@link #paintedLegs} contains parent {@link TreePath}s vertical legs were painted for during current paint pass, indexed by depth.
+     * It replaces a map of painted parents since visible paths are painted in depth-first order and each parent's rows are contiguous.
+     * {@link #legBounds} and {@link #lastChildBounds} are reused to avoid allocating bounds while painting vertical legs.
      */
-    protected transient Map<TreePath, Boolean> paintingCache;
+    protected transient TreePath[] paintedLegs;
+    protected transient Rectangle legBounds;
+    protected transient Rectangle lastChildBounds;
     protected transient TreePaintParameters paintParameters;
     protected transient int totalChildIndent;
     protected transient int depthOffset;
@@ -130,7 +135,9 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
     @Override
     protected void installPropertiesAndListeners ()
     {
-        paintingCache = new HashMap<TreePath, Boolean> ();
+        paintedLegs = new TreePath[ 16 ];
+        legBounds = new Rectangle ();
+        lastChildBounds = new Rectangle ();
         super.installPropertiesAndListeners ();
         installTreeSelectionListeners ();
         installTreeExpansionListeners ();
@@ -146,7 +153,9 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
         uninstallTreeExpansionListeners ();
         uninstallTreeSelectionListeners ();
         super.uninstallPropertiesAndListeners ();
-        paintingCache = null;
+        paintedLegs = null;
+        legBounds = null;
+        lastChildBounds = null;
     }
 
     /**
@@ -1000,8 +1009,6 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
         final int endY = paintBounds.y + paintBounds.height;
         int row = treeLayoutCache.getRowForPath ( initialPath );
 
-        paintingCache.clear ();
-
         if ( initialPath != null && paintingEnumerator != null )
         {
             TreePath parentPath = initialPath;
@@ -1013,7 +1020,7 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
             while ( parentPath != null )
             {
                 paintVerticalPartOfLeg ( g2d, paintBounds, insets, parentPath );
-                paintingCache.put ( parentPath, Boolean.TRUE );
+                markLegPainted ( parentPath );
                 parentPath = parentPath.getParentPath ();
             }
 
@@ -1055,10 +1062,10 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
                     parentPath = path.getParentPath ();
                     if ( parentPath != null )
                     {
-                        if ( paintingCache.get ( parentPath ) == null )
+                        if ( !isLegPainted ( parentPath ) )
                         {
                             paintVerticalPartOfLeg ( g2d, paintBounds, insets, parentPath );
-                            paintingCache.put ( parentPath, Boolean.TRUE );
+                            markLegPainted ( parentPath );
                         }
                         paintHorizontalPartOfLeg ( g2d, paintBounds, insets, bounds, path, row, isExpanded, hasBeenExpanded, isLeaf );
                     }
@@ -1084,10 +1091,41 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
             }
         }
 
+        // Releasing painted parent paths
+        Arrays.fill ( paintedLegs, null );
+
         // Empty out the renderer pane, allowing renderers to be gc'ed.
         rendererPane.removeAll ();
     }
 
+    /**
+     * Returns whether or not vertical leg for the specified parent {@link TreePath} was already painted during current paint pass.
+     *
+     * @param parentPath parent {@link TreePath}
+     * @return {@code true} if vertical leg for the specified parent {@link TreePath} was already painted, {@code false} otherwise
+     */
+    protected boolean isLegPainted ( @NotNull final TreePath parentPath )
+    {
+        final int depth = parentPath.getPathCount () - 1;
+        final TreePath painted = depth < paintedLegs.length ? paintedLegs[ depth ] : null;
+        return painted != null && ( painted == parentPath || painted.equals ( parentPath ) );
+    }
+
+    /**
+     * Marks vertical leg for the specified parent {@link TreePath} as painted during current paint pass.
+     *
+     * @param parentPath parent {@link TreePath}
+     */
+    protected void markLegPainted ( @NotNull final TreePath parentPath )
+    {
+        final int depth = parentPath.getPathCount () - 1;
+        if ( depth >= paintedLegs.length )
+        {
+            paintedLegs = Arrays.copyOf ( paintedLegs, Math.max ( depth + 1, paintedLegs.length * 2 ) );
+        }
+        paintedLegs[ depth ] = parentPath;
+    }
+
     /**
      * Returns whether or not {@code mouseX} and {@code mouseY} fall in the area of row that is used to expand/collapse the node and the
      * node at {@code row} does not represent a leaf.
@@ -1357,8 +1395,10 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
                 {
                     final int clipTop = clipBounds.y;
                     final int clipBottom = clipBounds.y + clipBounds.height;
-                    Rectangle parentBounds = getPathBounds ( path );
-                    final Rectangle lastChildBounds = getPathBounds ( getLastChildPath ( path ) );
+                    Rectangle parentBounds = getPathBounds ( path, insets, legBounds );
+                    final TreePath lastChildPath = getLastChildPath ( path );
+                    final Rectangle lastChildBounds = lastChildPath != null ?
+                            getPathBounds ( lastChildPath, insets, this.lastChildBounds ) : null;
 
                     // Note from Swing devs:
                     // This shouldn't happen, but if the model is modified in another thread it is possible for this to happen.
@@ -1384,7 +1424,8 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
 
                                 if ( treeModel.getChildCount ( root ) > 0 )
                                 {
-                                    parentBounds = getPathBounds ( path.pathByAddingChild ( treeModel.getChild ( root, 0 ) ) );
+                                    final TreePath firstChildPath = path.pathByAddingChild ( treeModel.getChild ( root, 0 ) );
+                                    parentBounds = getPathBounds ( firstChildPath, insets, legBounds );
                                     if ( parentBounds != null )
                                     {
                                         top = Math.max ( insets.top + getVerticalLegIndent (), parentBounds.y + parentBounds.height / 2 );
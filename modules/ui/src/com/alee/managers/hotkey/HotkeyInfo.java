@@ -123,7 +123,13 @@ public class HotkeyInfo
 
     public HotkeyInfo setHotkeyData ( final HotkeyData hotkeyData )
     {
-        this.hotkeyData = hotkeyData;
+        if ( this.hotkeyData != hotkeyData )
+        {
+            this.hotkeyData = hotkeyData;
+
+            // Registered hotkey has to be moved in dispatch index
+            HotkeyManager.hotkeyDataChanged ( this );
+        }
         return this;
     }
 
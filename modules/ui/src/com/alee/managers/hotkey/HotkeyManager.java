@@ -31,8 +31,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.AWTEventListener;
 import java.awt.event.KeyEvent;
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.lang.ref.WeakReference;
+import java.util.*;
 import java.util.List;
 
 /**
@@ -103,6 +103,26 @@ public final class HotkeyManager
      */
     private static final List<HotkeyInfo> globalHotkeys = new ArrayList<HotkeyInfo> ( 2 );
 
+    /**
+     * Dispatch index of global hotkeys mapped by {@link #indexKey(int, boolean, boolean, boolean)}.
+     * It is replaced as a whole on every change so it can be read without any locking.
+     * Hotkeys are referenced weakly here, global ones are kept alive by {@link #globalHotkeys}.
+     */
+    private static volatile Map<Integer, List<WeakReference<HotkeyInfo>>> globalIndex = Collections.emptyMap ();
+
+    /**
+     * Dispatch index of component hotkeys mapped by {@link #indexKey(int, boolean, boolean, boolean)}.
+     * It is replaced as a whole on every change so it can be read without any locking.
+     * Hotkeys are referenced weakly here, they are only kept alive by {@link #hotkeys} data stored within their components,
+     * so index doesn't prevent components with registered hotkeys from being finalized.
+     */
+    private static volatile Map<Integer, List<WeakReference<HotkeyInfo>>> componentIndex = Collections.emptyMap ();
+
+    /**
+     * Lock for dispatch index changes.
+     */
+    private static final Object indexLock = new Object ();
+
     /**
      * Conditions for top components which might.
      * todo Get rid of this and make hotkeys use Swing mapping instead of global listening
@@ -139,10 +159,7 @@ public final class HotkeyManager
                         final KeyEvent e = ( KeyEvent ) event;
                         if ( !e.isConsumed () && e.getID () == KeyEvent.KEY_PRESSED )
                         {
-                            if ( hotkeyForEventExists ( e ) )
-                            {
-                                processHotkeys ( e );
-                            }
+                            processHotkeys ( e );
                         }
                     }
                 }
@@ -151,56 +168,238 @@ public final class HotkeyManager
     }
 
     /**
-     * Returns whether at least one hotkey for the specified key event exists or not.
+     * Returns dispatch index key for the specified key event.
+     *
+     * @param keyEvent key event
+     * @return dispatch index key for the specified key event
+     */
+    private static int indexKey ( @NotNull final KeyEvent keyEvent )
+    {
+        return indexKey ( keyEvent.getKeyCode (), SwingUtils.isShortcut ( keyEvent ), SwingUtils.isAlt ( keyEvent ),
+                SwingUtils.isShift ( keyEvent ) );
+    }
+
+    /**
+     * Returns dispatch index key for the specified key code and modifiers.
      * todo Might need a rework since events like Ctrl+Alt+A won't trigger Ctrl+A hotkey
      *
-     * @param keyEvent key event to search hotkeys for
-     * @return true if at least one hotkey for the specified key event exists, false otherwise
+     * @param keyCode key code
+     * @param ctrl    whether or not shortcut modifier is pressed
+     * @param alt     whether or not alt modifier is pressed
+     * @param shift   whether or not shift modifier is pressed
+     * @return dispatch index key for the specified key code and modifiers
+     */
+    private static int indexKey ( final int keyCode, final boolean ctrl, final boolean alt, final boolean shift )
+    {
+        return keyCode << 3 | ( ctrl ? 4 : 0 ) | ( alt ? 2 : 0 ) | ( shift ? 1 : 0 );
+    }
+
+    /**
+     * Processes hotkeys indexed for the specified key event.
+     * Key events without indexed hotkeys are skipped with a single lookup in each index and without any locking.
+     *
+     * @param e key event
+     */
+    private static void processHotkeys ( @NotNull final KeyEvent e )
+    {
+        final Integer key = indexKey ( e );
+        final List<WeakReference<HotkeyInfo>> global = globalIndex.get ( key );
+        final List<WeakReference<HotkeyInfo>> component = componentIndex.get ( key );
+        if ( global != null )
+        {
+            processHotkeys ( e, global, true );
+        }
+        if ( component != null )
+        {
+            processHotkeys ( e, component, false );
+        }
+    }
+
+    /**
+     * Processes specified indexed hotkeys.
+     * Index is pruned if any of the hotkeys or their components were already finalized.
+     *
+     * @param e          key event
+     * @param candidates indexed hotkeys
+     * @param global     whether or not hotkeys are global
      */
-    private static boolean hotkeyForEventExists ( @NotNull final KeyEvent keyEvent )
+    private static void processHotkeys ( @NotNull final KeyEvent e, @NotNull final List<WeakReference<HotkeyInfo>> candidates,
+                                         final boolean global )
     {
-        boolean exists = false;
-        for ( final HotkeyInfo hotkeyInfo : globalHotkeys )
+        boolean finalized = false;
+        for ( final WeakReference<HotkeyInfo> reference : candidates )
         {
-            if ( hotkeyInfo.getHotkeyData ().isTriggered ( keyEvent ) )
+            final HotkeyInfo hotkeyInfo = reference.get ();
+            if ( isAlive ( hotkeyInfo, global ) )
             {
-                exists = true;
-                break;
+                processHotkey ( e, hotkeyInfo );
+            }
+            else
+            {
+                // Component was already finalized, hotkey should not be treated as a global one
+                finalized = true;
             }
         }
-        if ( !exists )
+        if ( finalized )
         {
-            exists = hotkeys.anyDataMatch ( new BiPredicate<JComponent, HotkeyInfo> ()
+            removeFromIndex ( Collections.<HotkeyInfo>emptySet (), global );
+        }
+    }
+
+    /**
+     * Returns whether or not indexed hotkey is still alive.
+     *
+     * @param hotkeyInfo indexed hotkey information, {@code null} if it was already finalized
+     * @param global     whether or not hotkey is global
+     * @return {@code true} if indexed hotkey is still alive, {@code false} otherwise
+     */
+    private static boolean isAlive ( final HotkeyInfo hotkeyInfo, final boolean global )
+    {
+        return hotkeyInfo != null && ( global || hotkeyInfo.getForComponent () != null );
+    }
+
+    /**
+     * Adds hotkey into the dispatch index.
+     *
+     * @param hotkeyInfo hotkey information
+     * @param global     whether or not hotkey is global
+     */
+    private static void addToIndex ( @NotNull final HotkeyInfo hotkeyInfo, final boolean global )
+    {
+        synchronized ( indexLock )
+        {
+            final Map<Integer, List<WeakReference<HotkeyInfo>>> index = copyIndex ( global, Collections.<HotkeyInfo>emptySet () );
+            if ( addToIndex ( index, hotkeyInfo ) )
             {
-                @Override
-                public boolean test ( @NotNull final JComponent component, @NotNull final HotkeyInfo hotkeyInfo )
-                {
-                    return hotkeyInfo.getHotkeyData ().isTriggered ( keyEvent );
-                }
-            } );
+                updateIndex ( index, global );
+            }
         }
-        return exists;
     }
 
     /**
-     * Processes all available registered hotkeys.
+     * Adds hotkey into the specified copy of dispatch index under the key of its current {@link HotkeyData}.
      *
-     * @param e key event
+     * @param index      copy of the dispatch index
+     * @param hotkeyInfo hotkey information
+     * @return {@code true} if hotkey was added into the index, {@code false} otherwise
      */
-    private static void processHotkeys ( @NotNull final KeyEvent e )
+    private static boolean addToIndex ( @NotNull final Map<Integer, List<WeakReference<HotkeyInfo>>> index,
+                                        @NotNull final HotkeyInfo hotkeyInfo )
     {
-        for ( final HotkeyInfo hotkeyInfo : globalHotkeys )
+        boolean added = false;
+        final HotkeyData data = hotkeyInfo.getHotkeyData ();
+        if ( data != null && data.getKeyCode () != null )
         {
-            processHotkey ( e, hotkeyInfo );
+            final Integer key = indexKey ( data.getKeyCode (), data.isCtrl (), data.isAlt (), data.isShift () );
+            List<WeakReference<HotkeyInfo>> candidates = index.get ( key );
+            if ( candidates == null )
+            {
+                candidates = new ArrayList<WeakReference<HotkeyInfo>> ( 1 );
+                index.put ( key, candidates );
+            }
+            boolean indexed = false;
+            for ( final WeakReference<HotkeyInfo> reference : candidates )
+            {
+                indexed |= reference.get () == hotkeyInfo;
+            }
+            if ( !indexed )
+            {
+                candidates.add ( new WeakReference<HotkeyInfo> ( hotkeyInfo ) );
+                added = true;
+            }
         }
-        hotkeys.forEachData ( new BiConsumer<JComponent, HotkeyInfo> ()
+        return added;
+    }
+
+    /**
+     * Moves registered hotkey under the key of its new {@link HotkeyData} in the dispatch index.
+     * This method is called by {@link HotkeyInfo#setHotkeyData(HotkeyData)}, hotkeys that are not registered are ignored.
+     * Index is replaced at once so hotkey is never missing from it in between.
+     *
+     * @param hotkeyInfo hotkey information
+     */
+    static void hotkeyDataChanged ( @NotNull final HotkeyInfo hotkeyInfo )
+    {
+        final JComponent forComponent = hotkeyInfo.getForComponent ();
+        final boolean global = forComponent == null;
+        final List<HotkeyInfo> registered = global ? globalHotkeys : hotkeys.get ( forComponent );
+        if ( registered != null && registered.contains ( hotkeyInfo ) )
         {
-            @Override
-            public void accept ( @NotNull final JComponent component, @NotNull final HotkeyInfo hotkeyInfo )
+            synchronized ( indexLock )
             {
-                processHotkey ( e, hotkeyInfo );
+                final Map<Integer, List<WeakReference<HotkeyInfo>>> index = copyIndex ( global, Collections.singleton ( hotkeyInfo ) );
+                addToIndex ( index, hotkeyInfo );
+                updateIndex ( index, global );
             }
-        } );
+        }
+    }
+
+    /**
+     * Removes hotkeys from the dispatch index.
+     * Hotkey data might have been changed since it was indexed so all index entries are checked.
+     * Index is rebuilt only once for all removed hotkeys.
+     *
+     * @param hotkeys removed hotkeys
+     * @param global  whether or not hotkeys are global
+     */
+    private static void removeFromIndex ( @NotNull final Collection<HotkeyInfo> hotkeys, final boolean global )
+    {
+        synchronized ( indexLock )
+        {
+            updateIndex ( copyIndex ( global, hotkeys ), global );
+        }
+    }
+
+    /**
+     * Returns copy of the dispatch index.
+     * Hotkeys that were already finalized or belong to already finalized components are dropped from the copy.
+     *
+     * @param global  whether or not global hotkeys index should be copied
+     * @param removed hotkeys to drop from the copy
+     * @return copy of the dispatch index
+     */
+    @NotNull
+    private static Map<Integer, List<WeakReference<HotkeyInfo>>> copyIndex ( final boolean global,
+                                                                             @NotNull final Collection<HotkeyInfo> removed )
+    {
+        final Map<Integer, List<WeakReference<HotkeyInfo>>> index = global ? globalIndex : componentIndex;
+        final Map<Integer, List<WeakReference<HotkeyInfo>>> copy =
+                new HashMap<Integer, List<WeakReference<HotkeyInfo>>> ( index.size () + 1 );
+        for ( final Map.Entry<Integer, List<WeakReference<HotkeyInfo>>> entry : index.entrySet () )
+        {
+            final List<WeakReference<HotkeyInfo>> alive = new ArrayList<WeakReference<HotkeyInfo>> ( entry.getValue ().size () + 1 );
+            for ( final WeakReference<HotkeyInfo> reference : entry.getValue () )
+            {
+                final HotkeyInfo hotkeyInfo = reference.get ();
+                if ( isAlive ( hotkeyInfo, global ) && !removed.contains ( hotkeyInfo ) )
+                {
+                    alive.add ( reference );
+                }
+            }
+            if ( !alive.isEmpty () )
+            {
+                copy.put ( entry.getKey (), alive );
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Replaces dispatch index.
+     *
+     * @param index  new dispatch index
+     * @param global whether or not global hotkeys index should be replaced
+     */
+    private static void updateIndex ( @NotNull final Map<Integer, List<WeakReference<HotkeyInfo>>> index, final boolean global )
+    {
+        if ( global )
+        {
+            globalIndex = index;
+        }
+        else
+        {
+            componentIndex = index;
+        }
     }
 
     /**
@@ -447,6 +646,7 @@ public final class HotkeyManager
         {
             // Component hotkey
             hotkeys.add ( forComponent, hotkeyInfo );
+            addToIndex ( hotkeyInfo, false );
         }
         else
         {
@@ -454,6 +654,7 @@ public final class HotkeyManager
             if ( !globalHotkeys.contains ( hotkeyInfo ) )
             {
                 globalHotkeys.add ( hotkeyInfo );
+                addToIndex ( hotkeyInfo, true );
             }
         }
     }
@@ -467,17 +668,24 @@ public final class HotkeyManager
             {
                 // Clearing component hotkey cache
                 hotkeys.remove ( forComponent, hotkeyInfo );
+                removeFromIndex ( Collections.singleton ( hotkeyInfo ), false );
             }
             else
             {
                 // Clearing global hotkey cache
                 globalHotkeys.remove ( hotkeyInfo );
+                removeFromIndex ( Collections.singleton ( hotkeyInfo ), true );
             }
         }
     }
 
     private static void clearHotkeysCache ( final JComponent component )
     {
+        final List<HotkeyInfo> list = hotkeys.get ( component );
+        if ( list != null )
+        {
+            removeFromIndex ( new HashSet<HotkeyInfo> ( list ), false );
+        }
         hotkeys.clear ( component );
     }
 
@@ -30,9 +30,7 @@ import java.awt.event.AWTEventListener;
 import java.awt.event.MouseEvent;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This manager allows you to track certain component their children hover state by adding your custom {@link HoverTracker} or
@@ -81,11 +79,40 @@ public final class HoverManager
     private static WeakReference<Window> hoverOwnerWindow;
 
     /**
-     * Queue of hover events for {@link Component}s.
-     * Event time acts as a key, order is irrelevant hence the {@link Map} usage.
-     * All events are queued on EDT and will simply use this {@link Map} to retrieve hover {@link Component}.
+     * Pending hover resolution data.
+     * Only the latest mouse event matters, so all events received before resolution simply overwrite it.
+     * {@code null} pending {@link Component} means that mouse have left the window.
+     * All of these fields are only accessed on EDT as all {@link AWTEvent}s are dispatched there.
      */
-    private static final Map<Long, Component> hoverEventQueue = new HashMap<Long, Component> ();
+    private static Component pendingComponent;
+    private static final Point pendingPoint = new Point ();
+    private static boolean resolutionScheduled = false;
+    private static boolean postLayoutUpdateScheduled = false;
+
+    /**
+     * Cached hit test path data.
+     * Contains last event {@link Component} offset relative to its {@link JRootPane}.
+     * It is dropped whenever any {@link Component} is moved, resized, shown or hidden.
+     */
+    private static WeakReference<Component> cachedComponent;
+    private static WeakReference<JRootPane> cachedRootPane;
+    private static final Point cachedOffset = new Point ();
+    private static final Point hitPoint = new Point ();
+
+    /**
+     * Single hover resolver that processes latest pending mouse event.
+     */
+    private static final Runnable hoverResolver = new Runnable ()
+    {
+        @Override
+        public void run ()
+        {
+            resolutionScheduled = false;
+            final Component component = pendingComponent;
+            pendingComponent = null;
+            fireHoverChanged ( component != null ? findNearbyHoverOwner ( component, pendingPoint ) : null );
+        }
+    };
 
     /**
      * Whether manager is initialized or not.
@@ -107,6 +134,8 @@ public final class HoverManager
             previousHoverOwner = new WeakReference<Component> ( null );
             hoverOwner = new WeakReference<Component> ( null );
             hoverOwnerWindow = new WeakReference<Window> ( null );
+            cachedComponent = new WeakReference<Component> ( null );
+            cachedRootPane = new WeakReference<JRootPane> ( null );
 
             /**
              * Listening to mouse ENTER & EXIT events, equivalent of {@link java.awt.event.MouseListener}.
@@ -122,17 +151,11 @@ public final class HoverManager
                     final MouseEvent mouseEvent = ( MouseEvent ) event;
                     if ( mouseEvent.getID () == MouseEvent.MOUSE_ENTERED )
                     {
-                        queueEvent (
-                                mouseEvent.getWhen (),
-                                findNearbyHoverOwner ( mouseEvent.getComponent (), mouseEvent.getPoint () )
-                        );
+                        queueResolution ( mouseEvent.getComponent (), mouseEvent.getX (), mouseEvent.getY () );
                     }
                     else if ( mouseEvent.getID () == MouseEvent.MOUSE_EXITED )
                     {
-                        queueEvent (
-                                mouseEvent.getWhen (),
-                                null
-                        );
+                        queueResolution ( null, 0, 0 );
                     }
                 }
             }, AWTEvent.MOUSE_EVENT_MASK );
@@ -152,10 +175,7 @@ public final class HoverManager
                     final MouseEvent mouseEvent = ( MouseEvent ) event;
                     if ( mouseEvent.getID () == MouseEvent.MOUSE_MOVED || mouseEvent.getID () == MouseEvent.MOUSE_DRAGGED )
                     {
-                        queueEvent (
-                                mouseEvent.getWhen (),
-                                findNearbyHoverOwner ( mouseEvent.getComponent (), mouseEvent.getPoint () )
-                        );
+                        queueResolution ( mouseEvent.getComponent (), mouseEvent.getX (), mouseEvent.getY () );
                     }
                 }
             }, AWTEvent.MOUSE_MOTION_EVENT_MASK );
@@ -167,45 +187,50 @@ public final class HoverManager
              * - Component moving under or out of the cursor location due to layout/hierarchy change
              * - Component moving under or out of the cursor location due to window location change
              * - Component moving under or out of the cursor location due to component decoration changes
+             * Events from windows other than the hovered one are ignored as they cannot affect current hover state.
              */
             Toolkit.getDefaultToolkit ().addAWTEventListener ( new AWTEventListener ()
             {
                 @Override
                 public void eventDispatched ( final AWTEvent event )
                 {
-                    queuePostLayoutUpdateEvent ();
+                    // Any structure change might affect cached hit test path
+                    clearHitTestCache ();
+
+                    // Updating hover only for changes within hovered window
+                    final Window window = hoverOwnerWindow.get ();
+                    if ( window != null && CoreSwingUtils.getWindowAncestor ( ( Component ) event.getSource () ) == window )
+                    {
+                        queuePostLayoutUpdateEvent ();
+                    }
                 }
             }, AWTEvent.COMPONENT_EVENT_MASK );
         }
     }
 
     /**
-     * Queues hover state change update to be performed later.
+     * Queues hover state resolution to be performed later.
      * This is necessary to avoid unwanted updates to be skipped.
      * Most prominent case being {@link MouseEvent#MOUSE_ENTERED} being fired right after {@link MouseEvent#MOUSE_EXITED}.
      * Due to how these events are separated there is no convenient way to perform correct update right away.
      * We have to wait and see whether {@link MouseEvent#MOUSE_EXITED} was fired alone or not.
      *
-     * @param time      event time in milliseconds, used to determine paired events
-     * @param component {@link Component} that event was fired on
+     * Only one resolution can be pending at a time, all events received before it is performed simply update pending data.
+     * That way mouse movement doesn't flood EDT with hit tests and hover updates.
+     *
+     * @param component {@link Component} that event was fired on, {@code null} if mouse have left the window
+     * @param x         event X coordinate relative to {@link Component}
+     * @param y         event Y coordinate relative to {@link Component}
      */
-    private static void queueEvent ( final long time, @Nullable final Component component )
+    private static void queueResolution ( @Nullable final Component component, final int x, final int y )
     {
-        if ( !hoverEventQueue.containsKey ( time ) )
+        pendingComponent = component;
+        pendingPoint.setLocation ( x, y );
+        if ( !resolutionScheduled )
         {
-            SwingUtilities.invokeLater ( new Runnable ()
-            {
-                @Override
-                public void run ()
-                {
-                    if ( hoverEventQueue.containsKey ( time ) )
-                    {
-                        fireHoverChanged ( hoverEventQueue.remove ( time ) );
-                    }
-                }
-            } );
+            resolutionScheduled = true;
+            SwingUtilities.invokeLater ( hoverResolver );
         }
-        hoverEventQueue.put ( time, component );
     }
 
     /**
@@ -237,24 +262,31 @@ public final class HoverManager
      * {@link SwingUtilities#invokeLater(Runnable)} once and we would receive wanted result because (7) will occur after (5) and (6).
      * In reality there is no guarantee that our listener won't receive event earlier than listeners that queue layour and visual updates.
      * That is why we have to use double {@link SwingUtilities#invokeLater(Runnable)} to ensure that it gets past (5) and (6).
+     *
+     * Only one update can be pending at a time since all of them would produce the same result.
      */
     private static void queuePostLayoutUpdateEvent ()
     {
-        SwingUtilities.invokeLater ( new Runnable ()
+        if ( !postLayoutUpdateScheduled )
         {
-            @Override
-            public void run ()
+            postLayoutUpdateScheduled = true;
+            SwingUtilities.invokeLater ( new Runnable ()
             {
-                SwingUtilities.invokeLater ( new Runnable ()
+                @Override
+                public void run ()
                 {
-                    @Override
-                    public void run ()
+                    SwingUtilities.invokeLater ( new Runnable ()
                     {
-                        fireHoverChanged ( findPossibleHoverOwner () );
-                    }
-                } );
-            }
-        } );
+                        @Override
+                        public void run ()
+                        {
+                            postLayoutUpdateScheduled = false;
+                            fireHoverChanged ( findPossibleHoverOwner () );
+                        }
+                    } );
+                }
+            } );
+        }
     }
 
     /**
@@ -292,6 +324,8 @@ public final class HoverManager
      *
      * We're not using {@link SwingUtilities#convertPoint(Component, Point, Component)} here for optimization reasons.
      * Retrieving component location on screen is way more time-consuming operation and we don't really need it here.
+     * Offset of the last event {@link Component} is also cached until next structure change.
+     * Hit test itself is always performed as any sibling or glass pane might cover the point even if it is within hover owner bounds.
      *
      * @param component {@link Component} to find hover owner nearby
      * @param point     {@link MouseEvent} point relative to {@link Component}
@@ -301,77 +335,100 @@ public final class HoverManager
     private static Component findNearbyHoverOwner ( @Nullable final Component component, @NotNull final Point point )
     {
         final Component newHoverOwner;
+        final JRootPane rootPane = updateHitPoint ( component, point );
+        if ( rootPane != null && rootPane.isShowing () )
+        {
+            // Performing hit test
+            newHoverOwner = CoreSwingUtils.getTopComponentAt ( rootPane, hitPoint );
+        }
+        else
+        {
+            // Component is unavailable or its window doesn't have root pane
+            newHoverOwner = null;
+        }
+        return newHoverOwner;
+    }
+
+    /**
+     * Updates {@link #hitPoint} to be relative to {@link JRootPane} of the specified {@link Component} and returns that {@link JRootPane}.
+     * Cached offset is used if {@link Component} is the same as in previous call.
+     *
+     * @param component {@link Component} point is relative to
+     * @param point     point relative to {@link Component}
+     * @return {@link JRootPane} {@link #hitPoint} is relative to, {@code null} if it cannot be determined
+     */
+    @Nullable
+    private static JRootPane updateHitPoint ( @Nullable final Component component, @NotNull final Point point )
+    {
+        JRootPane rootPane = null;
         if ( component != null )
         {
-            final JRootPane rootPane = CoreSwingUtils.getRootPane ( component );
-            if ( rootPane != null && rootPane.isShowing () )
+            if ( component == cachedComponent.get () && cachedRootPane.get () != null )
             {
-                if ( rootPane == component )
-                {
-                    // Point is relative to the root pane
-                    newHoverOwner = CoreSwingUtils.getTopComponentAt ( rootPane, point );
-                }
-                else if ( rootPane.isAncestorOf ( component ) )
+                // Using cached offset
+                rootPane = cachedRootPane.get ();
+            }
+            else
+            {
+                final JRootPane componentRootPane = CoreSwingUtils.getRootPane ( component );
+                if ( componentRootPane != null )
                 {
-                    // Recalculating point relative to one of the root pane children
-                    final Point relative = new Point ( point );
-                    Component parent = component;
-                    while ( parent != rootPane && parent != null )
+                    cachedOffset.setLocation ( 0, 0 );
+                    if ( componentRootPane == component )
                     {
-                        final Point location = parent.getLocation ();
-                        relative.x += location.x;
-                        relative.y += location.y;
-                        parent = parent.getParent ();
+                        // Point is relative to the root pane
+                        rootPane = componentRootPane;
                     }
-                    if ( parent != null )
+                    else if ( componentRootPane.isAncestorOf ( component ) )
                     {
-                        // Point is relative to one of the root pane children
-                        newHoverOwner = CoreSwingUtils.getTopComponentAt ( rootPane, relative );
-                    }
-                    else
-                    {
-                        // Something changed in structure and we can't find top component anymore
+                        // Recalculating point relative to one of the root pane children
+                        Component parent = component;
+                        while ( parent != componentRootPane && parent != null )
+                        {
+                            cachedOffset.x += parent.getX ();
+                            cachedOffset.y += parent.getY ();
+                            parent = parent.getParent ();
+                        }
+                        // Something might have changed in structure and we can't find top component anymore
                         // This happened on toolbar drag, hence this workaround was added to avoid NPE
-                        newHoverOwner = null;
-                    }
-                }
-                else
-                {
-                    // Recalculating point relative to one of the root pane parents
-                    final Point relative = new Point ( point );
-                    Component parent = rootPane;
-                    while ( parent != component && parent != null )
-                    {
-                        final Point location = parent.getLocation ();
-                        relative.x -= location.x;
-                        relative.y -= location.y;
-                        parent = parent.getParent ();
-                    }
-                    if ( parent != null )
-                    {
-                        // Point is relative to one of the root pane parents
-                        newHoverOwner = CoreSwingUtils.getTopComponentAt ( rootPane, relative );
+                        rootPane = parent != null ? componentRootPane : null;
                     }
                     else
                     {
-                        // Something changed in structure and we can't find top component anymore
+                        // Recalculating point relative to one of the root pane parents
+                        Component parent = componentRootPane;
+                        while ( parent != component && parent != null )
+                        {
+                            cachedOffset.x -= parent.getX ();
+                            cachedOffset.y -= parent.getY ();
+                            parent = parent.getParent ();
+                        }
+                        // Something might have changed in structure and we can't find top component anymore
                         // This happened on toolbar drag, hence this workaround was added to avoid NPE
-                        newHoverOwner = null;
+                        rootPane = parent != null ? componentRootPane : null;
                     }
                 }
+                cachedComponent = new WeakReference<Component> ( rootPane != null ? component : null );
+                cachedRootPane = new WeakReference<JRootPane> ( rootPane );
             }
-            else
+            if ( rootPane != null )
             {
-                // Component window doesn't have root pane
-                newHoverOwner = null;
+                hitPoint.setLocation ( point.x + cachedOffset.x, point.y + cachedOffset.y );
             }
         }
-        else
+        return rootPane;
+    }
+
+    /**
+     * Drops cached hit test path data.
+     */
+    private static void clearHitTestCache ()
+    {
+        if ( cachedComponent.get () != null )
         {
-            // Component is unavailable
-            newHoverOwner = null;
+            cachedComponent = new WeakReference<Component> ( null );
+            cachedRootPane = new WeakReference<JRootPane> ( null );
         }
-        return newHoverOwner;
     }
 
     /**
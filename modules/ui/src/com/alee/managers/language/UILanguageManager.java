@@ -38,11 +38,14 @@ import com.alee.laf.tooltip.SwingToolTipLanguage;
 import com.alee.managers.language.data.Dictionary;
 import com.alee.managers.tooltip.CustomToolTipLanguage;
 import com.alee.utils.ArrayUtils;
+import com.alee.utils.CoreSwingUtils;
 import com.alee.utils.swing.WeakComponentData;
 import com.alee.utils.swing.WeakComponentDataList;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
 import java.net.URL;
 import java.util.List;
 import java.util.*;
@@ -94,6 +97,61 @@ public final class UILanguageManager
      */
     private static boolean checkComponentsTextForTranslations;
 
+    /**
+     * Whether or not registered components should be updated incrementally upon {@link Language} or {@link Dictionary} changes.
+     * Showing components are updated in time-sliced chunks on EDT, hidden components are marked stale and updated once they are showing.
+     *
+     * @see #setIncrementalUpdates(boolean)
+     */
+    private static boolean incrementalUpdates;
+
+    /**
+     * Maximum time in nanoseconds single incremental update chunk can take on EDT.
+     */
+    private static final long INCREMENTAL_UPDATE_SLICE = 8000000L;
+
+    /**
+     * Showing components awaiting incremental language update.
+     * Components are grouped by their top-level window so each chunk affects as few windows as possible and Swing validates each of
+     * them once per chunk instead of once per component.
+     */
+    @NotNull
+    private static final Set<JComponent> pendingComponents = new LinkedHashSet<JComponent> ();
+
+    /**
+     * Whether or not next incremental update chunk is already scheduled.
+     */
+    private static boolean incrementalUpdateScheduled;
+
+    /**
+     * Hidden components that missed language updates while incremental updates were enabled.
+     * Each of them has {@link #staleComponentListener} installed to update it once it is showing.
+     */
+    @NotNull
+    private static final WeakComponentData<JComponent, HierarchyListener> staleComponents =
+            new WeakComponentData<JComponent, HierarchyListener> ( "WebLanguageManager.StaleComponent", 50 );
+
+    /**
+     * {@link HierarchyListener} updating stale components language once they are showing.
+     */
+    @NotNull
+    private static final HierarchyListener staleComponentListener = new HierarchyListener ()
+    {
+        @Override
+        public void hierarchyChanged ( @NotNull final HierarchyEvent e )
+        {
+            if ( ( e.getChangeFlags () & HierarchyEvent.SHOWING_CHANGED ) != 0 && e.getComponent ().isShowing () )
+            {
+                final JComponent component = ( JComponent ) e.getComponent ();
+                clearStale ( component );
+                if ( components.contains ( component ) )
+                {
+                    updateComponent ( component );
+                }
+            }
+        }
+    };
+
     /**
      * Components registered for auto-translation.
      * Specific implementations of LanguageUpdater interface used to translate them.
@@ -309,6 +367,28 @@ public final class UILanguageManager
         checkComponentsTextForTranslations = check;
     }
 
+    /**
+     * Returns whether or not registered components are updated incrementally upon {@link Language} or {@link Dictionary} changes.
+     *
+     * @return {@code true} if registered components are updated incrementally, {@code false} otherwise
+     */
+    public static boolean isIncrementalUpdates ()
+    {
+        return incrementalUpdates;
+    }
+
+    /**
+     * Sets whether or not registered components should be updated incrementally upon {@link Language} or {@link Dictionary} changes.
+     * When enabled {@link #updateComponents()} and {@link #updateComponents(Set)} only queue updates and return right away.
+     * Showing components are then updated in time-sliced chunks on EDT, hidden ones are updated once they are showing.
+     *
+     * @param incremental whether or not registered components should be updated incrementally
+     */
+    public static void setIncrementalUpdates ( final boolean incremental )
+    {
+        incrementalUpdates = incremental;
+    }
+
     /**
      * Returns {@link Icon} for the specified {@link Language}.
      * By default there are {@link Icon}s only for languages supported by WebLaF.
@@ -668,6 +748,7 @@ public final class UILanguageManager
 
         // Unregistering component
         components.clear ( component );
+        clearStale ( component );
     }
 
     /**
@@ -710,15 +791,23 @@ public final class UILanguageManager
         // Must be initialized
         mustBeInitialized ();
 
-        // Updating all registered components
-        components.forEach ( new BiConsumer<JComponent, TranslationKey> ()
+        if ( incrementalUpdates )
         {
-            @Override
-            public void accept ( @NotNull final JComponent component, @NotNull final TranslationKey translationKey )
+            // Queueing incremental update
+            queueIncrementalUpdate ( null );
+        }
+        else
+        {
+            // Updating all registered components
+            components.forEach ( new BiConsumer<JComponent, TranslationKey> ()
             {
-                updateComponent ( component );
-            }
-        } );
+                @Override
+                public void accept ( @NotNull final JComponent component, @NotNull final TranslationKey translationKey )
+                {
+                    updateComponent ( component );
+                }
+            } );
+        }
     }
 
     /**
@@ -731,16 +820,147 @@ public final class UILanguageManager
         // Must be initialized
         mustBeInitialized ();
 
-        // Updating components registered for provided keys
-        components.forEach ( new BiConsumer<JComponent, TranslationKey> ()
+        if ( incrementalUpdates )
+        {
+            // Queueing incremental update
+            queueIncrementalUpdate ( keys );
+        }
+        else
+        {
+            // Updating components registered for provided keys
+            components.forEach ( new BiConsumer<JComponent, TranslationKey> ()
+            {
+                @Override
+                public void accept ( @NotNull final JComponent component, @NotNull final TranslationKey translationKey )
+                {
+                    if ( keys.contains ( translationKey.getKey () ) )
+                    {
+                        updateComponent ( component );
+                    }
+                }
+            } );
+        }
+    }
+
+    /**
+     * Queues incremental language update for registered components.
+     * Showing components are queued for time-sliced update grouped by their windows, hidden ones are marked stale.
+     *
+     * @param keys language keys of the components to update, {@code null} to update all registered components
+     */
+    private static void queueIncrementalUpdate ( @Nullable final Set<String> keys )
+    {
+        CoreSwingUtils.invokeOnEventDispatchThread ( new Runnable ()
         {
             @Override
-            public void accept ( @NotNull final JComponent component, @NotNull final TranslationKey translationKey )
+            public void run ()
             {
-                if ( keys.contains ( translationKey.getKey () ) )
+                final Map<Window, List<JComponent>> showing = new LinkedHashMap<Window, List<JComponent>> ();
+                final List<JComponent> hidden = new ArrayList<JComponent> ();
+                components.forEach ( new BiConsumer<JComponent, TranslationKey> ()
                 {
-                    updateComponent ( component );
+                    @Override
+                    public void accept ( @NotNull final JComponent component, @NotNull final TranslationKey translationKey )
+                    {
+                        if ( keys == null || keys.contains ( translationKey.getKey () ) )
+                        {
+                            if ( component.isShowing () )
+                            {
+                                final Window window = CoreSwingUtils.getWindowAncestor ( component );
+                                List<JComponent> windowComponents = showing.get ( window );
+                                if ( windowComponents == null )
+                                {
+                                    windowComponents = new ArrayList<JComponent> ();
+                                    showing.put ( window, windowComponents );
+                                }
+                                windowComponents.add ( component );
+                            }
+                            else
+                            {
+                                hidden.add ( component );
+                            }
+                        }
+                    }
+                } );
+                for ( final JComponent component : hidden )
+                {
+                    markStale ( component );
+                }
+                for ( final List<JComponent> windowComponents : showing.values () )
+                {
+                    pendingComponents.addAll ( windowComponents );
+                }
+                scheduleIncrementalUpdate ();
+            }
+        } );
+    }
+
+    /**
+     * Schedules next incremental update chunk unless it is already scheduled or there is nothing to update.
+     */
+    private static void scheduleIncrementalUpdate ()
+    {
+        if ( !incrementalUpdateScheduled && !pendingComponents.isEmpty () )
+        {
+            incrementalUpdateScheduled = true;
+            CoreSwingUtils.invokeLater ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    incrementalUpdateScheduled = false;
+                    final long start = System.nanoTime ();
+                    final Iterator<JComponent> iterator = pendingComponents.iterator ();
+                    while ( iterator.hasNext () && System.nanoTime () - start < INCREMENTAL_UPDATE_SLICE )
+                    {
+                        final JComponent component = iterator.next ();
+                        iterator.remove ();
+                        if ( components.contains ( component ) )
+                        {
+                            if ( component.isShowing () )
+                            {
+                                updateComponent ( component );
+                            }
+                            else
+                            {
+                                markStale ( component );
+                            }
+                        }
+                    }
+                    scheduleIncrementalUpdate ();
                 }
+            } );
+        }
+    }
+
+    /**
+     * Marks specified component as stale.
+     * Its language will be updated once it is showing.
+     *
+     * @param component component to mark as stale
+     */
+    private static void markStale ( @NotNull final JComponent component )
+    {
+        if ( !staleComponents.contains ( component ) )
+        {
+            staleComponents.set ( component, staleComponentListener );
+            component.addHierarchyListener ( staleComponentListener );
+        }
+    }
+
+    /**
+     * Removes stale mark from the specified component.
+     *
+     * @param component component to remove stale mark from
+     */
+    private static void clearStale ( @NotNull final JComponent component )
+    {
+        staleComponents.clear ( component, new BiConsumer<JComponent, HierarchyListener> ()
+        {
+            @Override
+            public void accept ( @NotNull final JComponent component, @NotNull final HierarchyListener listener )
+            {
+                component.removeHierarchyListener ( listener );
             }
         } );
     }
@@ -760,6 +980,9 @@ public final class UILanguageManager
         final TranslationKey translationKey = components.get ( component );
         if ( translationKey != null )
         {
+            // Component will be up-to-date
+            clearStale ( component );
+
             // Retrieving actual data for update
             final Object[] actualData = getActualData ( component, translationKey.getKey (), data );
 
@@ -791,6 +1014,9 @@ public final class UILanguageManager
         // Checking that component is registered
         if ( isRegisteredComponent ( component ) )
         {
+            // Component will be up-to-date
+            clearStale ( component );
+
             // Retrieving actual data for update
             final Object[] actualData = getActualData ( component, key, data );
 
@@ -22,6 +22,7 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.jdk.Objects;
 import com.alee.laf.WebLookAndFeel;
 import com.alee.painter.Painter;
+import com.alee.painter.instrumentation.InstrumentationSupport;
 import com.alee.utils.CollectionUtils;
 
 import javax.swing.*;
@@ -55,6 +56,13 @@ public final class StyleData implements PropertyChangeListener
     @Nullable
     private Skin skin;
 
+    /**
+     * {@link Skin} which installation was deferred by {@link StyleManager#batch(Runnable)}.
+     * It is {@code null} when there is no deferred installation.
+     */
+    @Nullable
+    private Skin pendingSkin;
+
     /**
      * Whether or not {@link Skin} was pinned.
      * Pinned {@link Skin} will not be changed when global {@link Skin} is changed.
@@ -100,6 +108,7 @@ public final class StyleData implements PropertyChangeListener
 
         // Updating default values
         this.skin = null;
+        this.pendingSkin = null;
         this.pinnedSkin = false;
         this.styleId = null;
         this.customPainter = null;
@@ -115,13 +124,34 @@ public final class StyleData implements PropertyChangeListener
         // Event Dispatch Thread check
         WebLookAndFeel.checkEventDispatchThread ();
 
+        // Measuring installation time if needed
+        final boolean instrumented = InstrumentationSupport.isEnabled ();
+        final long start = instrumented ? System.nanoTime () : 0;
+
         // Adding style identifier listener
         final JComponent component = getComponent ();
         component.addPropertyChangeListener ( StyleId.STYLE_PROPERTY, this );
         component.addPropertyChangeListener ( StyleId.PARENT_STYLE_PROPERTY, this );
 
         // Applying default skin
-        applySkin ( StyleManager.getSkin (), false );
+        if ( StyleManager.isBatching () )
+        {
+            // Deferring skin installation until the end of the batch
+            // Installation time is reported once pending skin is actually applied
+            pendingSkin = StyleManager.getSkin ();
+            StyleManager.deferInstallation ( this );
+        }
+        else
+        {
+            // Applying skin right away
+            applySkin ( StyleManager.getSkin (), false );
+
+            // Informing about installation time
+            if ( instrumented )
+            {
+                InstrumentationSupport.styleInstalled ( component, getStyleId (), System.nanoTime () - start );
+            }
+        }
     }
 
     /**
@@ -129,6 +159,10 @@ public final class StyleData implements PropertyChangeListener
      */
     public void uninstall ()
     {
+        // Measuring uninstallation time if needed
+        final boolean instrumented = InstrumentationSupport.isEnabled ();
+        final long start = instrumented ? System.nanoTime () : 0;
+
         // Removing skin
         removeSkin ();
 
@@ -139,6 +173,12 @@ public final class StyleData implements PropertyChangeListener
         final JComponent component = getComponent ();
         component.removePropertyChangeListener ( StyleId.PARENT_STYLE_PROPERTY, this );
         component.removePropertyChangeListener ( StyleId.STYLE_PROPERTY, this );
+
+        // Informing about uninstallation time
+        if ( instrumented )
+        {
+            InstrumentationSupport.styleUninstalled ( component, getStyleId (), System.nanoTime () - start );
+        }
     }
 
     @Override
@@ -243,7 +283,42 @@ public final class StyleData implements PropertyChangeListener
         //        {
         //            throw new StyleException ( "StyleData haven't been installed yet or default skin was not available" );
         //        }
-        return skin;
+        return skin != null ? skin : pendingSkin;
+    }
+
+    /**
+     * Returns whether or not {@link Skin} installation was deferred by {@link StyleManager#batch(Runnable)} and is still pending.
+     *
+     * @return {@code true} if {@link Skin} installation is pending, {@code false} otherwise
+     */
+    protected boolean isPending ()
+    {
+        return pendingSkin != null;
+    }
+
+    /**
+     * Applies {@link Skin} which installation was deferred by {@link StyleManager#batch(Runnable)}.
+     * Does nothing if {@link Skin} was already applied or removed in the meantime or if {@link JComponent} doesn't exist anymore.
+     */
+    protected void applyPendingSkin ()
+    {
+        final Skin skin = pendingSkin;
+        final JComponent component = this.component.get ();
+        if ( skin != null && component != null )
+        {
+            // Measuring installation time if needed
+            final boolean instrumented = InstrumentationSupport.isEnabled ();
+            final long start = instrumented ? System.nanoTime () : 0;
+
+            // Applying pending skin
+            applySkin ( skin, false );
+
+            // Informing about installation time
+            if ( instrumented )
+            {
+                InstrumentationSupport.styleInstalled ( component, getStyleId (), System.nanoTime () - start );
+            }
+        }
     }
 
     /**
@@ -285,6 +360,9 @@ public final class StyleData implements PropertyChangeListener
         // Retrieving component and checking its existence
         final JComponent component = getComponent ();
 
+        // Deferred installation is replaced by this one
+        pendingSkin = null;
+
         // Checking that provided skin is actually different one
         final Skin oldSkin;
         if ( skin != this.skin )
@@ -385,7 +463,12 @@ public final class StyleData implements PropertyChangeListener
         final JComponent component = getComponent ();
 
         // Updating component skin
-        getSkin ().updateSkin ( component );
+        // Skin with deferred installation will be applied with actual settings later
+        final boolean pending = isPending ();
+        if ( !pending )
+        {
+            getSkin ().updateSkin ( component );
+        }
 
         // Updating children skins
         if ( children && CollectionUtils.notEmpty ( this.children ) )
@@ -401,7 +484,10 @@ public final class StyleData implements PropertyChangeListener
         }
 
         // Informing about skin visual update
-        fireSkinUpdated ( component, getStyleId () );
+        if ( !pending )
+        {
+            fireSkinUpdated ( component, getStyleId () );
+        }
     }
 
     /**
@@ -445,6 +531,9 @@ public final class StyleData implements PropertyChangeListener
         // Event Dispatch Thread check
         WebLookAndFeel.checkEventDispatchThread ();
 
+        // Cancelling deferred installation
+        pendingSkin = null;
+
         // Checking previous skin existence
         final Skin oldSkin = this.skin;
         if ( this.skin != null )
@@ -513,7 +602,20 @@ public final class StyleData implements PropertyChangeListener
             }
 
             // Updating component skin
-            if ( parent != null )
+            if ( isPending () )
+            {
+                // Skin installation is deferred, only updating skin that will be installed
+                if ( parent != null )
+                {
+                    final Skin parentSkin = StyleManager.getSkin ( parent );
+                    if ( parentSkin != null )
+                    {
+                        pendingSkin = parentSkin;
+                    }
+                }
+                updateSkin ( true );
+            }
+            else if ( parent != null )
             {
                 final Skin parentSkin = StyleManager.getSkin ( parent );
                 if ( parentSkin != null && parentSkin != getSkin () )
@@ -599,12 +701,15 @@ public final class StyleData implements PropertyChangeListener
         // Updating custom painter
         this.customPainter = painter;
 
-        // Reapplying skin
-        final JComponent component = getComponent ();
-        getSkin ().applySkin ( component );
+        // Reapplying skin unless its installation is deferred
+        if ( !isPending () )
+        {
+            final JComponent component = getComponent ();
+            getSkin ().applySkin ( component );
 
-        // Informing about skin changes
-        fireSkinUpdated ( component, getStyleId () );
+            // Informing about skin changes
+            fireSkinUpdated ( component, getStyleId () );
+        }
 
         return oldPainter;
     }
@@ -625,12 +730,15 @@ public final class StyleData implements PropertyChangeListener
         // Resetting custom painter
         this.customPainter = null;
 
-        // Reapplying skin
-        final JComponent component = getComponent ();
-        getSkin ().applySkin ( component );
+        // Reapplying skin unless its installation is deferred
+        if ( !isPending () )
+        {
+            final JComponent component = getComponent ();
+            getSkin ().applySkin ( component );
 
-        // Informing about skin changes
-        fireSkinUpdated ( component, getStyleId () );
+            // Informing about skin changes
+            fireSkinUpdated ( component, getStyleId () );
+        }
 
         return successful;
     }
@@ -972,9 +972,11 @@ public final class StyleId implements Identifiable
     public static final StyleId inspectorPopover = StyleId.of ( "inspector-popover" );
     public static final ChildStyleId inspectorFilter = ChildStyleId.of ( "filter" );
     public static final ChildStyleId inspectorInspect = ChildStyleId.of ( "inspect" );
+    public static final ChildStyleId inspectorProfile = ChildStyleId.of ( "profile" );
     public static final ChildStyleId inspectorSeparator = ChildStyleId.of ( "separator" );
     public static final ChildStyleId inspectorScroll = ChildStyleId.of ( "scroll" );
     public static final ChildStyleId inspectorTree = ChildStyleId.of ( "tree" );
+    public static final ChildStyleId inspectorStatistics = ChildStyleId.of ( "statistics" );
 
     /**
      * {@link com.alee.extended.style.StyleEditor} style identifiers.
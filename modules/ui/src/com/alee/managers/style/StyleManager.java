@@ -128,6 +128,7 @@ import com.alee.painter.decoration.shape.BoundsShape;
 import com.alee.painter.decoration.shape.EllipseShape;
 import com.alee.painter.decoration.shape.WebShape;
 import com.alee.skin.light.WebLightSkin;
+import com.alee.utils.CoreSwingUtils;
 import com.alee.utils.LafUtils;
 import com.alee.utils.ReflectUtils;
 import com.alee.utils.TextUtils;
@@ -136,6 +137,7 @@ import com.alee.utils.collection.ImmutableList;
 import com.alee.utils.ninepatch.NinePatchIcon;
 import com.alee.utils.reflection.LazyInstance;
 import com.alee.utils.swing.WeakComponentData;
+import org.slf4j.LoggerFactory;
 
 import javax.swing.*;
 import javax.swing.event.EventListenerList;
@@ -246,6 +248,20 @@ public final class StyleManager
      */
     private static boolean strictStyleChecks = true;
 
+    /**
+     * Depth of current {@link #batch(Runnable)} calls.
+     * Skin installation is deferred while it is larger than zero.
+     * It is only modified and accessed on Event Dispatch Thread.
+     */
+    private static int batchDepth = 0;
+
+    /**
+     * {@link StyleData} of {@link JComponent}s which skin installation was deferred by {@link #batch(Runnable)}.
+     * It is only modified and accessed on Event Dispatch Thread.
+     */
+    @NotNull
+    private static final List<StyleData> pendingData = new ArrayList<StyleData> ();
+
     /**
      * Whether {@link StyleManager} is initialized or not.
      */
@@ -1222,6 +1238,116 @@ public final class StyleManager
         getData ( component ).uninstall ();
     }
 
+    /**
+     * Runs specified {@link Runnable} deferring skin installation for all {@link JComponent}s created within it.
+     * Skins are applied to those {@link JComponent}s once the outermost batch is finished, in the order of their creation.
+     *
+     * This is useful for building large UI parts as each {@link JComponent} only gets styled once with its final {@link StyleId}
+     * instead of being styled with default {@link StyleId} first and then restyled again whenever it changes.
+     * {@link JComponent}s that receive skin explicitly within the batch, for instance through {@link #setSkin(JComponent, Skin)},
+     * are styled right away.
+     *
+     * Note that {@link JComponent}s have no painters and style properties until the batch is finished,
+     * so they should not be displayed or measured within the batch.
+     *
+     * Batching is only performed on Event Dispatch Thread, on any other thread {@link Runnable} is simply executed.
+     * If {@link Runnable} fails, pending skins are still applied but their failures are only logged to preserve original exception.
+     *
+     * @param runnable {@link Runnable} to run
+     */
+    public static void batch ( @NotNull final Runnable runnable )
+    {
+        // Event Dispatch Thread check
+        WebLookAndFeel.checkEventDispatchThread ();
+
+        if ( CoreSwingUtils.isEventDispatchThread () )
+        {
+            batchDepth++;
+            boolean completed = false;
+            try
+            {
+                runnable.run ();
+                completed = true;
+            }
+            finally
+            {
+                batchDepth--;
+                if ( batchDepth == 0 )
+                {
+                    if ( completed )
+                    {
+                        applyPendingSkins ();
+                    }
+                    else
+                    {
+                        try
+                        {
+                            applyPendingSkins ();
+                        }
+                        catch ( final RuntimeException e )
+                        {
+                            LoggerFactory.getLogger ( StyleManager.class ).error ( "Unable to apply pending skins", e );
+                        }
+                    }
+                }
+            }
+        }
+        else
+        {
+            runnable.run ();
+        }
+    }
+
+    /**
+     * Returns whether or not skin installation is currently deferred by {@link #batch(Runnable)}.
+     * Skin installation is never deferred outside of Event Dispatch Thread.
+     *
+     * @return {@code true} if skin installation is currently deferred by {@link #batch(Runnable)}, {@code false} otherwise
+     */
+    public static boolean isBatching ()
+    {
+        return CoreSwingUtils.isEventDispatchThread () && batchDepth > 0;
+    }
+
+    /**
+     * Defers skin installation for the specified {@link StyleData} until the end of the current {@link #batch(Runnable)}.
+     *
+     * @param data {@link StyleData} to defer skin installation for
+     */
+    protected static void deferInstallation ( @NotNull final StyleData data )
+    {
+        pendingData.add ( data );
+    }
+
+    /**
+     * Applies skins which installation was deferred by {@link #batch(Runnable)}.
+     * All skins are applied even if some of them fail, first encountered exception is thrown afterwards.
+     */
+    private static void applyPendingSkins ()
+    {
+        final List<StyleData> pending = new ArrayList<StyleData> ( pendingData );
+        pendingData.clear ();
+        RuntimeException exception = null;
+        for ( final StyleData data : pending )
+        {
+            try
+            {
+                data.applyPendingSkin ();
+            }
+            catch ( final RuntimeException e )
+            {
+                if ( exception == null )
+                {
+                    exception = e;
+                }
+            }
+        }
+        if ( exception != null )
+        {
+            throw exception;
+        }
+    }
+
     /**
      * Returns skin currently applied to the specified component.
      *
@@ -22,6 +22,7 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.Clone;
 import com.alee.api.clone.CloneBehavior;
 import com.alee.api.clone.RecursiveClone;
+import com.alee.api.clone.behavior.OmitOnClone;
 import com.alee.api.clone.behavior.PreserveOnClone;
 import com.alee.api.jdk.Objects;
 import com.alee.api.merge.Merge;
@@ -46,10 +47,13 @@ import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.UIResource;
 import java.awt.*;
 import java.io.Serializable;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.util.LinkedHashMap;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Component style information class.
@@ -121,6 +125,14 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
     @PreserveOnClone
     private transient ComponentStyle parent;
 
+    /**
+     * Compiled {@link PropertyApplier}s.
+     * They are compiled per properties {@link Map} and object {@link Class} upon first use and reset whenever this style changes.
+     * This variable is only set in runtime and is never cloned.
+     */
+    @OmitOnClone
+    private transient Map<Map<String, Object>, Map<Class, List<PropertyApplier>>> appliers;
+
     /**
      * Returns supported component type.
      *
@@ -236,6 +248,7 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
     public void setComponentProperties ( @NotNull final LinkedHashMap<String, Object> componentProperties )
     {
         this.componentProperties = componentProperties;
+        resetAppliers ();
     }
 
     /**
@@ -257,6 +270,7 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
     public void setUIProperties ( @NotNull final LinkedHashMap<String, Object> uiProperties )
     {
         this.uiProperties = uiProperties;
+        resetAppliers ();
     }
 
     /**
@@ -278,6 +292,7 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
     public void setPainterStyle ( @Nullable final PainterStyle painterStyle )
     {
         this.painterStyle = painterStyle;
+        resetAppliers ();
     }
 
     /**
@@ -395,6 +410,7 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
 
     /**
      * Applies properties to specified object fields.
+     * Properties are compiled into {@link PropertyApplier}s once per {@link Map} and object {@link Class} and reused afterwards.
      *
      * @param object         object instance
      * @param skinProperties skin properties to apply, these properties come from the skin
@@ -409,60 +425,103 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
         // Applying merged properties
         if ( skinProperties != null && skinProperties.size () > 0 )
         {
-            for ( final Map.Entry<String, Object> entry : skinProperties.entrySet () )
+            for ( final PropertyApplier applier : getAppliers ( object.getClass (), skinProperties ) )
             {
-                final Object value = entry.getValue ();
-                if ( value instanceof PainterStyle )
-                {
-                    // PainterStyle is handled differently
-                    final Painter painter = createPainter ( ( PainterStyle ) value );
-                    setFieldValue ( object, entry.getKey (), painter );
-                }
-                else if ( entry.getKey ().equals ( "layout" ) && object instanceof Container )
-                {
-                    // Ensure we do not replace LayoutManager provided by user
-                    if ( value == null || value instanceof LayoutManager )
-                    {
-                        final Container container = ( Container ) object;
-                        final LayoutManager oldLayout = container.getLayout ();
-                        if ( isReplaceableLayout ( container, oldLayout ) || !( value instanceof UIResource ) )
-                        {
-                            // Creating clone of new layout manager
-                            // This is important to avoid same layout being set everywhere
-                            final LayoutManager newLayout = Clone.deep ().clone ( ( LayoutManager ) value );
-
-                            // Migrating layout manager settings if possible
-                            if ( newLayout != null && newLayout instanceof AbstractLayoutManager )
-                            {
-                                ( ( AbstractLayoutManager ) newLayout ).migrate ( container, oldLayout );
-                            }
-
-                            // Updating layout manager
-                            container.setLayout ( newLayout );
-                        }
-                    }
-                    else
-                    {
-                        throw new StyleException ( "Value provided for Container `layout` property is not LayoutManager" );
-                    }
-                }
-                else if ( entry.getKey ().equalsIgnoreCase ( ComponentStyleConverter.MARGIN_ATTRIBUTE ) && object instanceof JComponent )
-                {
-                    // Temporary workaround for margin attribute
-                    PainterSupport.setMargin ( ( JComponent ) object, ( Insets ) entry.getValue () );
-                }
-                else if ( entry.getKey ().equalsIgnoreCase ( ComponentStyleConverter.PADDING_ATTRIBUTE ) && object instanceof JComponent )
+                applier.apply ( this, object );
+            }
+        }
+    }
+
+    /**
+     * Returns {@link List} of compiled {@link PropertyApplier}s for the specified object {@link Class} and properties.
+     *
+     * @param objectClass    object {@link Class}
+     * @param skinProperties skin properties to compile {@link PropertyApplier}s for
+     * @return {@link List} of compiled {@link PropertyApplier}s for the specified object {@link Class} and properties
+     */
+    @NotNull
+    private List<PropertyApplier> getAppliers ( @NotNull final Class objectClass, @NotNull final Map<String, Object> skinProperties )
+    {
+        if ( appliers == null )
+        {
+            appliers = new IdentityHashMap<Map<String, Object>, Map<Class, List<PropertyApplier>>> ( 4 );
+        }
+        Map<Class, List<PropertyApplier>> classAppliers = appliers.get ( skinProperties );
+        if ( classAppliers == null )
+        {
+            classAppliers = new HashMap<Class, List<PropertyApplier>> ( 2 );
+            appliers.put ( skinProperties, classAppliers );
+        }
+        List<PropertyApplier> compiled = classAppliers.get ( objectClass );
+        if ( compiled == null )
+        {
+            compiled = compileAppliers ( objectClass, skinProperties );
+            classAppliers.put ( objectClass, compiled );
+        }
+        return compiled;
+    }
+
+    /**
+     * Returns {@link List} of {@link PropertyApplier}s compiled for the specified object {@link Class} and properties.
+     * Each property is checked only once here, so that only the actual value application is left to do for each object.
+     *
+     * @param objectClass    object {@link Class}
+     * @param skinProperties skin properties to compile {@link PropertyApplier}s for
+     * @return {@link List} of {@link PropertyApplier}s compiled for the specified object {@link Class} and properties
+     */
+    @NotNull
+    private List<PropertyApplier> compileAppliers ( @NotNull final Class objectClass, @NotNull final Map<String, Object> skinProperties )
+    {
+        final boolean container = Container.class.isAssignableFrom ( objectClass );
+        final boolean jComponent = JComponent.class.isAssignableFrom ( objectClass );
+        final List<PropertyApplier> compiled = new ArrayList<PropertyApplier> ( skinProperties.size () );
+        for ( final Map.Entry<String, Object> entry : skinProperties.entrySet () )
+        {
+            final String key = entry.getKey ();
+            final Object value = entry.getValue ();
+            if ( value instanceof PainterStyle )
+            {
+                // PainterStyle is handled differently
+                compiled.add ( new PainterApplier ( key, ( PainterStyle ) value ) );
+            }
+            else if ( key.equals ( "layout" ) && container )
+            {
+                // Ensure we do not replace LayoutManager provided by user
+                if ( value == null || value instanceof LayoutManager )
                 {
-                    // Temporary workaround for padding attribute
-                    PainterSupport.setPadding ( ( JComponent ) object, ( Insets ) entry.getValue () );
+                    compiled.add ( new LayoutApplier ( ( LayoutManager ) value ) );
                 }
                 else
                 {
-                    // Other fields are simply set through common means
-                    setFieldValue ( object, entry.getKey (), value );
+                    throw new StyleException ( "Value provided for Container `layout` property is not LayoutManager" );
                 }
             }
+            else if ( key.equalsIgnoreCase ( ComponentStyleConverter.MARGIN_ATTRIBUTE ) && jComponent )
+            {
+                // Temporary workaround for margin attribute
+                compiled.add ( new InsetsApplier ( true, ( Insets ) value ) );
+            }
+            else if ( key.equalsIgnoreCase ( ComponentStyleConverter.PADDING_ATTRIBUTE ) && jComponent )
+            {
+                // Temporary workaround for padding attribute
+                compiled.add ( new InsetsApplier ( false, ( Insets ) value ) );
+            }
+            else if ( value != IgnoredValue.VALUE )
+            {
+                // Other fields are simply set through common means
+                compiled.add ( new ValueApplier ( key, value ) );
+            }
         }
+        return compiled;
+    }
+
+    /**
+     * Resets compiled {@link PropertyApplier}s.
+     * Should be called whenever any of the properties of this {@link ComponentStyle} are changed.
+     */
+    private void resetAppliers ()
+    {
+        appliers = null;
     }
 
     /**
@@ -517,66 +576,6 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
         }
     }
 
-    /**
-     * Applies specified value to object field.
-     * This method allows to access and modify even private object fields.
-     * Note that this method might also work even if there is no real field with the specified name but there is fitting setter method.
-     *
-     * @param object object instance
-     * @param field  object field
-     * @param value  field value
-     * @throws java.lang.reflect.InvocationTargetException if method throws an exception
-     * @throws java.lang.IllegalAccessException            if method is inaccessible
-     */
-    private void setFieldValue ( @NotNull final Object object, @NotNull final String field, @Nullable final Object value )
-            throws InvocationTargetException, IllegalAccessException
-    {
-        // Skipping value if it is marked as ignored
-        if ( value != IgnoredValue.VALUE )
-        {
-            // Creating separate usable value to avoid source object modifications
-            // We have limited options here, so for now we simply clone objects which are defined as Cloneable
-            final Object usable;
-            if ( value instanceof Painter )
-            {
-                usable = value;
-            }
-            else
-            {
-                try
-                {
-                    usable = Clone.deep ().clone ( value );
-                }
-                catch ( final Exception e )
-                {
-                    final String msg = "Unable to clone value: %s";
-                    throw new StyleException ( String.format ( msg, value ), e );
-                }
-            }
-
-            try
-            {
-                // todo Add more options on the method names here?
-                // Trying to use setter method to apply the specified value
-                final String setterMethod = ReflectUtils.getSetterMethodName ( field );
-                ReflectUtils.callMethod ( object, setterMethod, usable );
-            }
-            catch ( final NoSuchMethodException e )
-            {
-                try
-                {
-                    // Applying field value directly
-                    ReflectUtils.setFieldValue ( object, field, usable );
-                }
-                catch ( final Exception fe )
-                {
-                    final String msg = "Unable to set `%s` object `%s` field value to: %s";
-                    throw new StyleException ( String.format ( msg, object, field, usable ), fe );
-                }
-            }
-        }
-    }
-
     /**
      * Returns component UI object.
      *
@@ -630,6 +629,9 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
     @NotNull
     private ComponentStyle extend ( @NotNull final ComponentStyle style )
     {
+        // Compiled appliers will be outdated
+        resetAppliers ();
+
         // Copying settings from extended style
         mergeProperties ( getComponentProperties (), style.getComponentProperties () );
         mergeProperties ( getUIProperties (), style.getUIProperties () );
@@ -860,4 +862,312 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
     {
         return "ComponentStyle [ id: " + getCompleteId () + " ]";
     }
-}
\ No newline at end of file
+
+    /**
+     * Compiled application of a single style property onto objects of a single {@link Class}.
+     * All checks that only depend on the property and object {@link Class} are performed once when applier is created.
+     */
+    private abstract static class PropertyApplier
+    {
+        /**
+         * Applies property to the specified object.
+         *
+         * @param style  {@link ComponentStyle} this applier was compiled for
+         * @param object object instance
+         * @throws NoSuchFieldException      if painter could not be set into object
+         * @throws NoSuchMethodException     if painter setter method could not be found
+         * @throws InvocationTargetException if painter setter method invocation failed
+         * @throws IllegalAccessException    if painter setter method is not accessible
+         */
+        public abstract void apply ( @NotNull ComponentStyle style, @NotNull Object object )
+                throws NoSuchFieldException, NoSuchMethodException, IllegalAccessException, InvocationTargetException;
+    }
+
+    /**
+     * {@link PropertyApplier} that sets value through setter method or directly into the field.
+     * Setter {@link Method} or {@link Field} is resolved upon first application and reused afterwards.
+     * Since object {@link Class} and value type never change for single applier the resolved member is always the same.
+     */
+    private abstract static class SetterApplier extends PropertyApplier
+    {
+        /**
+         * Property name.
+         */
+        @NotNull
+        protected final String property;
+
+        /**
+         * Resolved setter {@link Method}.
+         */
+        @Nullable
+        protected Method setter;
+
+        /**
+         * Resolved {@link Field}, only used if there is no fitting setter {@link Method}.
+         */
+        @Nullable
+        protected Field field;
+
+        /**
+         * Constructs new {@link SetterApplier}.
+         *
+         * @param property property name
+         */
+        public SetterApplier ( @NotNull final String property )
+        {
+            this.property = property;
+        }
+
+        /**
+         * Applies specified value to object field.
+         * This method allows to access and modify even private object fields.
+         * Note that this method might also work even if there is no real field with the specified name but there is fitting setter method.
+         *
+         * @param object object instance
+         * @param usable field value
+         * @throws InvocationTargetException if method throws an exception
+         * @throws IllegalAccessException    if method is inaccessible
+         */
+        protected void setValue ( @NotNull final Object object, @Nullable final Object usable )
+                throws InvocationTargetException, IllegalAccessException
+        {
+            if ( setter == null && field == null )
+            {
+                try
+                {
+                    // todo Add more options on the method names here?
+                    // Trying to use setter method to apply the specified value
+                    setter = ReflectUtils.getMethod ( object.getClass (), ReflectUtils.getSetterMethodName ( property ), usable );
+                }
+                catch ( final NoSuchMethodException e )
+                {
+                    try
+                    {
+                        // Applying field value directly
+                        field = ReflectUtils.getField ( object.getClass (), property );
+                    }
+                    catch ( final Exception fe )
+                    {
+                        final String msg = "Unable to set `%s` object `%s` field value to: %s";
+                        throw new StyleException ( String.format ( msg, object, property, usable ), fe );
+                    }
+                }
+            }
+            if ( setter != null )
+            {
+                setter.invoke ( object, usable );
+            }
+            else
+            {
+                try
+                {
+                    ReflectUtils.setFieldValue ( object, field, usable );
+                }
+                catch ( final Exception fe )
+                {
+                    final String msg = "Unable to set `%s` object `%s` field value to: %s";
+                    throw new StyleException ( String.format ( msg, object, property, usable ), fe );
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link SetterApplier} for plain property values.
+     * Values of immutable types are shared between all objects, other values are cloned for each object.
+     */
+    private static final class ValueApplier extends SetterApplier
+    {
+        /**
+         * Property value.
+         */
+        @Nullable
+        private final Object value;
+
+        /**
+         * Whether or not value can be shared without cloning it.
+         */
+        private final boolean shared;
+
+        /**
+         * Constructs new {@link ValueApplier}.
+         *
+         * @param property property name
+         * @param value    property value
+         */
+        public ValueApplier ( @NotNull final String property, @Nullable final Object value )
+        {
+            super ( property );
+            this.value = value;
+            this.shared = isShareable ( value );
+        }
+
+        @Override
+        public void apply ( @NotNull final ComponentStyle style, @NotNull final Object object )
+                throws IllegalAccessException, InvocationTargetException
+        {
+            // Creating separate usable value to avoid source object modifications
+            // We have limited options here, so for now we simply clone objects which are defined as Cloneable
+            final Object usable;
+            if ( shared )
+            {
+                usable = value;
+            }
+            else
+            {
+                try
+                {
+                    usable = Clone.deep ().clone ( value );
+                }
+                catch ( final Exception e )
+                {
+                    final String msg = "Unable to clone value: %s";
+                    throw new StyleException ( String.format ( msg, value ), e );
+                }
+            }
+            setValue ( object, usable );
+        }
+
+        /**
+         * Returns whether or not specified value can be shared between multiple objects without cloning it.
+         * {@link Painter}s are never cloned, other values are only shared if their type is known to be immutable.
+         *
+         * @param value value to check
+         * @return {@code true} if specified value can be shared between multiple objects without cloning it, {@code false} otherwise
+         */
+        private static boolean isShareable ( @Nullable final Object value )
+        {
+            return value == null ||
+                    value instanceof Painter ||
+                    ReflectUtils.isPrimitive ( value ) ||
+                    value instanceof String ||
+                    value instanceof Enum ||
+                    value instanceof Class ||
+                    value instanceof BigInteger ||
+                    value instanceof BigDecimal ||
+                    value instanceof Color ||
+                    value instanceof Font;
+        }
+    }
+
+    /**
+     * {@link SetterApplier} for {@link PainterStyle} values.
+     * New {@link Painter} is created for each object.
+     */
+    private static final class PainterApplier extends SetterApplier
+    {
+        /**
+         * {@link PainterStyle} to create {@link Painter}s from.
+         */
+        @NotNull
+        private final PainterStyle painterStyle;
+
+        /**
+         * Constructs new {@link PainterApplier}.
+         *
+         * @param property     property name
+         * @param painterStyle {@link PainterStyle} to create {@link Painter}s from
+         */
+        public PainterApplier ( @NotNull final String property, @NotNull final PainterStyle painterStyle )
+        {
+            super ( property );
+            this.painterStyle = painterStyle;
+        }
+
+        @Override
+        public void apply ( @NotNull final ComponentStyle style, @NotNull final Object object )
+                throws NoSuchFieldException, NoSuchMethodException, IllegalAccessException, InvocationTargetException
+        {
+            setValue ( object, style.createPainter ( painterStyle ) );
+        }
+    }
+
+    /**
+     * {@link PropertyApplier} for {@link Container} {@link LayoutManager}.
+     */
+    private static final class LayoutApplier extends PropertyApplier
+    {
+        /**
+         * {@link LayoutManager} to install.
+         */
+        @Nullable
+        private final LayoutManager layout;
+
+        /**
+         * Constructs new {@link LayoutApplier}.
+         *
+         * @param layout {@link LayoutManager} to install
+         */
+        public LayoutApplier ( @Nullable final LayoutManager layout )
+        {
+            this.layout = layout;
+        }
+
+        @Override
+        public void apply ( @NotNull final ComponentStyle style, @NotNull final Object object )
+        {
+            // Ensure we do not replace LayoutManager provided by user
+            final Container container = ( Container ) object;
+            final LayoutManager oldLayout = container.getLayout ();
+            if ( style.isReplaceableLayout ( container, oldLayout ) || !( layout instanceof UIResource ) )
+            {
+                // Creating clone of new layout manager
+                // This is important to avoid same layout being set everywhere
+                final LayoutManager newLayout = Clone.deep ().clone ( layout );
+
+                // Migrating layout manager settings if possible
+                if ( newLayout != null && newLayout instanceof AbstractLayoutManager )
+                {
+                    ( ( AbstractLayoutManager ) newLayout ).migrate ( container, oldLayout );
+                }
+
+                // Updating layout manager
+                container.setLayout ( newLayout );
+            }
+        }
+    }
+
+    /**
+     * {@link PropertyApplier} for {@link JComponent} margin and padding.
+     */
+    private static final class InsetsApplier extends PropertyApplier
+    {
+        /**
+         * Whether this applier sets margin or padding.
+         */
+        private final boolean margin;
+
+        /**
+         * Margin or padding {@link Insets}.
+         */
+        @Nullable
+        private final Insets insets;
+
+        /**
+         * Constructs new {@link InsetsApplier}.
+         *
+         * @param margin whether this applier sets margin or padding
+         * @param insets margin or padding {@link Insets}
+         */
+        public InsetsApplier ( final boolean margin, @Nullable final Insets insets )
+        {
+            this.margin = margin;
+            this.insets = insets;
+        }
+
+        @Override
+        public void apply ( @NotNull final ComponentStyle style, @NotNull final Object object )
+        {
+            if ( margin )
+            {
+                // Temporary workaround for margin attribute
+                PainterSupport.setMargin ( ( JComponent ) object, insets );
+            }
+            else
+            {
+                // Temporary workaround for padding attribute
+                PainterSupport.setPadding ( ( JComponent ) object, insets );
+            }
+        }
+    }
+}
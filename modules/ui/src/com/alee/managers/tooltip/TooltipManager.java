@@ -29,11 +29,12 @@ import com.alee.utils.CollectionUtils;
 import com.alee.utils.CoreSwingUtils;
 import com.alee.utils.swing.WeakComponentData;
 import com.alee.utils.swing.WeakComponentDataList;
-import com.alee.utils.swing.WebTimer;
 
 import javax.swing.*;
+import javax.swing.Timer;
 import java.awt.*;
 import java.awt.event.*;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -56,6 +57,7 @@ public final class TooltipManager
 
     // Default settings
     private static int defaultDelay = 400;
+    private static int warmPeriod = 500;
     private static boolean allowMultipleTooltips = true;
     private static boolean showHotkeysInTooltips = true;
     private static boolean showHotkeysInOneTimeTooltips = false;
@@ -65,8 +67,15 @@ public final class TooltipManager
             new WeakComponentDataList<JComponent, WebCustomTooltip> ( "TooltipManager.WebCustomTooltip", 50 );
     private static final WeakComponentData<JComponent, MouseAdapter> adapters =
             new WeakComponentData<JComponent, MouseAdapter> ( "TooltipManager.MouseAdapter", 50 );
-    private static final WeakComponentData<JComponent, WebTimer> timers =
-            new WeakComponentData<JComponent, WebTimer> ( "TooltipManager.WebTimer", 50 );
+    private static final WeakComponentData<JComponent, Integer> delays =
+            new WeakComponentData<JComponent, Integer> ( "TooltipManager.Delay", 50 );
+
+    // Single display scheduler tracking only currently hovered component
+    private static Timer displayTimer;
+    private static WeakReference<JComponent> scheduledComponent = new WeakReference<JComponent> ( null );
+
+    // Time until which tooltips are displayed without delay after previous tooltips were hidden
+    private static long warmUntil = 0;
 
     // One-time tooltips
     private static final List<WebCustomTooltip> oneTimeTooltips = new ArrayList<WebCustomTooltip> ();
@@ -104,15 +113,8 @@ public final class TooltipManager
      */
     public static void hideAllTooltips ()
     {
-        // Stopping any display timers
-        timers.forEach ( new BiConsumer<JComponent, WebTimer> ()
-        {
-            @Override
-            public void accept ( final JComponent component, final WebTimer webTimer )
-            {
-                webTimer.stop ();
-            }
-        } );
+        // Stopping display scheduler
+        cancelScheduledTooltips ( null );
 
         // Hiding standart tooltips
         webTooltips.forEachData ( new BiConsumer<JComponent, WebCustomTooltip> ()
@@ -268,24 +270,10 @@ public final class TooltipManager
         webTooltips.add ( component, customTooltip );
 
         // Creating listeners for component if they aren't created yet
-        if ( !timers.contains ( component ) )
+        if ( !delays.contains ( component ) )
         {
-            // Tooltip pop timer
-            final WebTimer showTips = new WebTimer ( "TooltipManager.displayTimer", delay );
-            showTips.addActionListener ( new ActionListener ()
-            {
-                @Override
-                public void actionPerformed ( final ActionEvent e )
-                {
-                    final Window window = CoreSwingUtils.getWindowAncestor ( component );
-                    if ( window != null && window.isShowing () )
-                    {
-                        showTooltips ( component, false );
-                    }
-                }
-            } );
-            showTips.setRepeats ( false );
-            timers.set ( component, showTips );
+            // Tooltip display delay
+            delays.set ( component, delay );
 
             // Show/hide listener
             final MouseAdapter mouseAdapter = new MouseAdapter ()
@@ -299,40 +287,43 @@ public final class TooltipManager
                 @Override
                 public void mouseExited ( final MouseEvent e )
                 {
-                    cancelTooltips ();
+                    cancelTooltips ( true );
                 }
 
                 @Override
                 public void mousePressed ( final MouseEvent e )
                 {
-                    cancelTooltips ();
+                    cancelTooltips ( false );
                 }
 
                 @Override
                 public void mouseReleased ( final MouseEvent e )
                 {
-                    cancelTooltips ();
+                    cancelTooltips ( false );
                 }
 
                 /**
-                 * Startup tooltips display timer.
+                 * Schedules tooltips display.
                  */
                 private void displayTooltips ()
                 {
                     final Window window = CoreSwingUtils.getWindowAncestor ( component );
                     if ( window != null && window.isShowing () )
                     {
-                        showTips.start ();
+                        scheduleTooltips ( component );
                     }
                 }
 
                 /**
-                 * Cancel timers and hide displayed tooltips.
+                 * Cancels scheduled display and hides displayed tooltips.
+                 *
+                 * @param warm whether or not tooltips of the next hovered component should be displayed right away
                  */
-                private void cancelTooltips ()
+                private void cancelTooltips ( final boolean warm )
                 {
-                    showTips.stop ();
-                    hideTooltips ( component );
+                    cancelScheduledTooltips ( component );
+                    final boolean displayed = hideTooltips ( component );
+                    warmUntil = warm && displayed && warmPeriod > 0 ? System.currentTimeMillis () + warmPeriod : 0;
                 }
             };
             component.addMouseListener ( mouseAdapter );
@@ -342,17 +333,84 @@ public final class TooltipManager
         return customTooltip;
     }
 
-    private static void hideTooltips ( final JComponent component )
+    /**
+     * Schedules display of the specified component tooltips.
+     * Tooltips are displayed right away if previous tooltips were hidden less than {@link #warmPeriod} milliseconds ago.
+     * Only one component can have its tooltips scheduled, so scheduling replaces any previously scheduled display.
+     *
+     * @param component component to display tooltips for
+     */
+    private static void scheduleTooltips ( final JComponent component )
+    {
+        if ( System.currentTimeMillis () <= warmUntil )
+        {
+            cancelScheduledTooltips ( null );
+            showTooltips ( component, false );
+        }
+        else
+        {
+            if ( displayTimer == null )
+            {
+                displayTimer = new Timer ( defaultDelay, new ActionListener ()
+                {
+                    @Override
+                    public void actionPerformed ( final ActionEvent e )
+                    {
+                        final JComponent scheduled = scheduledComponent.get ();
+                        scheduledComponent = new WeakReference<JComponent> ( null );
+                        if ( scheduled != null )
+                        {
+                            final Window window = CoreSwingUtils.getWindowAncestor ( scheduled );
+                            if ( window != null && window.isShowing () )
+                            {
+                                showTooltips ( scheduled, false );
+                            }
+                        }
+                    }
+                } );
+                displayTimer.setRepeats ( false );
+            }
+            final Integer delay = delays.get ( component );
+            scheduledComponent = new WeakReference<JComponent> ( component );
+            displayTimer.setInitialDelay ( delay != null ? delay : defaultDelay );
+            displayTimer.restart ();
+        }
+    }
+
+    /**
+     * Cancels scheduled tooltips display.
+     *
+     * @param component component to cancel tooltips display for, {@code null} to cancel display for any component
+     */
+    private static void cancelScheduledTooltips ( final JComponent component )
+    {
+        if ( displayTimer != null && ( component == null || scheduledComponent.get () == component ) )
+        {
+            displayTimer.stop ();
+            scheduledComponent = new WeakReference<JComponent> ( null );
+        }
+    }
+
+    /**
+     * Hides tooltips of the specified component.
+     *
+     * @param component component to hide tooltips for
+     * @return {@code true} if at least one of the tooltips was displayed, {@code false} otherwise
+     */
+    private static boolean hideTooltips ( final JComponent component )
     {
+        boolean displayed = false;
         if ( webTooltips.get ( component ) != null )
         {
             final List<WebCustomTooltip> tooltips = new ArrayList<WebCustomTooltip> ();
             tooltips.addAll ( webTooltips.get ( component ) );
             for ( final WebCustomTooltip tooltip : tooltips )
             {
+                displayed |= tooltip.isShowing ();
                 tooltip.closeTooltip ();
             }
         }
+        return displayed;
     }
 
     /**
@@ -370,7 +428,7 @@ public final class TooltipManager
         {
             if ( delayed )
             {
-                timers.get ( component ).restart ();
+                scheduleTooltips ( component );
             }
             else
             {
@@ -517,15 +575,9 @@ public final class TooltipManager
                         }
                     } );
 
-                    // Clearing timers
-                    timers.clear ( component, new BiConsumer<JComponent, WebTimer> ()
-                    {
-                        @Override
-                        public void accept ( final JComponent component, final WebTimer webTimer )
-                        {
-                            webTimer.stop ();
-                        }
-                    } );
+                    // Clearing delay and scheduled display
+                    delays.clear ( component );
+                    cancelScheduledTooltips ( component );
                 }
 
                 // Hiding and destroying tooltip
@@ -680,6 +732,20 @@ public final class TooltipManager
         defaultDelay = delay;
     }
 
+    /**
+     * Period after tooltips were hidden within which next hovered component tooltips are displayed without delay
+     */
+
+    public static int getWarmPeriod ()
+    {
+        return warmPeriod;
+    }
+
+    public static void setWarmPeriod ( final int warmPeriod )
+    {
+        TooltipManager.warmPeriod = warmPeriod;
+    }
+
     /**
      * Allow more than one tooltip per component
      */
@@ -22,6 +22,7 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.jdk.Objects;
 import com.alee.laf.WebLookAndFeel;
 import com.alee.managers.style.Bounds;
+import com.alee.painter.instrumentation.InstrumentationSupport;
 import com.alee.utils.*;
 import com.alee.utils.laf.WebBorder;
 
@@ -371,7 +372,7 @@ public abstract class AbstractPainter<C extends JComponent, U extends ComponentU
             final Bounds sectionBounds = new Bounds ( componentBounds, section );
 
             // Painting section
-            painter.paint ( g2d, component, ui, sectionBounds );
+            paintSectionPainter ( painter, g2d, sectionBounds );
 
             // Restoring old clip
             GraphicsUtils.restoreClip ( g2d, oc );
@@ -389,13 +390,35 @@ public abstract class AbstractPainter<C extends JComponent, U extends ComponentU
             final Bounds sectionBounds = new Bounds ( componentBounds, bounds );
 
             // Painting section
-            painter.paint ( g2d, component, ui, sectionBounds );
+            paintSectionPainter ( painter, g2d, sectionBounds );
 
             // Restoring old clip
             GraphicsUtils.restoreClip ( g2d, oc );
         }
     }
 
+    /**
+     * Paints section using the specified {@link SectionPainter}.
+     * Section paint time is only measured if {@link InstrumentationSupport} is enabled.
+     *
+     * @param painter section painter
+     * @param g2d     graphics context
+     * @param bounds  section {@link Bounds}
+     */
+    private void paintSectionPainter ( @NotNull final SectionPainter painter, @NotNull final Graphics2D g2d, @NotNull final Bounds bounds )
+    {
+        if ( InstrumentationSupport.isEnabled () )
+        {
+            final long start = System.nanoTime ();
+            painter.paint ( g2d, component, ui, bounds );
+            InstrumentationSupport.sectionPainted ( component, painter, System.nanoTime () - start );
+        }
+        else
+        {
+            painter.paint ( g2d, component, ui, bounds );
+        }
+    }
+
     /**
      * Installs properties and listeners used by this {@link Painter} implementation.
      * Override this method instead of {@link #install(JComponent, ComponentUI)} to install additional properties and listeners.
@@ -0,0 +1,44 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.painter;
+
+import com.alee.api.annotations.NotNull;
+
+import javax.swing.*;
+import java.util.EventListener;
+
+/**
+ * Custom listener for {@link JComponent} {@link Painter} paint events.
+ * It is informed about every {@link Painter} paint operation performed through {@link PainterSupport}.
+ * Note that paint operation time only includes {@link JComponent}'s own {@link Painter} time, children painting is not included.
+ *
+ * @author Mikle Garin
+ * @see PainterSupport#addPaintListener(PaintListener)
+ * @see PainterSupport#removePaintListener(PaintListener)
+ */
+public interface PaintListener extends EventListener
+{
+    /**
+     * Informs about {@link JComponent} being painted by the specified {@link Painter}.
+     * This method is always called within Event Dispatch Thread right after the paint operation.
+     *
+     * @param component painted {@link JComponent}
+     * @param painter   {@link Painter} used to paint {@link JComponent}
+     * @param time      paint operation time in nanoseconds
+     */
+    public void painted ( @NotNull JComponent component, @NotNull Painter painter, long time );
+}
@@ -86,6 +86,17 @@ public final class PainterSupport
     private static final WeakComponentData<JComponent, Boolean> shapeDetectionEnabled =
             new WeakComponentData<JComponent, Boolean> ( "PainterSupport.shapeDetectionEnabled", 200 );
 
+    /**
+     * {@link PaintListener}s informed about {@link Painter} paint operations.
+     * Array is replaced on every change so that painting code can iterate over it without any synchronization.
+     * Paint operations are not measured at all while this array is empty.
+     *
+     * @see #addPaintListener(PaintListener)
+     * @see #removePaintListener(PaintListener)
+     */
+    @NotNull
+    private static volatile PaintListener[] paintListeners = new PaintListener[ 0 ];
+
 
     /**
      * Returns {@link Painter} currently installed on the specified {@link Component}.
@@ -554,7 +565,7 @@ public final class PainterSupport
         final Painter painter = PainterSupport.getPainter ( component );
         if ( painter != null )
         {
-            painter.paint ( ( Graphics2D ) g, component, ui, new Bounds ( component ) );
+            paint ( ( Graphics2D ) g, component, ui, painter );
         }
     }
 
@@ -576,7 +587,7 @@ public final class PainterSupport
             {
                 final ParameterizedPaint parameterizedPaint = ( ParameterizedPaint ) painter;
                 parameterizedPaint.prepareToPaint ( parameters );
-                painter.paint ( ( Graphics2D ) g, component, ui, new Bounds ( component ) );
+                paint ( ( Graphics2D ) g, component, ui, painter );
             }
             else
             {
@@ -585,6 +596,77 @@ public final class PainterSupport
         }
     }
 
+    /**
+     * Paints {@link JComponent} on the specified {@link Graphics2D} using provided {@link Painter}.
+     * Paint operation time is only measured if there are any {@link PaintListener}s registered.
+     *
+     * @param g2d       {@link Graphics2D} to paint on
+     * @param component {@link JComponent} to paint
+     * @param ui        {@link JComponent}'s {@link ComponentUI}
+     * @param painter   {@link Painter} to paint {@link JComponent} with
+     */
+    private static void paint ( @NotNull final Graphics2D g2d, @NotNull final JComponent component, @NotNull final ComponentUI ui,
+                                @NotNull final Painter painter )
+    {
+        final PaintListener[] listeners = paintListeners;
+        if ( listeners.length == 0 )
+        {
+            painter.paint ( g2d, component, ui, new Bounds ( component ) );
+        }
+        else
+        {
+            final long start = System.nanoTime ();
+            painter.paint ( g2d, component, ui, new Bounds ( component ) );
+            final long time = System.nanoTime () - start;
+            for ( final PaintListener listener : listeners )
+            {
+                listener.painted ( component, painter, time );
+            }
+        }
+    }
+
+    /**
+     * Adds {@link PaintListener} that will be informed about all {@link Painter} paint operations.
+     * Be aware that any registered {@link PaintListener} causes all paint operations to be measured.
+     *
+     * @param listener {@link PaintListener} to add
+     */
+    public static void addPaintListener ( @NotNull final PaintListener listener )
+    {
+        synchronized ( PainterSupport.class )
+        {
+            final PaintListener[] listeners = paintListeners;
+            final PaintListener[] updated = new PaintListener[ listeners.length + 1 ];
+            System.arraycopy ( listeners, 0, updated, 0, listeners.length );
+            updated[ listeners.length ] = listener;
+            paintListeners = updated;
+        }
+    }
+
+    /**
+     * Removes {@link PaintListener}.
+     *
+     * @param listener {@link PaintListener} to remove
+     */
+    public static void removePaintListener ( @NotNull final PaintListener listener )
+    {
+        synchronized ( PainterSupport.class )
+        {
+            final PaintListener[] listeners = paintListeners;
+            for ( int i = 0; i < listeners.length; i++ )
+            {
+                if ( listeners[ i ] == listener )
+                {
+                    final PaintListener[] updated = new PaintListener[ listeners.length - 1 ];
+                    System.arraycopy ( listeners, 0, updated, 0, i );
+                    System.arraycopy ( listeners, i + 1, updated, i, listeners.length - i - 1 );
+                    paintListeners = updated;
+                    break;
+                }
+            }
+        }
+    }
+
     /**
      * Returns {@link JComponent} preferred size or {@code null} if there is no preferred size.
      *
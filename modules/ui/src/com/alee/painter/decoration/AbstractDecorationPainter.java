@@ -40,6 +40,7 @@ import com.alee.painter.AbstractPainter;
 import com.alee.painter.Painter;
 import com.alee.painter.PainterSupport;
 import com.alee.painter.SectionPainter;
+import com.alee.painter.instrumentation.InstrumentationSupport;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.SwingUtils;
 import com.alee.utils.SystemUtils;
@@ -1029,7 +1030,8 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
             }
 
             // Resolving state decoration if it is not yet cached
-            if ( !stateDecorationCache.containsKey ( current ) )
+            final boolean cached = stateDecorationCache.containsKey ( current );
+            if ( !cached )
             {
                 // Retrieving all decorations fitting current states
                 final List<D> decorations = getDecorations ( states );
@@ -1043,6 +1045,7 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
                 {
                     // Retrieving decoration from existing built decorations cache
                     decoration = decorationCache.get ( decorationsKey );
+                    InstrumentationSupport.decorationResolved ( component, this, true );
                 }
                 else
                 {
@@ -1086,11 +1089,17 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
 
                     // Caching built decoration
                     decorationCache.put ( decorationsKey, decoration );
+                    InstrumentationSupport.decorationResolved ( component, this, false );
                 }
 
                 // Caching resulting decoration under the state key
                 stateDecorationCache.put ( current, decoration );
             }
+            else
+            {
+                // Informing about state decoration cache usage
+                InstrumentationSupport.decorationResolved ( component, this, true );
+            }
 
             // Performing decoration activation and deactivation if needed
             if ( previous == null && current == null )
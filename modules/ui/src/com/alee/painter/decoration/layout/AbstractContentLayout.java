@@ -22,6 +22,7 @@ import com.alee.api.annotations.Nullable;
 import com.alee.painter.decoration.IDecoration;
 import com.alee.painter.decoration.content.AbstractContent;
 import com.alee.painter.decoration.content.IContent;
+import com.alee.painter.instrumentation.InstrumentationSupport;
 import com.alee.utils.CollectionUtils;
 import com.thoughtworks.xstream.annotations.XStreamImplicit;
 
@@ -180,7 +181,8 @@ public abstract class AbstractContentLayout<C extends JComponent, D extends IDec
     @NotNull
     protected Map<String, List<IContent>> getContentsCache ( @NotNull final C c, @NotNull final D d )
     {
-        if ( contentsCache == null )
+        final boolean cached = contentsCache != null;
+        if ( !cached )
         {
             final List<IContent> contents = getContents ( c, d );
             contentsCache = new HashMap<String, List<IContent>> ( contents.size () );
@@ -196,6 +198,7 @@ public abstract class AbstractContentLayout<C extends JComponent, D extends IDec
                 existing.add ( content );
             }
         }
+        InstrumentationSupport.contentsResolved ( c, this, cached );
         return contentsCache;
     }
 
@@ -25,6 +25,7 @@ import com.alee.graphics.filters.ShadowFilter;
 import com.alee.painter.decoration.WebDecoration;
 import com.alee.painter.decoration.shape.IShape;
 import com.alee.painter.decoration.shape.StretchInfo;
+import com.alee.painter.instrumentation.InstrumentationSupport;
 import com.alee.utils.ColorUtils;
 import com.alee.utils.GraphicsUtils;
 import com.alee.utils.ImageUtils;
@@ -220,8 +221,18 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
         NinePatchIcon shadow = shadowIconsCache.containsKey ( key ) ? shadowIconsCache.get ( key ).get () : null;
         if ( shadow == null )
         {
+            final boolean instrumented = InstrumentationSupport.isEnabled ();
+            final long start = instrumented ? System.nanoTime () : 0;
             shadow = createShadowIcon ( stretchInfo, bounds, width, opacity, color, shape );
             shadowIconsCache.put ( key, new WeakReference<NinePatchIcon> ( shadow ) );
+            if ( instrumented )
+            {
+                InstrumentationSupport.shadowResolved ( ShadowType.outer, false, System.nanoTime () - start );
+            }
+        }
+        else
+        {
+            InstrumentationSupport.shadowResolved ( ShadowType.outer, true, 0 );
         }
         return shadow;
     }
@@ -296,8 +307,18 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
         BufferedImage shadow = shadowImagesCache.containsKey ( key ) ? shadowImagesCache.get ( key ).get () : null;
         if ( shadow == null )
         {
+            final boolean instrumented = InstrumentationSupport.isEnabled ();
+            final long start = instrumented ? System.nanoTime () : 0;
             shadow = createShadowImage ( bounds, width, opacity, color, shape );
             shadowImagesCache.put ( key, new WeakReference<BufferedImage> ( shadow ) );
+            if ( instrumented )
+            {
+                InstrumentationSupport.shadowResolved ( ShadowType.outer, false, System.nanoTime () - start );
+            }
+        }
+        else
+        {
+            InstrumentationSupport.shadowResolved ( ShadowType.outer, true, 0 );
         }
         return shadow;
     }
@@ -369,8 +390,18 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
         NinePatchIcon shadow = shadowIconsCache.containsKey ( key ) ? shadowIconsCache.get ( key ).get () : null;
         if ( shadow == null )
         {
+            final boolean instrumented = InstrumentationSupport.isEnabled ();
+            final long start = instrumented ? System.nanoTime () : 0;
             shadow = createInnerShadowIcon ( stretchInfo, bounds, width, opacity, color, shape );
             shadowIconsCache.put ( key, new WeakReference<NinePatchIcon> ( shadow ) );
+            if ( instrumented )
+            {
+                InstrumentationSupport.shadowResolved ( ShadowType.inner, false, System.nanoTime () - start );
+            }
+        }
+        else
+        {
+            InstrumentationSupport.shadowResolved ( ShadowType.inner, true, 0 );
         }
         return shadow;
     }
@@ -446,8 +477,18 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
         BufferedImage shadow = shadowImagesCache.containsKey ( key ) ? shadowImagesCache.get ( key ).get () : null;
         if ( shadow == null )
         {
+            final boolean instrumented = InstrumentationSupport.isEnabled ();
+            final long start = instrumented ? System.nanoTime () : 0;
             shadow = createInnerShadowImage ( bounds, width, opacity, color, shape );
             shadowImagesCache.put ( key, new WeakReference<BufferedImage> ( shadow ) );
+            if ( instrumented )
+            {
+                InstrumentationSupport.shadowResolved ( ShadowType.inner, false, System.nanoTime () - start );
+            }
+        }
+        else
+        {
+            InstrumentationSupport.shadowResolved ( ShadowType.inner, true, 0 );
         }
         return shadow;
     }
@@ -0,0 +1,107 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.painter.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free cache hits and misses counter.
+ * It is safe to record and read values from different threads.
+ *
+ * @author Mikle Garin
+ * @see MetricsInstrumentation
+ */
+public final class CacheCounter
+{
+    /**
+     * Amount of cache hits.
+     */
+    private final AtomicLong hits;
+
+    /**
+     * Amount of cache misses.
+     */
+    private final AtomicLong misses;
+
+    /**
+     * Constructs new empty {@link CacheCounter}.
+     */
+    public CacheCounter ()
+    {
+        super ();
+        this.hits = new AtomicLong ();
+        this.misses = new AtomicLong ();
+    }
+
+    /**
+     * Records single cache access.
+     *
+     * @param hit whether or not value was taken from the cache
+     */
+    public void record ( final boolean hit )
+    {
+        if ( hit )
+        {
+            hits.incrementAndGet ();
+        }
+        else
+        {
+            misses.incrementAndGet ();
+        }
+    }
+
+    /**
+     * Returns amount of cache hits.
+     *
+     * @return amount of cache hits
+     */
+    public long getHits ()
+    {
+        return hits.get ();
+    }
+
+    /**
+     * Returns amount of cache misses.
+     *
+     * @return amount of cache misses
+     */
+    public long getMisses ()
+    {
+        return misses.get ();
+    }
+
+    /**
+     * Returns cache hit ratio.
+     *
+     * @return cache hit ratio, value between {@code 0} and {@code 1}, or {@code 0} if cache wasn't accessed yet
+     */
+    public double getHitRatio ()
+    {
+        final long hitsCount = hits.get ();
+        final long total = hitsCount + misses.get ();
+        return total > 0 ? ( double ) hitsCount / total : 0;
+    }
+
+    /**
+     * Clears recorded values.
+     */
+    public void reset ()
+    {
+        hits.set ( 0 );
+        misses.set ( 0 );
+    }
+}
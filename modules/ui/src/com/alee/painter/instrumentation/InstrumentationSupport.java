@@ -0,0 +1,200 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.painter.instrumentation;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.managers.style.StyleId;
+import com.alee.painter.Painter;
+import com.alee.painter.PainterSupport;
+import com.alee.painter.decoration.layout.IContentLayout;
+import com.alee.painter.decoration.shadow.ShadowType;
+import com.alee.utils.UtilityException;
+
+import javax.swing.*;
+
+/**
+ * This class provides access to currently installed {@link PainterInstrumentation}.
+ * Instrumentation is disabled by default, in which case instrumented code only pays for a single volatile field read.
+ * Code that has to measure time should check {@link #isEnabled()} first to avoid {@link System#nanoTime()} calls.
+ *
+ * @author Mikle Garin
+ * @see PainterInstrumentation
+ * @see MetricsInstrumentation
+ */
+public final class InstrumentationSupport
+{
+    /**
+     * Currently installed {@link PainterInstrumentation}, {@code null} if instrumentation is disabled.
+     */
+    @Nullable
+    private static volatile PainterInstrumentation instrumentation;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private InstrumentationSupport ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns whether or not instrumentation is enabled.
+     *
+     * @return {@code true} if instrumentation is enabled, {@code false} otherwise
+     */
+    public static boolean isEnabled ()
+    {
+        return instrumentation != null;
+    }
+
+    /**
+     * Returns currently installed {@link PainterInstrumentation}.
+     *
+     * @return currently installed {@link PainterInstrumentation}, {@code null} if instrumentation is disabled
+     */
+    @Nullable
+    public static PainterInstrumentation getInstrumentation ()
+    {
+        return instrumentation;
+    }
+
+    /**
+     * Installs {@link PainterInstrumentation}, replacing any previously installed one.
+     *
+     * @param instrumentation {@link PainterInstrumentation} to install, {@code null} to disable instrumentation
+     */
+    public static synchronized void setInstrumentation ( @Nullable final PainterInstrumentation instrumentation )
+    {
+        final PainterInstrumentation previous = InstrumentationSupport.instrumentation;
+        if ( previous != instrumentation )
+        {
+            if ( previous != null )
+            {
+                PainterSupport.removePaintListener ( previous );
+            }
+            InstrumentationSupport.instrumentation = instrumentation;
+            if ( instrumentation != null )
+            {
+                PainterSupport.addPaintListener ( instrumentation );
+            }
+        }
+    }
+
+    /**
+     * Informs installed {@link PainterInstrumentation} about section being painted.
+     *
+     * @param component painted {@link JComponent}
+     * @param painter   section {@link Painter}
+     * @param time      paint operation time in nanoseconds
+     * @see PainterInstrumentation#sectionPainted(JComponent, Painter, long)
+     */
+    public static void sectionPainted ( @NotNull final JComponent component, @NotNull final Painter painter, final long time )
+    {
+        final PainterInstrumentation instrumentation = InstrumentationSupport.instrumentation;
+        if ( instrumentation != null )
+        {
+            instrumentation.sectionPainted ( component, painter, time );
+        }
+    }
+
+    /**
+     * Informs installed {@link PainterInstrumentation} about decoration being resolved.
+     *
+     * @param component {@link JComponent} decoration is resolved for
+     * @param painter   {@link Painter} resolving decoration
+     * @param cached    whether or not decoration was taken from the cache
+     * @see PainterInstrumentation#decorationResolved(JComponent, Painter, boolean)
+     */
+    public static void decorationResolved ( @NotNull final JComponent component, @NotNull final Painter painter, final boolean cached )
+    {
+        final PainterInstrumentation instrumentation = InstrumentationSupport.instrumentation;
+        if ( instrumentation != null )
+        {
+            instrumentation.decorationResolved ( component, painter, cached );
+        }
+    }
+
+    /**
+     * Informs installed {@link PainterInstrumentation} about contents being resolved.
+     *
+     * @param component {@link JComponent} contents are resolved for
+     * @param layout    {@link IContentLayout} resolving contents
+     * @param cached    whether or not contents were taken from the cache
+     * @see PainterInstrumentation#contentsResolved(JComponent, IContentLayout, boolean)
+     */
+    public static void contentsResolved ( @NotNull final JComponent component, @NotNull final IContentLayout layout,
+                                          final boolean cached )
+    {
+        final PainterInstrumentation instrumentation = InstrumentationSupport.instrumentation;
+        if ( instrumentation != null )
+        {
+            instrumentation.contentsResolved ( component, layout, cached );
+        }
+    }
+
+    /**
+     * Informs installed {@link PainterInstrumentation} about shadow being resolved.
+     *
+     * @param type   {@link ShadowType}
+     * @param cached whether or not shadow was taken from the cache
+     * @param time   shadow generation time in nanoseconds
+     * @see PainterInstrumentation#shadowResolved(ShadowType, boolean, long)
+     */
+    public static void shadowResolved ( @NotNull final ShadowType type, final boolean cached, final long time )
+    {
+        final PainterInstrumentation instrumentation = InstrumentationSupport.instrumentation;
+        if ( instrumentation != null )
+        {
+            instrumentation.shadowResolved ( type, cached, time );
+        }
+    }
+
+    /**
+     * Informs installed {@link PainterInstrumentation} about style being installed.
+     *
+     * @param component {@link JComponent} style was installed into
+     * @param id        installed {@link StyleId}
+     * @param time      style installation time in nanoseconds
+     * @see PainterInstrumentation#styleInstalled(JComponent, StyleId, long)
+     */
+    public static void styleInstalled ( @NotNull final JComponent component, @NotNull final StyleId id, final long time )
+    {
+        final PainterInstrumentation instrumentation = InstrumentationSupport.instrumentation;
+        if ( instrumentation != null )
+        {
+            instrumentation.styleInstalled ( component, id, time );
+        }
+    }
+
+    /**
+     * Informs installed {@link PainterInstrumentation} about style being uninstalled.
+     *
+     * @param component {@link JComponent} style was uninstalled from
+     * @param id        uninstalled {@link StyleId}
+     * @param time      style uninstallation time in nanoseconds
+     * @see PainterInstrumentation#styleUninstalled(JComponent, StyleId, long)
+     */
+    public static void styleUninstalled ( @NotNull final JComponent component, @NotNull final StyleId id, final long time )
+    {
+        final PainterInstrumentation instrumentation = InstrumentationSupport.instrumentation;
+        if ( instrumentation != null )
+        {
+            instrumentation.styleUninstalled ( component, id, time );
+        }
+    }
+}
@@ -0,0 +1,599 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.painter.instrumentation;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.managers.style.StyleId;
+import com.alee.managers.style.StyleManager;
+import com.alee.painter.Painter;
+import com.alee.painter.PainterException;
+import com.alee.painter.decoration.layout.IContentLayout;
+import com.alee.painter.decoration.shadow.ShadowType;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.swing.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link PainterInstrumentation} implementation collecting low-overhead rendering metrics.
+ * It collects paint time histograms per {@link Painter} class and per {@link StyleId}, cache hit ratios for decorations, contents and
+ * shadows and Event Dispatch Thread time spent on style installation and uninstallation.
+ *
+ * Collected metrics can be accessed directly or exported through JMX using {@link #register()}, which allows correlating UI stalls
+ * with metrics on live applications using any JMX client.
+ *
+ * @author Mikle Garin
+ * @see InstrumentationSupport#setInstrumentation(PainterInstrumentation)
+ * @see MetricsInstrumentationMBean
+ */
+public class MetricsInstrumentation implements PainterInstrumentation, MetricsInstrumentationMBean
+{
+    /**
+     * Default JMX {@link ObjectName} for {@link MetricsInstrumentation}.
+     */
+    public static final String OBJECT_NAME = "com.alee.painter:type=MetricsInstrumentation";
+
+    /**
+     * Component paint times.
+     */
+    @NotNull
+    protected final TimeHistogram paintTimes;
+
+    /**
+     * Paint times per {@link Painter} class name, including section painters.
+     */
+    @NotNull
+    protected final ConcurrentMap<String, TimeHistogram> painterTimes;
+
+    /**
+     * Component paint times per {@link StyleId} identifier.
+     */
+    @NotNull
+    protected final ConcurrentMap<String, TimeHistogram> styleTimes;
+
+    /**
+     * Decoration cache counters per {@link Painter} class name.
+     */
+    @NotNull
+    protected final ConcurrentMap<String, CacheCounter> decorationCaches;
+
+    /**
+     * Contents cache counters per {@link IContentLayout} class name.
+     */
+    @NotNull
+    protected final ConcurrentMap<String, CacheCounter> contentsCaches;
+
+    /**
+     * Shadow cache counter.
+     */
+    @NotNull
+    protected final CacheCounter shadowCache;
+
+    /**
+     * Shadow generation times.
+     */
+    @NotNull
+    protected final TimeHistogram shadowTimes;
+
+    /**
+     * Style installation times per {@link StyleId} identifier.
+     */
+    @NotNull
+    protected final ConcurrentMap<String, TimeHistogram> styleInstallTimes;
+
+    /**
+     * Style uninstallation times per {@link StyleId} identifier.
+     */
+    @NotNull
+    protected final ConcurrentMap<String, TimeHistogram> styleUninstallTimes;
+
+    /**
+     * Constructs new {@link MetricsInstrumentation}.
+     */
+    public MetricsInstrumentation ()
+    {
+        super ();
+        this.paintTimes = new TimeHistogram ();
+        this.painterTimes = new ConcurrentHashMap<String, TimeHistogram> ();
+        this.styleTimes = new ConcurrentHashMap<String, TimeHistogram> ();
+        this.decorationCaches = new ConcurrentHashMap<String, CacheCounter> ();
+        this.contentsCaches = new ConcurrentHashMap<String, CacheCounter> ();
+        this.shadowCache = new CacheCounter ();
+        this.shadowTimes = new TimeHistogram ();
+        this.styleInstallTimes = new ConcurrentHashMap<String, TimeHistogram> ();
+        this.styleUninstallTimes = new ConcurrentHashMap<String, TimeHistogram> ();
+    }
+
+    @Override
+    public void painted ( @NotNull final JComponent component, @NotNull final Painter painter, final long time )
+    {
+        paintTimes.record ( time );
+        histogram ( painterTimes, painter.getClass ().getName () ).record ( time );
+        histogram ( styleTimes, getStyleKey ( StyleManager.getStyleId ( component ) ) ).record ( time );
+    }
+
+    @Override
+    public void sectionPainted ( @NotNull final JComponent component, @NotNull final Painter painter, final long time )
+    {
+        histogram ( painterTimes, painter.getClass ().getName () ).record ( time );
+    }
+
+    @Override
+    public void decorationResolved ( @NotNull final JComponent component, @NotNull final Painter painter, final boolean cached )
+    {
+        counter ( decorationCaches, painter.getClass ().getName () ).record ( cached );
+    }
+
+    @Override
+    public void contentsResolved ( @NotNull final JComponent component, @NotNull final IContentLayout layout, final boolean cached )
+    {
+        counter ( contentsCaches, layout.getClass ().getName () ).record ( cached );
+    }
+
+    @Override
+    public void shadowResolved ( @NotNull final ShadowType type, final boolean cached, final long time )
+    {
+        shadowCache.record ( cached );
+        if ( !cached )
+        {
+            shadowTimes.record ( time );
+        }
+    }
+
+    @Override
+    public void styleInstalled ( @NotNull final JComponent component, @NotNull final StyleId id, final long time )
+    {
+        histogram ( styleInstallTimes, getStyleKey ( id ) ).record ( time );
+    }
+
+    @Override
+    public void styleUninstalled ( @NotNull final JComponent component, @NotNull final StyleId id, final long time )
+    {
+        histogram ( styleUninstallTimes, getStyleKey ( id ) ).record ( time );
+    }
+
+    /**
+     * Returns key used for the specified {@link StyleId} metrics.
+     * Only style identifier is used without parent path to keep metrics collection cheap.
+     *
+     * @param id {@link StyleId}
+     * @return key used for the specified {@link StyleId} metrics
+     */
+    @NotNull
+    protected String getStyleKey ( @NotNull final StyleId id )
+    {
+        final String key = id.getId ();
+        return key != null ? key : "";
+    }
+
+    /**
+     * Returns {@link TimeHistogram} for the specified key, creating it if needed.
+     *
+     * @param histograms {@link TimeHistogram}s
+     * @param key        {@link TimeHistogram} key
+     * @return {@link TimeHistogram} for the specified key
+     */
+    @NotNull
+    protected TimeHistogram histogram ( @NotNull final ConcurrentMap<String, TimeHistogram> histograms, @NotNull final String key )
+    {
+        TimeHistogram histogram = histograms.get ( key );
+        if ( histogram == null )
+        {
+            final TimeHistogram created = new TimeHistogram ();
+            histogram = histograms.putIfAbsent ( key, created );
+            if ( histogram == null )
+            {
+                histogram = created;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns {@link CacheCounter} for the specified key, creating it if needed.
+     *
+     * @param counters {@link CacheCounter}s
+     * @param key      {@link CacheCounter} key
+     * @return {@link CacheCounter} for the specified key
+     */
+    @NotNull
+    protected CacheCounter counter ( @NotNull final ConcurrentMap<String, CacheCounter> counters, @NotNull final String key )
+    {
+        CacheCounter counter = counters.get ( key );
+        if ( counter == null )
+        {
+            final CacheCounter created = new CacheCounter ();
+            counter = counters.putIfAbsent ( key, created );
+            if ( counter == null )
+            {
+                counter = created;
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * Returns paint times per {@link Painter} class name, including section painters.
+     *
+     * @return paint times per {@link Painter} class name, including section painters
+     */
+    @NotNull
+    public Map<String, TimeHistogram> getPainterTimes ()
+    {
+        return Collections.unmodifiableMap ( painterTimes );
+    }
+
+    /**
+     * Returns component paint times per {@link StyleId} identifier.
+     *
+     * @return component paint times per {@link StyleId} identifier
+     */
+    @NotNull
+    public Map<String, TimeHistogram> getStyleTimes ()
+    {
+        return Collections.unmodifiableMap ( styleTimes );
+    }
+
+    /**
+     * Returns decoration cache counters per {@link Painter} class name.
+     *
+     * @return decoration cache counters per {@link Painter} class name
+     */
+    @NotNull
+    public Map<String, CacheCounter> getDecorationCaches ()
+    {
+        return Collections.unmodifiableMap ( decorationCaches );
+    }
+
+    /**
+     * Returns contents cache counters per {@link IContentLayout} class name.
+     *
+     * @return contents cache counters per {@link IContentLayout} class name
+     */
+    @NotNull
+    public Map<String, CacheCounter> getContentsCaches ()
+    {
+        return Collections.unmodifiableMap ( contentsCaches );
+    }
+
+    /**
+     * Returns shadow cache counter.
+     *
+     * @return shadow cache counter
+     */
+    @NotNull
+    public CacheCounter getShadowCache ()
+    {
+        return shadowCache;
+    }
+
+    /**
+     * Returns shadow generation times.
+     *
+     * @return shadow generation times
+     */
+    @NotNull
+    public TimeHistogram getShadowTimes ()
+    {
+        return shadowTimes;
+    }
+
+    /**
+     * Returns style installation times per {@link StyleId} identifier.
+     *
+     * @return style installation times per {@link StyleId} identifier
+     */
+    @NotNull
+    public Map<String, TimeHistogram> getStyleInstallTimes ()
+    {
+        return Collections.unmodifiableMap ( styleInstallTimes );
+    }
+
+    /**
+     * Returns style uninstallation times per {@link StyleId} identifier.
+     *
+     * @return style uninstallation times per {@link StyleId} identifier
+     */
+    @NotNull
+    public Map<String, TimeHistogram> getStyleUninstallTimes ()
+    {
+        return Collections.unmodifiableMap ( styleUninstallTimes );
+    }
+
+    @Override
+    public long getPaintCount ()
+    {
+        return paintTimes.getCount ();
+    }
+
+    @Override
+    public long getPaintTime ()
+    {
+        return paintTimes.getTotalTime ();
+    }
+
+    @Override
+    public long getPaintTime99 ()
+    {
+        return paintTimes.getTime ( 0.99 );
+    }
+
+    @Override
+    public long getPaintTimeMax ()
+    {
+        return paintTimes.getMaxTime ();
+    }
+
+    @Override
+    public double getDecorationCacheHitRatio ()
+    {
+        return getHitRatio ( decorationCaches.values () );
+    }
+
+    @Override
+    public double getContentsCacheHitRatio ()
+    {
+        return getHitRatio ( contentsCaches.values () );
+    }
+
+    @Override
+    public double getShadowCacheHitRatio ()
+    {
+        return shadowCache.getHitRatio ();
+    }
+
+    @Override
+    public long getShadowGenerationTime ()
+    {
+        return shadowTimes.getTotalTime ();
+    }
+
+    @Override
+    public long getStyleInstallCount ()
+    {
+        return getCount ( styleInstallTimes.values () );
+    }
+
+    @Override
+    public long getStyleInstallTime ()
+    {
+        return getTotalTime ( styleInstallTimes.values () );
+    }
+
+    @Override
+    public long getStyleUninstallCount ()
+    {
+        return getCount ( styleUninstallTimes.values () );
+    }
+
+    @Override
+    public long getStyleUninstallTime ()
+    {
+        return getTotalTime ( styleUninstallTimes.values () );
+    }
+
+    /**
+     * Returns combined hit ratio of the specified {@link CacheCounter}s.
+     *
+     * @param counters {@link CacheCounter}s
+     * @return combined hit ratio of the specified {@link CacheCounter}s
+     */
+    protected double getHitRatio ( @NotNull final Collection<CacheCounter> counters )
+    {
+        long hits = 0;
+        long total = 0;
+        for ( final CacheCounter counter : counters )
+        {
+            final long counterHits = counter.getHits ();
+            hits += counterHits;
+            total += counterHits + counter.getMisses ();
+        }
+        return total > 0 ? ( double ) hits / total : 0;
+    }
+
+    /**
+     * Returns combined amount of times recorded in the specified {@link TimeHistogram}s.
+     *
+     * @param histograms {@link TimeHistogram}s
+     * @return combined amount of times recorded in the specified {@link TimeHistogram}s
+     */
+    protected long getCount ( @NotNull final Collection<TimeHistogram> histograms )
+    {
+        long count = 0;
+        for ( final TimeHistogram histogram : histograms )
+        {
+            count += histogram.getCount ();
+        }
+        return count;
+    }
+
+    /**
+     * Returns combined total time recorded in the specified {@link TimeHistogram}s.
+     *
+     * @param histograms {@link TimeHistogram}s
+     * @return combined total time recorded in the specified {@link TimeHistogram}s
+     */
+    protected long getTotalTime ( @NotNull final Collection<TimeHistogram> histograms )
+    {
+        long time = 0;
+        for ( final TimeHistogram histogram : histograms )
+        {
+            time += histogram.getTotalTime ();
+        }
+        return time;
+    }
+
+    @NotNull
+    @Override
+    public String getReport ()
+    {
+        final StringBuilder report = new StringBuilder ();
+        appendHistograms ( report, "Painters", painterTimes );
+        appendHistograms ( report, "Styles", styleTimes );
+        appendCounters ( report, "Decoration caches", decorationCaches );
+        appendCounters ( report, "Contents caches", contentsCaches );
+        report.append ( "Shadows\n" );
+        appendCounter ( report, "cache", shadowCache );
+        appendHistogram ( report, "generation", shadowTimes );
+        appendHistograms ( report, "Style installation", styleInstallTimes );
+        appendHistograms ( report, "Style uninstallation", styleUninstallTimes );
+        return report.toString ();
+    }
+
+    /**
+     * Appends {@link TimeHistogram}s sorted by total time into report.
+     *
+     * @param report     report {@link StringBuilder}
+     * @param title      section title
+     * @param histograms {@link TimeHistogram}s
+     */
+    protected void appendHistograms ( @NotNull final StringBuilder report, @NotNull final String title,
+                                      @NotNull final Map<String, TimeHistogram> histograms )
+    {
+        final List<Map.Entry<String, TimeHistogram>> entries = new ArrayList<Map.Entry<String, TimeHistogram>> ( histograms.entrySet () );
+        Collections.sort ( entries, new Comparator<Map.Entry<String, TimeHistogram>> ()
+        {
+            @Override
+            public int compare ( final Map.Entry<String, TimeHistogram> e1, final Map.Entry<String, TimeHistogram> e2 )
+            {
+                final long t1 = e1.getValue ().getTotalTime ();
+                final long t2 = e2.getValue ().getTotalTime ();
+                return t1 < t2 ? 1 : t1 > t2 ? -1 : 0;
+            }
+        } );
+        report.append ( title ).append ( '\n' );
+        for ( final Map.Entry<String, TimeHistogram> entry : entries )
+        {
+            appendHistogram ( report, entry.getKey (), entry.getValue () );
+        }
+    }
+
+    /**
+     * Appends single {@link TimeHistogram} into report.
+     *
+     * @param report    report {@link StringBuilder}
+     * @param name      {@link TimeHistogram} name
+     * @param histogram {@link TimeHistogram}
+     */
+    protected void appendHistogram ( @NotNull final StringBuilder report, @NotNull final String name,
+                                     @NotNull final TimeHistogram histogram )
+    {
+        report.append ( String.format ( Locale.ROOT, "  %s: count=%d total=%.3fms avg=%.3fms p50=%.3fms p99=%.3fms max=%.3fms%n",
+                name, histogram.getCount (), toMillis ( histogram.getTotalTime () ), toMillis ( histogram.getAverageTime () ),
+                toMillis ( histogram.getTime ( 0.5 ) ), toMillis ( histogram.getTime ( 0.99 ) ), toMillis ( histogram.getMaxTime () ) ) );
+    }
+
+    /**
+     * Appends {@link CacheCounter}s into report.
+     *
+     * @param report   report {@link StringBuilder}
+     * @param title    section title
+     * @param counters {@link CacheCounter}s
+     */
+    protected void appendCounters ( @NotNull final StringBuilder report, @NotNull final String title,
+                                    @NotNull final Map<String, CacheCounter> counters )
+    {
+        report.append ( title ).append ( '\n' );
+        for ( final Map.Entry<String, CacheCounter> entry : new TreeMap<String, CacheCounter> ( counters ).entrySet () )
+        {
+            appendCounter ( report, entry.getKey (), entry.getValue () );
+        }
+    }
+
+    /**
+     * Appends single {@link CacheCounter} into report.
+     *
+     * @param report  report {@link StringBuilder}
+     * @param name    {@link CacheCounter} name
+     * @param counter {@link CacheCounter}
+     */
+    protected void appendCounter ( @NotNull final StringBuilder report, @NotNull final String name, @NotNull final CacheCounter counter )
+    {
+        report.append ( String.format ( Locale.ROOT, "  %s: hits=%d misses=%d ratio=%.3f%n",
+                name, counter.getHits (), counter.getMisses (), counter.getHitRatio () ) );
+    }
+
+    /**
+     * Returns nanoseconds converted into milliseconds.
+     *
+     * @param nanos nanoseconds
+     * @return nanoseconds converted into milliseconds
+     */
+    protected double toMillis ( final long nanos )
+    {
+        return ( double ) nanos / 1000000;
+    }
+
+    @Override
+    public void reset ()
+    {
+        paintTimes.reset ();
+        painterTimes.clear ();
+        styleTimes.clear ();
+        decorationCaches.clear ();
+        contentsCaches.clear ();
+        shadowCache.reset ();
+        shadowTimes.reset ();
+        styleInstallTimes.clear ();
+        styleUninstallTimes.clear ();
+    }
+
+    /**
+     * Registers this {@link MetricsInstrumentation} within platform {@link MBeanServer} under {@link #OBJECT_NAME}.
+     */
+    public void register ()
+    {
+        try
+        {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer ();
+            final ObjectName name = new ObjectName ( OBJECT_NAME );
+            if ( server.isRegistered ( name ) )
+            {
+                server.unregisterMBean ( name );
+            }
+            server.registerMBean ( this, name );
+        }
+        catch ( final Exception e )
+        {
+            throw new PainterException ( "Unable to register instrumentation MBean: " + OBJECT_NAME, e );
+        }
+    }
+
+    /**
+     * Unregisters this {@link MetricsInstrumentation} from platform {@link MBeanServer}.
+     */
+    public void unregister ()
+    {
+        try
+        {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer ();
+            final ObjectName name = new ObjectName ( OBJECT_NAME );
+            if ( server.isRegistered ( name ) )
+            {
+                server.unregisterMBean ( name );
+            }
+        }
+        catch ( final Exception e )
+        {
+            throw new PainterException ( "Unable to unregister instrumentation MBean: " + OBJECT_NAME, e );
+        }
+    }
+}
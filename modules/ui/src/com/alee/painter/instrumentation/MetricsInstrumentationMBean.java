@@ -0,0 +1,123 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.painter.instrumentation;
+
+/**
+ * JMX management interface for {@link MetricsInstrumentation}.
+ * All times are provided in nanoseconds.
+ *
+ * @author Mikle Garin
+ * @see MetricsInstrumentation#register()
+ */
+public interface MetricsInstrumentationMBean
+{
+    /**
+     * Returns amount of component paint operations.
+     *
+     * @return amount of component paint operations
+     */
+    public long getPaintCount ();
+
+    /**
+     * Returns total time spent in component paint operations.
+     *
+     * @return total time spent in component paint operations
+     */
+    public long getPaintTime ();
+
+    /**
+     * Returns 99th percentile of component paint operation time.
+     *
+     * @return 99th percentile of component paint operation time
+     */
+    public long getPaintTime99 ();
+
+    /**
+     * Returns maximum component paint operation time.
+     *
+     * @return maximum component paint operation time
+     */
+    public long getPaintTimeMax ();
+
+    /**
+     * Returns decoration cache hit ratio across all painters.
+     *
+     * @return decoration cache hit ratio across all painters
+     */
+    public double getDecorationCacheHitRatio ();
+
+    /**
+     * Returns contents cache hit ratio across all content layouts.
+     *
+     * @return contents cache hit ratio across all content layouts
+     */
+    public double getContentsCacheHitRatio ();
+
+    /**
+     * Returns shadow cache hit ratio.
+     *
+     * @return shadow cache hit ratio
+     */
+    public double getShadowCacheHitRatio ();
+
+    /**
+     * Returns total time spent generating shadows.
+     *
+     * @return total time spent generating shadows
+     */
+    public long getShadowGenerationTime ();
+
+    /**
+     * Returns amount of style installations.
+     *
+     * @return amount of style installations
+     */
+    public long getStyleInstallCount ();
+
+    /**
+     * Returns total Event Dispatch Thread time spent on style installations.
+     *
+     * @return total Event Dispatch Thread time spent on style installations
+     */
+    public long getStyleInstallTime ();
+
+    /**
+     * Returns amount of style uninstallations.
+     *
+     * @return amount of style uninstallations
+     */
+    public long getStyleUninstallCount ();
+
+    /**
+     * Returns total Event Dispatch Thread time spent on style uninstallations.
+     *
+     * @return total Event Dispatch Thread time spent on style uninstallations
+     */
+    public long getStyleUninstallTime ();
+
+    /**
+     * Returns human-readable report of all collected metrics.
+     *
+     * @return human-readable report of all collected metrics
+     */
+    public String getReport ();
+
+    /**
+     * Clears all collected metrics.
+     */
+    public void reset ();
+}
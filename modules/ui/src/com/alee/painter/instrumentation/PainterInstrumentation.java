@@ -0,0 +1,96 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.painter.instrumentation;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.managers.style.StyleId;
+import com.alee.painter.PaintListener;
+import com.alee.painter.Painter;
+import com.alee.painter.decoration.layout.IContentLayout;
+import com.alee.painter.decoration.shadow.ShadowType;
+
+import javax.swing.*;
+
+/**
+ * Service provider interface for observing rendering costs of {@link Painter}s and styling.
+ * Single implementation can be installed through {@link InstrumentationSupport#setInstrumentation(PainterInstrumentation)}.
+ *
+ * Implementations should be as lightweight as possible since they are called from within painting and styling code.
+ * Unless stated otherwise all methods are called within Event Dispatch Thread.
+ *
+ * @author Mikle Garin
+ * @see InstrumentationSupport
+ * @see MetricsInstrumentation
+ */
+public interface PainterInstrumentation extends PaintListener
+{
+    /**
+     * Informs about {@link JComponent} section being painted by the specified section {@link Painter}.
+     * Section paint time is also included into paint time of the {@link Painter} it belongs to.
+     *
+     * @param component painted {@link JComponent}
+     * @param painter   section {@link Painter}
+     * @param time      paint operation time in nanoseconds
+     */
+    public void sectionPainted ( @NotNull JComponent component, @NotNull Painter painter, long time );
+
+    /**
+     * Informs about {@link JComponent} decoration being resolved by the specified {@link Painter}.
+     *
+     * @param component {@link JComponent} decoration is resolved for
+     * @param painter   {@link Painter} resolving decoration
+     * @param cached    whether or not decoration was taken from the cache
+     */
+    public void decorationResolved ( @NotNull JComponent component, @NotNull Painter painter, boolean cached );
+
+    /**
+     * Informs about {@link IContentLayout} contents being resolved for the specified {@link JComponent}.
+     *
+     * @param component {@link JComponent} contents are resolved for
+     * @param layout    {@link IContentLayout} resolving contents
+     * @param cached    whether or not contents were taken from the cache
+     */
+    public void contentsResolved ( @NotNull JComponent component, @NotNull IContentLayout layout, boolean cached );
+
+    /**
+     * Informs about shadow image or icon being resolved.
+     * This method might be called outside of the Event Dispatch Thread.
+     *
+     * @param type   {@link ShadowType}
+     * @param cached whether or not shadow was taken from the cache
+     * @param time   shadow generation time in nanoseconds, always {@code 0} for cached shadows
+     */
+    public void shadowResolved ( @NotNull ShadowType type, boolean cached, long time );
+
+    /**
+     * Informs about style being installed into the specified {@link JComponent}.
+     *
+     * @param component {@link JComponent} style was installed into
+     * @param id        installed {@link StyleId}
+     * @param time      style installation time in nanoseconds
+     */
+    public void styleInstalled ( @NotNull JComponent component, @NotNull StyleId id, long time );
+
+    /**
+     * Informs about style being uninstalled from the specified {@link JComponent}.
+     *
+     * @param component {@link JComponent} style was uninstalled from
+     * @param id        uninstalled {@link StyleId}
+     * @param time      style uninstallation time in nanoseconds
+     */
+    public void styleUninstalled ( @NotNull JComponent component, @NotNull StyleId id, long time );
+}
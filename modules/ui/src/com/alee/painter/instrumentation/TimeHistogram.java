@@ -0,0 +1,172 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.painter.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of operation times.
+ * Times are recorded into power-of-two buckets, so percentiles are approximate but recording is cheap and has fixed memory cost.
+ * It is safe to record and read times from different threads.
+ *
+ * @author Mikle Garin
+ * @see MetricsInstrumentation
+ */
+public final class TimeHistogram
+{
+    /**
+     * Amount of buckets.
+     * Last bucket holds all times starting from {@code 2^38} nanoseconds, which is a bit more than 4.5 minutes.
+     */
+    private static final int BUCKETS = 40;
+
+    /**
+     * Amount of recorded times within each bucket.
+     * Bucket {@code 0} holds zero times, bucket {@code N} holds times within {@code [2^(N-1), 2^N)} range.
+     */
+    private final AtomicLongArray buckets;
+
+    /**
+     * Amount of recorded times.
+     */
+    private final AtomicLong count;
+
+    /**
+     * Sum of all recorded times in nanoseconds.
+     */
+    private final AtomicLong total;
+
+    /**
+     * Maximum recorded time in nanoseconds.
+     */
+    private final AtomicLong max;
+
+    /**
+     * Constructs new empty {@link TimeHistogram}.
+     */
+    public TimeHistogram ()
+    {
+        super ();
+        this.buckets = new AtomicLongArray ( BUCKETS );
+        this.count = new AtomicLong ();
+        this.total = new AtomicLong ();
+        this.max = new AtomicLong ();
+    }
+
+    /**
+     * Records operation time.
+     *
+     * @param time operation time in nanoseconds
+     */
+    public void record ( final long time )
+    {
+        final long value = Math.max ( 0, time );
+        buckets.incrementAndGet ( Math.min ( BUCKETS - 1, 64 - Long.numberOfLeadingZeros ( value ) ) );
+        count.incrementAndGet ();
+        total.addAndGet ( value );
+        long current = max.get ();
+        while ( value > current && !max.compareAndSet ( current, value ) )
+        {
+            current = max.get ();
+        }
+    }
+
+    /**
+     * Returns amount of recorded times.
+     *
+     * @return amount of recorded times
+     */
+    public long getCount ()
+    {
+        return count.get ();
+    }
+
+    /**
+     * Returns sum of all recorded times in nanoseconds.
+     *
+     * @return sum of all recorded times in nanoseconds
+     */
+    public long getTotalTime ()
+    {
+        return total.get ();
+    }
+
+    /**
+     * Returns maximum recorded time in nanoseconds.
+     *
+     * @return maximum recorded time in nanoseconds
+     */
+    public long getMaxTime ()
+    {
+        return max.get ();
+    }
+
+    /**
+     * Returns average recorded time in nanoseconds.
+     *
+     * @return average recorded time in nanoseconds
+     */
+    public long getAverageTime ()
+    {
+        final long amount = count.get ();
+        return amount > 0 ? total.get () / amount : 0;
+    }
+
+    /**
+     * Returns approximate percentile of recorded times in nanoseconds.
+     * Returned value is the upper bound of the bucket percentile falls into, but never exceeds maximum recorded time.
+     *
+     * @param percentile percentile, value between {@code 0} and {@code 1}
+     * @return approximate percentile of recorded times in nanoseconds
+     */
+    public long getTime ( final double percentile )
+    {
+        final long amount = count.get ();
+        long result = 0;
+        if ( amount > 0 )
+        {
+            final long rank = Math.max ( 1, ( long ) Math.ceil ( percentile * amount ) );
+            long passed = 0;
+            for ( int bucket = 0; bucket < BUCKETS; bucket++ )
+            {
+                passed += buckets.get ( bucket );
+                if ( passed >= rank )
+                {
+                    result = bucket > 0 ? Math.min ( ( 1L << bucket ) - 1, max.get () ) : 0;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Clears all recorded times.
+     * Times recorded concurrently with this call might be partially lost.
+     */
+    public void reset ()
+    {
+        for ( int bucket = 0; bucket < BUCKETS; bucket++ )
+        {
+            buckets.set ( bucket, 0 );
+        }
+        count.set ( 0 );
+        total.set ( 0 );
+        max.set ( 0 );
+    }
+}
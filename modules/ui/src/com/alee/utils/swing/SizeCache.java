@@ -173,6 +173,43 @@ public final class SizeCache
         }
     }
 
+    /**
+     * Clears size caches for all invalid children of the specified {@link Container}.
+     * Combined children sizes of the {@link Container} are also cleared if any of its children sizes were cleared.
+     * This is useful when {@link SizeCache} is kept across multiple layout passes.
+     * Note that sizes of valid children can still change, for instance when they are set explicitly,
+     * so whole cache should still be cleared whenever {@link Container} layout is invalidated.
+     *
+     * @param container {@link Container} to clear invalid children size caches for
+     * @return {@code true} if any size caches were cleared, {@code false} otherwise
+     */
+    public boolean clearInvalid ( @NotNull final Container container )
+    {
+        boolean cleared = false;
+        for ( int index = 0; index < container.getComponentCount (); index++ )
+        {
+            final Component component = container.getComponent ( index );
+            if ( !component.isValid () && sizes.remove ( component ) != null )
+            {
+                cleared = true;
+            }
+        }
+        if ( cleared )
+        {
+            custom.remove ( MAX_CHILDREN_SIZES + container.hashCode () );
+        }
+        return cleared;
+    }
+
+    /**
+     * Clears all size caches.
+     */
+    public void clear ()
+    {
+        sizes.clear ();
+        custom.clear ();
+    }
+
     /**
      * Returns {@link Sizes} for the specified {@link Component}.
      *
@@ -335,18 +372,18 @@ public final class SizeCache
          */
         public Dimension maxMinimum ( @NotNull final Container container, @NotNull final SizeCache cache )
         {
-            if ( preferred == null )
+            if ( minimum == null )
             {
-                preferred = new Dimension ( 0, 0 );
+                minimum = new Dimension ( 0, 0 );
                 for ( int index = 0; index < container.getComponentCount (); index++ )
                 {
-                    preferred = SwingUtils.maxNonNull (
-                            preferred,
+                    minimum = SwingUtils.maxNonNull (
+                            minimum,
                             cache.minimum ( container, index )
                     );
                 }
             }
-            return preferred;
+            return minimum;
         }
 
         /**
@@ -375,18 +412,18 @@ public final class SizeCache
          */
         public Dimension maxMaximum ( @NotNull final Container container, @NotNull final SizeCache cache )
         {
-            if ( preferred == null )
+            if ( maximum == null )
             {
-                preferred = new Dimension ( 0, 0 );
+                maximum = new Dimension ( 0, 0 );
                 for ( int index = 0; index < container.getComponentCount (); index++ )
                 {
-                    preferred = SwingUtils.maxNonNull (
-                            preferred,
+                    maximum = SwingUtils.maxNonNull (
+                            maximum,
                             cache.maximum ( container, index )
                     );
                 }
             }
-            return preferred;
+            return maximum;
         }
     }
 }
\ No newline at end of file
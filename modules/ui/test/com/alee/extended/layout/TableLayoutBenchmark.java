@@ -0,0 +1,135 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.extended.layout;
+
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.UtilityException;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Simple benchmark for {@link TableLayout} size calculations on a large form.
+ * Lays out a 40x40 form of labels and measures separate validation passes as Swing performs them - multiple preferred and minimum
+ * size requests followed by the actual layout, with and without layout invalidation in between.
+ * It is not a JUnit test as results depend heavily on the environment it runs in.
+ *
+ * @author Mikle Garin
+ */
+public final class TableLayoutBenchmark
+{
+    /**
+     * Benchmark settings.
+     */
+    private static final int COLUMNS = 40;
+    private static final int ROWS = 40;
+    private static final int WARMUP_PASSES = 200;
+    private static final int PASSES = 1000;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private TableLayoutBenchmark ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Runs benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main ( final String[] args )
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                // Form with preferred-sized columns and rows and a single fill column
+                final double[] columns = new double[ COLUMNS ];
+                for ( int column = 0; column < COLUMNS; column++ )
+                {
+                    columns[ column ] = column == COLUMNS - 1 ? TableLayout.FILL : TableLayout.PREFERRED;
+                }
+                final double[] rows = new double[ ROWS ];
+                for ( int row = 0; row < ROWS; row++ )
+                {
+                    rows[ row ] = TableLayout.PREFERRED;
+                }
+                final TableLayout layout = new TableLayout ( columns, rows, 4, 4 );
+                final JPanel form = new JPanel ( layout );
+                for ( int row = 0; row < ROWS; row++ )
+                {
+                    for ( int column = 0; column < COLUMNS; column++ )
+                    {
+                        form.add ( new JLabel ( "Cell " + row + ":" + column ), column + "," + row );
+                    }
+                }
+
+                // Imitating validated form state
+                form.setSize ( form.getPreferredSize () );
+                form.doLayout ();
+                for ( final Component component : form.getComponents () )
+                {
+                    component.validate ();
+                }
+
+                // Validation passes after layout invalidation
+                long time = 0;
+                for ( int pass = 0; pass < WARMUP_PASSES + PASSES; pass++ )
+                {
+                    final long start = System.nanoTime ();
+                    layout.invalidateLayout ( form );
+                    validationPass ( layout, form );
+                    if ( pass >= WARMUP_PASSES )
+                    {
+                        time += System.nanoTime () - start;
+                    }
+                }
+                System.out.println ( String.format ( "Invalidated pass: %.3f ms", time / 1000000d / PASSES ) );
+
+                // Validation passes without layout invalidation
+                time = 0;
+                for ( int pass = 0; pass < WARMUP_PASSES + PASSES; pass++ )
+                {
+                    final long start = System.nanoTime ();
+                    validationPass ( layout, form );
+                    if ( pass >= WARMUP_PASSES )
+                    {
+                        time += System.nanoTime () - start;
+                    }
+                }
+                System.out.println ( String.format ( "Repeated pass: %.3f ms", time / 1000000d / PASSES ) );
+            }
+        } );
+    }
+
+    /**
+     * Performs size requests and layout similar to a single Swing validation pass.
+     *
+     * @param layout {@link TableLayout}
+     * @param form   form {@link Container}
+     */
+    private static void validationPass ( final TableLayout layout, final Container form )
+    {
+        layout.preferredLayoutSize ( form );
+        layout.minimumLayoutSize ( form );
+        layout.preferredLayoutSize ( form );
+        layout.layoutContainer ( form );
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.layout;
+
+import com.alee.utils.CoreSwingUtils;
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Set of JUnit tests for {@link TableLayout}.
+ * Results of a layout with cached measurements are compared against results of a fresh layout with the same constraints.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class TableLayoutTest
+{
+    /**
+     * Column sizes used in tests.
+     */
+    private static final double[] COLUMNS = { TableLayout.PREFERRED, TableLayout.MINIMUM, 40, 0.25, TableLayout.FILL };
+
+    /**
+     * Row sizes used in tests.
+     */
+    private static final double[] ROWS = { TableLayout.PREFERRED, TableLayout.PREFERRED, TableLayout.FILL };
+
+    /**
+     * Component constraints used in tests.
+     */
+    private static final String[] CONSTRAINTS = { "0,0", "1,0", "2,0", "3,0", "4,0", "0,1,2,1", "3,1,4,2", "0,2" };
+
+    /**
+     * Checks that explicitly set component size is picked up once layout is invalidated.
+     */
+    @Test
+    public void explicitSizeChange ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final JPanel form = createForm ();
+                final TableLayout layout = ( TableLayout ) form.getLayout ();
+                validate ( form );
+
+                // Preferred size doesn't invalidate component itself, only its parent is revalidated
+                final Component component = form.getComponent ( 0 );
+                component.setPreferredSize ( new Dimension ( 300, 50 ) );
+                form.invalidate ();
+                validate ( form );
+
+                Assert.assertEquals ( new Dimension ( 300, 50 ), component.getSize () );
+                Assert.assertTrue ( layout.preferredLayoutSize ( form ).width > 300 );
+                assertSameLayout ( form );
+            }
+        } );
+    }
+
+    /**
+     * Checks that cached layout results match results of a fresh layout after various changes.
+     */
+    @Test
+    public void cachedResults ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final JPanel form = createForm ();
+                validate ( form );
+                assertSameLayout ( form );
+
+                // Component content change
+                ( ( JLabel ) form.getComponent ( 5 ) ).setText ( "Considerably longer spanning label text" );
+                validate ( form );
+                assertSameLayout ( form );
+
+                // Explicit minimum size change
+                form.getComponent ( 1 ).setMinimumSize ( new Dimension ( 90, 10 ) );
+                form.invalidate ();
+                validate ( form );
+                assertSameLayout ( form );
+
+                // Container insets change
+                form.setBorder ( BorderFactory.createEmptyBorder ( 5, 10, 15, 20 ) );
+                validate ( form );
+                assertSameLayout ( form );
+
+                // Container size change
+                form.setSize ( form.getWidth () + 111, form.getHeight () + 37 );
+                validate ( form );
+                assertSameLayout ( form );
+            }
+        } );
+    }
+
+    /**
+     * Returns new form laid out with {@link TableLayout} using test constraints.
+     *
+     * @return new form laid out with {@link TableLayout} using test constraints
+     */
+    private JPanel createForm ()
+    {
+        final JPanel form = new JPanel ( new TableLayout ( COLUMNS, ROWS, 4, 3 ) );
+        for ( int index = 0; index < CONSTRAINTS.length; index++ )
+        {
+            form.add ( new JLabel ( "Label " + index ), CONSTRAINTS[ index ] );
+        }
+        return form;
+    }
+
+    /**
+     * Imitates form validation pass, form is resized to its preferred size upon first validation.
+     *
+     * @param form form to validate
+     */
+    private void validate ( final JPanel form )
+    {
+        final TableLayout layout = ( TableLayout ) form.getLayout ();
+        if ( form.getWidth () == 0 )
+        {
+            form.setSize ( layout.preferredLayoutSize ( form ) );
+        }
+        layout.preferredLayoutSize ( form );
+        layout.minimumLayoutSize ( form );
+        layout.layoutContainer ( form );
+        for ( final Component component : form.getComponents () )
+        {
+            component.validate ();
+        }
+    }
+
+    /**
+     * Asserts that form layout results match results of a fresh {@link TableLayout} with the same constraints.
+     *
+     * @param form form to check
+     */
+    private void assertSameLayout ( final JPanel form )
+    {
+        final TableLayout layout = ( TableLayout ) form.getLayout ();
+        final TableLayout fresh = new TableLayout ( COLUMNS, ROWS, 4, 3 );
+        for ( int index = 0; index < CONSTRAINTS.length; index++ )
+        {
+            fresh.addLayoutComponent ( form.getComponent ( index ), CONSTRAINTS[ index ] );
+        }
+
+        Assert.assertEquals ( fresh.preferredLayoutSize ( form ), layout.preferredLayoutSize ( form ) );
+        Assert.assertEquals ( fresh.minimumLayoutSize ( form ), layout.minimumLayoutSize ( form ) );
+
+        final Rectangle[] bounds = new Rectangle[ CONSTRAINTS.length ];
+        layout.layoutContainer ( form );
+        for ( int index = 0; index < CONSTRAINTS.length; index++ )
+        {
+            bounds[ index ] = form.getComponent ( index ).getBounds ();
+        }
+        fresh.layoutContainer ( form );
+        for ( int index = 0; index < CONSTRAINTS.length; index++ )
+        {
+            Assert.assertEquals ( bounds[ index ], form.getComponent ( index ).getBounds () );
+        }
+    }
+}
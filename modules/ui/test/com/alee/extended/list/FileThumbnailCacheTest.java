@@ -0,0 +1,226 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.list;
+
+import com.alee.utils.FileUtils;
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Set of JUnit tests for {@link FileThumbnailCache}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class FileThumbnailCacheTest
+{
+    /**
+     * Thumbnail size used in tests.
+     */
+    private static final int SIZE = 32;
+
+    /**
+     * Thumbnail stored in cache.
+     */
+    private static BufferedImage thumbnail;
+
+    /**
+     * Temporary directory for source files and cache directories.
+     */
+    private static File directory;
+
+    /**
+     * Cache directory used by the current test.
+     */
+    private File cacheDirectory;
+
+    /**
+     * Creates thumbnail and temporary directory.
+     *
+     * @throws IOException if temporary directory cannot be created
+     */
+    @BeforeClass
+    public static void prepare () throws IOException
+    {
+        thumbnail = new BufferedImage ( SIZE, SIZE, BufferedImage.TYPE_INT_ARGB );
+        final Random random = new Random ( 42 );
+        for ( int x = 0; x < SIZE; x++ )
+        {
+            for ( int y = 0; y < SIZE; y++ )
+            {
+                thumbnail.setRGB ( x, y, random.nextInt () );
+            }
+        }
+        directory = File.createTempFile ( "thumbnails", "" );
+        directory.delete ();
+        directory.mkdirs ();
+    }
+
+    /**
+     * Removes temporary directory.
+     */
+    @AfterClass
+    public static void cleanup ()
+    {
+        FileUtils.deleteFile ( directory );
+    }
+
+    /**
+     * Creates separate cache directory for each test.
+     */
+    @Before
+    public void createCacheDirectory ()
+    {
+        cacheDirectory = new File ( directory, "cache" + System.nanoTime () );
+    }
+
+    /**
+     * Checks that least recently used thumbnails are evicted once cache size limit is exceeded.
+     *
+     * @throws IOException if source file cannot be created
+     */
+    @Test
+    public void eviction () throws IOException
+    {
+        final File first = createSource ( "first" );
+        final File second = createSource ( "second" );
+        final File third = createSource ( "third" );
+
+        final FileThumbnailCache measure = new FileThumbnailCache ( cacheDirectory, Long.MAX_VALUE );
+        measure.put ( first, SIZE, thumbnail );
+        final long length = measure.getSize ();
+        measure.clear ();
+        Assert.assertEquals ( 0, measure.getSize () );
+
+        final FileThumbnailCache cache = new FileThumbnailCache ( cacheDirectory, length * 2 + length / 2 );
+        cache.put ( first, SIZE, thumbnail );
+        cache.put ( second, SIZE, thumbnail );
+
+        // Accessing first thumbnail makes second one least recently used
+        Assert.assertNotNull ( cache.get ( first, SIZE ) );
+        cache.put ( third, SIZE, thumbnail );
+
+        Assert.assertEquals ( length * 2, cache.getSize () );
+        Assert.assertNotNull ( cache.get ( first, SIZE ) );
+        Assert.assertNull ( cache.get ( second, SIZE ) );
+        Assert.assertNotNull ( cache.get ( third, SIZE ) );
+        Assert.assertEquals ( 2, countFiles ( FileThumbnailCache.EXTENSION ) );
+    }
+
+    /**
+     * Checks that corrupted thumbnails are treated as cache misses and removed.
+     *
+     * @throws IOException if source or thumbnail file cannot be written
+     */
+    @Test
+    public void corruptedEntry () throws IOException
+    {
+        final File source = createSource ( "corrupted" );
+        final FileThumbnailCache cache = new FileThumbnailCache ( cacheDirectory, Long.MAX_VALUE );
+        cache.put ( source, SIZE, thumbnail );
+        Assert.assertNotNull ( cache.get ( source, SIZE ) );
+
+        final File cached = new File ( cacheDirectory, cache.getKey ( source, SIZE ) );
+        final FileOutputStream outputStream = new FileOutputStream ( cached );
+        try
+        {
+            outputStream.write ( new byte[]{ 1, 2, 3, 4 } );
+        }
+        finally
+        {
+            outputStream.close ();
+        }
+
+        Assert.assertNull ( cache.get ( source, SIZE ) );
+        Assert.assertFalse ( cached.exists () );
+        Assert.assertEquals ( 0, cache.getSize () );
+
+        // Thumbnail can be cached again afterwards
+        cache.put ( source, SIZE, thumbnail );
+        Assert.assertNotNull ( cache.get ( source, SIZE ) );
+    }
+
+    /**
+     * Checks that only stale temporary files are removed when cache is opened and that writes leave no temporary files.
+     *
+     * @throws IOException if temporary files cannot be created
+     */
+    @Test
+    public void temporaryFiles () throws IOException
+    {
+        cacheDirectory.mkdirs ();
+        final File stale = new File ( cacheDirectory, "stale" + FileThumbnailCache.TEMPORARY_EXTENSION );
+        final File fresh = new File ( cacheDirectory, "fresh" + FileThumbnailCache.TEMPORARY_EXTENSION );
+        Assert.assertTrue ( stale.createNewFile () );
+        Assert.assertTrue ( fresh.createNewFile () );
+        stale.setLastModified ( System.currentTimeMillis () - FileThumbnailCache.STALE_TEMPORARY_AGE * 2 );
+
+        final FileThumbnailCache cache = new FileThumbnailCache ( cacheDirectory, Long.MAX_VALUE );
+        Assert.assertEquals ( 0, cache.getSize () );
+        Assert.assertFalse ( stale.exists () );
+        Assert.assertTrue ( fresh.exists () );
+
+        FileUtils.deleteFile ( fresh );
+        cache.put ( createSource ( "temporary" ), SIZE, thumbnail );
+        Assert.assertEquals ( 0, countFiles ( FileThumbnailCache.TEMPORARY_EXTENSION ) );
+        Assert.assertEquals ( 1, countFiles ( FileThumbnailCache.EXTENSION ) );
+    }
+
+    /**
+     * Returns new source file with the specified name.
+     *
+     * @param name source file name
+     * @return new source file with the specified name
+     * @throws IOException if source file cannot be created
+     */
+    private File createSource ( final String name ) throws IOException
+    {
+        final File source = new File ( directory, name + System.nanoTime () + ".png" );
+        Assert.assertTrue ( source.createNewFile () );
+        return source;
+    }
+
+    /**
+     * Returns amount of files with the specified extension in cache directory.
+     *
+     * @param extension file extension
+     * @return amount of files with the specified extension in cache directory
+     */
+    private int countFiles ( final String extension )
+    {
+        int count = 0;
+        final File[] files = cacheDirectory.listFiles ();
+        if ( files != null )
+        {
+            for ( final File file : files )
+            {
+                if ( file.getName ().endsWith ( extension ) )
+                {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
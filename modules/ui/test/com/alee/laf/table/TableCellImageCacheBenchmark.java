@@ -0,0 +1,125 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.table;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.UtilityException;
+
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Simple frame time benchmark for {@link TableCellImageCache}.
+ * Paints visible part of a large {@link WebTable} repeatedly with and without cell image cache and prints average frame times.
+ * It is not a JUnit test as results depend heavily on the environment it runs in.
+ *
+ * @author Mikle Garin
+ */
+public final class TableCellImageCacheBenchmark
+{
+    /**
+     * Benchmark settings.
+     */
+    private static final int ROWS = 100000;
+    private static final int COLUMNS = 20;
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+    private static final int WARMUP_FRAMES = 50;
+    private static final int FRAMES = 200;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private TableCellImageCacheBenchmark ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Runs benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main ( final String[] args )
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+
+                final WebTable table = new WebTable ( new AbstractTableModel ()
+                {
+                    @Override
+                    public int getRowCount ()
+                    {
+                        return ROWS;
+                    }
+
+                    @Override
+                    public int getColumnCount ()
+                    {
+                        return COLUMNS;
+                    }
+
+                    @Override
+                    public Object getValueAt ( final int rowIndex, final int columnIndex )
+                    {
+                        return "Cell " + rowIndex + ":" + columnIndex;
+                    }
+                } );
+                table.setSize ( WIDTH, table.getRowHeight () * ROWS );
+
+                System.out.println ( String.format ( "Without cache: %.3f ms/frame", measure ( table ) ) );
+                table.setCacheCellImages ( true );
+                System.out.println ( String.format ( "With cache: %.3f ms/frame", measure ( table ) ) );
+                table.setCacheCellImages ( false );
+            }
+        } );
+    }
+
+    /**
+     * Returns average time in milliseconds it takes to paint visible part of the {@link WebTable}.
+     * Selection is moved on each frame to imitate partial table updates.
+     *
+     * @param table {@link WebTable} to paint
+     * @return average time in milliseconds it takes to paint visible part of the {@link WebTable}
+     */
+    private static double measure ( final WebTable table )
+    {
+        final BufferedImage image = new BufferedImage ( WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB );
+        long total = 0;
+        for ( int frame = 0; frame < WARMUP_FRAMES + FRAMES; frame++ )
+        {
+            table.setRowSelectionInterval ( frame % 40, frame % 40 );
+            final long start = System.nanoTime ();
+            final Graphics2D g2d = image.createGraphics ();
+            g2d.setClip ( 0, 0, WIDTH, HEIGHT );
+            table.paint ( g2d );
+            g2d.dispose ();
+            if ( frame >= WARMUP_FRAMES )
+            {
+                total += System.nanoTime () - start;
+            }
+        }
+        return total / 1000000d / FRAMES;
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.table;
+
+import com.alee.utils.CoreSwingUtils;
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Set of JUnit tests for {@link TableCellImageCache}.
+ * Cells are painted through the cache directly and renderer calls are counted to check which cells were rendered again.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class TableCellImageCacheTest
+{
+    /**
+     * Amount of table rows.
+     */
+    private static final int ROWS = 5;
+
+    /**
+     * Amount of table columns.
+     */
+    private static final int COLUMNS = 3;
+
+    /**
+     * Checks that model events only drop affected cell images.
+     */
+    @Test
+    public void modelChanges ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final CountingRenderer renderer = new CountingRenderer ();
+                final DefaultTableModel model = new DefaultTableModel ( ROWS, COLUMNS );
+                final JTable table = createTable ( model, renderer );
+                final TableCellImageCache cache = new TableCellImageCache ( table );
+                cache.install ();
+
+                // All cells are rendered once and then reused
+                Assert.assertEquals ( ROWS * COLUMNS, paint ( table, cache, renderer ) );
+                Assert.assertEquals ( ROWS * COLUMNS, cache.size () );
+                Assert.assertEquals ( 0, paint ( table, cache, renderer ) );
+
+                // Updated cell is rendered again
+                model.setValueAt ( "Updated", 1, 2 );
+                Assert.assertEquals ( ROWS * COLUMNS - 1, cache.size () );
+                Assert.assertEquals ( 1, paint ( table, cache, renderer ) );
+
+                // Updated row is rendered again
+                model.fireTableRowsUpdated ( 3, 3 );
+                Assert.assertEquals ( COLUMNS, paint ( table, cache, renderer ) );
+
+                // All rows starting from the inserted one are rendered again
+                model.insertRow ( 2, new Object[]{ "A", "B", "C" } );
+                Assert.assertEquals ( 2 * COLUMNS, cache.size () );
+                Assert.assertEquals ( ( ROWS - 1 ) * COLUMNS, paint ( table, cache, renderer ) );
+
+                // All rows starting from the removed one are rendered again
+                model.removeRow ( ROWS );
+                Assert.assertEquals ( 0, paint ( table, cache, renderer ) );
+                model.removeRow ( 0 );
+                Assert.assertEquals ( 0, cache.size () );
+                Assert.assertEquals ( ( ROWS - 1 ) * COLUMNS, paint ( table, cache, renderer ) );
+
+                // Whole data change drops all cells
+                model.fireTableDataChanged ();
+                Assert.assertEquals ( 0, cache.size () );
+
+                cache.uninstall ();
+            }
+        } );
+    }
+
+    /**
+     * Checks that cell state and table changes cause cells to be rendered again.
+     */
+    @Test
+    public void stateChanges ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final CountingRenderer renderer = new CountingRenderer ();
+                final DefaultTableModel model = new DefaultTableModel ( ROWS, COLUMNS );
+                final JTable table = createTable ( model, renderer );
+                final TableCellImageCache cache = new TableCellImageCache ( table );
+                cache.install ();
+                paint ( table, cache, renderer );
+
+                // Only cells which selection state has changed are rendered again
+                table.setRowSelectionInterval ( 2, 2 );
+                Assert.assertEquals ( COLUMNS, paint ( table, cache, renderer ) );
+                table.setRowSelectionInterval ( 4, 4 );
+                Assert.assertEquals ( 2 * COLUMNS, paint ( table, cache, renderer ) );
+
+                // Table property change drops all cells
+                table.setFont ( table.getFont ().deriveFont ( 20f ) );
+                Assert.assertEquals ( 0, cache.size () );
+                Assert.assertEquals ( ROWS * COLUMNS, paint ( table, cache, renderer ) );
+
+                // Cells of the new model are rendered and its events are listened to
+                final DefaultTableModel newModel = new DefaultTableModel ( ROWS, COLUMNS );
+                table.setModel ( newModel );
+                Assert.assertEquals ( ROWS * COLUMNS, paint ( table, cache, renderer ) );
+                newModel.setValueAt ( "Updated", 0, 0 );
+                Assert.assertEquals ( 1, paint ( table, cache, renderer ) );
+                model.setValueAt ( "Ignored", 1, 1 );
+                Assert.assertEquals ( 0, paint ( table, cache, renderer ) );
+
+                cache.uninstall ();
+            }
+        } );
+    }
+
+    /**
+     * Checks that cache doesn't grow beyond its maximum size.
+     */
+    @Test
+    public void maximumSize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final CountingRenderer renderer = new CountingRenderer ();
+                final JTable table = createTable ( new DefaultTableModel ( ROWS, COLUMNS ), renderer );
+                final TableCellImageCache cache = new TableCellImageCache ( table, 4 );
+                cache.install ();
+                Assert.assertEquals ( ROWS * COLUMNS, paint ( table, cache, renderer ) );
+                Assert.assertEquals ( 4, cache.size () );
+                cache.uninstall ();
+            }
+        } );
+    }
+
+    /**
+     * Returns new {@link JTable} with the specified model and renderer.
+     *
+     * @param model    {@link DefaultTableModel}
+     * @param renderer {@link CountingRenderer}
+     * @return new {@link JTable} with the specified model and renderer
+     */
+    private JTable createTable ( final DefaultTableModel model, final CountingRenderer renderer )
+    {
+        final JTable table = new JTable ( model );
+        table.setDefaultRenderer ( Object.class, renderer );
+        table.setSize ( 300, table.getRowHeight () * ROWS );
+        return table;
+    }
+
+    /**
+     * Paints all table cells through {@link TableCellImageCache} and returns amount of rendered cells.
+     *
+     * @param table    {@link JTable} to paint
+     * @param cache    {@link TableCellImageCache}
+     * @param renderer {@link CountingRenderer}
+     * @return amount of rendered cells
+     */
+    private int paint ( final JTable table, final TableCellImageCache cache, final CountingRenderer renderer )
+    {
+        final int rendered = renderer.count;
+        final BufferedImage image = new BufferedImage ( table.getWidth (), table.getHeight (), BufferedImage.TYPE_INT_ARGB );
+        final Graphics2D g2d = image.createGraphics ();
+        final CellRendererPane rendererPane = new CellRendererPane ();
+        for ( int row = 0; row < table.getRowCount (); row++ )
+        {
+            for ( int column = 0; column < table.getColumnCount (); column++ )
+            {
+                cache.paintCell ( g2d, rendererPane, table.getCellRect ( row, column, false ), row, column, false );
+            }
+        }
+        g2d.dispose ();
+        return renderer.count - rendered;
+    }
+
+    /**
+     * {@link DefaultTableCellRenderer} counting its usages.
+     */
+    private static final class CountingRenderer extends DefaultTableCellRenderer
+    {
+        /**
+         * Amount of rendered cells.
+         */
+        private int count = 0;
+
+        @Override
+        public Component getTableCellRendererComponent ( final JTable table, final Object value, final boolean isSelected,
+                                                         final boolean hasFocus, final int row, final int column )
+        {
+            count++;
+            return super.getTableCellRendererComponent ( table, value, isSelected, hasFocus, row, column );
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.tree;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.UtilityException;
+
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Simple allocation profile benchmark for {@link TreePainter}.
+ * Paints visible part of a fully expanded {@link WebTree} with 100k nodes repeatedly and prints allocated bytes and time per frame.
+ * It is not a JUnit test as results depend heavily on the environment it runs in.
+ *
+ * @author Mikle Garin
+ */
+public final class TreePainterBenchmark
+{
+    /**
+     * Benchmark settings.
+     */
+    private static final int BRANCHES = 1000;
+    private static final int LEAFS = 99;
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 1080;
+    private static final int WARMUP_FRAMES = 100;
+    private static final int FRAMES = 500;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private TreePainterBenchmark ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Runs benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main ( final String[] args )
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+
+                final DefaultMutableTreeNode root = new DefaultMutableTreeNode ( "Root" );
+                for ( int i = 0; i < BRANCHES; i++ )
+                {
+                    final DefaultMutableTreeNode branch = new DefaultMutableTreeNode ( "Branch " + i );
+                    for ( int j = 0; j < LEAFS; j++ )
+                    {
+                        branch.add ( new DefaultMutableTreeNode ( "Leaf " + i + ":" + j ) );
+                    }
+                    root.add ( branch );
+                }
+                final WebTree tree = new WebTree ( new DefaultTreeModel ( root ) );
+                tree.expandAll ();
+                tree.setSize ( WIDTH, tree.getPreferredSize ().height );
+
+                final ThreadMXBean bean = ManagementFactory.getThreadMXBean ();
+                final boolean allocations = bean instanceof com.sun.management.ThreadMXBean &&
+                        ( ( com.sun.management.ThreadMXBean ) bean ).isThreadAllocatedMemorySupported ();
+                final long threadId = Thread.currentThread ().getId ();
+
+                final BufferedImage image = new BufferedImage ( WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB );
+                long time = 0;
+                long allocated = 0;
+                for ( int frame = 0; frame < WARMUP_FRAMES + FRAMES; frame++ )
+                {
+                    // Scrolling through the tree to imitate hover repaints over different rows
+                    final int y = frame * tree.getRowHeight () * 17 % ( tree.getHeight () - HEIGHT );
+                    final long startBytes = allocations ?
+                            ( ( com.sun.management.ThreadMXBean ) bean ).getThreadAllocatedBytes ( threadId ) : 0;
+                    final long start = System.nanoTime ();
+                    final Graphics2D g2d = image.createGraphics ();
+                    g2d.translate ( 0, -y );
+                    g2d.setClip ( 0, y, WIDTH, HEIGHT );
+                    tree.paint ( g2d );
+                    g2d.dispose ();
+                    if ( frame >= WARMUP_FRAMES )
+                    {
+                        time += System.nanoTime () - start;
+                        if ( allocations )
+                        {
+                            allocated += ( ( com.sun.management.ThreadMXBean ) bean ).getThreadAllocatedBytes ( threadId ) - startBytes;
+                        }
+                    }
+                }
+                System.out.println ( String.format ( "Paint time: %.3f ms/frame", time / 1000000d / FRAMES ) );
+                if ( allocations )
+                {
+                    System.out.println ( String.format ( "Allocated: %d bytes/frame", allocated / FRAMES ) );
+                }
+            }
+        } );
+    }
+}
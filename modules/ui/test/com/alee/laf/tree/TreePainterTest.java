@@ -0,0 +1,145 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.tree;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.tree.*;
+import java.util.*;
+
+/**
+ * Set of JUnit tests for {@link TreePainter}.
+ * Painted vertical legs are compared against tracking painted legs in a {@link Set} of parent paths.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class TreePainterTest
+{
+    /**
+     * Checks that vertical legs are painted for the same parent paths starting from any visible row.
+     * Tree contains branches deeper than initial painted legs buffer and a collapsed branch.
+     */
+    @Test
+    public void verticalLegs ()
+    {
+        final DefaultMutableTreeNode root = new DefaultMutableTreeNode ( "Root" );
+        for ( int i = 0; i < 4; i++ )
+        {
+            final DefaultMutableTreeNode branch = new DefaultMutableTreeNode ( "Branch " + i );
+            DefaultMutableTreeNode parent = branch;
+            for ( int depth = 0; depth < 20; depth++ )
+            {
+                final DefaultMutableTreeNode child = new DefaultMutableTreeNode ( "Node " + i + ":" + depth );
+                parent.add ( child );
+                parent.add ( new DefaultMutableTreeNode ( "Leaf " + i + ":" + depth ) );
+                parent = child;
+            }
+            root.add ( branch );
+        }
+
+        final VariableHeightLayoutCache layoutCache = new VariableHeightLayoutCache ();
+        layoutCache.setModel ( new DefaultTreeModel ( root ) );
+        layoutCache.setRootVisible ( true );
+        layoutCache.setRowHeight ( 20 );
+        final Enumeration nodes = root.depthFirstEnumeration ();
+        while ( nodes.hasMoreElements () )
+        {
+            final DefaultMutableTreeNode node = ( DefaultMutableTreeNode ) nodes.nextElement ();
+            if ( !node.isLeaf () && node.getParent () != root.getChildAt ( 2 ) )
+            {
+                layoutCache.setExpandedState ( new TreePath ( node.getPath () ), true );
+            }
+        }
+        layoutCache.setExpandedState ( new TreePath ( new Object[]{ root, root.getChildAt ( 2 ) } ), false );
+
+        final TreePainter painter = new TreePainter ();
+        painter.paintedLegs = new TreePath[ 16 ];
+        for ( int startRow = 0; startRow < layoutCache.getRowCount (); startRow += 3 )
+        {
+            for ( final int rows : new int[]{ 1, 5, layoutCache.getRowCount () } )
+            {
+                Assert.assertEquals ( paintedLegs ( layoutCache, startRow, rows, null ),
+                        paintedLegs ( layoutCache, startRow, rows, painter ) );
+            }
+        }
+    }
+
+    /**
+     * Returns parent paths vertical legs are painted for in the specified rows range.
+     * Follows the same order of painted paths as {@link TreePainter#paintTree(java.awt.Graphics2D)}.
+     *
+     * @param layoutCache {@link AbstractLayoutCache}
+     * @param startRow    first painted row
+     * @param rows        painted rows amount
+     * @param painter     {@link TreePainter} tracking painted legs, {@code null} to track them in a {@link Set}
+     * @return parent paths vertical legs are painted for in the specified rows range
+     */
+    private List<TreePath> paintedLegs ( final AbstractLayoutCache layoutCache, final int startRow, final int rows,
+                                         final TreePainter painter )
+    {
+        final List<TreePath> legs = new ArrayList<TreePath> ();
+        final Set<TreePath> painted = new HashSet<TreePath> ();
+        final TreePath initialPath = layoutCache.getPathForRow ( startRow );
+
+        TreePath parentPath = initialPath.getParentPath ();
+        while ( parentPath != null )
+        {
+            legs.add ( parentPath );
+            if ( painter != null )
+            {
+                painter.markLegPainted ( parentPath );
+            }
+            else
+            {
+                painted.add ( parentPath );
+            }
+            parentPath = parentPath.getParentPath ();
+        }
+
+        final Enumeration paths = layoutCache.getVisiblePathsFrom ( initialPath );
+        for ( int row = 0; row < rows && paths.hasMoreElements (); row++ )
+        {
+            parentPath = ( ( TreePath ) paths.nextElement () ).getParentPath ();
+            if ( parentPath != null )
+            {
+                if ( painter != null ? !painter.isLegPainted ( parentPath ) : !painted.contains ( parentPath ) )
+                {
+                    legs.add ( parentPath );
+                    if ( painter != null )
+                    {
+                        painter.markLegPainted ( parentPath );
+                    }
+                    else
+                    {
+                        painted.add ( parentPath );
+                    }
+                }
+            }
+        }
+
+        if ( painter != null )
+        {
+            Arrays.fill ( painter.paintedLegs, null );
+        }
+        return legs;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.alee.managers.style;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.button.WebButton;
+import com.alee.laf.label.WebLabel;
+import com.alee.managers.style.data.ComponentStyle;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.UtilityException;
+
+/**
+ * Simple benchmark for {@link ComponentStyle#apply(javax.swing.JComponent)} performance.
+ * Creates 10k styled {@link WebButton}s and {@link WebLabel}s repeatedly and prints time spent per round and per component.
+ * Most of the time is spent applying component, UI and painter properties from the resolved {@link ComponentStyle}s.
+ * It is not a JUnit test as results depend heavily on the environment it runs in.
+ *
+ * @author Mikle Garin
+ */
+public final class StyleApplyBenchmark
+{
+    /**
+     * Benchmark settings.
+     */
+    private static final int COMPONENTS = 10000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 20;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private StyleApplyBenchmark ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Runs benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main ( final String[] args )
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+
+                long time = 0;
+                for ( int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++ )
+                {
+                    final long start = System.nanoTime ();
+                    for ( int i = 0; i < COMPONENTS; i++ )
+                    {
+                        if ( i % 2 == 0 )
+                        {
+                            new WebButton ( "Button " + i );
+                        }
+                        else
+                        {
+                            new WebLabel ( "Label " + i );
+                        }
+                    }
+                    if ( round >= WARMUP_ROUNDS )
+                    {
+                        time += System.nanoTime () - start;
+                    }
+                }
+                final double round = time / 1000000d / ROUNDS;
+                System.out.println ( String.format ( "Round: %.3f ms", round ) );
+                System.out.println ( String.format ( "Component: %.3f us", round * 1000 / COMPONENTS ) );
+            }
+        } );
+    }
+}